@@ -0,0 +1,17 @@
+plugins {
+    id("cmds.base-conventions")
+    id("cmds.library-conventions")
+}
+
+dependencies {
+    testImplementation(project(":triumph-cmd-core"))
+    testImplementation(libs.junit.api)
+    testImplementation(libs.junit.engine)
+    testImplementation(libs.assertj)
+}
+
+tasks {
+    test {
+        useJUnitPlatform()
+    }
+}
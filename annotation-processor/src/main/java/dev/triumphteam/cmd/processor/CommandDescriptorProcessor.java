@@ -0,0 +1,434 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a <code>CommandDescriptor</code> for every class that declares sub command methods.
+ * The descriptor holds the sub command methods with their annotation values,
+ * so the command processor doesn't need to scan every declared method nor read their annotations.
+ */
+@SupportedAnnotationTypes({
+        CommandDescriptorProcessor.SUB_COMMAND_ANNOTATION,
+        CommandDescriptorProcessor.DEFAULT_ANNOTATION
+})
+public final class CommandDescriptorProcessor extends AbstractProcessor {
+
+    private static final String ANNOTATION_PACKAGE = "dev.triumphteam.cmd.core.annotation.";
+    static final String SUB_COMMAND_ANNOTATION = ANNOTATION_PACKAGE + "SubCommand";
+    static final String DEFAULT_ANNOTATION = ANNOTATION_PACKAGE + "Default";
+
+    private static final String PROCESSOR_PACKAGE = "dev.triumphteam.cmd.core.processor.";
+    private static final String SUB_COMMAND_DESCRIPTOR = PROCESSOR_PACKAGE + "SubCommandDescriptor";
+    private static final String ARGUMENT_DESCRIPTOR = PROCESSOR_PACKAGE + "ArgumentDescriptor";
+
+    // Must match `CommandDescriptor.SUFFIX` in core.
+    private static final String SUFFIX = "_CommandDescriptor";
+
+    @Override
+    public @NotNull SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final @NotNull Set<? extends TypeElement> annotations, final @NotNull RoundEnvironment roundEnv) {
+        final Map<TypeElement, Set<ExecutableElement>> commands = new LinkedHashMap<>();
+
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                // Sub command annotation is also allowed on classes, only methods matter here
+                if (element.getKind() != ElementKind.METHOD) continue;
+                if (element.getModifiers().contains(Modifier.PRIVATE)) continue;
+
+                final TypeElement commandType = (TypeElement) element.getEnclosingElement();
+                commands.computeIfAbsent(commandType, ignored -> new LinkedHashSet<>()).add((ExecutableElement) element);
+            }
+        }
+
+        commands.forEach(this::generateDescriptor);
+        return false;
+    }
+
+    /**
+     * Writes the descriptor source for the command class.
+     *
+     * @param commandType The command class.
+     * @param methods     The sub command methods found in it.
+     */
+    private void generateDescriptor(final @NotNull TypeElement commandType, final @NotNull Set<@NotNull ExecutableElement> methods) {
+        if (!isAccessible(commandType)) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.NOTE,
+                    "Skipping command descriptor, class is not accessible from its package",
+                    commandType
+            );
+            return;
+        }
+
+        final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(commandType);
+        final String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(commandType).toString();
+        final String descriptorName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+
+        final StringBuilder builder = new StringBuilder();
+        if (!packageName.isEmpty()) builder.append("package ").append(packageName).append(";\n\n");
+
+        builder.append("/**\n")
+                .append(" * Generated by triumph-cmds, do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(descriptorName)
+                .append(" implements dev.triumphteam.cmd.core.processor.CommandDescriptor {\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<").append(SUB_COMMAND_DESCRIPTOR).append("> getSubCommands() throws NoSuchMethodException {\n")
+                .append("        return java.util.Arrays.asList(");
+
+        // Keeps declaration order, same as the reflection scan would
+        boolean first = true;
+        for (final Element enclosed : commandType.getEnclosedElements()) {
+            if (!methods.contains(enclosed)) continue;
+
+            builder.append(first ? "\n" : ",\n");
+            first = false;
+            appendSubCommand(builder, commandType, (ExecutableElement) enclosed);
+        }
+
+        builder.append("\n        );\n")
+                .append("    }\n")
+                .append("}\n");
+
+        final String qualifiedName = packageName.isEmpty() ? descriptorName : packageName + "." + descriptorName;
+        final Filer filer = processingEnv.getFiler();
+        try {
+            final JavaFileObject file = filer.createSourceFile(qualifiedName, commandType);
+            try (final Writer writer = file.openWriter()) {
+                writer.write(builder.toString());
+            }
+        } catch (final IOException exception) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Could not write command descriptor: " + exception.getMessage(),
+                    commandType
+            );
+        }
+    }
+
+    /**
+     * Appends the builder chain creating the <code>SubCommandDescriptor</code> of the method, with the values of its annotations.
+     * Only the values are copied, they are validated when the sub command is processed, same as with reflection.
+     *
+     * @param builder     The source being written.
+     * @param commandType The command class.
+     * @param method      The sub command method.
+     */
+    private void appendSubCommand(
+            final @NotNull StringBuilder builder,
+            final @NotNull TypeElement commandType,
+            final @NotNull ExecutableElement method
+    ) {
+        final String indent = "\n                        ";
+        builder.append("                ").append(SUB_COMMAND_DESCRIPTOR).append(".builder(")
+                .append(commandType.getQualifiedName()).append(".class.getDeclaredMethod(")
+                .append(literal(method.getSimpleName().toString()));
+        for (final VariableElement parameter : method.getParameters()) {
+            builder.append(", ").append(toClassName(parameter.asType())).append(".class");
+        }
+        builder.append("))");
+
+        final Map<String, AnnotationValue> defaultValues = getValues(method, "Default");
+        final Map<String, AnnotationValue> subCommandValues = getValues(method, "SubCommand");
+        if (defaultValues != null) {
+            builder.append(indent).append(".defaultCommand()");
+            appendStrings(builder.append(indent).append(".alias("), defaultValues.get("alias")).append(')');
+        } else if (subCommandValues != null) {
+            builder.append(indent).append(".name(").append(literal(subCommandValues.get("value"))).append(')');
+            appendStrings(builder.append(indent).append(".alias("), subCommandValues.get("alias")).append(')');
+        }
+
+        if (getValues(method, "Async") != null) builder.append(indent).append(".async(true)");
+
+        final Map<String, AnnotationValue> description = getValues(method, "Description");
+        if (description != null) builder.append(indent).append(".description(").append(literal(description.get("value"))).append(')');
+
+        final Map<String, AnnotationValue> cooldown = getValues(method, "Cooldown");
+        if (cooldown != null) {
+            builder.append(indent).append(".cooldown(")
+                    .append(cooldown.get("value").getValue()).append("L, ")
+                    .append(timeUnit(cooldown.get("unit"))).append(')');
+        }
+
+        final Map<String, AnnotationValue> rateLimit = getValues(method, "RateLimit");
+        if (rateLimit != null) {
+            builder.append(indent).append(".rateLimit(")
+                    .append(rateLimit.get("permits").getValue()).append(", ")
+                    .append(rateLimit.get("period").getValue()).append("L, ")
+                    .append(timeUnit(rateLimit.get("unit"))).append(')');
+        }
+
+        final Map<String, AnnotationValue> argDescriptions = getValues(method, "ArgDescriptions");
+        if (argDescriptions != null) {
+            appendStrings(builder.append(indent).append(".argDescriptions("), argDescriptions.get("value")).append(')');
+        }
+
+        for (final Map<String, AnnotationValue> suggestion : getRepeatableValues(method, "Suggestion", "Suggestions")) {
+            builder.append(indent).append(".suggestion(").append(literal(suggestion.get("value"))).append(')');
+        }
+
+        for (final Map<String, AnnotationValue> flag : getRepeatableValues(method, "Flag", "CommandFlags")) {
+            builder.append(indent).append(".flag(new ").append(PROCESSOR_PACKAGE).append("FlagDescriptor(")
+                    .append(literal(flag.get("flag"))).append(", ")
+                    .append(literal(flag.get("longFlag"))).append(", ")
+                    .append(toClassName((TypeMirror) flag.get("argument").getValue())).append(".class, ")
+                    .append(literal(flag.get("suggestion"))).append("))");
+        }
+
+        for (final Map<String, AnnotationValue> requirement : getRepeatableValues(method, "Requirement", "Requirements")) {
+            builder.append(indent).append(".requirement(new ").append(PROCESSOR_PACKAGE).append("RequirementDescriptor(")
+                    .append(literal(requirement.get("value"))).append(", ")
+                    .append(literal(requirement.get("messageKey"))).append(", ")
+                    .append(requirement.get("invert").getValue()).append("))");
+        }
+
+        final Map<String, AnnotationValue> namedArguments = getValues(method, "NamedArguments");
+        if (namedArguments != null) {
+            builder.append(indent).append(".namedArguments(").append(literal(namedArguments.get("value"))).append(')');
+        }
+
+        final List<? extends VariableElement> parameters = method.getParameters();
+        // The first parameter is the sender
+        for (int i = 1; i < parameters.size(); i++) {
+            builder.append(indent).append(".argument(");
+            appendArgument(builder, parameters.get(i));
+            builder.append(')');
+        }
+
+        builder.append(indent).append(".build()");
+    }
+
+    /**
+     * Appends the builder chain creating the <code>ArgumentDescriptor</code> of a parameter.
+     *
+     * @param builder   The source being written.
+     * @param parameter The parameter after the sender.
+     */
+    private void appendArgument(final @NotNull StringBuilder builder, final @NotNull VariableElement parameter) {
+        builder.append(ARGUMENT_DESCRIPTOR).append(".builder(").append(toClassName(parameter.asType())).append(".class)");
+
+        final String elementType = getElementType(parameter.asType());
+        if (elementType != null) builder.append(".elementType(").append(elementType).append(".class)");
+
+        final Map<String, AnnotationValue> argName = getValues(parameter, "ArgName");
+        if (argName != null) builder.append(".name(").append(literal(argName.get("value"))).append(')');
+
+        final Map<String, AnnotationValue> description = getValues(parameter, "Description");
+        if (description != null) builder.append(".description(").append(literal(description.get("value"))).append(')');
+
+        if (getValues(parameter, "Optional") != null) builder.append(".optional(true)");
+
+        final Map<String, AnnotationValue> split = getValues(parameter, "Split");
+        if (split != null) builder.append(".split(").append(literal(split.get("value"))).append(')');
+
+        final Map<String, AnnotationValue> join = getValues(parameter, "Join");
+        if (join != null) builder.append(".join(").append(literal(join.get("value"))).append(')');
+
+        final Map<String, AnnotationValue> suggestion = getValues(parameter, "Suggestion");
+        if (suggestion != null) builder.append(".suggestion(").append(literal(suggestion.get("value"))).append(')');
+
+        builder.append(".build()");
+    }
+
+    /**
+     * Gets the values of a triumph annotation on the element, defaults included.
+     *
+     * @param element    The annotated element.
+     * @param annotation The simple name of the annotation.
+     * @return The values by name, or null if the element isn't annotated with it.
+     */
+    private @Nullable Map<@NotNull String, @NotNull AnnotationValue> getValues(final @NotNull Element element, final @NotNull String annotation) {
+        final String annotationName = ANNOTATION_PACKAGE + annotation;
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            final TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!type.getQualifiedName().contentEquals(annotationName)) continue;
+            return getValues(mirror);
+        }
+        return null;
+    }
+
+    private @NotNull Map<@NotNull String, @NotNull AnnotationValue> getValues(final @NotNull AnnotationMirror mirror) {
+        final Map<String, AnnotationValue> values = new LinkedHashMap<>();
+        processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).forEach((key, value) -> values.put(key.getSimpleName().toString(), value));
+        return values;
+    }
+
+    /**
+     * Gets the values of a repeatable annotation, either used once or repeated inside its container.
+     *
+     * @param element    The annotated element.
+     * @param annotation The simple name of the annotation.
+     * @param container  The simple name of its container.
+     * @return The values of each annotation, in order.
+     */
+    private @NotNull List<@NotNull Map<@NotNull String, @NotNull AnnotationValue>> getRepeatableValues(
+            final @NotNull Element element,
+            final @NotNull String annotation,
+            final @NotNull String container
+    ) {
+        final Map<String, AnnotationValue> containerValues = getValues(element, container);
+        if (containerValues != null) {
+            final List<Map<String, AnnotationValue>> values = new ArrayList<>();
+            for (final Object value : (List<?>) containerValues.get("value").getValue()) {
+                values.add(getValues((AnnotationMirror) ((AnnotationValue) value).getValue()));
+            }
+            return values;
+        }
+
+        final Map<String, AnnotationValue> values = getValues(element, annotation);
+        if (values == null) return Collections.emptyList();
+        return Collections.singletonList(values);
+    }
+
+    /**
+     * Appends the values of a <code>String[]</code> annotation value as arguments.
+     *
+     * @param builder The source being written.
+     * @param value   The array value.
+     * @return The builder.
+     */
+    private @NotNull StringBuilder appendStrings(final @NotNull StringBuilder builder, final @NotNull AnnotationValue value) {
+        boolean first = true;
+        for (final Object element : (List<?>) value.getValue()) {
+            if (!first) builder.append(", ");
+            first = false;
+            builder.append(literal((AnnotationValue) element));
+        }
+        return builder;
+    }
+
+    private @NotNull String literal(final @NotNull AnnotationValue value) {
+        return literal((String) value.getValue());
+    }
+
+    private @NotNull String literal(final @NotNull String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private @NotNull String timeUnit(final @NotNull AnnotationValue value) {
+        return "java.util.concurrent.TimeUnit." + ((VariableElement) value.getValue()).getSimpleName();
+    }
+
+    /**
+     * Gets the single type argument of the type, the same one the reflection scan would find.
+     *
+     * @param type The parameter type.
+     * @return The class name of the type argument, or null if there isn't exactly one that is a plain class.
+     */
+    private @Nullable String getElementType(final @NotNull TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) return null;
+
+        final List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.size() != 1) return null;
+
+        TypeMirror argument = arguments.get(0);
+        if (argument.getKind() == TypeKind.WILDCARD) {
+            final TypeMirror bound = ((WildcardType) argument).getExtendsBound();
+            if (bound == null) return Object.class.getName();
+            argument = bound;
+        }
+
+        if (argument.getKind() != TypeKind.DECLARED || !((DeclaredType) argument).getTypeArguments().isEmpty()) return null;
+        return toClassName(argument);
+    }
+
+    /**
+     * Checks if the generated class, living in the same package, can reference the command class.
+     *
+     * @param type The command class.
+     * @return Whether the class can be referenced.
+     */
+    private boolean isAccessible(final @NotNull TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            final TypeElement currentType = (TypeElement) current;
+            final NestingKind nesting = currentType.getNestingKind();
+            if (nesting == NestingKind.ANONYMOUS || nesting == NestingKind.LOCAL) return false;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)) return false;
+            current = currentType.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * Turns a parameter type into the source name of its erased class.
+     * Type annotations, like <code>@NotNull</code>, are left out.
+     *
+     * @param type The parameter type.
+     * @return The class name, usable with <code>.class</code>.
+     */
+    private @NotNull String toClassName(final @NotNull TypeMirror type) {
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        switch (erased.getKind()) {
+            case ARRAY:
+                return toClassName(((ArrayType) erased).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+            default:
+                return erased.getKind().name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.processor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.processor.ArgumentDescriptor;
+import dev.triumphteam.cmd.core.processor.CommandDescriptor;
+import dev.triumphteam.cmd.core.processor.FlagDescriptor;
+import dev.triumphteam.cmd.core.processor.RequirementDescriptor;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compiles a sample command with the processor and checks the generated descriptor against the reflection scan.
+ */
+class CommandDescriptorProcessorTest {
+
+    private static final String SAMPLE = String.join("\n",
+            "package sample;",
+            "",
+            "import dev.triumphteam.cmd.core.BaseCommand;",
+            "import dev.triumphteam.cmd.core.annotation.*;",
+            "import dev.triumphteam.cmd.core.argument.named.Arguments;",
+            "import dev.triumphteam.cmd.core.flag.Flags;",
+            "import java.util.List;",
+            "import java.util.Set;",
+            "import java.util.concurrent.TimeUnit;",
+            "",
+            "@Command(\"sample\")",
+            "public class SampleCommand extends BaseCommand {",
+            "",
+            "    @Default(alias = {\"Main\", \"m\"})",
+            "    @Description(\"The \\\"main\\\" one\\n\")",
+            "    public void main(String sender) {}",
+            "",
+            "    @SubCommand(value = \"Give\", alias = \"g\")",
+            "    @Async",
+            "    @Cooldown(value = 5, unit = TimeUnit.MINUTES)",
+            "    @ArgDescriptions({\"The target\", \"The amount\"})",
+            "    @Suggestion(\"players\")",
+            "    @Suggestion(\"\")",
+            "    @Requirement(value = \"op\", messageKey = \"no.op\", invert = true)",
+            "    public void give(String sender, @ArgName(\"who\") @Suggestion(\"online\") String target, @Optional Integer amount) {}",
+            "",
+            "    @SubCommand(\"list\")",
+            "    @RateLimit(permits = 3, period = 10)",
+            "    @Flag(flag = \"f\", longFlag = \"force\")",
+            "    @Flag(flag = \"t\", argument = int.class, suggestion = \"times\")",
+            "    @Requirement(\"a\")",
+            "    @Requirement(\"b\")",
+            "    @SuppressWarnings(\"rawtypes\")",
+            "    public void list(String sender, @Split(\";\") List<String> names, Set<? extends Number> numbers, List raw, Flags flags) {}",
+            "",
+            "    @SubCommand(\"say\")",
+            "    @NamedArguments(\"say\")",
+            "    public void say(String sender, @Join(\"-\") @Description(\"What to say\") String message, String[] extra, int count, Arguments arguments) {}",
+            "",
+            "    public void helper(String sender) {}",
+            "",
+            "    @SubCommand(\"hidden\")",
+            "    private void hidden(String sender) {}",
+            "",
+            "    private static class Inner extends BaseCommand {",
+            "        @SubCommand(\"inner\")",
+            "        public void inner(String sender) {}",
+            "    }",
+            "}",
+            ""
+    );
+
+    @TempDir
+    static Path output;
+
+    private static Class<? extends BaseCommand> commandClass;
+    private static Map<String, SubCommandDescriptor> generated;
+
+    @BeforeAll
+    static void compileSample() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null, "Needs a JDK to compile the sample");
+
+        final Path classes = Files.createDirectories(output.resolve("classes"));
+        final Path sources = Files.createDirectories(output.resolve("generated"));
+        final String classPath = new File(BaseCommand.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                null,
+                diagnostics,
+                Arrays.asList("-d", classes.toString(), "-s", sources.toString(), "-classpath", classPath),
+                null,
+                Collections.singletonList(new SourceFile("sample/SampleCommand.java", SAMPLE))
+        );
+        task.setProcessors(Collections.singletonList(new CommandDescriptorProcessor()));
+
+        final boolean success = task.call();
+        assertThat(success)
+                .as(() -> diagnostics.getDiagnostics().stream().map(Diagnostic::toString).collect(Collectors.joining("\n")))
+                .isTrue();
+
+        final URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, CommandDescriptorProcessorTest.class.getClassLoader());
+        commandClass = classLoader.loadClass("sample.SampleCommand").asSubclass(BaseCommand.class);
+
+        final CommandDescriptor descriptor = (CommandDescriptor) classLoader.loadClass("sample.SampleCommand" + CommandDescriptor.SUFFIX)
+                .getDeclaredConstructor()
+                .newInstance();
+        generated = byMethodName(descriptor.getSubCommands());
+    }
+
+    @Test
+    void generated_descriptor_matches_the_reflection_scan() {
+        assertThat(generated).isEqualTo(byMethodName(SubCommandDescriptor.scan(commandClass)));
+        assertThat(generated).containsOnlyKeys("main", "give", "list", "say");
+    }
+
+    @Test
+    void annotation_values_are_generated() {
+        final SubCommandDescriptor main = generated.get("main");
+        assertThat(main.isDefault()).isTrue();
+        assertThat(main.getAlias()).containsExactly("Main", "m");
+        assertThat(main.getDescription()).isEqualTo("The \"main\" one\n");
+
+        final SubCommandDescriptor give = generated.get("give");
+        assertThat(give.getName()).isEqualTo("Give");
+        assertThat(give.isAsync()).isTrue();
+        assertThat(give.getCooldown()).isEqualTo(5);
+        assertThat(give.getCooldownUnit()).isEqualTo(TimeUnit.MINUTES);
+        assertThat(give.getSuggestions()).containsExactly("players", "");
+        assertThat(give.getRequirements()).containsExactly(new RequirementDescriptor("op", "no.op", true));
+        assertThat(give.getArguments()).containsExactly(
+                ArgumentDescriptor.builder(String.class).name("who").suggestion("online").build(),
+                ArgumentDescriptor.builder(Integer.class).optional(true).build()
+        );
+
+        final SubCommandDescriptor list = generated.get("list");
+        assertThat(list.getRateLimitPermits()).isEqualTo(3);
+        assertThat(list.getRateLimitUnit()).isEqualTo(TimeUnit.SECONDS);
+        assertThat(list.getFlags()).containsExactly(
+                new FlagDescriptor("f", "force", void.class, ""),
+                new FlagDescriptor("t", "", int.class, "times")
+        );
+        assertThat(list.getArguments()).extracting(ArgumentDescriptor::getElementType).containsExactly(String.class, Number.class, null, null);
+
+        final SubCommandDescriptor say = generated.get("say");
+        assertThat(say.getNamedArguments()).isEqualTo("say");
+        assertThat(say.getArguments()).extracting(ArgumentDescriptor::getType).containsExactly(String.class, String[].class, int.class, say.getArguments().get(3).getType());
+        assertThat(say.getArguments().get(0).getJoin()).isEqualTo("-");
+    }
+
+    @Test
+    void inaccessible_classes_are_skipped() {
+        assertThat(output.resolve("generated/sample/SampleCommand" + CommandDescriptor.SUFFIX + ".java")).exists();
+        assertThat(output.resolve("generated/sample/SampleCommand$Inner" + CommandDescriptor.SUFFIX + ".java")).doesNotExist();
+    }
+
+    private static Map<String, SubCommandDescriptor> byMethodName(final List<SubCommandDescriptor> descriptors) {
+        return descriptors.stream().collect(Collectors.toMap(it -> it.getMethod().getName(), Function.identity()));
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        private SourceFile(final String path, final String source) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
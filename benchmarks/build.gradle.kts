@@ -0,0 +1,7 @@
+plugins {
+    id("cmds.benchmark-conventions")
+}
+
+dependencies {
+    jmh(project(":triumph-cmd-simple"))
+}
@@ -0,0 +1,59 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmds.simple.SimpleCommandManager;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Shared setup for the benchmarks.
+ */
+final class Benchmarks {
+
+    private Benchmarks() {throw new AssertionError("Util must not be initialized");}
+
+    /**
+     * Creates a manager for {@link String} senders that accepts every sender and has no messages.
+     *
+     * @return A new {@link SimpleCommandManager}.
+     */
+    static SimpleCommandManager<String> createManager() {
+        return SimpleCommandManager.create(sender -> sender, new SenderValidator<String>() {
+            @Override
+            public Set<Class<? extends String>> getAllowedSenders() {
+                return Collections.singleton(String.class);
+            }
+
+            @Override
+            public boolean validate(final MessageRegistry<String> messageRegistry, final SubCommand<String> subCommand, final String sender) {
+                return true;
+            }
+        });
+    }
+}
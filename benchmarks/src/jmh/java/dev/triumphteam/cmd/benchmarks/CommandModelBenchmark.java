@@ -0,0 +1,139 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.processor.CommandModelCache;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
+import dev.triumphteam.cmds.simple.SimpleCommandManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Loading the sub commands of a {@link LargeCommand} with {@link SubCommandDescriptor#scan(Class)} against a warm {@link CommandModelCache}.
+ * Every invocation defines the class again in a new class loader, so the annotations are parsed from scratch like on a restart.
+ * The cache variants open the file each time, as a restart would.
+ */
+@State(Scope.Thread)
+public class CommandModelBenchmark {
+
+    private byte[] bytes;
+    private Path file;
+
+    private Class<? extends BaseCommand> commandClass;
+    private BaseCommand baseCommand;
+    private SimpleCommandManager<String> manager;
+
+    @Setup(Level.Trial)
+    public void createCache() throws Exception {
+        try (final InputStream input = LargeCommand.class.getResourceAsStream("LargeCommand.class")) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            bytes = output.toByteArray();
+        }
+
+        file = Files.createTempFile("triumph-cmd", ".bin");
+        Files.delete(file);
+        final CommandModelCache cache = CommandModelCache.open(file);
+        cache.getSubCommands(defineCommandClass());
+        cache.save();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCache() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Setup(Level.Invocation)
+    public void defineClass() throws Exception {
+        commandClass = defineCommandClass();
+        baseCommand = commandClass.getConstructor(String.class).newInstance("large");
+        manager = Benchmarks.createManager();
+    }
+
+    @Benchmark
+    public List<SubCommandDescriptor> scan() {
+        return SubCommandDescriptor.scan(commandClass);
+    }
+
+    @Benchmark
+    public List<SubCommandDescriptor> cache() {
+        return CommandModelCache.open(file).getSubCommands(commandClass);
+    }
+
+    @Benchmark
+    public SimpleCommandManager<String> registerScanned() {
+        manager.registerCommand(baseCommand);
+        return manager;
+    }
+
+    @Benchmark
+    public SimpleCommandManager<String> registerCached() {
+        manager.setModelCache(CommandModelCache.open(file));
+        manager.registerCommand(baseCommand);
+        return manager;
+    }
+
+    private Class<? extends BaseCommand> defineCommandClass() throws ClassNotFoundException {
+        return new DefiningClassLoader(bytes).loadClass(LargeCommand.class.getName()).asSubclass(BaseCommand.class);
+    }
+
+    /**
+     * Defines its own copy of {@link LargeCommand}, everything else comes from the parent.
+     */
+    private static final class DefiningClassLoader extends ClassLoader {
+
+        private final byte[] bytes;
+
+        private DefiningClassLoader(final byte[] bytes) {
+            super(CommandModelBenchmark.class.getClassLoader());
+            this.bytes = bytes;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(LargeCommand.class.getName())) return super.loadClass(name, resolve);
+
+            synchronized (getClassLoadingLock(name)) {
+                final Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : defineClass(name, bytes, 0, bytes.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.annotation.Command;
+import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.annotation.Join;
+import dev.triumphteam.cmd.core.annotation.Optional;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import dev.triumphteam.cmds.simple.SimpleCommandManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dispatch through {@link SimpleCommandManager#executeCommand}, from the command lookup to the method invocation.
+ */
+@State(Scope.Thread)
+public class DispatchBenchmark {
+
+    private final List<String> defaultArgs = Arrays.asList("bench");
+    private final List<String> primitiveArgs = Arrays.asList("bench", "add", "12", "30");
+    private final List<String> optionalArgs = Arrays.asList("bench", "add", "12");
+    private final List<String> joinedArgs = Arrays.asList("bench", "say", "hello", "there", "world");
+    private final List<String> aliasArgs = Arrays.asList("b", "a", "12", "30");
+    private final List<String> unknownArgs = Arrays.asList("bench", "nope");
+    private final String commandLine = "bench say \"hello there\" world";
+
+    private SimpleCommandManager<String> manager;
+    private BenchCommand command;
+
+    @Setup
+    public void setup() {
+        manager = Benchmarks.createManager();
+        command = new BenchCommand();
+        manager.registerCommand(command);
+    }
+
+    @Benchmark
+    public long defaultSubCommand() {
+        manager.executeCommand("sender", defaultArgs);
+        return command.sink;
+    }
+
+    @Benchmark
+    public long primitiveArguments() {
+        manager.executeCommand("sender", primitiveArgs);
+        return command.sink;
+    }
+
+    @Benchmark
+    public long optionalArgument() {
+        manager.executeCommand("sender", optionalArgs);
+        return command.sink;
+    }
+
+    @Benchmark
+    public long joinedArgument() {
+        manager.executeCommand("sender", joinedArgs);
+        return command.sink;
+    }
+
+    @Benchmark
+    public long aliases() {
+        manager.executeCommand("sender", aliasArgs);
+        return command.sink;
+    }
+
+    @Benchmark
+    public long unknownSubCommand() {
+        manager.executeCommand("sender", unknownArgs);
+        return command.sink;
+    }
+
+    @Benchmark
+    public long tokenizedCommandLine() {
+        manager.executeCommand("sender", commandLine);
+        return command.sink;
+    }
+
+    @Command(value = "bench", alias = "b")
+    public static class BenchCommand extends BaseCommand {
+
+        private long sink;
+
+        @Default
+        public void base(final String sender) {
+            sink++;
+        }
+
+        @SubCommand(value = "add", alias = "a")
+        public void add(final String sender, final int first, final @Optional Integer second) {
+            sink += first + (second == null ? 0 : second);
+        }
+
+        @SubCommand("say")
+        public void say(final String sender, final @Join String message) {
+            sink += message.length();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.argument.EnumInternalArgument;
+import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * {@link EnumInternalArgument#resolve} for exact, differently cased and unknown constant names.
+ */
+@State(Scope.Thread)
+public class EnumArgumentBenchmark {
+
+    @Param({"MILLENNIA", "millennia", "Half_Days", "unknown"})
+    public String input;
+
+    private EnumInternalArgument<String> argument;
+
+    @Setup
+    public void setup() {
+        argument = new EnumInternalArgument<>("unit", "", ChronoUnit.class, new EmptySuggestion<>(), 0, false);
+    }
+
+    @Benchmark
+    public Object resolve() {
+        return argument.resolve("sender", input);
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.argument.ResolverInternalArgument;
+import dev.triumphteam.cmd.core.flag.Flags;
+import dev.triumphteam.cmd.core.flag.internal.FlagGroup;
+import dev.triumphteam.cmd.core.flag.internal.FlagOptions;
+import dev.triumphteam.cmd.core.flag.internal.FlagParser;
+import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link FlagParser#parse} over short, long, valued and escaped flags mixed with plain arguments.
+ */
+@State(Scope.Thread)
+public class FlagParserBenchmark {
+
+    private final List<String> noFlags = Arrays.asList("some", "plain", "arguments", "only");
+    private final List<String> shortFlags = Arrays.asList("-f", "target", "-s", "-n", "name");
+    private final List<String> longFlags = Arrays.asList("--force", "target", "--silent", "--name=name", "--reason", "a", "reason");
+    private final List<String> escaped = Arrays.asList("\\-f", "target", "-n", "\\--name", "--silent");
+
+    private FlagParser<String> parser;
+
+    @Setup
+    public void setup() {
+        final FlagGroup<String> flagGroup = new FlagGroup<>();
+        flagGroup.addFlag(new FlagOptions<>("f", "force", null));
+        flagGroup.addFlag(new FlagOptions<>("s", "silent", null));
+        flagGroup.addFlag(new FlagOptions<>("n", "name", stringArgument("name")));
+        flagGroup.addFlag(new FlagOptions<>("r", "reason", stringArgument("reason")));
+        parser = new FlagParser<>(flagGroup);
+    }
+
+    @Benchmark
+    public Flags noFlags() {
+        return parser.parse("sender", noFlags);
+    }
+
+    @Benchmark
+    public Flags shortFlags() {
+        return parser.parse("sender", shortFlags);
+    }
+
+    @Benchmark
+    public Flags longFlags() {
+        return parser.parse("sender", longFlags);
+    }
+
+    @Benchmark
+    public Flags escapedFlags() {
+        return parser.parse("sender", escaped);
+    }
+
+    private static ResolverInternalArgument<String> stringArgument(final String name) {
+        return new ResolverInternalArgument<>(name, "", String.class, (sender, arg) -> arg, new EmptySuggestion<>(), 0, false);
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.annotation.Command;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
+import dev.triumphteam.cmd.core.invoker.MethodHandleInvokerFactory;
+import dev.triumphteam.cmd.core.invoker.ReflectionInvokerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+
+/**
+ * The bound method handle invoker against plain reflection, for the same sub command method.
+ * The primitive variants pass an int through its slot, which reflection has to box on every call.
+ */
+@State(Scope.Thread)
+public class InvokerBenchmark {
+
+    private final Object[] arguments = {"sender", "value", 42};
+    private final long[] primitives = new long[0];
+    private final Object[] primitiveArguments = new Object[3];
+    private final long[] primitiveSlots = new long[3];
+
+    private InvokerCommand command;
+    private CommandInvoker methodHandle;
+    private CommandInvoker reflection;
+    private CommandInvoker primitiveMethodHandle;
+    private CommandInvoker primitiveReflection;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        command = new InvokerCommand();
+        final Method method = InvokerCommand.class.getDeclaredMethod("run", String.class, String.class, Integer.class);
+        methodHandle = new MethodHandleInvokerFactory().create(command, method);
+        reflection = new ReflectionInvokerFactory().create(command, method);
+
+        final Method primitiveMethod = InvokerCommand.class.getDeclaredMethod("runPrimitive", String.class, String.class, int.class);
+        primitiveMethodHandle = new MethodHandleInvokerFactory().create(command, primitiveMethod);
+        primitiveReflection = new ReflectionInvokerFactory().create(command, primitiveMethod);
+        primitiveArguments[0] = "sender";
+        primitiveArguments[1] = "value";
+        // Outside of the Integer cache, so boxing allocates
+        primitiveSlots[2] = 4242;
+    }
+
+    @Benchmark
+    public long methodHandle() throws Throwable {
+        methodHandle.invoke(arguments, primitives);
+        return command.sink;
+    }
+
+    @Benchmark
+    public long reflection() throws Throwable {
+        reflection.invoke(arguments, primitives);
+        return command.sink;
+    }
+
+    @Benchmark
+    public long primitiveMethodHandle() throws Throwable {
+        primitiveMethodHandle.invoke(primitiveArguments, primitiveSlots);
+        return command.sink;
+    }
+
+    @Benchmark
+    public long primitiveReflection() throws Throwable {
+        primitiveReflection.invoke(primitiveArguments, primitiveSlots);
+        return command.sink;
+    }
+
+    @Command("invoker")
+    public static class InvokerCommand extends BaseCommand {
+
+        private long sink;
+
+        public void run(final String sender, final String value, final Integer amount) {
+            sink += value.length() + amount;
+        }
+
+        public void runPrimitive(final String sender, final String value, final int amount) {
+            sink += value.length() + amount;
+        }
+    }
+}
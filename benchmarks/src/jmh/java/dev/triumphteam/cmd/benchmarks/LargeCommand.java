@@ -0,0 +1,227 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.annotation.CommandFlags;
+import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.annotation.Flag;
+import dev.triumphteam.cmd.core.annotation.Join;
+import dev.triumphteam.cmd.core.annotation.Optional;
+import dev.triumphteam.cmd.core.annotation.Split;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import dev.triumphteam.cmd.core.flag.Flags;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * A synthetic command class with many sub commands, mixing every kind of argument the processor handles.
+ * The name is given on construction, so many instances can be registered side by side.
+ */
+public class LargeCommand extends BaseCommand {
+
+    private long sink;
+
+    public LargeCommand(final String name) {
+        super(name);
+    }
+
+    @Default
+    public void base(final String sender) {
+        sink++;
+    }
+
+    @SubCommand(value = "sub0", alias = "s0")
+    public void sub0(final String sender, final int amount) {
+        sink += amount;
+    }
+
+    @SubCommand(value = "sub1", alias = "s1")
+    public void sub1(final String sender, final String target, final @Optional Integer amount) {
+        sink += target.length();
+    }
+
+    @SubCommand(value = "sub2", alias = "s2")
+    public void sub2(final String sender, final double x, final double y, final double z) {
+        sink += (long) (x + y + z);
+    }
+
+    @SubCommand(value = "sub3", alias = "s3")
+    public void sub3(final String sender, final ChronoUnit unit, final long value) {
+        sink += value + unit.ordinal();
+    }
+
+    @SubCommand(value = "sub4", alias = "s4")
+    public void sub4(final String sender, final @Split(",") List<String> names) {
+        sink += names.size();
+    }
+
+    @SubCommand(value = "sub5", alias = "s5")
+    public void sub5(final String sender, final String target, final @Join String reason) {
+        sink += reason.length();
+    }
+
+    @SubCommand(value = "sub6", alias = "s6")
+    public void sub6(final String sender, final boolean enabled, final @Optional String value) {
+        sink += enabled ? 1 : 0;
+    }
+
+    @SubCommand(value = "sub7", alias = "s7")
+    @CommandFlags({@Flag(flag = "f", longFlag = "force"), @Flag(flag = "n", longFlag = "name", argument = String.class)})
+    public void sub7(final String sender, final Flags flags) {
+        sink += flags.getArgs().size();
+    }
+
+    @SubCommand(value = "sub8", alias = "s8")
+    public void sub8(final String sender, final int amount) {
+        sink += amount;
+    }
+
+    @SubCommand(value = "sub9", alias = "s9")
+    public void sub9(final String sender, final String target, final @Optional Integer amount) {
+        sink += target.length();
+    }
+
+    @SubCommand(value = "sub10", alias = "s10")
+    public void sub10(final String sender, final double x, final double y, final double z) {
+        sink += (long) (x + y + z);
+    }
+
+    @SubCommand(value = "sub11", alias = "s11")
+    public void sub11(final String sender, final ChronoUnit unit, final long value) {
+        sink += value + unit.ordinal();
+    }
+
+    @SubCommand(value = "sub12", alias = "s12")
+    public void sub12(final String sender, final @Split(",") List<String> names) {
+        sink += names.size();
+    }
+
+    @SubCommand(value = "sub13", alias = "s13")
+    public void sub13(final String sender, final String target, final @Join String reason) {
+        sink += reason.length();
+    }
+
+    @SubCommand(value = "sub14", alias = "s14")
+    public void sub14(final String sender, final boolean enabled, final @Optional String value) {
+        sink += enabled ? 1 : 0;
+    }
+
+    @SubCommand(value = "sub15", alias = "s15")
+    @CommandFlags({@Flag(flag = "f", longFlag = "force"), @Flag(flag = "n", longFlag = "name", argument = String.class)})
+    public void sub15(final String sender, final Flags flags) {
+        sink += flags.getArgs().size();
+    }
+
+    @SubCommand(value = "sub16", alias = "s16")
+    public void sub16(final String sender, final int amount) {
+        sink += amount;
+    }
+
+    @SubCommand(value = "sub17", alias = "s17")
+    public void sub17(final String sender, final String target, final @Optional Integer amount) {
+        sink += target.length();
+    }
+
+    @SubCommand(value = "sub18", alias = "s18")
+    public void sub18(final String sender, final double x, final double y, final double z) {
+        sink += (long) (x + y + z);
+    }
+
+    @SubCommand(value = "sub19", alias = "s19")
+    public void sub19(final String sender, final ChronoUnit unit, final long value) {
+        sink += value + unit.ordinal();
+    }
+
+    @SubCommand(value = "sub20", alias = "s20")
+    public void sub20(final String sender, final @Split(",") List<String> names) {
+        sink += names.size();
+    }
+
+    @SubCommand(value = "sub21", alias = "s21")
+    public void sub21(final String sender, final String target, final @Join String reason) {
+        sink += reason.length();
+    }
+
+    @SubCommand(value = "sub22", alias = "s22")
+    public void sub22(final String sender, final boolean enabled, final @Optional String value) {
+        sink += enabled ? 1 : 0;
+    }
+
+    @SubCommand(value = "sub23", alias = "s23")
+    @CommandFlags({@Flag(flag = "f", longFlag = "force"), @Flag(flag = "n", longFlag = "name", argument = String.class)})
+    public void sub23(final String sender, final Flags flags) {
+        sink += flags.getArgs().size();
+    }
+
+    @SubCommand(value = "sub24", alias = "s24")
+    public void sub24(final String sender, final int amount) {
+        sink += amount;
+    }
+
+    @SubCommand(value = "sub25", alias = "s25")
+    public void sub25(final String sender, final String target, final @Optional Integer amount) {
+        sink += target.length();
+    }
+
+    @SubCommand(value = "sub26", alias = "s26")
+    public void sub26(final String sender, final double x, final double y, final double z) {
+        sink += (long) (x + y + z);
+    }
+
+    @SubCommand(value = "sub27", alias = "s27")
+    public void sub27(final String sender, final ChronoUnit unit, final long value) {
+        sink += value + unit.ordinal();
+    }
+
+    @SubCommand(value = "sub28", alias = "s28")
+    public void sub28(final String sender, final @Split(",") List<String> names) {
+        sink += names.size();
+    }
+
+    @SubCommand(value = "sub29", alias = "s29")
+    public void sub29(final String sender, final String target, final @Join String reason) {
+        sink += reason.length();
+    }
+
+    @SubCommand(value = "sub30", alias = "s30")
+    public void sub30(final String sender, final boolean enabled, final @Optional String value) {
+        sink += enabled ? 1 : 0;
+    }
+
+    @SubCommand(value = "sub31", alias = "s31")
+    @CommandFlags({@Flag(flag = "f", longFlag = "force"), @Flag(flag = "n", longFlag = "name", argument = String.class)})
+    public void sub31(final String sender, final Flags flags) {
+        sink += flags.getArgs().size();
+    }
+
+    private void helper() {
+        // Not a sub command, the processor skips it
+    }
+
+    public long getSink() {
+        return sink;
+    }
+}
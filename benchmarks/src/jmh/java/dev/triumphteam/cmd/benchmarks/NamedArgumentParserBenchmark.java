@@ -0,0 +1,65 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.argument.named.NamedArgumentParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * {@link NamedArgumentParser#parse} over a few, many and escaped named arguments.
+ */
+@State(Scope.Thread)
+public class NamedArgumentParserBenchmark {
+
+    private final String single = "name:value";
+    private final String several = "name:Matt age:24 world:overworld x:120 y:64 z:-320";
+    private final String escaped = "time:12\\:30 url:https\\://triumphteam.dev ratio:16\\:9";
+    private final String many = IntStream.range(0, 32).mapToObj(i -> "key" + i + ":value" + i).collect(Collectors.joining(" "));
+
+    @Benchmark
+    public Map<String, String> single() {
+        return NamedArgumentParser.parse(single);
+    }
+
+    @Benchmark
+    public Map<String, String> several() {
+        return NamedArgumentParser.parse(several);
+    }
+
+    @Benchmark
+    public Map<String, String> many() {
+        return NamedArgumentParser.parse(many);
+    }
+
+    @Benchmark
+    public Map<String, String> escaped() {
+        return NamedArgumentParser.parse(escaped);
+    }
+}
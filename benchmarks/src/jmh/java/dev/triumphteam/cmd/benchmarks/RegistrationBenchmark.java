@@ -0,0 +1,80 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmds.simple.SimpleCommandManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registration of many {@link LargeCommand}s into a fresh manager, one at a time or in bulk, eager or lazy.
+ */
+@State(Scope.Thread)
+public class RegistrationBenchmark {
+
+    @Param({"1", "64"})
+    public int commands;
+
+    @Param({"false", "true"})
+    public boolean lazy;
+
+    private List<BaseCommand> baseCommands;
+    private SimpleCommandManager<String> manager;
+
+    @Setup(Level.Trial)
+    public void createCommands() {
+        baseCommands = new ArrayList<>(commands);
+        for (int i = 0; i < commands; i++) {
+            baseCommands.add(new LargeCommand("large" + i));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createManager() {
+        manager = Benchmarks.createManager();
+        manager.setLazyProcessing(lazy);
+    }
+
+    @Benchmark
+    public SimpleCommandManager<String> sequential() {
+        for (final BaseCommand baseCommand : baseCommands) {
+            manager.registerCommand(baseCommand);
+        }
+        return manager;
+    }
+
+    @Benchmark
+    public SimpleCommandManager<String> bulk() {
+        manager.registerCommands(baseCommands);
+        return manager;
+    }
+}
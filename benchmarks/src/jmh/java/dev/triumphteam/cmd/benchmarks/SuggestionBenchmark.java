@@ -0,0 +1,80 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.benchmarks;
+
+import dev.triumphteam.cmd.core.suggestion.SimpleSuggestion;
+import dev.triumphteam.cmd.core.suggestion.StaticSuggestionResolver;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@link SimpleSuggestion} filtering over large lists, through the prefix index and through the plain filter.
+ */
+@State(Scope.Thread)
+public class SuggestionBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int size;
+
+    @Param({"", "pl", "player_12"})
+    public String current;
+
+    private final SuggestionContext context = new SuggestionContext(Collections.emptyList(), "bench", "suggest");
+
+    private SimpleSuggestion<String> indexed;
+    private SimpleSuggestion<String> filtered;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final List<String> suggestions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Mostly shared prefixes, like player or item names
+            suggestions.add((random.nextInt(4) == 0 ? "Item_" : "Player_") + i);
+        }
+
+        indexed = new SimpleSuggestion<>(new StaticSuggestionResolver<>(suggestions));
+        // A dynamic resolver can't be indexed, so every call filters the whole list
+        filtered = new SimpleSuggestion<>((sender, context) -> suggestions);
+    }
+
+    @Benchmark
+    public List<String> indexed() {
+        return indexed.getSuggestions("sender", current, context);
+    }
+
+    @Benchmark
+    public List<String> filtered() {
+        return filtered.getSuggestions("sender", current, context);
+    }
+}
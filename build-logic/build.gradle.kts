@@ -9,4 +9,5 @@ repositories {
 dependencies {
     implementation("org.jetbrains.kotlin:kotlin-gradle-plugin:1.6.20")
     implementation("gradle.plugin.com.hierynomus.gradle.plugins:license-gradle-plugin:0.16.1")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.6.6")
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+plugins {
+    id("cmds.base-conventions")
+    id("me.champeau.jmh")
+}
+
+jmh {
+    jmhVersion.set("1.35")
+    benchmarkMode.set(listOf("thrpt"))
+    timeUnit.set("ms")
+    // Reports the allocation rate next to the throughput
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+
+    // Runs a single suite with -Pjmh.includes=<regex>
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
@@ -3,11 +3,21 @@ plugins {
     id("cmds.library-conventions")
 }
 
+// Classes replaced on newer JVMs, packed into the multi-release layer of the jar.
+// Opt-in with -PmultiRelease=true, the layer needs a JDK 21 toolchain, which Gradle 7 can't compile with.
+val multiRelease = providers.gradleProperty("multiRelease").orNull?.toBoolean() ?: false
+
+val java21: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java21")
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
 dependencies {
     testImplementation(kotlin("stdlib"))
     testImplementation(libs.junit.api)
     testImplementation(libs.junit.engine)
     testImplementation(libs.assertj)
+    testImplementation(libs.guava)
 
     compileOnly(libs.guava)
 }
@@ -16,4 +26,24 @@ tasks {
     test {
         useJUnitPlatform()
     }
-}
\ No newline at end of file
+
+    named<JavaCompile>(java21.compileJavaTaskName) {
+        enabled = multiRelease
+        javaCompiler.set(project.javaToolchains.compilerFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+        options.release.set(21)
+    }
+
+    jar {
+        if (multiRelease) {
+            into("META-INF/versions/21") {
+                from(java21.output)
+            }
+
+            manifest {
+                attributes("Multi-Release" to "true")
+            }
+        }
+    }
+}
@@ -26,26 +26,36 @@ package dev.triumphteam.cmd.core;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
+import dev.triumphteam.cmd.core.execution.ExecutionPlan;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.interceptor.ExecutionContext;
+import dev.triumphteam.cmd.core.interceptor.ExecutionInterceptor;
+import dev.triumphteam.cmd.core.interceptor.ExecutionOutcome;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
 import dev.triumphteam.cmd.core.argument.LimitlessInternalArgument;
+import dev.triumphteam.cmd.core.argument.PrimitiveResult;
 import dev.triumphteam.cmd.core.argument.StringInternalArgument;
+import dev.triumphteam.cmd.core.message.ContextualKey;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
 import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
 import dev.triumphteam.cmd.core.message.context.InvalidArgumentContext;
+import dev.triumphteam.cmd.core.message.context.RateLimitMessageContext;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
 import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
+import dev.triumphteam.cmd.core.ratelimit.RateLimitKeyResolver;
+import dev.triumphteam.cmd.core.ratelimit.TokenBucketStore;
 import dev.triumphteam.cmd.core.requirement.Requirement;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -58,24 +68,31 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
 
     private final BaseCommand baseCommand;
     private final Method method;
+    private final CommandInvoker invoker;
 
     private final String parentName;
     private final String name;
     private final List<String> alias;
     private final boolean isDefault;
 
-    private final Class<? extends S> senderType;
-
-    private final List<InternalArgument<S, ?>> internalArguments;
-    private final Set<Requirement<S, ?>> requirements;
-
     private final MessageRegistry<S> messageRegistry;
     private final ExecutionProvider executionProvider;
 
     private final SenderValidator<S> senderValidator;
 
-    private final boolean hasArguments;
-    private final boolean containsLimitless;
+    private final CommandMetrics metrics;
+    private final boolean recordMetrics;
+
+    // Null when the sub command has no cooldown nor rate limit
+    private final TokenBucketStore rateLimit;
+    private final RateLimitKeyResolver<S> rateLimitKeyResolver;
+
+    // Flattened when created, empty when there are no interceptors
+    private final ExecutionInterceptor<S>[] interceptors;
+
+    // Built on first use when the processor wasn't processed yet, see CommandManager#setLazyProcessing
+    private volatile ArgumentModel<S> model;
+    private AbstractSubCommandProcessor<S> processor;
 
     public AbstractSubCommand(
             final @NotNull AbstractSubCommandProcessor<S> processor,
@@ -84,22 +101,73 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
     ) {
         this.baseCommand = processor.getBaseCommand();
         this.method = processor.getMethod();
+        this.invoker = processor.getRegistryContainer().getInvokerFactory().create(baseCommand, method);
         this.name = processor.getName();
         this.alias = processor.getAlias();
-        this.internalArguments = processor.getArguments();
-        this.requirements = processor.getRequirements();
         this.messageRegistry = processor.getMessageRegistry();
         this.isDefault = processor.isDefault();
         this.senderValidator = processor.getSenderValidator();
 
-        this.senderType = processor.getSenderType();
+        this.metrics = processor.getRegistryContainer().getMetrics();
+        this.recordMetrics = metrics.isEnabled();
+
+        this.rateLimit = processor.getRateLimit();
+        this.rateLimitKeyResolver = processor.getRegistryContainer().getRateLimitKeyResolver();
+
+        this.interceptors = processor.getRegistryContainer().getInterceptorRegistry().getInterceptors();
 
         this.parentName = parentName;
 
         this.executionProvider = executionProvider;
 
-        this.hasArguments = !internalArguments.isEmpty();
-        this.containsLimitless = internalArguments.stream().anyMatch(LimitlessInternalArgument.class::isInstance);
+        if (processor.isProcessed()) {
+            this.model = new ArgumentModel<>(processor);
+        } else {
+            this.processor = processor;
+        }
+    }
+
+    /**
+     * Creates a copy of the sub command bound to a new {@link BaseCommand} instance.
+     * Everything but the invoked method is shared with the copied sub command, so nothing is extracted again.
+     *
+     * @param subCommand  The sub command to copy.
+     * @param baseCommand The new {@link BaseCommand} instance.
+     * @param method      The method of the new instance, with the same signature as the copied one.
+     * @param invoker     The {@link CommandInvoker} for the new method.
+     */
+    protected AbstractSubCommand(
+            final @NotNull AbstractSubCommand<S> subCommand,
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        this.baseCommand = baseCommand;
+        this.method = method;
+        this.invoker = invoker;
+        this.name = subCommand.name;
+        this.alias = subCommand.alias;
+        this.messageRegistry = subCommand.messageRegistry;
+        this.isDefault = subCommand.isDefault;
+        this.senderValidator = subCommand.senderValidator;
+
+        this.metrics = subCommand.metrics;
+        this.recordMetrics = subCommand.recordMetrics;
+
+        this.rateLimit = subCommand.rateLimit;
+        this.rateLimitKeyResolver = subCommand.rateLimitKeyResolver;
+
+        this.interceptors = subCommand.interceptors;
+
+        this.parentName = subCommand.parentName;
+
+        this.executionProvider = subCommand.executionProvider;
+
+        // An unprocessed copy shares the processor, which is only ever processed once
+        synchronized (subCommand) {
+            this.model = subCommand.model;
+            this.processor = subCommand.processor;
+        }
     }
 
     /**
@@ -116,7 +184,15 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
     // TODO: 2/5/2022 comments
     @Override
     public @NotNull Class<? extends S> getSenderType() {
-        return senderType;
+        return getModel().senderType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BaseCommand getBaseCommand() {
+        return baseCommand;
     }
 
     /**
@@ -139,9 +215,29 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
         return name;
     }
 
+    /**
+     * Gets the alias of the sub command.
+     *
+     * @return The alias of the sub command.
+     */
+    @Override
+    public @NotNull List<@NotNull String> getAlias() {
+        return alias;
+    }
+
+    /**
+     * Gets the method the sub command invokes.
+     *
+     * @return The sub command method.
+     */
+    @Override
+    public @NotNull Method getMethod() {
+        return method;
+    }
+
     @Override
     public boolean hasArguments() {
-        return hasArguments;
+        return getModel().hasArguments;
     }
 
     /**
@@ -161,29 +257,120 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
      */
     @Override
     public void execute(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
-        if (!senderValidator.validate(messageRegistry, this, sender)) return;
-        if (!meetRequirements(sender)) return;
+        final boolean intercept = interceptors.length > 0;
+        final long start = recordMetrics || intercept ? System.nanoTime() : 0L;
 
-        // Creates the invoking arguments list
-        final List<Object> invokeArguments = new ArrayList<>();
-        invokeArguments.add(sender);
-
-        if (!validateAndCollectArguments(sender, invokeArguments, args)) {
+        if (!senderValidator.validate(messageRegistry, this, sender)) {
+            recordFailure(null);
             return;
         }
 
-        if ((!containsLimitless) && args.size() >= invokeArguments.size()) {
-            messageRegistry.sendMessage(MessageKey.TOO_MANY_ARGUMENTS, sender, new DefaultMessageContext(parentName, name));
+        if (rateLimit != null && !acquirePermit(sender)) return;
+
+        final ExecutionContext<S> context = intercept ? new ExecutionContext<>(this, sender, args, start) : null;
+        if (context != null) {
+            final int cancelledBy = beforeArguments(context);
+            if (cancelledBy >= 0) {
+                afterExecution(context, cancelledBy + 1, ExecutionOutcome.cancelled());
+                return;
+            }
+        }
+
+        final ArgumentModel<S> model = getModel();
+        final ExecutionPlan<S> executionPlan = model.executionPlan;
+        // Creates the invoking arguments array, sized for the sender plus every argument
+        final Object[] invokeArguments = new Object[executionPlan.getInvokeSize()];
+        final long[] primitiveArguments = executionPlan.createPrimitives();
+        invokeArguments[0] = sender;
+
+        final ExecutionOutcome failure;
+        try {
+            failure = prepare(model, sender, invokeArguments, primitiveArguments, args, context);
+        } catch (final RuntimeException | Error throwable) {
+            if (context != null) afterExecution(context, interceptors.length, ExecutionOutcome.failed(null, throwable));
+            throw throwable;
+        }
+
+        if (failure != null) {
+            if (context != null) afterExecution(context, interceptors.length, failure);
             return;
         }
 
+        try {
+            dispatch(invokeArguments, primitiveArguments, context, start);
+        } catch (final RejectedExecutionException exception) {
+            recordFailure(MessageKey.EXECUTION_REJECTED);
+            if (messageRegistry.hasResolver(MessageKey.EXECUTION_REJECTED)) {
+                messageRegistry.sendMessage(MessageKey.EXECUTION_REJECTED, sender, new DefaultMessageContext(parentName, name));
+            }
+            if (context != null) afterExecution(context, interceptors.length, ExecutionOutcome.rejected(exception));
+        }
+    }
+
+    /**
+     * Checks the requirements, resolves the arguments and runs the {@link ExecutionInterceptor#afterArguments} stage.
+     *
+     * @param model           The {@link ArgumentModel} of the sub command.
+     * @param sender          The sender of the command.
+     * @param invokeArguments The array filled with the resolved arguments, the sender is at index 0.
+     * @param primitives      The array filled with the raw values of the primitive parameters.
+     * @param args            The command arguments.
+     * @param context         The {@link ExecutionContext} or null if there are no interceptors.
+     * @return Why the execution can't go on, or null if it's ready to be dispatched.
+     */
+    private @Nullable ExecutionOutcome prepare(
+            final @NotNull ArgumentModel<S> model,
+            final @NotNull S sender,
+            final @Nullable Object @NotNull [] invokeArguments,
+            final long @NotNull [] primitives,
+            final @NotNull List<@NotNull String> args,
+            final @Nullable ExecutionContext<S> context
+    ) {
+        final Requirement<S, ?> failedRequirement = checkRequirements(sender, model.requirements);
+        if (failedRequirement != null) return ExecutionOutcome.failed(failedRequirement.getMessageKey(), null);
+
+        final ContextualKey<?> invalidArguments = validateAndCollectArguments(model.executionPlan, sender, invokeArguments, primitives, args);
+        if (invalidArguments != null) return ExecutionOutcome.failed(invalidArguments, null);
+
+        if (context != null && !afterArguments(context)) return ExecutionOutcome.cancelled();
+        return null;
+    }
+
+    /**
+     * Hands the invocation of the method to the {@link ExecutionProvider}.
+     *
+     * @param invokeArguments The resolved arguments, the sender is at index 0.
+     * @param primitives      The raw values of the primitive parameters.
+     * @param context         The {@link ExecutionContext} or null if there are no interceptors.
+     * @param start           When the execution was received, only set if metrics or interceptors need it.
+     * @throws RejectedExecutionException If the {@link ExecutionProvider} can't take the execution.
+     */
+    private void dispatch(
+            final @Nullable Object @NotNull [] invokeArguments,
+            final long @NotNull [] primitives,
+            final @Nullable ExecutionContext<S> context,
+            final long start
+    ) {
         executionProvider.execute(() -> {
+            Throwable error = null;
             try {
-                method.invoke(baseCommand, invokeArguments.toArray());
-            } catch (IllegalAccessException | InvocationTargetException exception) {
+                invoker.invoke(invokeArguments, primitives);
+            } catch (final Throwable throwable) {
+                error = throwable;
+                if (recordMetrics) metrics.recordError(parentName, name, throwable);
                 throw new CommandExecutionException("An error occurred while executing the command", parentName, name)
-                        .initCause(exception instanceof InvocationTargetException ? exception.getCause() : exception);
+                        .initCause(throwable);
+            } finally {
+                if (context != null) {
+                    try {
+                        afterInvocation(context, error);
+                    } finally {
+                        afterExecution(context, interceptors.length, ExecutionOutcome.invoked(error));
+                    }
+                }
             }
+
+            if (recordMetrics) metrics.recordExecution(parentName, name, System.nanoTime() - start);
         });
     }
 
@@ -193,11 +380,11 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
      * @return The arguments of the sub command.
      */
     protected @NotNull List<@NotNull InternalArgument<S, ?>> getArguments() {
-        return internalArguments;
+        return getModel().internalArguments;
     }
 
     protected @Nullable InternalArgument<S, ?> getArgument(final @NotNull String name) {
-        final List<InternalArgument<S, ?>> foundArgs = internalArguments.stream()
+        final List<InternalArgument<S, ?>> foundArgs = getArguments().stream()
                 .filter(internalArgument -> internalArgument.getName().toLowerCase().startsWith(name))
                 .collect(Collectors.toList());
 
@@ -206,6 +393,7 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
     }
 
     protected @Nullable InternalArgument<S, ?> getArgument(final int index) {
+        final List<InternalArgument<S, ?>> internalArguments = getArguments();
         final int size = internalArguments.size();
         if (size == 0) return null;
         if (index >= size) {
@@ -228,78 +416,155 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
 
     /**
      * Used for checking if the arguments are valid and adding them to the `invokeArguments`.
+     * Follows the compiled {@link ExecutionPlan}, the arity is checked before any argument is resolved.
      *
+     * @param executionPlan   The compiled {@link ExecutionPlan} of the arguments.
      * @param sender          The sender of the command.
-     * @param invokeArguments A list with the arguments that'll be used on the `invoke` of the command method.
+     * @param invokeArguments An array with the arguments that'll be used on the `invoke` of the command method, the sender is at index 0.
+     * @param primitives      An array with the raw values of the primitive parameters.
      * @param commandArgs     The command arguments type.
-     * @return False if any internalArgument fails to pass.
+     * @return The key of the failure, or null if all the arguments are valid.
      */
-    @SuppressWarnings("unchecked")
-    private boolean validateAndCollectArguments(
+    private @Nullable ContextualKey<?> validateAndCollectArguments(
+            final @NotNull ExecutionPlan<S> executionPlan,
             final @NotNull S sender,
-            final @NotNull List<@Nullable Object> invokeArguments,
+            final @Nullable Object @NotNull [] invokeArguments,
+            final long @NotNull [] primitives,
             final @NotNull List<@NotNull String> commandArgs
     ) {
-        for (int i = 0; i < internalArguments.size(); i++) {
-            final InternalArgument<S, ?> internalArgument = internalArguments.get(i);
-
-            if (internalArgument instanceof LimitlessInternalArgument) {
-                final LimitlessInternalArgument<S> limitlessArgument = (LimitlessInternalArgument<S>) internalArgument;
-                final List<String> leftOvers = leftOvers(commandArgs, i);
-
-                final Object result = limitlessArgument.resolve(sender, leftOvers);
-
-                if (result == null) {
-                    return false;
-                }
+        final int size = commandArgs.size();
 
-                invokeArguments.add(result);
-                return true;
+        if (size < executionPlan.getMinArity()) {
+            recordFailure(MessageKey.NOT_ENOUGH_ARGUMENTS);
+            if (messageRegistry.hasResolver(MessageKey.NOT_ENOUGH_ARGUMENTS)) {
+                messageRegistry.sendMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, sender, new DefaultMessageContext(parentName, name));
             }
+            return MessageKey.NOT_ENOUGH_ARGUMENTS;
+        }
 
-            if (!(internalArgument instanceof StringInternalArgument)) {
-                throw new CommandExecutionException("Found unsupported internalArgument", parentName, name);
+        if (size > executionPlan.getMaxArity()) {
+            recordFailure(MessageKey.TOO_MANY_ARGUMENTS);
+            if (messageRegistry.hasResolver(MessageKey.TOO_MANY_ARGUMENTS)) {
+                messageRegistry.sendMessage(MessageKey.TOO_MANY_ARGUMENTS, sender, new DefaultMessageContext(parentName, name));
             }
+            return MessageKey.TOO_MANY_ARGUMENTS;
+        }
 
-            final StringInternalArgument<S> stringArgument = (StringInternalArgument<S>) internalArgument;
-            final String arg = valueOrNull(commandArgs, i);
+        final StringInternalArgument<S>[] steps = executionPlan.getSteps();
+        final PrimitiveResult primitiveResult = executionPlan.hasPrimitives() ? new PrimitiveResult() : null;
+        for (int i = 0; i < steps.length; i++) {
+            final StringInternalArgument<S> step = steps[i];
+            final String arg = i < size ? commandArgs.get(i) : null;
 
             if (arg == null || arg.isEmpty()) {
-                if (internalArgument.isOptional()) {
-                    invokeArguments.add(null);
+                if (executionPlan.isOptional(i)) {
                     continue;
                 }
 
-                messageRegistry.sendMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, sender, new DefaultMessageContext(parentName, name));
-                return false;
+                recordFailure(MessageKey.NOT_ENOUGH_ARGUMENTS);
+                if (messageRegistry.hasResolver(MessageKey.NOT_ENOUGH_ARGUMENTS)) {
+                    messageRegistry.sendMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, sender, new DefaultMessageContext(parentName, name));
+                }
+                return MessageKey.NOT_ENOUGH_ARGUMENTS;
             }
 
-            final Object result = stringArgument.resolve(sender, arg);
-            if (result == null) {
-                messageRegistry.sendMessage(
-                        MessageKey.INVALID_ARGUMENT,
-                        sender,
-                        new InvalidArgumentContext(parentName, name, arg, internalArgument.getName(), internalArgument.getType())
-                );
-                return false;
+            if (!executionPlan.resolve(i, sender, arg, invokeArguments, primitives, primitiveResult)) {
+                recordFailure(MessageKey.INVALID_ARGUMENT);
+                if (messageRegistry.hasResolver(MessageKey.INVALID_ARGUMENT)) {
+                    messageRegistry.sendMessage(
+                            MessageKey.INVALID_ARGUMENT,
+                            sender,
+                            new InvalidArgumentContext(parentName, name, arg, step.getName(), step.getType())
+                    );
+                }
+                return MessageKey.INVALID_ARGUMENT;
             }
+        }
 
-            invokeArguments.add(result);
+        final LimitlessInternalArgument<S> limitlessTail = executionPlan.getLimitlessTail();
+        if (limitlessTail == null) return null;
+
+        final Object result = limitlessTail.resolve(sender, leftOvers(commandArgs, steps.length));
+        if (result == null) {
+            recordFailure(MessageKey.INVALID_ARGUMENT);
+            return MessageKey.INVALID_ARGUMENT;
         }
 
-        return true;
+        invokeArguments[steps.length + 1] = result;
+        return null;
     }
 
     /**
      * Checks if the requirements to run the command are met.
      *
-     * @param sender The sender of the command.
-     * @return Whether all requirements are met.
+     * @param sender       The sender of the command.
+     * @param requirements The requirements of the sub command.
+     * @return The first requirement that isn't met, or null if all of them are.
      */
-    private boolean meetRequirements(final @NotNull S sender) {
+    private @Nullable Requirement<S, ?> checkRequirements(final @NotNull S sender, final @NotNull Set<@NotNull Requirement<S, ?>> requirements) {
         for (final Requirement<S, ?> requirement : requirements) {
             if (!requirement.isMet(sender)) {
+                recordFailure(requirement.getMessageKey());
                 requirement.sendMessage(messageRegistry, sender, parentName, name);
+                return requirement;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Takes a permit from the sender's bucket, sending {@link MessageKey#RATE_LIMITED} if there is none left.
+     *
+     * @param sender The sender of the command.
+     * @return Whether the sender can execute the sub command.
+     */
+    private boolean acquirePermit(final @NotNull S sender) {
+        final long remaining = rateLimit.tryAcquire(rateLimitKeyResolver.resolve(sender));
+        if (remaining == 0L) return true;
+
+        recordFailure(MessageKey.RATE_LIMITED);
+        if (messageRegistry.hasResolver(MessageKey.RATE_LIMITED)) {
+            messageRegistry.sendMessage(MessageKey.RATE_LIMITED, sender, new RateLimitMessageContext(parentName, name, remaining));
+        }
+        return false;
+    }
+
+    /**
+     * Runs the {@link ExecutionInterceptor#beforeArguments} stage of the interceptors in order.
+     *
+     * @param context The {@link ExecutionContext} of the execution.
+     * @return The index of the interceptor that cancelled the execution, or -1 if none did.
+     */
+    private int beforeArguments(final @NotNull ExecutionContext<S> context) {
+        for (int i = 0; i < interceptors.length; i++) {
+            final boolean proceed;
+            try {
+                proceed = interceptors[i].beforeArguments(context);
+            } catch (final RuntimeException | Error throwable) {
+                afterExecution(context, i + 1, ExecutionOutcome.failed(null, throwable));
+                throw throwable;
+            }
+
+            if (!proceed) {
+                recordFailure(null);
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Runs the {@link ExecutionInterceptor#afterArguments} stage of the interceptors in order.
+     *
+     * @param context The {@link ExecutionContext} of the execution.
+     * @return False if an interceptor cancelled the execution.
+     */
+    private boolean afterArguments(final @NotNull ExecutionContext<S> context) {
+        for (final ExecutionInterceptor<S> interceptor : interceptors) {
+            if (!interceptor.afterArguments(context)) {
+                recordFailure(null);
                 return false;
             }
         }
@@ -308,15 +573,47 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
     }
 
     /**
-     * Gets an internalArgument value or null.
+     * Runs the {@link ExecutionInterceptor#afterInvocation} stage of the interceptors in reverse order.
+     *
+     * @param context   The {@link ExecutionContext} of the execution.
+     * @param throwable What the method threw, or null if it ran successfully.
+     */
+    private void afterInvocation(final @NotNull ExecutionContext<S> context, final @Nullable Throwable throwable) {
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            interceptors[i].afterInvocation(context, throwable);
+        }
+    }
+
+    /**
+     * Runs the {@link ExecutionInterceptor#afterExecution} stage of the first interceptors in reverse order.
+     * All of them are called even if one throws, the first failure is rethrown afterwards.
+     *
+     * @param context The {@link ExecutionContext} of the execution.
+     * @param count   How many interceptors ran their {@link ExecutionInterceptor#beforeArguments}.
+     * @param outcome How the execution ended.
+     */
+    private void afterExecution(final @NotNull ExecutionContext<S> context, final int count, final @NotNull ExecutionOutcome outcome) {
+        Throwable failure = null;
+        for (int i = count - 1; i >= 0; i--) {
+            try {
+                interceptors[i].afterExecution(context, outcome);
+            } catch (final RuntimeException | Error throwable) {
+                if (failure == null) failure = throwable;
+                else failure.addSuppressed(throwable);
+            }
+        }
+
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+    }
+
+    /**
+     * Records a failed execution, if metrics are enabled.
      *
-     * @param list  The list to check from.
-     * @param index The current index of the internalArgument.
-     * @return The internalArgument name or null.
+     * @param reason The key of the message sent for the failure or null if none.
      */
-    private @Nullable String valueOrNull(final @NotNull List<@NotNull String> list, final int index) {
-        if (index >= list.size()) return null;
-        return list.get(index);
+    private void recordFailure(final @Nullable ContextualKey<?> reason) {
+        if (recordMetrics) metrics.recordFailure(parentName, name, reason);
     }
 
     /**
@@ -324,9 +621,10 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
      *
      * @param list The list with all the arguments.
      * @param from The index from which should start removing.
-     * @return A list with the leftover arguments.
+     * @return A list with the leftover arguments, the list itself when nothing needs to be removed.
      */
     private @NotNull List<@NotNull String> leftOvers(final @NotNull List<@NotNull String> list, final int from) {
+        if (from == 0) return list;
         if (from > list.size()) return Collections.emptyList();
         return list.subList(from, list.size());
     }
@@ -339,10 +637,60 @@ public abstract class AbstractSubCommand<S> implements SubCommand<S> {
                 ", name='" + name + '\'' +
                 ", alias=" + alias +
                 ", isDefault=" + isDefault +
-                ", arguments=" + internalArguments +
-                ", requirements=" + requirements +
+                ", model=" + model +
                 ", messageRegistry=" + messageRegistry +
-                ", containsLimitlessArgument=" + containsLimitless +
                 '}';
     }
+
+    /**
+     * Gets the argument model, building it if the sub command is used for the first time.
+     *
+     * @return The {@link ArgumentModel}.
+     */
+    private @NotNull ArgumentModel<S> getModel() {
+        final ArgumentModel<S> current = model;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (model == null) {
+                model = new ArgumentModel<>(processor);
+                // No longer needed, lets the processor be collected
+                processor = null;
+            }
+            return model;
+        }
+    }
+
+    /**
+     * Everything the sub command needs from the processed arguments to be executed.
+     *
+     * @param <S> The sender type.
+     */
+    private static final class ArgumentModel<S> {
+
+        private final Class<? extends S> senderType;
+        private final List<InternalArgument<S, ?>> internalArguments;
+        private final Set<Requirement<S, ?>> requirements;
+        private final ExecutionPlan<S> executionPlan;
+        private final boolean hasArguments;
+
+        private ArgumentModel(final @NotNull AbstractSubCommandProcessor<S> processor) {
+            processor.process();
+
+            this.senderType = processor.getSenderType();
+            this.internalArguments = processor.getArguments();
+            this.requirements = processor.getRequirements();
+            this.executionPlan = ExecutionPlan.compile(internalArguments);
+            this.hasArguments = !internalArguments.isEmpty();
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "ArgumentModel{" +
+                    "arguments=" + internalArguments +
+                    ", requirements=" + requirements +
+                    ", executionPlan=" + executionPlan +
+                    '}';
+        }
+    }
 }
@@ -24,6 +24,11 @@
 package dev.triumphteam.cmd.core;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Command interface which all platforms will implement.
@@ -37,4 +42,65 @@ public interface Command<S, SC extends SubCommand<S>> {
     void addSubCommand(final @NotNull String name, final @NotNull SC subCommand);
 
     void addSubCommandAlias(final @NotNull String alias, final @NotNull SC subCommand);
+
+    /**
+     * Gets the sub command registered under the name or alias, used to find conflicts when registering.
+     * Platforms that can't look them up return null.
+     *
+     * @param name The sub command name or alias.
+     * @return The sub command or null if there is none.
+     */
+    default @Nullable SC getSubCommand(final @NotNull String name) {
+        return null;
+    }
+
+    /**
+     * Gets the sub commands that were created from the given {@link BaseCommand}, each only once.
+     *
+     * Platforms that don't track this throw {@link UnsupportedOperationException}.
+     *
+     * @param baseCommand The {@link BaseCommand} to get the sub commands of.
+     * @return The sub commands.
+     */
+    default @NotNull Collection<@NotNull SC> getSubCommands(final @NotNull BaseCommand baseCommand) {
+        throw new UnsupportedOperationException(getClass().getName() + " doesn't keep track of the sub commands of each BaseCommand");
+    }
+
+    /**
+     * Replaces all the sub commands and aliases that were created from the given {@link BaseCommand} with new ones.
+     * The new sub commands are swapped in directly, so there is no moment where they are missing.
+     * Executions that already got hold of a sub command are not affected.
+     * Platforms that can't replace sub commands throw {@link UnsupportedOperationException}.
+     *
+     * @param baseCommand The {@link BaseCommand} to replace the sub commands of.
+     * @param subCommands The new sub commands by name.
+     * @param aliases     The new sub commands by alias.
+     */
+    default void replaceSubCommands(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Map<@NotNull String, @NotNull SC> subCommands,
+            final @NotNull Map<@NotNull String, @NotNull SC> aliases
+    ) {
+        throw new UnsupportedOperationException(getClass().getName() + " doesn't support replacing or removing sub commands");
+    }
+
+    /**
+     * Removes all the sub commands and aliases that were created from the given {@link BaseCommand}.
+     * Executions that already got hold of a sub command are not affected.
+     *
+     * @param baseCommand The {@link BaseCommand} to remove the sub commands of.
+     */
+    default void removeSubCommands(final @NotNull BaseCommand baseCommand) {
+        replaceSubCommands(baseCommand, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Checks if the command has no sub commands left.
+     * Platforms that can't tell return false, so the command is never dropped.
+     *
+     * @return Whether the command is empty.
+     */
+    default boolean isEmpty() {
+        return false;
+    }
 }
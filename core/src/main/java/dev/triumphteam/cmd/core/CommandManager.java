@@ -24,22 +24,47 @@
 package dev.triumphteam.cmd.core;
 
 import dev.triumphteam.cmd.core.argument.ArgumentResolver;
+import dev.triumphteam.cmd.core.argument.CachedArgumentResolver;
+import dev.triumphteam.cmd.core.argument.ResolverCacheOptions;
 import dev.triumphteam.cmd.core.argument.named.Argument;
 import dev.triumphteam.cmd.core.argument.named.ArgumentKey;
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.interceptor.ExecutionInterceptor;
+import dev.triumphteam.cmd.core.invoker.InvokerFactory;
 import dev.triumphteam.cmd.core.message.ContextualKey;
 import dev.triumphteam.cmd.core.message.MessageResolver;
 import dev.triumphteam.cmd.core.message.context.MessageContext;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.processor.CommandModelCache;
+import dev.triumphteam.cmd.core.processor.PreparedCommand;
+import dev.triumphteam.cmd.core.ratelimit.RateLimitKeyResolver;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.requirement.RequirementKey;
 import dev.triumphteam.cmd.core.requirement.RequirementResolver;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.suggestion.AsyncSuggestionResolver;
+import dev.triumphteam.cmd.core.suggestion.CachedSuggestionResolver;
+import dev.triumphteam.cmd.core.suggestion.DeadlineSuggestionResolver;
+import dev.triumphteam.cmd.core.suggestion.SuggestionCacheOptions;
 import dev.triumphteam.cmd.core.suggestion.SuggestionKey;
 import dev.triumphteam.cmd.core.suggestion.SuggestionResolver;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Base command manager for all platforms.
@@ -79,6 +104,94 @@ public abstract class CommandManager<DS, S> {
         }
     }
 
+    /**
+     * Registers many {@link BaseCommand}s, processing them in parallel.
+     * The commands are processed on the pool, then registered in the given order on the calling thread.
+     * Nothing is registered if any of them fails, if two of them declare the same sub command, if one declares a sub command
+     * already registered by another {@link BaseCommand}, or if a command name is taken by the platform.
+     *
+     * @param pool         The {@link ForkJoinPool} to process the commands on.
+     * @param baseCommands The {@link BaseCommand}s to be registered.
+     * @throws CommandRegistrationException If a command is invalid, the first one in the given order is reported.
+     */
+    public final void registerCommands(final @NotNull ForkJoinPool pool, final @NotNull List<@NotNull BaseCommand> baseCommands) {
+        final List<ForkJoinTask<PreparedCommand>> tasks = new ArrayList<>(baseCommands.size());
+        for (final BaseCommand baseCommand : baseCommands) {
+            tasks.add(pool.submit(() -> prepareCommand(baseCommand)));
+        }
+
+        final List<PreparedCommand> preparedCommands = new ArrayList<>(tasks.size());
+        try {
+            for (final ForkJoinTask<PreparedCommand> task : tasks) {
+                preparedCommands.add(task.join());
+            }
+        } catch (final RuntimeException | Error exception) {
+            tasks.forEach(task -> task.cancel(false));
+            throw exception;
+        }
+
+        synchronized (this) {
+            checkConflicts(preparedCommands);
+            preparedCommands.forEach(PreparedCommand::register);
+        }
+    }
+
+    /**
+     * Registers many {@link BaseCommand}s, processing them in parallel on the common pool.
+     *
+     * @param baseCommands The {@link BaseCommand}s to be registered.
+     * @see #registerCommands(ForkJoinPool, List)
+     */
+    public final void registerCommands(final @NotNull List<@NotNull BaseCommand> baseCommands) {
+        registerCommands(ForkJoinPool.commonPool(), baseCommands);
+    }
+
+    /**
+     * Checks that no two different {@link BaseCommand}s declare the same sub command under the same command,
+     * counting the ones already registered, and that no command name is taken by the platform.
+     *
+     * @param preparedCommands The commands about to be registered.
+     * @throws CommandRegistrationException Listing every conflict found.
+     */
+    private void checkConflicts(final @NotNull List<@NotNull PreparedCommand> preparedCommands) {
+        final Map<String, BaseCommand> owners = new HashMap<>();
+        final Set<String> conflicts = new LinkedHashSet<>();
+
+        for (final PreparedCommand preparedCommand : preparedCommands) {
+            final BaseCommand baseCommand = preparedCommand.getBaseCommand();
+            for (final String name : preparedCommand.getNames()) {
+                final String platformConflict = getPlatformConflict(name);
+                if (platformConflict != null) {
+                    conflicts.add("\"" + name.toLowerCase() + "\" of " + baseCommand.getClass().getName() + " is taken by " + platformConflict);
+                }
+
+                for (final String subCommandName : preparedCommand.getSubCommandNames()) {
+                    final String path = name.toLowerCase() + " " + subCommandName.toLowerCase();
+
+                    BaseCommand owner = owners.putIfAbsent(path, baseCommand);
+                    if (owner == null) owner = preparedCommand.getRegisteredOwner(name, subCommandName);
+                    if (owner == null || owner == baseCommand) continue;
+
+                    conflicts.add("\"" + path + "\" in " + owner.getClass().getName() + " and " + baseCommand.getClass().getName());
+                }
+            }
+        }
+
+        if (conflicts.isEmpty()) return;
+        throw new CommandRegistrationException("Conflicting sub commands " + String.join(", ", conflicts));
+    }
+
+    /**
+     * Gets what already uses the command name on the platform itself, outside of this manager,
+     * checked by {@link #registerCommands(ForkJoinPool, List)} before registering anything.
+     *
+     * @param name The command name or alias.
+     * @return A description of what uses the name, or null if it's free.
+     */
+    protected @Nullable String getPlatformConflict(final @NotNull String name) {
+        return null;
+    }
+
     /**
      * Main method for unregistering commands to be implemented in other platform command managers.
      *
@@ -97,6 +210,20 @@ public abstract class CommandManager<DS, S> {
         }
     }
 
+    /**
+     * Reloads a command, replacing the sub commands of the old {@link BaseCommand} with the ones of the replacement.
+     * The sub commands are swapped in directly, so the command is never missing while reloading.
+     * Sub commands whose methods didn't change reuse their arguments and suggestions instead of being processed again.
+     * Commands only the old {@link BaseCommand} was part of are unregistered.
+     * Platforms that don't support it throw {@link UnsupportedOperationException}.
+     *
+     * @param oldCommand  The registered {@link BaseCommand} to replace.
+     * @param replacement The {@link BaseCommand} replacing it.
+     */
+    public void reloadCommand(final @NotNull BaseCommand oldCommand, final @NotNull BaseCommand replacement) {
+        throw new UnsupportedOperationException(getClass().getName() + " doesn't support reloading commands, unregister and register them instead");
+    }
+
     /**
      * Registers a custom internalArgument.
      *
@@ -107,16 +234,166 @@ public abstract class CommandManager<DS, S> {
         getRegistryContainer().getArgumentRegistry().register(clazz, resolver);
     }
 
+    /**
+     * Registers a custom internalArgument whose results are cached.
+     * Useful for resolvers that do expensive lookups, like a database or a remote API.
+     * Unless the options set a scope, results are kept per sender id, the same key used for rate limits,
+     * see {@link #setRateLimitKeyResolver(RateLimitKeyResolver)}, which must then be set before this.
+     *
+     * @param clazz        The class of the internalArgument to be registered.
+     * @param resolver     The {@link ArgumentResolver} with the internalArgument resolution.
+     * @param cacheOptions The {@link ResolverCacheOptions} of the cache.
+     * @return The registered {@link CachedArgumentResolver}, to read its counters or invalidate it.
+     */
+    public final @NotNull CachedArgumentResolver<S> registerArgument(
+            final @NotNull Class<?> clazz,
+            final @NotNull ArgumentResolver<S> resolver,
+            final @NotNull ResolverCacheOptions<S> cacheOptions
+    ) {
+        final CachedArgumentResolver<S> cachedResolver = new CachedArgumentResolver<>(
+                resolver,
+                cacheOptions,
+                getRegistryContainer().getRateLimitKeyResolver()
+        );
+        registerArgument(clazz, cachedResolver);
+        return cachedResolver;
+    }
+
     // TODO: Comments
     public void registerSuggestion(final @NotNull SuggestionKey key, final @NotNull SuggestionResolver<S> suggestionResolver) {
         getRegistryContainer().getSuggestionRegistry().register(key, suggestionResolver);
     }
 
+    /**
+     * Registers a fixed list of suggestions, which is indexed for fast prefix lookups.
+     *
+     * @param key         The suggestion key.
+     * @param suggestions The suggestions.
+     */
+    public final void registerSuggestion(final @NotNull SuggestionKey key, final @NotNull Collection<@NotNull String> suggestions) {
+        getRegistryContainer().getSuggestionRegistry().register(key, suggestions);
+    }
+
     // TODO: Comments
     public void registerSuggestion(final @NotNull Class<?> type, final @NotNull SuggestionResolver<S> suggestionResolver) {
         getRegistryContainer().getSuggestionRegistry().register(type, suggestionResolver);
     }
 
+    /**
+     * Registers an asynchronous suggestion, that gives no suggestions if not ready by the deadline.
+     *
+     * @param key                The suggestion key.
+     * @param suggestionResolver The action to get the suggestions.
+     * @param deadline           How long to wait for the suggestions.
+     */
+    public final void registerSuggestion(
+            final @NotNull SuggestionKey key,
+            final @NotNull AsyncSuggestionResolver<S> suggestionResolver,
+            final @NotNull Duration deadline
+    ) {
+        registerSuggestion(key, suggestionResolver, deadline, (sender, context) -> Collections.emptyList());
+    }
+
+    /**
+     * Registers an asynchronous suggestion, see {@link DeadlineSuggestionResolver}.
+     *
+     * @param key                The suggestion key.
+     * @param suggestionResolver The action to get the suggestions.
+     * @param deadline           How long to wait for the suggestions.
+     * @param fallback           The suggestions to give when not ready by the deadline or failed.
+     */
+    public final void registerSuggestion(
+            final @NotNull SuggestionKey key,
+            final @NotNull AsyncSuggestionResolver<S> suggestionResolver,
+            final @NotNull Duration deadline,
+            final @NotNull SuggestionResolver<S> fallback
+    ) {
+        registerSuggestion(key, new DeadlineSuggestionResolver<>(suggestionResolver, deadline, fallback));
+    }
+
+    /**
+     * Registers an asynchronous type suggestion, that gives no suggestions if not ready by the deadline.
+     *
+     * @param type               The type to suggest for.
+     * @param suggestionResolver The action to get the suggestions.
+     * @param deadline           How long to wait for the suggestions.
+     */
+    public final void registerSuggestion(
+            final @NotNull Class<?> type,
+            final @NotNull AsyncSuggestionResolver<S> suggestionResolver,
+            final @NotNull Duration deadline
+    ) {
+        registerSuggestion(type, suggestionResolver, deadline, (sender, context) -> Collections.emptyList());
+    }
+
+    /**
+     * Registers an asynchronous type suggestion, see {@link DeadlineSuggestionResolver}.
+     *
+     * @param type               The type to suggest for.
+     * @param suggestionResolver The action to get the suggestions.
+     * @param deadline           How long to wait for the suggestions.
+     * @param fallback           The suggestions to give when not ready by the deadline or failed.
+     */
+    public final void registerSuggestion(
+            final @NotNull Class<?> type,
+            final @NotNull AsyncSuggestionResolver<S> suggestionResolver,
+            final @NotNull Duration deadline,
+            final @NotNull SuggestionResolver<S> fallback
+    ) {
+        registerSuggestion(type, new DeadlineSuggestionResolver<>(suggestionResolver, deadline, fallback));
+    }
+
+    /**
+     * Registers a suggestion whose results are cached, see {@link CachedSuggestionResolver}.
+     * Unless the options set a scope, results are kept per sender id, see {@link #setRateLimitKeyResolver(RateLimitKeyResolver)},
+     * and unless they set an executor, refreshes run on the asynchronous {@link ExecutionProvider}.
+     *
+     * @param key                The suggestion key.
+     * @param suggestionResolver The action to get the suggestions.
+     * @param cacheOptions       The {@link SuggestionCacheOptions} of the cache.
+     * @return The registered {@link CachedSuggestionResolver}, to read its counters or invalidate it.
+     */
+    public final @NotNull CachedSuggestionResolver<S> registerSuggestion(
+            final @NotNull SuggestionKey key,
+            final @NotNull SuggestionResolver<S> suggestionResolver,
+            final @NotNull SuggestionCacheOptions<S> cacheOptions
+    ) {
+        final CachedSuggestionResolver<S> cachedResolver = createCachedSuggestion(suggestionResolver, cacheOptions);
+        registerSuggestion(key, cachedResolver);
+        return cachedResolver;
+    }
+
+    /**
+     * Registers a type suggestion whose results are cached, see {@link #registerSuggestion(SuggestionKey, SuggestionResolver, SuggestionCacheOptions)}.
+     *
+     * @param type               The type to suggest for.
+     * @param suggestionResolver The action to get the suggestions.
+     * @param cacheOptions       The {@link SuggestionCacheOptions} of the cache.
+     * @return The registered {@link CachedSuggestionResolver}, to read its counters or invalidate it.
+     */
+    public final @NotNull CachedSuggestionResolver<S> registerSuggestion(
+            final @NotNull Class<?> type,
+            final @NotNull SuggestionResolver<S> suggestionResolver,
+            final @NotNull SuggestionCacheOptions<S> cacheOptions
+    ) {
+        final CachedSuggestionResolver<S> cachedResolver = createCachedSuggestion(suggestionResolver, cacheOptions);
+        registerSuggestion(type, cachedResolver);
+        return cachedResolver;
+    }
+
+    private @NotNull CachedSuggestionResolver<S> createCachedSuggestion(
+            final @NotNull SuggestionResolver<S> suggestionResolver,
+            final @NotNull SuggestionCacheOptions<S> cacheOptions
+    ) {
+        // Looked up on every refresh, so a provider set later is still used
+        return new CachedSuggestionResolver<>(
+                suggestionResolver,
+                cacheOptions,
+                getRegistryContainer().getRateLimitKeyResolver(),
+                command -> getRegistryContainer().getAsyncExecutionProvider().execute(command)
+        );
+    }
+
     // TODO: Comments
     public final void registerNamedArguments(final @NotNull ArgumentKey key, final @NotNull Argument @NotNull ... arguments) {
         registerNamedArguments(key, Arrays.asList(arguments));
@@ -152,6 +429,110 @@ public abstract class CommandManager<DS, S> {
         getRegistryContainer().getRequirementRegistry().register(key, resolver);
     }
 
+    /**
+     * Registers an {@link ExecutionInterceptor} that runs around every sub command execution.
+     * Interceptors run in the order they are registered.
+     * Must be registered before registering the commands.
+     *
+     * @param interceptor The {@link ExecutionInterceptor} to register.
+     */
+    public final void registerInterceptor(final @NotNull ExecutionInterceptor<S> interceptor) {
+        getRegistryContainer().getInterceptorRegistry().register(interceptor);
+    }
+
+    /**
+     * Sets how the sub command methods are invoked.
+     * Defaults to method handles, with reflection as fallback.
+     * Must be set before registering the commands.
+     *
+     * @param invokerFactory The {@link InvokerFactory} to use.
+     */
+    public final void setInvokerFactory(final @NotNull InvokerFactory invokerFactory) {
+        getRegistryContainer().setInvokerFactory(invokerFactory);
+    }
+
+    /**
+     * Processes a {@link BaseCommand} without registering it, used by {@link #registerCommands}.
+     * Called from the pool's threads, so it must not touch the platform.
+     * Platforms that don't support it throw {@link UnsupportedOperationException}.
+     *
+     * @param baseCommand The {@link BaseCommand} to process.
+     * @return The {@link PreparedCommand} that registers it.
+     */
+    protected @NotNull PreparedCommand prepareCommand(final @NotNull BaseCommand baseCommand) {
+        throw new UnsupportedOperationException(getClass().getName() + " doesn't support bulk registration, use registerCommand instead");
+    }
+
+    /**
+     * Sets whether the sub commands are processed lazily.
+     * When enabled, registering only reads the sub command names, aliases and permissions.
+     * The arguments, suggestions and requirements are built the first time the sub command is executed or completed,
+     * so errors in them are only thrown then.
+     * Platforms that need the arguments up front, like slash commands, still process them when registering.
+     * Must be set before registering the commands.
+     *
+     * @param lazyProcessing Whether to process the sub commands lazily.
+     */
+    public final void setLazyProcessing(final boolean lazyProcessing) {
+        getRegistryContainer().setLazyProcessing(lazyProcessing);
+    }
+
+    /**
+     * Sets the {@link CommandModelCache} that remembers the processed sub commands of each command class between restarts.
+     * Command classes with a generated {@link dev.triumphteam.cmd.core.processor.CommandDescriptor} don't use it.
+     * Must be set before registering the commands.
+     *
+     * @param modelCache The {@link CommandModelCache} or null to disable it.
+     */
+    public final void setModelCache(final @Nullable CommandModelCache modelCache) {
+        getRegistryContainer().setModelCache(modelCache);
+    }
+
+    /**
+     * Sets the {@link CommandMetrics} that every sub command reports its executions, failures and errors to.
+     * Defaults to {@link CommandMetrics#noop()}, use {@link dev.triumphteam.cmd.core.metrics.StripedCommandMetrics} to keep them in memory.
+     * Must be set before registering the commands.
+     *
+     * @param metrics The {@link CommandMetrics} to use.
+     */
+    public final void setMetrics(final @NotNull CommandMetrics metrics) {
+        getRegistryContainer().setMetrics(metrics);
+    }
+
+    /**
+     * Sets how the senders are identified by {@link dev.triumphteam.cmd.core.annotation.Cooldown}
+     * and {@link dev.triumphteam.cmd.core.annotation.RateLimit}, also the default scope of cached arguments.
+     * Defaults to the sender itself, the platforms' default senders use their UUID or user id.
+     * Must be set before registering the commands.
+     *
+     * @param keyResolver The {@link RateLimitKeyResolver} to use.
+     */
+    public final void setRateLimitKeyResolver(final @NotNull RateLimitKeyResolver<S> keyResolver) {
+        getRegistryContainer().setRateLimitKeyResolver(keyResolver);
+    }
+
+    /**
+     * Sets the {@link ExecutionProvider} that runs the {@link dev.triumphteam.cmd.core.annotation.Async} sub commands.
+     * Use a {@link dev.triumphteam.cmd.core.execution.BoundedExecutionProvider} to give them dedicated threads and a bounded queue.
+     * Must be set before registering the commands.
+     *
+     * @param executionProvider The asynchronous {@link ExecutionProvider} to use.
+     */
+    public final void setAsyncExecutionProvider(final @NotNull ExecutionProvider executionProvider) {
+        getRegistryContainer().setAsyncExecutionProvider(executionProvider);
+    }
+
+    /**
+     * Stops the asynchronous {@link ExecutionProvider}, waiting for the commands it already received to finish.
+     * Meant to be called when the plugin or bot shuts down, asynchronous commands are rejected afterwards.
+     *
+     * @param timeout How long to wait for the commands to finish.
+     * @return Whether every command finished in time.
+     */
+    public final boolean shutdown(final @NotNull Duration timeout) {
+        return getRegistryContainer().getAsyncExecutionProvider().shutdown(timeout);
+    }
+
     // TODO: Comments
     protected abstract @NotNull RegistryContainer<S> getRegistryContainer();
 
@@ -26,6 +26,8 @@ package dev.triumphteam.cmd.core;
 import dev.triumphteam.cmd.core.annotation.Default;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -39,8 +41,39 @@ public interface SubCommand<S> {
 
     @NotNull String getParentName();
 
+    /**
+     * Gets the aliases of the sub command.
+     * Defaults to none for sub commands that don't have aliases.
+     *
+     * @return The aliases.
+     */
+    default @NotNull List<@NotNull String> getAlias() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Gets the method the sub command executes, used to reuse it when reloading.
+     * Sub commands that aren't backed by a method throw {@link UnsupportedOperationException}.
+     *
+     * @return The sub command method.
+     */
+    default @NotNull Method getMethod() {
+        throw new UnsupportedOperationException(getClass().getName() + " isn't backed by a sub command method");
+    }
+
     @NotNull Class<? extends S> getSenderType();
 
+    /**
+     * Gets the {@link BaseCommand} the sub command was created from.
+     *
+     * Sub commands that aren't created from one throw {@link UnsupportedOperationException}.
+     *
+     * @return The {@link BaseCommand} instance.
+     */
+    default @NotNull BaseCommand getBaseCommand() {
+        throw new UnsupportedOperationException(getClass().getName() + " isn't created from a BaseCommand");
+    }
+
     boolean hasArguments();
 
     /**
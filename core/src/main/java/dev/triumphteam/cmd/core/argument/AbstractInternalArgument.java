@@ -23,6 +23,7 @@
  */
 package dev.triumphteam.cmd.core.argument;
 
+import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
 import dev.triumphteam.cmd.core.suggestion.Suggestion;
 import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import org.jetbrains.annotations.NotNull;
@@ -30,6 +31,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Command internalArgument.
@@ -72,6 +74,25 @@ public abstract class AbstractInternalArgument<S, T> implements InternalArgument
         return suggestion.getSuggestions(sender, trimmed.get(0), context);
     }
 
+    @Override
+    public @NotNull CompletableFuture<@NotNull List<@NotNull String>> suggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull List<@NotNull String> trimmed,
+            final @NotNull SuggestionContext context
+    ) {
+        return suggestion.getSuggestionsAsync(sender, trimmed.get(0), context);
+    }
+
+    @Override
+    public boolean hasSuggestions() {
+        return !(suggestion instanceof EmptySuggestion);
+    }
+
+    @Override
+    public boolean hasAsyncSuggestions() {
+        return suggestion.isAsync();
+    }
+
     /**
      * Gets the name of the internalArgument.
      * This will be either the parameter name or <code>arg1</code>, <code>arg2</code>, etc.
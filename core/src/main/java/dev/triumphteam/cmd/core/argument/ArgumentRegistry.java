@@ -23,17 +23,12 @@
  */
 package dev.triumphteam.cmd.core.argument;
 
-import com.google.common.primitives.Doubles;
 import com.google.common.primitives.Floats;
-import com.google.common.primitives.Ints;
-import com.google.common.primitives.Longs;
 import dev.triumphteam.cmd.core.registry.Registry;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * The argument registry holds simple types of all common argument types.
  * Also allows for registration of custom ones.
@@ -43,27 +38,35 @@ import java.util.Map;
  */
 public final class ArgumentRegistry<S> implements Registry {
 
-    private final Map<Class<?>, ArgumentResolver<S>> arguments = new HashMap<>();
+    private final SnapshotMap<Class<?>, ArgumentResolver<S>> arguments = new SnapshotMap<>();
 
     @SuppressWarnings("UnstableApiUsage")
     public ArgumentRegistry() {
-        register(short.class, (sender, arg) -> Ints.tryParse(arg));
-        register(Short.class, (sender, arg) -> Ints.tryParse(arg));
+        final IntArgumentResolver<S> shortResolver = (sender, arg, result) -> PrimitiveParsers.parseInt(arg, Short.MIN_VALUE, Short.MAX_VALUE, result);
+        register(short.class, shortResolver);
+        register(Short.class, (sender, arg) -> {
+            final PrimitiveResult result = new PrimitiveResult();
+            return shortResolver.resolveInt(sender, arg, result) ? (short) result.getInt() : null;
+        });
 
-        register(int.class, (sender, arg) -> Ints.tryParse(arg));
-        register(Integer.class, (sender, arg) -> Ints.tryParse(arg));
+        final IntArgumentResolver<S> intResolver = (sender, arg, result) -> PrimitiveParsers.parseInt(arg, result);
+        register(int.class, intResolver);
+        register(Integer.class, intResolver);
 
-        register(long.class, (sender, arg) -> Longs.tryParse(arg));
-        register(Long.class, (sender, arg) -> Longs.tryParse(arg));
+        final LongArgumentResolver<S> longResolver = (sender, arg, result) -> PrimitiveParsers.parseLong(arg, result);
+        register(long.class, longResolver);
+        register(Long.class, longResolver);
 
         register(float.class, (sender, arg) -> Floats.tryParse(arg));
         register(Float.class, (sender, arg) -> Floats.tryParse(arg));
 
-        register(double.class, (sender, arg) -> Doubles.tryParse(arg));
-        register(Double.class, (sender, arg) -> Doubles.tryParse(arg));
+        final DoubleArgumentResolver<S> doubleResolver = (sender, arg, result) -> PrimitiveParsers.parseDouble(arg, result);
+        register(double.class, doubleResolver);
+        register(Double.class, doubleResolver);
 
-        register(boolean.class, (sender, arg) -> Boolean.valueOf(arg));
-        register(Boolean.class, (sender, arg) -> Boolean.valueOf(arg));
+        final BooleanArgumentResolver<S> booleanResolver = (sender, arg, result) -> PrimitiveParsers.parseBoolean(arg, result);
+        register(boolean.class, booleanResolver);
+        register(Boolean.class, booleanResolver);
 
         register(String.class, (sender, arg) -> arg);
     }
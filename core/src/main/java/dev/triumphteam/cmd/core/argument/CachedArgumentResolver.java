@@ -0,0 +1,296 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import dev.triumphteam.cmd.core.ratelimit.RateLimitKeyResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * {@link ArgumentResolver} that remembers the results of another resolver.
+ * Results are keyed on the sender scope and the typed argument, optionally expiring after a while.
+ * The entries are split in up to {@value #MAX_SEGMENTS} segments, each a least recently used map with its own lock,
+ * so concurrent lookups rarely contend and eviction is least recently used per segment, an approximation of the whole.
+ * The delegate is called outside the locks, so two concurrent misses for the same key can both resolve it.
+ *
+ * @param <S> The sender type.
+ */
+public final class CachedArgumentResolver<S> implements ArgumentResolver<S> {
+
+    static final int MAX_SEGMENTS = 16;
+
+    private final ArgumentResolver<S> delegate;
+    private final ResolverCacheOptions<S> options;
+    private final Function<S, @Nullable Object> scope;
+
+    private final Segment[] segments;
+    // Segments are picked with the highest bits of the hash, the maps inside use the lowest ones
+    private final int segmentShift;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates the cache, senders without a configured scope are keyed on the sender object itself.
+     * Prefer {@link #CachedArgumentResolver(ArgumentResolver, ResolverCacheOptions, RateLimitKeyResolver)} when senders are
+     * platform objects, so the cache doesn't hold them.
+     *
+     * @param delegate The resolver whose results are cached.
+     * @param options  The {@link ResolverCacheOptions}.
+     */
+    public CachedArgumentResolver(final @NotNull ArgumentResolver<S> delegate, final @NotNull ResolverCacheOptions<S> options) {
+        this(delegate, options, sender -> sender);
+    }
+
+    /**
+     * Creates the cache, senders without a configured scope are keyed on their stable id, like a UUID or user id.
+     *
+     * @param delegate   The resolver whose results are cached.
+     * @param options    The {@link ResolverCacheOptions}.
+     * @param senderKeys The resolver of the stable id of a sender, the same used for rate limits.
+     */
+    public CachedArgumentResolver(
+            final @NotNull ArgumentResolver<S> delegate,
+            final @NotNull ResolverCacheOptions<S> options,
+            final @NotNull RateLimitKeyResolver<S> senderKeys
+    ) {
+        this.delegate = delegate;
+        this.options = options;
+        final Function<S, @Nullable Object> configuredScope = options.getScope();
+        this.scope = configuredScope != null ? configuredScope : senderKeys::resolve;
+
+        // A power of two, never more segments than entries
+        final int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(options.getMaximumSize()));
+        final int segmentSize = (options.getMaximumSize() + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize, evictions);
+        }
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    @Override
+    public @Nullable Object resolve(final @NotNull S sender, final @NotNull String arg) {
+        final Key key = new Key(scope.apply(sender), arg);
+        final Segment segment = segmentOf(key);
+        final long now = options.getExpireAfterWriteNanos() == 0 ? 0 : System.nanoTime();
+
+        synchronized (segment) {
+            final CachedValue entry = segment.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(now)) {
+                    hits.increment();
+                    return entry.value;
+                }
+                segment.remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        final Object value = delegate.resolve(sender, arg);
+        if (value == null && !options.isCacheNullResults()) return null;
+
+        final long expiresAt = options.getExpireAfterWriteNanos() == 0 ? 0 : System.nanoTime() + options.getExpireAfterWriteNanos();
+        synchronized (segment) {
+            segment.put(key, new CachedValue(value, expiresAt));
+        }
+        return value;
+    }
+
+    /**
+     * Removes the cached result of the argument for the given sender's scope.
+     *
+     * @param sender The sender whose scope to invalidate.
+     * @param arg    The typed argument.
+     */
+    public void invalidate(final @NotNull S sender, final @NotNull String arg) {
+        final Key key = new Key(scope.apply(sender), arg);
+        final Segment segment = segmentOf(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of results currently cached, including expired ones that weren't looked up since.
+     * Since each segment holds its share of the maximum size rounded up, it can be slightly over the maximum size.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Gets how many times a result was served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets how many times the delegate resolver had to be called.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets how many results were removed for being expired or over the maximum size.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the resolver whose results are cached.
+     *
+     * @return The delegate resolver.
+     */
+    public @NotNull ArgumentResolver<S> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Gets the options of this cache.
+     *
+     * @return The {@link ResolverCacheOptions}.
+     */
+    public @NotNull ResolverCacheOptions<S> getOptions() {
+        return options;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "CachedArgumentResolver{" +
+                "delegate=" + delegate +
+                ", options=" + options +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                ", evictions=" + evictions.sum() +
+                '}';
+    }
+
+    private @NotNull Segment segmentOf(final @NotNull Key key) {
+        // Shifting an int by 32 leaves it as is, so a single segment can't go through the shift
+        if (segments.length == 1) return segments[0];
+        // Multiplying spreads the hash into the highest bits
+        return segments[(key.hash * 0x9E3779B9) >>> segmentShift];
+    }
+
+    /**
+     * Access ordered map of a segment, evicting its least recently used entry once over its share of the maximum size.
+     * Only used while holding its own lock.
+     */
+    private static final class Segment extends LinkedHashMap<Key, CachedValue> {
+
+        private final int maximumSize;
+        private final LongAdder evictions;
+
+        private Segment(final int maximumSize, final @NotNull LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, CachedValue> eldest) {
+            if (size() <= maximumSize) return false;
+            evictions.increment();
+            return true;
+        }
+    }
+
+    private static final class Key {
+
+        private final Object scope;
+        private final String arg;
+        private final int hash;
+
+        private Key(final @Nullable Object scope, final @NotNull String arg) {
+            this.scope = scope;
+            this.arg = arg;
+            this.hash = 31 * Objects.hashCode(scope) + arg.hashCode();
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Key key = (Key) o;
+            return arg.equals(key.arg) && Objects.equals(scope, key.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class CachedValue {
+
+        private final Object value;
+        private final long expiresAt;
+
+        private CachedValue(final @Nullable Object value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ArgumentResolver} specialized for <code>double</code> arguments.
+ * When the command parameter is a <code>double</code> the value is passed to the method without being boxed.
+ *
+ * @param <S> The sender type.
+ */
+@FunctionalInterface
+public interface DoubleArgumentResolver<S> extends ArgumentResolver<S> {
+
+    /**
+     * Resolves the current argument into the result, using {@link PrimitiveResult#setDouble(double)}.
+     *
+     * @param sender The sender which can be used for checks.
+     * @param arg    The typed argument.
+     * @param result The {@link PrimitiveResult} to hold the resolved value.
+     * @return Whether the argument was valid.
+     */
+    boolean resolveDouble(final @NotNull S sender, final @NotNull String arg, final @NotNull PrimitiveResult result);
+
+    /**
+     * {@inheritDoc}
+     * Boxed variant, used for wrapper types, collections and named arguments.
+     */
+    @Override
+    default @Nullable Object resolve(final @NotNull S sender, final @NotNull String arg) {
+        final PrimitiveResult result = new PrimitiveResult();
+        if (!resolveDouble(sender, arg, result)) return null;
+        return result.getDouble();
+    }
+}
@@ -27,10 +27,9 @@ import dev.triumphteam.cmd.core.suggestion.Suggestion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.ref.WeakReference;
 import java.util.Objects;
 
-import static dev.triumphteam.cmd.core.util.EnumUtils.getEnumConstants;
+import static dev.triumphteam.cmd.core.util.EnumUtils.getEnumConstant;
 import static dev.triumphteam.cmd.core.util.EnumUtils.populateCache;
 
 /**
@@ -71,9 +70,7 @@ public final class EnumInternalArgument<S> extends StringInternalArgument<S> {
      */
     @Override
     public @Nullable Object resolve(final @NotNull S sender, final @NotNull String value) {
-        final WeakReference<? extends Enum<?>> reference = getEnumConstants(enumType).get(value.toUpperCase());
-        if (reference == null) return null;
-        return reference.get();
+        return getEnumConstant(enumType, value);
     }
 
     @Override
@@ -27,13 +27,13 @@ import dev.triumphteam.cmd.core.flag.Flags;
 import dev.triumphteam.cmd.core.flag.internal.FlagGroup;
 import dev.triumphteam.cmd.core.flag.internal.FlagOptions;
 import dev.triumphteam.cmd.core.flag.internal.FlagParser;
+import dev.triumphteam.cmd.core.input.CommandTokenizer;
 import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
 import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -72,7 +72,12 @@ public final class FlagInternalArgument<S> extends LimitlessInternalArgument<S>
      */
     @Override
     public @NotNull Object resolve(final @NotNull S sender, final @NotNull List<@NotNull String> value) {
-        return flagParser.parse(sender, value.size() == 1 ? Arrays.asList(value.get(0).split(" ")) : value);
+        return flagParser.parse(sender, value.size() == 1 ? CommandTokenizer.tokenize(value.get(0)) : value);
+    }
+
+    @Override
+    public boolean hasSuggestions() {
+        return true;
     }
 
     @Override
@@ -28,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Command argument.
@@ -88,4 +89,38 @@ public interface InternalArgument<S, T> {
             final @NotNull SuggestionContext context
     );
 
+    /**
+     * Whether this argument has any suggestions to give.
+     *
+     * @return Whether the argument has suggestions.
+     */
+    default boolean hasSuggestions() {
+        return false;
+    }
+
+    /**
+     * Gets the suggestions without blocking, by default it's the same as {@link #suggestions} already completed.
+     *
+     * @param sender  The sender to suggest to.
+     * @param trimmed The arguments trimmed to this argument.
+     * @param context The suggestion context.
+     * @return A future with the suggestions.
+     */
+    default @NotNull CompletableFuture<@NotNull List<@NotNull String>> suggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull List<@NotNull String> trimmed,
+            final @NotNull SuggestionContext context
+    ) {
+        return CompletableFuture.completedFuture(suggestions(sender, trimmed, context));
+    }
+
+    /**
+     * Whether the suggestions of this argument are asynchronous and should be gotten with {@link #suggestionsAsync}.
+     *
+     * @return Whether the suggestions are asynchronous.
+     */
+    default boolean hasAsyncSuggestions() {
+        return false;
+    }
+
 }
@@ -23,6 +23,7 @@
  */
 package dev.triumphteam.cmd.core.argument;
 
+import dev.triumphteam.cmd.core.input.CommandTokenizer;
 import dev.triumphteam.cmd.core.suggestion.Suggestion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -61,6 +62,7 @@ public final class JoinedStringInternalArgument<S> extends LimitlessInternalArgu
      */
     @Override
     public @NotNull Object resolve(final @NotNull S sender, final @NotNull List<@NotNull String> value) {
+        if (" ".contentEquals(delimiter)) return CommandTokenizer.join(value);
         return String.join(delimiter, value);
     }
 
@@ -28,6 +28,7 @@ import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A limitless internalArgument is an internalArgument type that won't check for internalArgument size.
@@ -58,6 +59,16 @@ public abstract class LimitlessInternalArgument<S> extends AbstractInternalArgum
         return getSuggestion().getSuggestions(sender, last, context);
     }
 
+    @Override
+    public @NotNull CompletableFuture<@NotNull List<@NotNull String>> suggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull List<@NotNull String> trimmed,
+            final @NotNull SuggestionContext context
+    ) {
+        final String last = trimmed.get(trimmed.size() - 1);
+        return getSuggestion().getSuggestionsAsync(sender, last, context);
+    }
+
     @Override
     public @NotNull String toString() {
         return "LimitlessArgument{super=" + super.toString() + "}";
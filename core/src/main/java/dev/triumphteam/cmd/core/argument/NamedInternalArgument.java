@@ -26,6 +26,7 @@ package dev.triumphteam.cmd.core.argument;
 import dev.triumphteam.cmd.core.argument.named.Arguments;
 import dev.triumphteam.cmd.core.argument.named.NamedArgumentParser;
 import dev.triumphteam.cmd.core.argument.named.NamedArgumentResult;
+import dev.triumphteam.cmd.core.input.CommandTokenizer;
 import dev.triumphteam.cmd.core.suggestion.EmptySuggestion;
 import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
 import org.jetbrains.annotations.NotNull;
@@ -55,7 +56,7 @@ public final class NamedInternalArgument<S> extends LimitlessInternalArgument<S>
 
     @Override
     public @NotNull Object resolve(final @NotNull S sender, final @NotNull List<@NotNull String> value) {
-        final Map<String, String> parsedArgs = NamedArgumentParser.parse(String.join(" ", value));
+        final Map<String, String> parsedArgs = NamedArgumentParser.parse(CommandTokenizer.join(value));
         final Map<String, Object> mapped = new HashMap<>(parsedArgs.size());
 
         for (final Map.Entry<String, String> entry : parsedArgs.entrySet()) {
@@ -69,13 +70,18 @@ public final class NamedInternalArgument<S> extends LimitlessInternalArgument<S>
         return new NamedArgumentResult(mapped);
     }
 
+    @Override
+    public boolean hasSuggestions() {
+        return true;
+    }
+
     @Override
     public @NotNull List<@NotNull String> suggestions(
             final @NotNull S sender,
             final @NotNull List<@NotNull String> trimmed,
             final @NotNull SuggestionContext context
     ) {
-        final Map<String, String> parsedArgs = NamedArgumentParser.parse(String.join(" ", trimmed));
+        final Map<String, String> parsedArgs = NamedArgumentParser.parse(CommandTokenizer.join(trimmed));
         final String current = trimmed.get(trimmed.size() - 1);
 
         final List<String> notUsed = arguments.keySet()
@@ -0,0 +1,181 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import com.google.common.primitives.Doubles;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Allocation free parsers for the primitive arguments.
+ * Invalid input is signaled by the return value instead of exceptions.
+ */
+public final class PrimitiveParsers {
+
+    // Largest mantissa and powers of ten that are exactly represented by a double
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private PrimitiveParsers() {throw new AssertionError("Util must not be initialized");}
+
+    /**
+     * Parses a decimal <code>long</code>, only an optional leading <code>-</code> and digits are accepted.
+     *
+     * @param value  The value to parse.
+     * @param result The {@link PrimitiveResult} to hold the parsed value.
+     * @return Whether the value was valid.
+     */
+    public static boolean parseLong(final @NotNull CharSequence value, final @NotNull PrimitiveResult result) {
+        final int length = value.length();
+        if (length == 0) return false;
+
+        final boolean negative = value.charAt(0) == '-';
+        int index = negative ? 1 : 0;
+        if (index == length) return false;
+
+        // Accumulates negatively, same as Long#parseLong, so Long.MIN_VALUE fits
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long accumulator = 0;
+
+        for (; index < length; index++) {
+            final int digit = value.charAt(index) - '0';
+            if (digit < 0 || digit > 9) return false;
+            if (accumulator < multiplyLimit) return false;
+            accumulator *= 10;
+            if (accumulator < limit + digit) return false;
+            accumulator -= digit;
+        }
+
+        result.setLong(negative ? accumulator : -accumulator);
+        return true;
+    }
+
+    /**
+     * Parses a decimal integer within the given bounds.
+     *
+     * @param value  The value to parse.
+     * @param min    The smallest valid value.
+     * @param max    The biggest valid value.
+     * @param result The {@link PrimitiveResult} to hold the parsed value.
+     * @return Whether the value was valid and within the bounds.
+     */
+    public static boolean parseInt(final @NotNull CharSequence value, final int min, final int max, final @NotNull PrimitiveResult result) {
+        if (!parseLong(value, result)) return false;
+        final long parsed = result.getLong();
+        if (parsed < min || parsed > max) return false;
+        result.setInt((int) parsed);
+        return true;
+    }
+
+    /**
+     * Parses a decimal <code>int</code>.
+     *
+     * @param value  The value to parse.
+     * @param result The {@link PrimitiveResult} to hold the parsed value.
+     * @return Whether the value was valid.
+     */
+    public static boolean parseInt(final @NotNull CharSequence value, final @NotNull PrimitiveResult result) {
+        return parseInt(value, Integer.MIN_VALUE, Integer.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses a <code>double</code>.
+     * Plain decimals, like <code>-12.5</code>, are parsed directly, when the result is guaranteed to be exact.
+     * Anything else, like exponents or very long numbers, goes through Guava's {@link Doubles#tryParse(String)}.
+     *
+     * @param value  The value to parse.
+     * @param result The {@link PrimitiveResult} to hold the parsed value.
+     * @return Whether the value was valid.
+     */
+    public static boolean parseDouble(final @NotNull CharSequence value, final @NotNull PrimitiveResult result) {
+        final int length = value.length();
+        if (length == 0) return false;
+
+        final char first = value.charAt(0);
+        final boolean negative = first == '-';
+        int index = negative || first == '+' ? 1 : 0;
+
+        long mantissa = 0;
+        int scale = -1;
+        boolean hasDigits = false;
+
+        for (; index < length; index++) {
+            final char character = value.charAt(index);
+            if (character == '.') {
+                if (scale >= 0) return false;
+                scale = 0;
+                continue;
+            }
+
+            final int digit = character - '0';
+            if (digit < 0 || digit > 9) return parseDoubleSlow(value, result);
+
+            mantissa = mantissa * 10 + digit;
+            hasDigits = true;
+            if (scale >= 0) scale++;
+            if (mantissa > MAX_EXACT_MANTISSA || scale >= EXACT_POWERS_OF_TEN.length) return parseDoubleSlow(value, result);
+        }
+
+        if (!hasDigits) return false;
+
+        // Both values are exact, so a single division gives the correctly rounded result
+        final double parsed = scale <= 0 ? (double) mantissa : mantissa / EXACT_POWERS_OF_TEN[scale];
+        result.setDouble(negative ? -parsed : parsed);
+        return true;
+    }
+
+    /**
+     * Parses a <code>boolean</code>, anything other than <code>true</code>, ignoring case, is <code>false</code>.
+     * Same behavior as {@link Boolean#parseBoolean(String)}.
+     *
+     * @param value  The value to parse.
+     * @param result The {@link PrimitiveResult} to hold the parsed value.
+     * @return Always true, every value is a valid boolean.
+     */
+    public static boolean parseBoolean(final @NotNull CharSequence value, final @NotNull PrimitiveResult result) {
+        result.setBoolean(value.length() == 4
+                && (value.charAt(0) | 0x20) == 't'
+                && (value.charAt(1) | 0x20) == 'r'
+                && (value.charAt(2) | 0x20) == 'u'
+                && (value.charAt(3) | 0x20) == 'e');
+        return true;
+    }
+
+    /**
+     * Fallback for the values that can't be parsed exactly by the fast path.
+     *
+     * @param value  The value to parse.
+     * @param result The {@link PrimitiveResult} to hold the parsed value.
+     * @return Whether the value was valid.
+     */
+    private static boolean parseDoubleSlow(final @NotNull CharSequence value, final @NotNull PrimitiveResult result) {
+        final Double parsed = Doubles.tryParse(value.toString());
+        if (parsed == null) return false;
+        result.setDouble(parsed);
+        return true;
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+/**
+ * Holds the value resolved by a primitive argument resolver, so it doesn't need to be boxed.
+ * The value is kept as raw <code>long</code> bits, the same way it is handed to the command method.
+ */
+public final class PrimitiveResult {
+
+    private long value;
+
+    public void setInt(final int value) {
+        this.value = value;
+    }
+
+    public int getInt() {
+        return (int) value;
+    }
+
+    public void setLong(final long value) {
+        this.value = value;
+    }
+
+    public long getLong() {
+        return value;
+    }
+
+    public void setDouble(final double value) {
+        this.value = Double.doubleToRawLongBits(value);
+    }
+
+    public double getDouble() {
+        return Double.longBitsToDouble(value);
+    }
+
+    public void setBoolean(final boolean value) {
+        this.value = value ? 1L : 0L;
+    }
+
+    public boolean getBoolean() {
+        return value != 0L;
+    }
+
+    /**
+     * Gets the raw bits of the value, as stored in the primitive invoke arguments.
+     *
+     * @return The raw value.
+     */
+    public long getRawValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimitiveResult{" +
+                "value=" + value +
+                '}';
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Options for a {@link CachedArgumentResolver}.
+ *
+ * @param <S> The sender type.
+ */
+public final class ResolverCacheOptions<S> {
+
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final boolean cacheNullResults;
+    private final Function<S, @Nullable Object> scope;
+
+    private ResolverCacheOptions(final @NotNull Builder<S> builder) {
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWriteNanos = builder.expireAfterWrite == null ? 0 : builder.expireAfterWrite.toNanos();
+        this.cacheNullResults = builder.cacheNullResults;
+        this.scope = builder.scope;
+    }
+
+    /**
+     * Creates a new builder with the default options, 256 entries, no expiry, not caching nulls and scoped per sender id.
+     *
+     * @param <S> The sender type.
+     * @return A new {@link Builder}.
+     */
+    @Contract(" -> new")
+    public static <S> @NotNull Builder<S> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Gets the maximum amount of entries the cache holds before evicting the least recently used.
+     *
+     * @return The maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets how long an entry lives after it is written, in nanoseconds, 0 means it never expires.
+     *
+     * @return The expiry in nanoseconds.
+     */
+    public long getExpireAfterWriteNanos() {
+        return expireAfterWriteNanos;
+    }
+
+    /**
+     * Gets whether null results, invalid arguments, are also cached.
+     *
+     * @return Whether nulls are cached.
+     */
+    public boolean isCacheNullResults() {
+        return cacheNullResults;
+    }
+
+    /**
+     * Gets the function that maps a sender into the scope part of the cache key.
+     *
+     * @return The scope function, or null to scope per sender id, see {@link CachedArgumentResolver}.
+     */
+    public @Nullable Function<S, @Nullable Object> getScope() {
+        return scope;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ResolverCacheOptions{" +
+                "maximumSize=" + maximumSize +
+                ", expireAfterWriteNanos=" + expireAfterWriteNanos +
+                ", cacheNullResults=" + cacheNullResults +
+                '}';
+    }
+
+    /**
+     * Builder for {@link ResolverCacheOptions}.
+     *
+     * @param <S> The sender type.
+     */
+    public static final class Builder<S> {
+
+        private int maximumSize = 256;
+        private Duration expireAfterWrite;
+        private boolean cacheNullResults;
+        private Function<S, @Nullable Object> scope = null;
+
+        private Builder() {}
+
+        /**
+         * Sets the maximum amount of entries, the least recently used are evicted first.
+         *
+         * @param maximumSize The maximum size, must be positive.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<S> maximumSize(final int maximumSize) {
+            if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive, got " + maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long an entry lives after it is resolved.
+         *
+         * @param expireAfterWrite The time to live, or null to never expire.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<S> expireAfterWrite(final @Nullable Duration expireAfterWrite) {
+            if (expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())) {
+                throw new IllegalArgumentException("Expiry must be positive, got " + expireAfterWrite);
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Sets whether null results should also be cached, so invalid arguments aren't looked up again.
+         *
+         * @param cacheNullResults Whether nulls are cached.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<S> cacheNullResults(final boolean cacheNullResults) {
+            this.cacheNullResults = cacheNullResults;
+            return this;
+        }
+
+        /**
+         * Sets the scope of the cached values, by default each sender has its own, keyed on its stable id like a UUID or user id.
+         * Results are only shared between senders that map into equal scopes, for example a guild.
+         * The scope is kept until the entry is evicted, so return an id rather than a platform object.
+         * Return a constant if the resolver doesn't depend on the sender at all.
+         *
+         * @param scope Function mapping a sender into its scope.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<S> scope(final @NotNull Function<S, @Nullable Object> scope) {
+            this.scope = scope;
+            return this;
+        }
+
+        /**
+         * Builds the options.
+         *
+         * @return New {@link ResolverCacheOptions} with the data from this builder.
+         */
+        @Contract(" -> new")
+        public @NotNull ResolverCacheOptions<S> build() {
+            return new ResolverCacheOptions<>(this);
+        }
+    }
+}
@@ -54,6 +54,15 @@ public final class ResolverInternalArgument<S> extends StringInternalArgument<S>
         this.resolver = resolver;
     }
 
+    /**
+     * Gets the {@link ArgumentResolver} used by this argument.
+     *
+     * @return The {@link ArgumentResolver}.
+     */
+    public @NotNull ArgumentResolver<S> getResolver() {
+        return resolver;
+    }
+
     /**
      * Resolves the argument type.
      *
@@ -31,6 +31,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -84,10 +85,32 @@ public final class SplitStringInternalArgument<S> extends StringInternalArgument
         final List<String> split = Arrays.asList(trimmed.get(trimmed.size() - 1).split(regex));
         if (split.size() == 0) return Collections.emptyList();
         final String current = split.get(split.size() - 1);
+        return prefix(split, getSuggestion().getSuggestions(sender, current, context));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@NotNull List<@NotNull String>> suggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull List<@NotNull String> trimmed,
+            final @NotNull SuggestionContext context
+    ) {
+        final List<String> split = Arrays.asList(trimmed.get(trimmed.size() - 1).split(regex));
+        if (split.size() == 0) return CompletableFuture.completedFuture(Collections.emptyList());
+        final String current = split.get(split.size() - 1);
+        return getSuggestion().getSuggestionsAsync(sender, current, context).thenApply(it -> prefix(split, it));
+    }
+
+    /**
+     * Prefixes the suggestions with the already typed values, so only the last one is being completed.
+     *
+     * @param split       The typed values.
+     * @param suggestions The suggestions for the last value.
+     * @return The prefixed suggestions.
+     */
+    private @NotNull List<@NotNull String> prefix(final @NotNull List<@NotNull String> split, final @NotNull List<@NotNull String> suggestions) {
         final String joined = String.join(regex, split.subList(0, split.size() - 1));
         final String map = joined.isEmpty() ? "" : joined + regex;
-        return getSuggestion()
-                .getSuggestions(sender, current, context)
+        return suggestions
                 .stream()
                 .map(it -> map + it)
                 .collect(Collectors.toList());
@@ -0,0 +1,372 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.execution;
+
+import dev.triumphteam.cmd.core.metrics.LatencyHistogram;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous execution on dedicated threads with a bounded queue, so a burst of slow commands can't grow without limit
+ * nor starve the common pool used by everything else.
+ * What happens when the queue is full is decided by the {@link RejectionPolicy}.
+ * Exposes the queue depth, active threads and the time commands waited in the queue.
+ */
+public final class BoundedExecutionProvider implements ExecutionProvider {
+
+    private final ThreadPoolExecutor executor;
+    private final RejectionPolicy rejectionPolicy;
+    private final long blockTimeoutNanos;
+    private final int queueCapacity;
+
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
+    private final LongAdder rejected = new LongAdder();
+
+    private BoundedExecutionProvider(final @NotNull Builder builder) {
+        this.rejectionPolicy = builder.rejectionPolicy;
+        this.blockTimeoutNanos = builder.blockTimeout.toNanos();
+        this.queueCapacity = builder.queueCapacity;
+
+        this.executor = new ThreadPoolExecutor(
+                builder.threads,
+                builder.threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(builder.queueCapacity),
+                new NamedThreadFactory(builder.threadName),
+                new Rejection()
+        );
+        // Blocking offers go straight to the queue, so the threads must already be there to take from it
+        executor.prestartAllCoreThreads();
+    }
+
+    /**
+     * Creates a new builder with the default options, a thread per processor, a queue of 1024 and {@link RejectionPolicy#ABORT}.
+     *
+     * @return A new {@link Builder}.
+     */
+    @Contract(" -> new")
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RejectedExecutionException If the queue is full or the provider was shut down.
+     */
+    @Override
+    public void execute(final @NotNull Runnable command) {
+        executor.execute(new QueuedCommand(command, System.nanoTime()));
+    }
+
+    /**
+     * Stops accepting commands and waits for the running and queued ones to finish.
+     * Once the timeout passes, interrupts whatever is still running and drops the commands still queued.
+     *
+     * @param timeout How long to wait for the commands to finish.
+     * @return Whether every command finished in time.
+     */
+    @Override
+    public boolean shutdown(final @NotNull Duration timeout) {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS)) return true;
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        executor.shutdownNow();
+        return false;
+    }
+
+    /**
+     * Gets the amount of commands waiting for a thread.
+     *
+     * @return The queue depth.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Gets the maximum amount of commands that can wait for a thread.
+     *
+     * @return The queue capacity.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Gets the approximate amount of threads running a command.
+     *
+     * @return The active count.
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Gets the amount of dedicated threads.
+     *
+     * @return The thread count.
+     */
+    public int getThreadCount() {
+        return executor.getCorePoolSize();
+    }
+
+    /**
+     * Gets the approximate amount of commands that finished running.
+     *
+     * @return The completed count.
+     */
+    public long getCompletedCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    /**
+     * Gets the amount of commands rejected, either because of the {@link RejectionPolicy} or after shutting down.
+     *
+     * @return The rejected count.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Gets how long commands waited between being received and starting to run.
+     *
+     * @return The {@link LatencyHistogram} of the wait times.
+     */
+    public @NotNull LatencyHistogram getWaitTimes() {
+        return waitTimes;
+    }
+
+    /**
+     * Gets the policy used when the queue is full.
+     *
+     * @return The {@link RejectionPolicy}.
+     */
+    public @NotNull RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "BoundedExecutionProvider{" +
+                "threads=" + getThreadCount() +
+                ", active=" + getActiveCount() +
+                ", queueDepth=" + getQueueDepth() +
+                ", queueCapacity=" + queueCapacity +
+                ", rejectionPolicy=" + rejectionPolicy +
+                ", rejected=" + getRejectedCount() +
+                ", waitTimes=" + waitTimes +
+                '}';
+    }
+
+    /**
+     * A command with the time it was received, to measure how long it waited.
+     */
+    private final class QueuedCommand implements Runnable {
+
+        private final Runnable command;
+        private final long receivedAt;
+
+        private QueuedCommand(final @NotNull Runnable command, final long receivedAt) {
+            this.command = command;
+            this.receivedAt = receivedAt;
+        }
+
+        @Override
+        public void run() {
+            waitTimes.record(System.nanoTime() - receivedAt);
+            try {
+                command.run();
+            } catch (final Throwable throwable) {
+                // Reported here so the thread isn't thrown away and replaced
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+            }
+        }
+    }
+
+    /**
+     * Applies the {@link RejectionPolicy} when the queue is full or the executor is shut down.
+     */
+    private final class Rejection implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(final @NotNull Runnable runnable, final @NotNull ThreadPoolExecutor executor) {
+            if (!executor.isShutdown()) {
+                switch (rejectionPolicy) {
+                    case CALLER_RUNS:
+                        runnable.run();
+                        return;
+
+                    case BLOCK:
+                        if (offer(runnable, executor)) return;
+                        break;
+
+                    default:
+                        break;
+                }
+            }
+
+            rejected.increment();
+            throw new RejectedExecutionException("Command rejected, the queue is full or the executor was shut down");
+        }
+
+        private boolean offer(final @NotNull Runnable runnable, final @NotNull ThreadPoolExecutor executor) {
+            try {
+                if (!executor.getQueue().offer(runnable, blockTimeoutNanos, TimeUnit.NANOSECONDS)) return false;
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            // Shut down while waiting, take it back if no thread will run it
+            return !executor.isShutdown() || !executor.remove(runnable);
+        }
+    }
+
+    /**
+     * Creates the dedicated daemon threads, numbered after the given name.
+     */
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private NamedThreadFactory(final @NotNull String name) {
+            this.name = name;
+        }
+
+        @Override
+        public @NotNull Thread newThread(final @NotNull Runnable runnable) {
+            final Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Builder for {@link BoundedExecutionProvider}.
+     */
+    public static final class Builder {
+
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 1024;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+        private Duration blockTimeout = Duration.ofSeconds(1);
+        private String threadName = "triumph-cmd-async";
+
+        private Builder() {}
+
+        /**
+         * Sets the amount of dedicated threads.
+         *
+         * @param threads The thread count, must be positive.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder threads(final int threads) {
+            if (threads <= 0) throw new IllegalArgumentException("Thread count must be positive, got " + threads);
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets how many commands can wait for a thread before the {@link RejectionPolicy} applies.
+         *
+         * @param queueCapacity The queue capacity, must be positive.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder queueCapacity(final int queueCapacity) {
+            if (queueCapacity <= 0) throw new IllegalArgumentException("Queue capacity must be positive, got " + queueCapacity);
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets what happens to commands received when the queue is full.
+         *
+         * @param rejectionPolicy The {@link RejectionPolicy}.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder rejectionPolicy(final @NotNull RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+            return this;
+        }
+
+        /**
+         * Sets how long {@link RejectionPolicy#BLOCK} waits for space in the queue.
+         *
+         * @param blockTimeout The timeout, must be positive.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder blockTimeout(final @NotNull Duration blockTimeout) {
+            if (blockTimeout.isNegative() || blockTimeout.isZero()) {
+                throw new IllegalArgumentException("Block timeout must be positive, got " + blockTimeout);
+            }
+            this.blockTimeout = blockTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the name of the threads, which are numbered after it.
+         *
+         * @param threadName The thread name.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder threadName(final @NotNull String threadName) {
+            this.threadName = threadName;
+            return this;
+        }
+
+        /**
+         * Builds the provider, starting its threads.
+         *
+         * @return A new {@link BoundedExecutionProvider} with the data from this builder.
+         */
+        @Contract(" -> new")
+        public @NotNull BoundedExecutionProvider build() {
+            return new BoundedExecutionProvider(this);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.execution;
+
+import dev.triumphteam.cmd.core.argument.ArgumentResolver;
+import dev.triumphteam.cmd.core.argument.BooleanArgumentResolver;
+import dev.triumphteam.cmd.core.argument.DoubleArgumentResolver;
+import dev.triumphteam.cmd.core.argument.IntArgumentResolver;
+import dev.triumphteam.cmd.core.argument.InternalArgument;
+import dev.triumphteam.cmd.core.argument.LimitlessInternalArgument;
+import dev.triumphteam.cmd.core.argument.LongArgumentResolver;
+import dev.triumphteam.cmd.core.argument.PrimitiveResult;
+import dev.triumphteam.cmd.core.argument.ResolverInternalArgument;
+import dev.triumphteam.cmd.core.argument.StringInternalArgument;
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import dev.triumphteam.cmd.core.invoker.PrimitiveSlots;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Immutable plan of how a sub command's arguments are collected, compiled once when the sub command is registered.
+ * Holds the single value arguments in order, followed by an optional limitless tail,
+ * and the amount of values the sub command accepts, so wrong input can be rejected before resolving anything.
+ * Primitive parameters are resolved into raw <code>long</code> slots, without boxing when their resolver is specialized.
+ *
+ * @param <S> The sender type.
+ */
+public final class ExecutionPlan<S> {
+
+    // How each step is resolved
+    private static final byte REFERENCE = 0;
+    private static final byte BOXED_PRIMITIVE = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+
+    private static final long[] NO_PRIMITIVES = new long[0];
+
+    private final StringInternalArgument<S>[] steps;
+    private final boolean[] optional;
+    private final byte[] kinds;
+    private final ArgumentResolver<S>[] primitiveResolvers;
+    private final boolean hasPrimitives;
+    private final LimitlessInternalArgument<S> limitlessTail;
+
+    private final int minArity;
+    private final int maxArity;
+
+    private ExecutionPlan(
+            final @NotNull StringInternalArgument<S> @NotNull [] steps,
+            final boolean @NotNull [] optional,
+            final byte @NotNull [] kinds,
+            final @Nullable ArgumentResolver<S> @NotNull [] primitiveResolvers,
+            final @Nullable LimitlessInternalArgument<S> limitlessTail,
+            final int minArity
+    ) {
+        this.steps = steps;
+        this.optional = optional;
+        this.kinds = kinds;
+        this.primitiveResolvers = primitiveResolvers;
+        this.limitlessTail = limitlessTail;
+        this.minArity = minArity;
+        this.maxArity = limitlessTail == null ? steps.length : Integer.MAX_VALUE;
+
+        boolean hasPrimitives = false;
+        for (final byte kind : kinds) {
+            if (kind != REFERENCE) hasPrimitives = true;
+        }
+        this.hasPrimitives = hasPrimitives;
+    }
+
+    /**
+     * Compiles the arguments of a sub command into a plan.
+     *
+     * @param arguments The arguments in the same order as the method parameters.
+     * @param <S>       The sender type.
+     * @return The compiled {@link ExecutionPlan}.
+     * @throws CommandRegistrationException If an argument type isn't supported.
+     */
+    @SuppressWarnings("unchecked")
+    @Contract("_ -> new")
+    public static <S> @NotNull ExecutionPlan<S> compile(final @NotNull List<@NotNull InternalArgument<S, ?>> arguments) {
+        final int size = arguments.size();
+        LimitlessInternalArgument<S> limitlessTail = null;
+        int stepCount = size;
+
+        for (int i = 0; i < size; i++) {
+            final InternalArgument<S, ?> argument = arguments.get(i);
+            if (argument instanceof LimitlessInternalArgument) {
+                // Anything after a limitless argument would never receive a value
+                limitlessTail = (LimitlessInternalArgument<S>) argument;
+                stepCount = i;
+                break;
+            }
+
+            if (!(argument instanceof StringInternalArgument)) {
+                throw new CommandRegistrationException("Found unsupported argument type \"" + argument.getClass().getName() + "\"");
+            }
+        }
+
+        final StringInternalArgument<S>[] steps = (StringInternalArgument<S>[]) new StringInternalArgument<?>[stepCount];
+        final boolean[] optional = new boolean[stepCount];
+        final byte[] kinds = new byte[stepCount];
+        final ArgumentResolver<S>[] primitiveResolvers = (ArgumentResolver<S>[]) new ArgumentResolver<?>[stepCount];
+        int minArity = 0;
+
+        for (int i = 0; i < stepCount; i++) {
+            final StringInternalArgument<S> step = (StringInternalArgument<S>) arguments.get(i);
+            steps[i] = step;
+            optional[i] = step.isOptional();
+            if (!optional[i]) minArity = i + 1;
+
+            final Class<?> type = step.getType();
+            if (!type.isPrimitive()) continue;
+
+            final ArgumentResolver<S> resolver = step instanceof ResolverInternalArgument ? ((ResolverInternalArgument<S>) step).getResolver() : null;
+            kinds[i] = getPrimitiveKind(type, resolver);
+            primitiveResolvers[i] = resolver;
+        }
+
+        return new ExecutionPlan<>(steps, optional, kinds, primitiveResolvers, limitlessTail, minArity);
+    }
+
+    /**
+     * Picks how a primitive parameter is resolved, specialized resolvers skip boxing entirely.
+     *
+     * @param type     The primitive parameter type.
+     * @param resolver The argument resolver, if any.
+     * @return The step kind.
+     */
+    private static byte getPrimitiveKind(final @NotNull Class<?> type, final @Nullable ArgumentResolver<?> resolver) {
+        if (resolver instanceof IntArgumentResolver && (type == int.class || type == short.class || type == byte.class)) return INT;
+        if (resolver instanceof LongArgumentResolver && type == long.class) return LONG;
+        if (resolver instanceof DoubleArgumentResolver && (type == double.class || type == float.class)) return DOUBLE;
+        if (resolver instanceof BooleanArgumentResolver && type == boolean.class) return BOOLEAN;
+        return BOXED_PRIMITIVE;
+    }
+
+    /**
+     * Resolves the step at the given index into the invoke arguments.
+     *
+     * @param index      The step index.
+     * @param sender     The sender.
+     * @param value      The raw value typed for the step.
+     * @param arguments  The reference invoke arguments.
+     * @param primitives The primitive invoke arguments, from {@link #createPrimitives()}.
+     * @param result     A reusable {@link PrimitiveResult}, only needed when the plan {@link #hasPrimitives()}.
+     * @return Whether the value was valid.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean resolve(
+            final int index,
+            final @NotNull S sender,
+            final @NotNull String value,
+            final @Nullable Object @NotNull [] arguments,
+            final long @NotNull [] primitives,
+            final @Nullable PrimitiveResult result
+    ) {
+        final int slot = index + 1;
+
+        switch (kinds[index]) {
+            case INT:
+                if (!((IntArgumentResolver<S>) primitiveResolvers[index]).resolveInt(sender, value, result)) return false;
+                break;
+
+            case LONG:
+                if (!((LongArgumentResolver<S>) primitiveResolvers[index]).resolveLong(sender, value, result)) return false;
+                break;
+
+            case DOUBLE:
+                if (!((DoubleArgumentResolver<S>) primitiveResolvers[index]).resolveDouble(sender, value, result)) return false;
+                break;
+
+            case BOOLEAN:
+                if (!((BooleanArgumentResolver<S>) primitiveResolvers[index]).resolveBoolean(sender, value, result)) return false;
+                break;
+
+            case BOXED_PRIMITIVE: {
+                final Object resolved = steps[index].resolve(sender, value);
+                if (resolved == null) return false;
+                primitives[slot] = PrimitiveSlots.toSlot(steps[index].getType(), resolved);
+                return true;
+            }
+
+            default: {
+                final Object resolved = steps[index].resolve(sender, value);
+                if (resolved == null) return false;
+                arguments[slot] = resolved;
+                return true;
+            }
+        }
+
+        primitives[slot] = result.getRawValue();
+        return true;
+    }
+
+    /**
+     * Creates the array that holds the primitive invoke arguments.
+     *
+     * @return A new array or a shared empty one when there are no primitive parameters.
+     */
+    public long @NotNull [] createPrimitives() {
+        return hasPrimitives ? new long[getInvokeSize()] : NO_PRIMITIVES;
+    }
+
+    /**
+     * Checks if any step is a primitive parameter.
+     *
+     * @return Whether the plan has primitive parameters.
+     */
+    public boolean hasPrimitives() {
+        return hasPrimitives;
+    }
+
+    /**
+     * Gets the single value arguments, in order.
+     *
+     * @return The argument steps, must not be modified.
+     */
+    public @NotNull StringInternalArgument<S> @NotNull [] getSteps() {
+        return steps;
+    }
+
+    /**
+     * Checks if the step at the given index is optional.
+     *
+     * @param index The step index.
+     * @return Whether the step is optional.
+     */
+    public boolean isOptional(final int index) {
+        return optional[index];
+    }
+
+    /**
+     * Gets the limitless argument that takes every value after the steps.
+     *
+     * @return The limitless argument or null if there is none.
+     */
+    public @Nullable LimitlessInternalArgument<S> getLimitlessTail() {
+        return limitlessTail;
+    }
+
+    /**
+     * Gets the least amount of values needed to fill every required step.
+     *
+     * @return The minimum arity.
+     */
+    public int getMinArity() {
+        return minArity;
+    }
+
+    /**
+     * Gets the most values the sub command accepts, {@link Integer#MAX_VALUE} when there is a limitless tail.
+     *
+     * @return The maximum arity.
+     */
+    public int getMaxArity() {
+        return maxArity;
+    }
+
+    /**
+     * Gets how many values the command method is invoked with, including the sender.
+     *
+     * @return The amount of invoke arguments.
+     */
+    public int getInvokeSize() {
+        return steps.length + (limitlessTail == null ? 0 : 1) + 1;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ExecutionPlan{" +
+                "steps=" + steps.length +
+                ", limitlessTail=" + limitlessTail +
+                ", minArity=" + minArity +
+                ", maxArity=" + maxArity +
+                '}';
+    }
+}
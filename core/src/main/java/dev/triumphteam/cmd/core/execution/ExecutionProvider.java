@@ -25,6 +25,8 @@ package dev.triumphteam.cmd.core.execution;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
+
 /**
  * Provides different ways to execute the command.
  */
@@ -39,4 +41,14 @@ public interface ExecutionProvider {
      */
     void execute(final @NotNull Runnable command);
 
+    /**
+     * Stops accepting commands and waits for the ones already received to finish.
+     * Does nothing by default, for providers that don't own their threads.
+     *
+     * @param timeout How long to wait for the commands to finish.
+     * @return Whether every command finished in time.
+     */
+    default boolean shutdown(final @NotNull Duration timeout) {
+        return true;
+    }
 }
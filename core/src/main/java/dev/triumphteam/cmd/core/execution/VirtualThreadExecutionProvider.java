@@ -0,0 +1,155 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs each command on its own virtual thread, so commands blocking on I/O don't hold a platform thread.
+ * This is the Java 8 version, the jar also contains a Java 21 version that uses virtual threads directly.
+ * When this version is loaded, on an older JVM or from a jar that lost its multi-release layer,
+ * it looks the virtual thread executor up reflectively and falls back to a pool of platform threads if there is none.
+ * <br/>
+ * <b>The fallback pool is bounded</b>, it has at most {@link #FALLBACK_THREADS} threads and queues the rest of the commands.
+ * Commands that block for long can starve each other there, check {@link #isVirtual()} or use a
+ * {@link BoundedExecutionProvider} when running on older JVMs.
+ */
+public final class VirtualThreadExecutionProvider implements ExecutionProvider {
+
+    /**
+     * Maximum amount of platform threads used when the JVM has no virtual threads.
+     */
+    public static final int FALLBACK_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final ExecutorService executor;
+    private final boolean virtual;
+
+    public VirtualThreadExecutionProvider() {
+        final ExecutorService virtualExecutor = createVirtualExecutor();
+        this.virtual = virtualExecutor != null;
+        this.executor = virtual ? virtualExecutor : createFallbackExecutor();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws java.util.concurrent.RejectedExecutionException If the provider was shut down.
+     */
+    @Override
+    public void execute(final @NotNull Runnable command) {
+        executor.execute(command);
+    }
+
+    /**
+     * Stops accepting commands and waits for the running ones to finish, interrupting them once the timeout passes.
+     *
+     * @param timeout How long to wait for the commands to finish.
+     * @return Whether every command finished in time.
+     */
+    @Override
+    public boolean shutdown(final @NotNull Duration timeout) {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS)) return true;
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        executor.shutdownNow();
+        return false;
+    }
+
+    /**
+     * Checks if the commands run on virtual threads, false when it fell back to platform threads.
+     *
+     * @return Whether virtual threads are used.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "VirtualThreadExecutionProvider{" +
+                "virtual=" + virtual +
+                '}';
+    }
+
+    /**
+     * Creates the virtual thread per task executor, only available from Java 21.
+     *
+     * @return The {@link ExecutorService} or null if the JVM has no virtual threads.
+     */
+    private static ExecutorService createVirtualExecutor() {
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the fallback pool, its threads stop after a minute idle so an unused provider holds none.
+     *
+     * @return The bounded {@link ExecutorService} of platform threads.
+     */
+    private static ExecutorService createFallbackExecutor() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                FALLBACK_THREADS,
+                FALLBACK_THREADS,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new PlatformThreadFactory()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates the daemon platform threads used when there are no virtual threads.
+     */
+    private static final class PlatformThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public @NotNull Thread newThread(final @NotNull Runnable runnable) {
+            final Thread thread = new Thread(runnable, "triumph-cmd-async-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -28,13 +28,13 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class FlagKey extends RegistryKey {
 
     // Holds all registered keys, default and custom ones
-    private static final Set<FlagKey> REGISTERED_KEYS = new HashSet<>();
+    private static final Set<FlagKey> REGISTERED_KEYS = ConcurrentHashMap.newKeySet();
 
     private FlagKey(final @NotNull String key) {
         super(key);
@@ -25,16 +25,13 @@ package dev.triumphteam.cmd.core.flag;
 
 import dev.triumphteam.cmd.core.registry.Registry;
 import dev.triumphteam.cmd.core.suggestion.SuggestionResolver;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public final class FlagRegistry<S> implements Registry {
 
-    private final Map<FlagKey, SuggestionResolver<S>> suggestions = new HashMap<>();
-
+    private final SnapshotMap<FlagKey, SuggestionResolver<S>> suggestions = new SnapshotMap<>();
 
     public void register(final @NotNull FlagKey key, final @NotNull SuggestionResolver<S> resolver) {
         suggestions.put(key, resolver);
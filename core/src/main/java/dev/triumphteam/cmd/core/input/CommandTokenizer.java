@@ -0,0 +1,152 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.input;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits a command line into tokens, on whitespace.
+ * Text in double quotes is kept as a single token, and a backslash escapes a quote, a backslash or a whitespace.
+ * Backslashes before any other character are kept, so things like markdown escapes stay untouched.
+ */
+public final class CommandTokenizer {
+
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+
+    private static final String[] NO_VALUES = new String[0];
+
+    private CommandTokenizer() {throw new AssertionError("Util must not be initialized");}
+
+    /**
+     * Tokenizes the input, only the token boundaries are computed, nothing is copied.
+     *
+     * @param input The command line.
+     * @return A {@link TokenizedInput} over the input.
+     */
+    public static @NotNull TokenizedInput tokenize(final @NotNull CharSequence input) {
+        final int length = input.length();
+
+        int[] ranges = new int[16];
+        boolean[] escaped = new boolean[8];
+        int count = 0;
+
+        int index = 0;
+        while (index < length) {
+            if (Character.isWhitespace(input.charAt(index))) {
+                index++;
+                continue;
+            }
+
+            final int start = index;
+            boolean hasEscapes = false;
+
+            while (index < length) {
+                final char current = input.charAt(index);
+                if (Character.isWhitespace(current)) break;
+
+                if (isEscape(input, index)) {
+                    hasEscapes = true;
+                    index += 2;
+                    continue;
+                }
+
+                index++;
+                if (current != QUOTE) continue;
+
+                // Consumes everything until the closing quote, or the end of the input if it's never closed
+                hasEscapes = true;
+                while (index < length) {
+                    if (isEscape(input, index)) {
+                        index += 2;
+                        continue;
+                    }
+
+                    if (input.charAt(index++) == QUOTE) break;
+                }
+            }
+
+            if (count == escaped.length) {
+                ranges = Arrays.copyOf(ranges, ranges.length * 2);
+                escaped = Arrays.copyOf(escaped, escaped.length * 2);
+            }
+
+            ranges[count * 2] = start;
+            ranges[count * 2 + 1] = index;
+            escaped[count] = hasEscapes;
+            count++;
+        }
+
+        return new TokenizedInput(input, ranges, escaped, count == 0 ? NO_VALUES : new String[count], 0, count);
+    }
+
+    /**
+     * Joins the tokens with a space.
+     * When they came from a {@link TokenizedInput} the original text is taken instead, as it was typed.
+     *
+     * @param tokens The tokens to join.
+     * @return The joined tokens.
+     */
+    public static @NotNull String join(final @NotNull List<@NotNull String> tokens) {
+        if (tokens instanceof TokenizedInput) return ((TokenizedInput) tokens).getRaw();
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * Removes the quotes and escapes from a token.
+     *
+     * @param input The command line.
+     * @param start The token start.
+     * @param end   The token end, exclusive.
+     * @return The token value.
+     */
+    static @NotNull String unescape(final @NotNull CharSequence input, final int start, final int end) {
+        final StringBuilder builder = new StringBuilder(end - start);
+        int index = start;
+        while (index < end) {
+            final char current = input.charAt(index);
+            if (current == ESCAPE && index + 1 < end && isEscapable(input.charAt(index + 1))) {
+                builder.append(input.charAt(index + 1));
+                index += 2;
+                continue;
+            }
+
+            if (current != QUOTE) builder.append(current);
+            index++;
+        }
+
+        return builder.toString();
+    }
+
+    private static boolean isEscape(final @NotNull CharSequence input, final int index) {
+        return input.charAt(index) == ESCAPE && index + 1 < input.length() && isEscapable(input.charAt(index + 1));
+    }
+
+    private static boolean isEscapable(final char character) {
+        return character == QUOTE || character == ESCAPE || Character.isWhitespace(character);
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.input;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Tokens of a command line, kept as index ranges over the original input.
+ * The token strings are only created when requested, and the original text between tokens can be taken as is,
+ * for example by joined or named arguments, without splitting and joining it back.
+ * Sub lists are also {@link TokenizedInput}s over the same input.
+ */
+public final class TokenizedInput extends AbstractList<String> implements RandomAccess {
+
+    private final CharSequence source;
+    // Start and end, exclusive, of each token, including the quotes
+    private final int[] ranges;
+    // Tokens that have quotes or escapes, which need to be unescaped
+    private final boolean[] escaped;
+    // Lazily created token values, shared with the sub lists
+    private final String[] values;
+
+    private final int offset;
+    private final int size;
+
+    TokenizedInput(
+            final @NotNull CharSequence source,
+            final int @NotNull [] ranges,
+            final boolean @NotNull [] escaped,
+            final @NotNull String @NotNull [] values,
+            final int offset,
+            final int size
+    ) {
+        this.source = source;
+        this.ranges = ranges;
+        this.escaped = escaped;
+        this.values = values;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Gets the value of the token, without quotes and escapes.
+     *
+     * @param index The token index.
+     * @return The token value.
+     */
+    @Override
+    public @NotNull String get(final int index) {
+        final int token = checkIndex(index);
+        String value = values[token];
+        if (value != null) return value;
+
+        final int start = ranges[token * 2];
+        final int end = ranges[token * 2 + 1];
+        value = escaped[token] ? CommandTokenizer.unescape(source, start, end) : source.subSequence(start, end).toString();
+        values[token] = value;
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the original input these tokens came from.
+     *
+     * @return The original input.
+     */
+    public @NotNull CharSequence getSource() {
+        return source;
+    }
+
+    /**
+     * Gets where the token starts in the original input, including quotes.
+     *
+     * @param index The token index.
+     * @return The start index in the input.
+     */
+    public int getStart(final int index) {
+        return ranges[checkIndex(index) * 2];
+    }
+
+    /**
+     * Gets where the token ends in the original input, exclusive, including quotes.
+     *
+     * @param index The token index.
+     * @return The end index in the input.
+     */
+    public int getEnd(final int index) {
+        return ranges[checkIndex(index) * 2 + 1];
+    }
+
+    /**
+     * Gets the original text covered by these tokens, from the start of the first to the end of the last.
+     * Spacing, quotes and escapes are kept exactly as they were typed.
+     *
+     * @return The raw text or an empty string if there are no tokens.
+     */
+    public @NotNull String getRaw() {
+        if (size == 0) return "";
+        return source.subSequence(getStart(0), getEnd(size - 1)).toString();
+    }
+
+    @Override
+    public @NotNull List<@NotNull String> subList(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + size);
+        }
+
+        return new TokenizedInput(source, ranges, escaped, values, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return offset + index;
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.interceptor;
+
+import dev.triumphteam.cmd.core.SubCommand;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * The state of a single sub command execution, passed to every stage of every {@link ExecutionInterceptor}.
+ * Only created when the sub command has interceptors, and reused across all of their stages.
+ * Holds a single attachment instead of a map, so interceptors that need more should share one holder object.
+ *
+ * @param <S> The sender type.
+ */
+public final class ExecutionContext<S> {
+
+    private final SubCommand<S> subCommand;
+    private final S sender;
+    private final List<String> arguments;
+    private final long startTime;
+
+    private Object attachment = null;
+
+    public ExecutionContext(
+            final @NotNull SubCommand<S> subCommand,
+            final @NotNull S sender,
+            final @NotNull List<@NotNull String> arguments,
+            final long startTime
+    ) {
+        this.subCommand = subCommand;
+        this.sender = sender;
+        this.arguments = arguments;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Gets the sub command being executed.
+     *
+     * @return The {@link SubCommand}.
+     */
+    public @NotNull SubCommand<S> getSubCommand() {
+        return subCommand;
+    }
+
+    /**
+     * Gets the sender of the command.
+     *
+     * @return The sender.
+     */
+    public @NotNull S getSender() {
+        return sender;
+    }
+
+    /**
+     * Gets the raw arguments typed by the sender, without the command and sub command names.
+     *
+     * @return The arguments.
+     */
+    public @NotNull List<@NotNull String> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Gets when the sub command received the execution.
+     *
+     * @return The {@link System#nanoTime()} at the start of the execution.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Gets the object attached by an interceptor.
+     *
+     * @return The attachment or null if there is none.
+     */
+    public @Nullable Object getAttachment() {
+        return attachment;
+    }
+
+    /**
+     * Attaches an object to the execution, to be used by a later stage.
+     *
+     * @param attachment The attachment.
+     */
+    public void setAttachment(final @Nullable Object attachment) {
+        this.attachment = attachment;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ExecutionContext{" +
+                "subCommand=" + subCommand.getParentName() + " " + subCommand.getName() +
+                ", sender=" + sender +
+                ", arguments=" + arguments +
+                ", attachment=" + attachment +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.interceptor;
+
+import dev.triumphteam.cmd.core.CommandManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs logic around every sub command execution, like auditing, timing or context propagation,
+ * registered with {@link CommandManager#registerInterceptor(ExecutionInterceptor)}.
+ * The stages run in registration order, except {@link #afterInvocation} and {@link #afterExecution} which run in reverse order.
+ * Every interceptor whose {@link #beforeArguments} ran gets an {@link #afterExecution}, however the execution ended,
+ * so it is the place to release what {@link #beforeArguments} set up.
+ * All stages share the same {@link ExecutionContext} for a single execution.
+ *
+ * @param <S> The sender type.
+ */
+public interface ExecutionInterceptor<S> {
+
+    /**
+     * Called after the sender is validated and passed the rate limit, before the requirements are checked and the arguments resolved.
+     *
+     * @param context The {@link ExecutionContext} of the execution.
+     * @return False to cancel the execution, after that only the {@link #afterExecution} stage is called.
+     */
+    default boolean beforeArguments(final @NotNull ExecutionContext<S> context) {
+        return true;
+    }
+
+    /**
+     * Called once the arguments are resolved, right before the execution is handed to the execution provider.
+     *
+     * @param context The {@link ExecutionContext} of the execution.
+     * @return False to cancel the execution, after that only the {@link #afterExecution} stage is called.
+     */
+    default boolean afterArguments(final @NotNull ExecutionContext<S> context) {
+        return true;
+    }
+
+    /**
+     * Called after the sub command method ran, on the thread that ran it.
+     * Only called for executions that weren't cancelled or failed before the invocation.
+     *
+     * @param context   The {@link ExecutionContext} of the execution.
+     * @param throwable What the method threw, or null if it ran successfully.
+     */
+    default void afterInvocation(final @NotNull ExecutionContext<S> context, final @Nullable Throwable throwable) {}
+
+    /**
+     * Called last, once the execution is over, for every interceptor whose {@link #beforeArguments} ran, including the one that cancelled it.
+     * After an invocation it is called right after {@link #afterInvocation}, on the thread that ran the method,
+     * otherwise on the thread that received the command, when a requirement or argument fails, an interceptor cancels
+     * or the execution provider rejects the execution.
+     *
+     * @param context The {@link ExecutionContext} of the execution.
+     * @param outcome How the execution ended.
+     */
+    default void afterExecution(final @NotNull ExecutionContext<S> context, final @NotNull ExecutionOutcome outcome) {}
+}
@@ -0,0 +1,143 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.interceptor;
+
+import dev.triumphteam.cmd.core.message.ContextualKey;
+import dev.triumphteam.cmd.core.message.MessageKey;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * How a sub command execution ended, given to {@link ExecutionInterceptor#afterExecution}.
+ */
+public final class ExecutionOutcome {
+
+    private static final ExecutionOutcome CANCELLED = new ExecutionOutcome(Status.CANCELLED, null, null);
+
+    private final Status status;
+    private final ContextualKey<?> messageKey;
+    private final Throwable throwable;
+
+    private ExecutionOutcome(final @NotNull Status status, final @Nullable ContextualKey<?> messageKey, final @Nullable Throwable throwable) {
+        this.status = status;
+        this.messageKey = messageKey;
+        this.throwable = throwable;
+    }
+
+    /**
+     * The method ran.
+     *
+     * @param throwable What the method threw, or null if it ran successfully.
+     * @return The {@link ExecutionOutcome}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull ExecutionOutcome invoked(final @Nullable Throwable throwable) {
+        return new ExecutionOutcome(Status.INVOKED, null, throwable);
+    }
+
+    /**
+     * An interceptor cancelled the execution.
+     *
+     * @return The {@link ExecutionOutcome}.
+     */
+    public static @NotNull ExecutionOutcome cancelled() {
+        return CANCELLED;
+    }
+
+    /**
+     * A requirement or argument failed, or something threw before the method could run.
+     *
+     * @param messageKey The key of the message sent for the failure, or null if none.
+     * @param throwable  What was thrown, or null if nothing was.
+     * @return The {@link ExecutionOutcome}.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull ExecutionOutcome failed(final @Nullable ContextualKey<?> messageKey, final @Nullable Throwable throwable) {
+        return new ExecutionOutcome(Status.FAILED, messageKey, throwable);
+    }
+
+    /**
+     * The execution provider didn't take the execution.
+     *
+     * @param exception The rejection.
+     * @return The {@link ExecutionOutcome}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull ExecutionOutcome rejected(final @NotNull RejectedExecutionException exception) {
+        return new ExecutionOutcome(Status.REJECTED, MessageKey.EXECUTION_REJECTED, exception);
+    }
+
+    public @NotNull Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the key of the message sent to the sender for the failure.
+     *
+     * @return The message key or null if no message was sent.
+     */
+    public @Nullable ContextualKey<?> getMessageKey() {
+        return messageKey;
+    }
+
+    /**
+     * Gets what the method threw, the rejection, or what failed the execution before the invocation.
+     *
+     * @return The throwable or null if there is none.
+     */
+    public @Nullable Throwable getThrowable() {
+        return throwable;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ExecutionOutcome{" +
+                "status=" + status +
+                ", messageKey=" + messageKey +
+                ", throwable=" + throwable +
+                '}';
+    }
+
+    public enum Status {
+        /**
+         * The method ran, successfully or not.
+         */
+        INVOKED,
+        /**
+         * An interceptor returned false.
+         */
+        CANCELLED,
+        /**
+         * A requirement or argument failed, or something threw before the invocation.
+         */
+        FAILED,
+        /**
+         * The execution provider rejected the execution.
+         */
+        REJECTED
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.interceptor;
+
+import dev.triumphteam.cmd.core.registry.Registry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Registry used for registering the {@link ExecutionInterceptor}s of all commands.
+ * Kept as a copy on write array, which the sub commands take once when created.
+ *
+ * @param <S> The sender type.
+ */
+public final class InterceptorRegistry<S> implements Registry {
+
+    @SuppressWarnings("unchecked")
+    private volatile ExecutionInterceptor<S>[] interceptors = (ExecutionInterceptor<S>[]) new ExecutionInterceptor<?>[0];
+
+    /**
+     * Registers a new {@link ExecutionInterceptor}, after the ones already registered.
+     *
+     * @param interceptor The interceptor.
+     */
+    public synchronized void register(final @NotNull ExecutionInterceptor<S> interceptor) {
+        final ExecutionInterceptor<S>[] copy = Arrays.copyOf(interceptors, interceptors.length + 1);
+        copy[interceptors.length] = interceptor;
+        interceptors = copy;
+    }
+
+    /**
+     * Gets the registered interceptors in registration order.
+     * The array is never changed after being returned, so it must not be modified.
+     *
+     * @return The interceptors.
+     */
+    public @NotNull ExecutionInterceptor<S> @NotNull [] getInterceptors() {
+        return interceptors;
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.invoker;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Invokes the method of a sub command.
+ * An invoker is bound once, when the sub command is registered, so the execution doesn't need to look anything up.
+ * <br/>
+ * Primitive parameters are read from the <code>primitives</code> array as raw bits, see {@link PrimitiveSlots},
+ * every other parameter is read from the <code>arguments</code> array, both indexed by parameter position.
+ */
+@FunctionalInterface
+public interface CommandInvoker {
+
+    /**
+     * Invokes the sub command method.
+     *
+     * @param arguments  The reference arguments to invoke the method with, the first one being the sender.
+     * @param primitives The raw values of the primitive parameters.
+     * @throws Throwable Anything thrown by the command method itself.
+     */
+    void invoke(final @Nullable Object @NotNull [] arguments, final long @NotNull [] primitives) throws Throwable;
+}
@@ -0,0 +1,141 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.invoker;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes the command methods through a {@link MethodHandle} bound to the command instance.
+ * The handle is adapted once to read each parameter straight from the argument arrays,
+ * so each call is a direct <code>invokeExact</code> and primitive parameters are never boxed.
+ * If the method can't be unreflected, the {@link ReflectionInvokerFactory} is used instead.
+ */
+public final class MethodHandleInvokerFactory implements InvokerFactory {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object[].class, long[].class);
+
+    private static final MethodHandle OBJECT_GETTER = MethodHandles.arrayElementGetter(Object[].class);
+    private static final MethodHandle PRIMITIVE_GETTER = MethodHandles.arrayElementGetter(long[].class);
+    private static final MethodHandle LONG_BITS_TO_DOUBLE;
+
+    static {
+        try {
+            LONG_BITS_TO_DOUBLE = MethodHandles.publicLookup().findStatic(
+                    Double.class,
+                    "longBitsToDouble",
+                    MethodType.methodType(double.class, long.class)
+            );
+        } catch (final NoSuchMethodException | IllegalAccessException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private final InvokerFactory fallback = new ReflectionInvokerFactory();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull CommandInvoker create(final @NotNull BaseCommand baseCommand, final @NotNull Method method) {
+        final MethodHandle handle;
+        try {
+            handle = lookup.unreflect(method).bindTo(baseCommand);
+        } catch (final IllegalAccessException exception) {
+            return fallback.create(baseCommand, method);
+        }
+
+        return new BoundInvoker(adapt(handle.asType(handle.type().changeReturnType(void.class))));
+    }
+
+    /**
+     * Adapts the handle to the {@link #INVOKER_TYPE}, each parameter reading from its own index in one of the arrays.
+     *
+     * @param handle The handle bound to the command instance.
+     * @return The adapted handle.
+     */
+    private static @NotNull MethodHandle adapt(final @NotNull MethodHandle handle) {
+        final Class<?>[] parameterTypes = handle.type().parameterArray();
+        final int count = parameterTypes.length;
+        if (count == 0) return MethodHandles.dropArguments(handle, 0, Object[].class, long[].class);
+
+        // Every getter takes both arrays, so all of them can later be merged into the same two parameters
+        MethodHandle adapted = handle;
+        final int[] reorder = new int[count * 2];
+        for (int i = 0; i < count; i++) {
+            adapted = MethodHandles.collectArguments(adapted, i * 2, createGetter(parameterTypes[i], i));
+            reorder[i * 2] = 0;
+            reorder[i * 2 + 1] = 1;
+        }
+
+        return MethodHandles.permuteArguments(adapted, INVOKER_TYPE, reorder);
+    }
+
+    /**
+     * Creates a handle that reads the parameter at the given index, typed as <code>(Object[], long[]) -> type</code>.
+     *
+     * @param type  The parameter type.
+     * @param index The parameter index.
+     * @return The getter handle.
+     */
+    private static @NotNull MethodHandle createGetter(final @NotNull Class<?> type, final int index) {
+        if (!type.isPrimitive()) {
+            final MethodHandle getter = MethodHandles.insertArguments(OBJECT_GETTER, 1, index)
+                    .asType(MethodType.methodType(type, Object[].class));
+            return MethodHandles.dropArguments(getter, 1, long[].class);
+        }
+
+        MethodHandle getter = MethodHandles.insertArguments(PRIMITIVE_GETTER, 1, index);
+        if (type == double.class || type == float.class) {
+            getter = MethodHandles.filterReturnValue(getter, LONG_BITS_TO_DOUBLE);
+        }
+
+        getter = MethodHandles.explicitCastArguments(getter, MethodType.methodType(type, long[].class));
+        return MethodHandles.dropArguments(getter, 0, Object[].class);
+    }
+
+    /**
+     * Simple invoker holding the adapted handle.
+     */
+    private static final class BoundInvoker implements CommandInvoker {
+
+        private final MethodHandle handle;
+
+        private BoundInvoker(final @NotNull MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public void invoke(final @Nullable Object @NotNull [] arguments, final long @NotNull [] primitives) throws Throwable {
+            handle.invokeExact(arguments, primitives);
+        }
+    }
+}
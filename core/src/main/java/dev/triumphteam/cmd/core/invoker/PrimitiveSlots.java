@@ -0,0 +1,68 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.invoker;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Conversions between primitive values and the raw <code>long</code> slots they're passed in.
+ * Integral types and <code>char</code> are stored as is, <code>boolean</code> as <code>0</code> or <code>1</code>,
+ * and <code>float</code> and <code>double</code> as the raw bits of the <code>double</code> value.
+ */
+public final class PrimitiveSlots {
+
+    private PrimitiveSlots() {throw new AssertionError("Util must not be initialized");}
+
+    /**
+     * Converts a boxed value into its raw slot, based on the parameter type.
+     *
+     * @param type  The primitive parameter type.
+     * @param value The boxed value.
+     * @return The raw bits of the value.
+     */
+    public static long toSlot(final @NotNull Class<?> type, final @NotNull Object value) {
+        if (type == boolean.class) return ((Boolean) value) ? 1L : 0L;
+        if (type == char.class) return (Character) value;
+        if (type == double.class || type == float.class) return Double.doubleToRawLongBits(((Number) value).doubleValue());
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * Converts a raw slot back into a boxed value of the parameter type.
+     *
+     * @param type The primitive parameter type.
+     * @param slot The raw bits of the value.
+     * @return The boxed value.
+     */
+    public static @NotNull Object fromSlot(final @NotNull Class<?> type, final long slot) {
+        if (type == int.class) return (int) slot;
+        if (type == long.class) return slot;
+        if (type == double.class) return Double.longBitsToDouble(slot);
+        if (type == boolean.class) return slot != 0L;
+        if (type == float.class) return (float) Double.longBitsToDouble(slot);
+        if (type == short.class) return (short) slot;
+        if (type == byte.class) return (byte) slot;
+        return (char) slot;
+    }
+}
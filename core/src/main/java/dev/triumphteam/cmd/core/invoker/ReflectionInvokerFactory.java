@@ -0,0 +1,58 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.invoker;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes the command methods through {@link Method#invoke(Object, Object...)}.
+ * Slower than {@link MethodHandleInvokerFactory} but works for any method the reflection can access.
+ */
+public final class ReflectionInvokerFactory implements InvokerFactory {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull CommandInvoker create(final @NotNull BaseCommand baseCommand, final @NotNull Method method) {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        return (arguments, primitives) -> {
+            // Reflection can only take boxed values
+            for (int i = 0; i < parameterTypes.length; i++) {
+                final Class<?> type = parameterTypes[i];
+                if (type.isPrimitive()) arguments[i] = PrimitiveSlots.fromSlot(type, primitives[i]);
+            }
+
+            try {
+                method.invoke(baseCommand, arguments);
+            } catch (final InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        };
+    }
+}
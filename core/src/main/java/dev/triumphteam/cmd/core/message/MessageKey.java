@@ -26,6 +26,7 @@ package dev.triumphteam.cmd.core.message;
 import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
 import dev.triumphteam.cmd.core.message.context.InvalidArgumentContext;
 import dev.triumphteam.cmd.core.message.context.MessageContext;
+import dev.triumphteam.cmd.core.message.context.RateLimitMessageContext;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -41,6 +42,8 @@ public class MessageKey<C extends MessageContext> extends ContextualKey<C> {
     public static final MessageKey<DefaultMessageContext> TOO_MANY_ARGUMENTS = of("too.many.arguments", DefaultMessageContext.class);
     public static final MessageKey<DefaultMessageContext> NOT_ENOUGH_ARGUMENTS = of("not.enough.arguments", DefaultMessageContext.class);
     public static final MessageKey<InvalidArgumentContext> INVALID_ARGUMENT = of("invalid.argument", InvalidArgumentContext.class);
+    public static final MessageKey<RateLimitMessageContext> RATE_LIMITED = of("rate.limited", RateLimitMessageContext.class);
+    public static final MessageKey<DefaultMessageContext> EXECUTION_REJECTED = of("execution.rejected", DefaultMessageContext.class);
 
     protected MessageKey(final @NotNull String key, final @NotNull Class<C> type) {
         super(key, type);
@@ -25,11 +25,9 @@ package dev.triumphteam.cmd.core.message;
 
 import dev.triumphteam.cmd.core.message.context.MessageContext;
 import dev.triumphteam.cmd.core.registry.Registry;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Registry with all the messages that'll be sent to the user.
  *
@@ -37,7 +35,7 @@ import java.util.Map;
  */
 public final class MessageRegistry<S> implements Registry {
 
-    private final Map<ContextualKey<?>, MessageResolver<S, ? extends MessageContext>> messages = new HashMap<>();
+    private final SnapshotMap<ContextualKey<?>, MessageResolver<S, ? extends MessageContext>> messages = new SnapshotMap<>();
 
     /**
      * Registers a new message to be used by the plugin.
@@ -53,6 +51,17 @@ public final class MessageRegistry<S> implements Registry {
         messages.put(key, resolver);
     }
 
+    /**
+     * Checks if a {@link MessageResolver} was registered for the key.
+     * Useful for not creating a {@link MessageContext} that would never be used.
+     *
+     * @param key The {@link ContextualKey} to check.
+     * @return Whether there is a {@link MessageResolver} for the key.
+     */
+    public boolean hasResolver(final @NotNull ContextualKey<?> key) {
+        return messages.containsKey(key);
+    }
+
     /**
      * Sends a message to the sender based on the {@link ContextualKey}.
      *
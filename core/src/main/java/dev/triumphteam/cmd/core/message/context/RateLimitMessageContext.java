@@ -0,0 +1,74 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.message.context;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Context for when the sender used a sub command with a {@link dev.triumphteam.cmd.core.annotation.Cooldown}
+ * or {@link dev.triumphteam.cmd.core.annotation.RateLimit} too often.
+ */
+public final class RateLimitMessageContext extends AbstractMessageContext {
+
+    private final long remainingNanos;
+
+    public RateLimitMessageContext(final @NotNull String command, final @NotNull String subCommand, final long remainingNanos) {
+        super(command, subCommand);
+        this.remainingNanos = remainingNanos;
+    }
+
+    /**
+     * Gets how long until the sender can use the sub command again.
+     *
+     * @return The remaining time.
+     */
+    public @NotNull Duration getRemaining() {
+        return Duration.ofNanos(remainingNanos);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        final RateLimitMessageContext that = (RateLimitMessageContext) o;
+        return remainingNanos == that.remainingNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), remainingNanos);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "RateLimitMessageContext{" +
+                "remainingNanos=" + remainingNanos +
+                ", super=" + super.toString() + "}";
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import dev.triumphteam.cmd.core.CommandManager;
+import dev.triumphteam.cmd.core.message.ContextualKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives what happens to each sub command when executed, set with {@link CommandManager#setMetrics(CommandMetrics)}.
+ * Called from the executing threads, so implementations must be thread safe and should never block.
+ * Defaults to {@link #noop()}, which the sub commands skip entirely, including the timing.
+ */
+public interface CommandMetrics {
+
+    /**
+     * Gets the metrics that record nothing.
+     *
+     * @return The no-op {@link CommandMetrics}.
+     */
+    static @NotNull CommandMetrics noop() {
+        return NoopCommandMetrics.INSTANCE;
+    }
+
+    /**
+     * Whether anything is recorded, when false the sub commands don't call the metrics nor measure time.
+     *
+     * @return Whether the metrics are enabled.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records a sub command that ran successfully.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @param nanos      The time from receiving the command to the end of the method, in nanoseconds.
+     */
+    void recordExecution(final @NotNull String command, final @NotNull String subCommand, final long nanos);
+
+    /**
+     * Records a sub command that wasn't run, like for invalid arguments or unmet requirements.
+     * Unknown sub commands are recorded with an empty sub command name, so user input never becomes a metric.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @param reason     The key of the message sent for the failure, or null if it has none,
+     *                   like a requirement without message, a sender rejected by the sender validator
+     *                   or an execution cancelled by an {@link dev.triumphteam.cmd.core.interceptor.ExecutionInterceptor}.
+     */
+    void recordFailure(final @NotNull String command, final @NotNull String subCommand, final @Nullable ContextualKey<?> reason);
+
+    /**
+     * Records a sub command whose method threw.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @param throwable  What the method threw.
+     */
+    void recordError(final @NotNull String command, final @NotNull String subCommand, final @NotNull Throwable throwable);
+}
@@ -0,0 +1,172 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A log-linear histogram of latencies in nanoseconds.
+ * Every power of two is split in {@value #SUB_BUCKETS} equal buckets, so a bucket is at most 25% wide relative to its values.
+ * Covers from about a microsecond to about 68s, anything outside falls in the first or last bucket.
+ * Each bucket is a {@link LongAdder}, so recording from many threads never contends.
+ */
+public final class LatencyHistogram {
+
+    // Values under 2^MIN_EXPONENT nanos, about a microsecond, share the first bucket
+    private static final int MIN_EXPONENT = 10;
+    // Values from 2^MAX_EXPONENT nanos, about 68s, share the last bucket
+    private static final int MAX_EXPONENT = 36;
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (MAX_EXPONENT - MIN_EXPONENT) * SUB_BUCKETS + 2;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds, negative values count as 0.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets[indexOf(value)].increment();
+        totalNanos.add(value);
+    }
+
+    /**
+     * Gets how many latencies were recorded.
+     *
+     * @return The recorded count.
+     */
+    public long getCount() {
+        long count = 0;
+        for (final LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the sum of every recorded latency.
+     *
+     * @return The total in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Gets the approximate latency under which the given fraction of the recorded latencies are.
+     *
+     * @param percentile The fraction, from 0 to 1, like 0.99 for the 99th percentile.
+     * @return The upper bound of the bucket the percentile falls in, in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentile(final double percentile) {
+        final long[] counts = getCounts();
+        long count = 0;
+        for (final long bucketCount : counts) {
+            count += bucketCount;
+        }
+        if (count == 0) return 0;
+
+        final long target = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, percentile)) * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) return getBucketUpperBound(i);
+        }
+        return getBucketUpperBound(counts.length - 1);
+    }
+
+    /**
+     * Gets a copy of the count of each bucket, see {@link #getBucketUpperBound(int)}.
+     *
+     * @return The bucket counts.
+     */
+    public long @NotNull [] getCounts() {
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Gets how many buckets there are.
+     *
+     * @return The bucket count.
+     */
+    public int getBucketCount() {
+        return BUCKETS;
+    }
+
+    /**
+     * Gets the exclusive upper bound of the bucket.
+     *
+     * @param index The bucket index.
+     * @return The upper bound in nanoseconds, {@link Long#MAX_VALUE} for the last bucket.
+     */
+    public long getBucketUpperBound(final int index) {
+        if (index == 0) return 1L << MIN_EXPONENT;
+        if (index >= BUCKETS - 1) return Long.MAX_VALUE;
+
+        final int exponent = MIN_EXPONENT + (index - 1) / SUB_BUCKETS;
+        final int subBucket = (index - 1) % SUB_BUCKETS;
+        return (1L << exponent) + (subBucket + 1L) * (1L << (exponent - SUB_BUCKET_BITS));
+    }
+
+    /**
+     * Gets the bucket of the value, the power of two it's in followed by where in that power of two it is.
+     *
+     * @param value The latency, not negative.
+     * @return The bucket index.
+     */
+    private static int indexOf(final long value) {
+        if (value < (1L << MIN_EXPONENT)) return 0;
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) return BUCKETS - 1;
+
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "LatencyHistogram{" +
+                "count=" + getCount() +
+                ", p50=" + getPercentile(0.5) +
+                ", p99=" + getPercentile(0.99) +
+                '}';
+    }
+}
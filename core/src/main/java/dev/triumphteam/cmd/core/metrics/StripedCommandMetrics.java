@@ -0,0 +1,106 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import dev.triumphteam.cmd.core.message.ContextualKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@link SubCommandMetrics} in memory for every sub command.
+ * Counters are {@link java.util.concurrent.atomic.LongAdder}s and lookups don't allocate,
+ * so recording stays cheap and doesn't contend under concurrent executions.
+ */
+public final class StripedCommandMetrics implements CommandMetrics {
+
+    private final Map<String, Map<String, SubCommandMetrics>> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordExecution(final @NotNull String command, final @NotNull String subCommand, final long nanos) {
+        getOrCreate(command, subCommand).recordExecution(nanos);
+    }
+
+    @Override
+    public void recordFailure(final @NotNull String command, final @NotNull String subCommand, final @Nullable ContextualKey<?> reason) {
+        getOrCreate(command, subCommand).recordFailure(reason);
+    }
+
+    @Override
+    public void recordError(final @NotNull String command, final @NotNull String subCommand, final @NotNull Throwable throwable) {
+        getOrCreate(command, subCommand).recordError();
+    }
+
+    /**
+     * Gets the metrics of a sub command.
+     *
+     * @param command    The command name.
+     * @param subCommand The sub command name.
+     * @return The {@link SubCommandMetrics} or null if nothing was recorded for it yet.
+     */
+    public @Nullable SubCommandMetrics getMetrics(final @NotNull String command, final @NotNull String subCommand) {
+        final Map<String, SubCommandMetrics> subCommands = metrics.get(command);
+        return subCommands == null ? null : subCommands.get(subCommand);
+    }
+
+    /**
+     * Gets the metrics of every sub command that recorded something.
+     *
+     * @return A copy of all the {@link SubCommandMetrics}.
+     */
+    public @NotNull List<@NotNull SubCommandMetrics> getAllMetrics() {
+        final List<SubCommandMetrics> all = new ArrayList<>();
+        metrics.values().forEach(subCommands -> all.addAll(subCommands.values()));
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Clears everything recorded.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    private @NotNull SubCommandMetrics getOrCreate(final @NotNull String command, final @NotNull String subCommand) {
+        // Plain gets first, computeIfAbsent locks the bin even when the value exists
+        Map<String, SubCommandMetrics> subCommands = metrics.get(command);
+        if (subCommands == null) subCommands = metrics.computeIfAbsent(command, ignored -> new ConcurrentHashMap<>());
+
+        final SubCommandMetrics existing = subCommands.get(subCommand);
+        if (existing != null) return existing;
+        return subCommands.computeIfAbsent(subCommand, ignored -> new SubCommandMetrics(command, subCommand));
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "StripedCommandMetrics{" +
+                "metrics=" + getAllMetrics() +
+                '}';
+    }
+}
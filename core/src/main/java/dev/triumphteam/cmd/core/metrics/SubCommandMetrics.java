@@ -0,0 +1,164 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import dev.triumphteam.cmd.core.message.ContextualKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a single sub command, recorded by {@link StripedCommandMetrics}.
+ */
+public final class SubCommandMetrics {
+
+    private final String command;
+    private final String subCommand;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final Map<ContextualKey<?>, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder unkeyedFailures = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    SubCommandMetrics(final @NotNull String command, final @NotNull String subCommand) {
+        this.command = command;
+        this.subCommand = subCommand;
+    }
+
+    void recordExecution(final long nanos) {
+        latencies.record(nanos);
+    }
+
+    void recordFailure(final @Nullable ContextualKey<?> reason) {
+        if (reason == null) {
+            unkeyedFailures.increment();
+            return;
+        }
+
+        LongAdder counter = failures.get(reason);
+        if (counter == null) counter = failures.computeIfAbsent(reason, ignored -> new LongAdder());
+        counter.increment();
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    public @NotNull String getCommand() {
+        return command;
+    }
+
+    public @NotNull String getSubCommand() {
+        return subCommand;
+    }
+
+    /**
+     * Gets how many times the sub command was executed, successfully or not.
+     *
+     * @return The invocation count.
+     */
+    public long getInvocationCount() {
+        return getExecutionCount() + getFailureCount() + getErrorCount();
+    }
+
+    /**
+     * Gets how many times the sub command ran successfully.
+     *
+     * @return The execution count.
+     */
+    public long getExecutionCount() {
+        return latencies.getCount();
+    }
+
+    /**
+     * Gets how many times the sub command wasn't run, for any reason.
+     *
+     * @return The failure count.
+     */
+    public long getFailureCount() {
+        long count = unkeyedFailures.sum();
+        for (final LongAdder counter : failures.values()) {
+            count += counter.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Gets how many times the sub command wasn't run for the given reason.
+     *
+     * @param reason The key of the message sent for the failure, or null for failures without message.
+     * @return The failure count.
+     */
+    public long getFailureCount(final @Nullable ContextualKey<?> reason) {
+        if (reason == null) return unkeyedFailures.sum();
+        final LongAdder counter = failures.get(reason);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Gets the failure counts by the key of the message sent for them, without the failures that have none.
+     *
+     * @return A copy of the failure counts.
+     */
+    public @NotNull Map<@NotNull ContextualKey<?>, @NotNull Long> getFailureCounts() {
+        final Map<ContextualKey<?>, Long> counts = new HashMap<>();
+        failures.forEach((key, counter) -> counts.put(key, counter.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Gets how many times the sub command method threw.
+     *
+     * @return The error count.
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Gets the latencies of the successful executions.
+     *
+     * @return The {@link LatencyHistogram}.
+     */
+    public @NotNull LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SubCommandMetrics{" +
+                "command='" + command + '\'' +
+                ", subCommand='" + subCommand + '\'' +
+                ", executions=" + getExecutionCount() +
+                ", failures=" + getFailureCount() +
+                ", errors=" + getErrorCount() +
+                ", latencies=" + latencies +
+                '}';
+    }
+}
@@ -24,21 +24,26 @@
 package dev.triumphteam.cmd.core.processor;
 
 import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.CommandManager;
 import dev.triumphteam.cmd.core.SubCommand;
 import dev.triumphteam.cmd.core.annotation.Command;
 import dev.triumphteam.cmd.core.annotation.Description;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,8 +61,9 @@ public abstract class AbstractCommandProcessor<SD, S, SC extends SubCommand<S>,
     // TODO: 11/28/2021 Add better default description
     private String description = "No description provided.";
     private final List<String> alias = new ArrayList<>();
-    private final Map<String, SC> subCommands = new HashMap<>();
-    private final Map<String, SC> subCommandsAlias = new HashMap<>();
+    private final Map<String, SC> subCommands = new LinkedHashMap<>();
+    private final Map<String, SC> subCommandsAlias = new LinkedHashMap<>();
+    private boolean processed = false;
 
     private final BaseCommand baseCommand;
     private final RegistryContainer<S> registryContainer;
@@ -86,28 +92,165 @@ public abstract class AbstractCommandProcessor<SD, S, SC extends SubCommand<S>,
         extractDescription();
     }
 
-    // TODO: Comments
+    /**
+     * Adds the sub commands to the command, processing them first if they weren't yet.
+     *
+     * @param command The command to add the sub commands to.
+     */
     public void addSubCommands(final dev.triumphteam.cmd.core.@NotNull Command<S, SC> command) {
-        for (final Method method : baseCommand.getClass().getDeclaredMethods()) {
-            if (Modifier.isPrivate(method.getModifiers())) continue;
+        processSubCommands();
+        subCommands.forEach(command::addSubCommand);
+        subCommandsAlias.forEach(command::addSubCommandAlias);
+    }
+
+    /**
+     * Creates all the sub commands, in declaration order, without adding them to any command.
+     * Only touches the registries, so it can run off the registering thread, see {@link CommandManager#registerCommands}.
+     * Does nothing if the sub commands were already processed.
+     */
+    public synchronized void processSubCommands() {
+        if (processed) return;
 
-            final P processor = createProcessor(method);
+        for (final SubCommandDescriptor descriptor : getSubCommandDescriptors()) {
+            final P processor = createProcessor(descriptor);
             final String subCommandName = processor.getName();
             if (subCommandName == null) continue;
 
             final ExecutionProvider executionProvider = processor.isAsync() ? asyncExecutionProvider : syncExecutionProvider;
 
             final SC subCommand = createSubCommand(processor, executionProvider);
-            command.addSubCommand(subCommandName, subCommand);
+            subCommands.put(subCommandName, subCommand);
 
-            processor.getAlias().forEach(alias -> command.addSubCommandAlias(alias, subCommand));
+            processor.getAlias().forEach(alias -> subCommandsAlias.put(alias, subCommand));
         }
+
+        processed = true;
     }
 
-    protected abstract @NotNull P createProcessor(final @NotNull Method method);
+    /**
+     * Replaces the sub commands created from the old {@link BaseCommand} with the ones of this processor's, in a single swap.
+     * Sub commands whose method didn't change are rebound to the new instance, reusing their arguments, suggestions and requirements.
+     *
+     * @param command    The command to reload.
+     * @param oldCommand The {@link BaseCommand} being replaced.
+     */
+    public void reloadSubCommands(final dev.triumphteam.cmd.core.@NotNull Command<S, SC> command, final @NotNull BaseCommand oldCommand) {
+        final Collection<SC> previous = command.getSubCommands(oldCommand);
+        // Class annotations, like permissions, apply to every sub command, so a change on them means nothing can be reused
+        final boolean canRebind = Arrays.equals(oldCommand.getClass().getAnnotations(), baseCommand.getClass().getAnnotations());
+
+        final Map<String, SC> newSubCommands = new LinkedHashMap<>();
+        final Map<String, SC> newAliases = new LinkedHashMap<>();
+        for (final SubCommandDescriptor descriptor : getSubCommandDescriptors()) {
+            final Method method = descriptor.getMethod();
+            final SC unchanged = canRebind ? findUnchanged(previous, method) : null;
+            if (unchanged != null) {
+                final CommandInvoker invoker = registryContainer.getInvokerFactory().create(baseCommand, method);
+                final SC subCommand = rebindSubCommand(unchanged, method, invoker);
+                newSubCommands.put(subCommand.getName(), subCommand);
+                subCommand.getAlias().forEach(alias -> newAliases.put(alias, subCommand));
+                continue;
+            }
+
+            final P processor = createProcessor(descriptor);
+            final String subCommandName = processor.getName();
+            if (subCommandName == null) continue;
+
+            final ExecutionProvider executionProvider = processor.isAsync() ? asyncExecutionProvider : syncExecutionProvider;
+
+            final SC subCommand = createSubCommand(processor, executionProvider);
+            newSubCommands.put(subCommandName, subCommand);
+            processor.getAlias().forEach(alias -> newAliases.put(alias, subCommand));
+        }
+
+        command.replaceSubCommands(oldCommand, newSubCommands, newAliases);
+    }
+
+    /**
+     * Finds the previous sub command whose method has the same name, parameters and annotations as the given method.
+     *
+     * @param previous The previous sub commands.
+     * @param method   The new method.
+     * @return The unchanged sub command or null if the method is new or changed.
+     */
+    private @Nullable SC findUnchanged(final @NotNull Collection<@NotNull SC> previous, final @NotNull Method method) {
+        for (final SC subCommand : previous) {
+            final Method oldMethod = subCommand.getMethod();
+            if (oldMethod.equals(method)) return subCommand;
+
+            if (!oldMethod.getName().equals(method.getName())) continue;
+            if (!Arrays.equals(oldMethod.getGenericParameterTypes(), method.getGenericParameterTypes())) continue;
+            if (!Arrays.equals(oldMethod.getAnnotations(), method.getAnnotations())) continue;
+            if (!Arrays.deepEquals(oldMethod.getParameterAnnotations(), method.getParameterAnnotations())) continue;
+            if (!Arrays.equals(parameterNames(oldMethod), parameterNames(method))) continue;
+
+            return subCommand;
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the names of the method's parameters, which become the argument names.
+     *
+     * @param method The method.
+     * @return The parameter names.
+     */
+    private static @NotNull String @NotNull [] parameterNames(final @NotNull Method method) {
+        return Arrays.stream(method.getParameters()).map(Parameter::getName).toArray(String[]::new);
+    }
+
+    /**
+     * Gets the sub commands declared in the command class, with their annotation values.
+     * Uses the generated {@link CommandDescriptor} when there is one, then the {@link CommandModelCache}, otherwise reads the declared methods.
+     *
+     * @return The descriptors to create the sub commands from.
+     */
+    private @NotNull List<@NotNull SubCommandDescriptor> getSubCommandDescriptors() {
+        final Class<? extends BaseCommand> commandClass = baseCommand.getClass();
+        final List<SubCommandDescriptor> descriptors = CommandDescriptors.find(commandClass);
+        if (descriptors != null) return descriptors;
+
+        final CommandModelCache modelCache = registryContainer.getModelCache();
+        if (modelCache == null) return SubCommandDescriptor.scan(commandClass);
+        return modelCache.getSubCommands(commandClass);
+    }
+
+    /**
+     * Creates the processor for a sub command method, reading its annotations.
+     * Kept for compatibility, registration only uses {@link #createProcessor(SubCommandDescriptor)}.
+     *
+     * @param method The sub command method.
+     * @return The sub command processor.
+     */
+    protected @NotNull P createProcessor(final @NotNull Method method) {
+        return createProcessor(SubCommandDescriptor.of(method));
+    }
+
+    /**
+     * Creates the processor for a sub command from its already read annotation values.
+     *
+     * @param descriptor The {@link SubCommandDescriptor} of the sub command.
+     * @return The sub command processor.
+     */
+    protected abstract @NotNull P createProcessor(final @NotNull SubCommandDescriptor descriptor);
 
     protected abstract @NotNull SC createSubCommand(final @NotNull P processor, final @NotNull ExecutionProvider executionProvider);
 
+    /**
+     * Creates a copy of the sub command bound to this processor's {@link BaseCommand}, used when reloading.
+     *
+     * @param subCommand The unchanged sub command.
+     * @param method     The method of the new {@link BaseCommand}.
+     * @param invoker    The {@link CommandInvoker} for the method.
+     * @return The rebound sub command.
+     */
+    protected abstract @NotNull SC rebindSubCommand(
+            final @NotNull SC subCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    );
+
     /**
      * Used for the child processors to get the command name.
      *
@@ -27,18 +27,11 @@ import com.google.common.base.CaseFormat;
 import com.google.common.collect.Maps;
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.annotation.ArgDescriptions;
-import dev.triumphteam.cmd.core.annotation.ArgName;
-import dev.triumphteam.cmd.core.annotation.Async;
-import dev.triumphteam.cmd.core.annotation.CommandFlags;
+import dev.triumphteam.cmd.core.annotation.Cooldown;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.annotation.Description;
 import dev.triumphteam.cmd.core.annotation.Flag;
-import dev.triumphteam.cmd.core.annotation.Join;
-import dev.triumphteam.cmd.core.annotation.NamedArguments;
-import dev.triumphteam.cmd.core.annotation.Optional;
-import dev.triumphteam.cmd.core.annotation.Requirements;
-import dev.triumphteam.cmd.core.annotation.Split;
-import dev.triumphteam.cmd.core.annotation.Suggestions;
+import dev.triumphteam.cmd.core.annotation.RateLimit;
 import dev.triumphteam.cmd.core.argument.ArgumentRegistry;
 import dev.triumphteam.cmd.core.argument.ArgumentResolver;
 import dev.triumphteam.cmd.core.argument.CollectionInternalArgument;
@@ -65,6 +58,7 @@ import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
 import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
 import dev.triumphteam.cmd.core.message.context.MessageContext;
+import dev.triumphteam.cmd.core.ratelimit.TokenBucketStore;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.requirement.Requirement;
 import dev.triumphteam.cmd.core.requirement.RequirementKey;
@@ -84,23 +78,17 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
-
 /**
  * Abstracts most of the "extracting" from sub command annotations, allows for extending.
  * <br/>
@@ -115,6 +103,7 @@ public abstract class AbstractSubCommandProcessor<S> {
     private final BaseCommand baseCommand;
     private final String parentName;
 
+    private final SubCommandDescriptor descriptor;
     private final Method method;
     // Name is nullable to detect if the method should or not be considered a sub command.
     private String name = null;
@@ -125,6 +114,9 @@ public abstract class AbstractSubCommandProcessor<S> {
 
     private boolean isDefault = false;
     private final boolean isAsync;
+    private TokenBucketStore rateLimit = null;
+    private boolean processed = false;
+    private RuntimeException processingFailure = null;
 
     private Class<? extends S> senderType;
 
@@ -149,11 +141,32 @@ public abstract class AbstractSubCommandProcessor<S> {
             final @NotNull Method method,
             final @NotNull RegistryContainer<S> registryContainer,
             final @NotNull SenderValidator<S> senderValidator
+    ) {
+        this(baseCommand, parentName, SubCommandDescriptor.of(method), registryContainer, senderValidator);
+    }
+
+    /**
+     * Creates the processor from the already read annotation values of the sub command.
+     * Nothing is read from the method's annotations, the keys and types are looked up in the registries.
+     *
+     * @param baseCommand       The {@link BaseCommand} instance.
+     * @param parentName        The name of the command.
+     * @param descriptor        The {@link SubCommandDescriptor} of the sub command.
+     * @param registryContainer The registries to look the keys up in.
+     * @param senderValidator   The {@link SenderValidator}.
+     */
+    protected AbstractSubCommandProcessor(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull String parentName,
+            final @NotNull SubCommandDescriptor descriptor,
+            final @NotNull RegistryContainer<S> registryContainer,
+            final @NotNull SenderValidator<S> senderValidator
     ) {
         this.baseCommand = baseCommand;
         this.parentName = parentName;
 
-        this.method = method;
+        this.descriptor = descriptor;
+        this.method = descriptor.getMethod();
 
         this.registryContainer = registryContainer;
         this.suggestionRegistry = registryContainer.getSuggestionRegistry();
@@ -163,18 +176,48 @@ public abstract class AbstractSubCommandProcessor<S> {
         this.messageRegistry = registryContainer.getMessageRegistry();
         this.senderValidator = senderValidator;
 
-        this.isAsync = method.isAnnotationPresent(Async.class);
+        this.isAsync = descriptor.isAsync();
 
         extractSubCommandNames();
         if (name == null) return;
 
-        extractFlags();
-        extractRequirements();
         extractDescription();
-        extractArgDescriptions();
-        extractSuggestions();
-        extractArguments(method);
-        validateArguments();
+        extractRateLimit();
+        if (!registryContainer.isLazyProcessing()) process();
+    }
+
+    /**
+     * Extracts the flags, requirements, suggestions and arguments of the sub command.
+     * Done when creating the processor, unless lazy processing is enabled, in which case the sub command calls it on first use.
+     * Does nothing if it was already processed.
+     */
+    public final synchronized void process() {
+        // Failing halfway leaves partial arguments behind, so it's never retried
+        if (processingFailure != null) throw processingFailure;
+        if (processed) return;
+
+        try {
+            extractFlags();
+            extractRequirements();
+            extractArgDescriptions();
+            extractSuggestions();
+            extractArguments(method);
+            validateArguments();
+        } catch (final RuntimeException exception) {
+            processingFailure = exception;
+            throw exception;
+        }
+
+        processed = true;
+    }
+
+    /**
+     * Gets whether the arguments were already processed, see {@link #process()}.
+     *
+     * @return Whether the sub command was processed.
+     */
+    public synchronized boolean isProcessed() {
+        return processed;
     }
 
     /**
@@ -183,15 +226,13 @@ public abstract class AbstractSubCommandProcessor<S> {
      * @param method The method to search from.
      */
     protected void extractArguments(final @NotNull Method method) {
-        final Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            final Parameter parameter = parameters[i];
-            if (i == 0) {
-                validateSender(parameter.getType());
-                continue;
-            }
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length == 0) return;
+        validateSender(parameterTypes[0]);
 
-            createArgument(parameter, i - 1);
+        final List<ArgumentDescriptor> arguments = descriptor.getArguments();
+        for (int i = 0; i < arguments.size(); i++) {
+            createArgument(arguments.get(i), i);
         }
     }
 
@@ -246,6 +287,15 @@ public abstract class AbstractSubCommandProcessor<S> {
         return isAsync;
     }
 
+    /**
+     * Gets the buckets of the {@link Cooldown} or {@link RateLimit} of the sub command.
+     *
+     * @return The {@link TokenBucketStore} or null if the sub command isn't rate limited.
+     */
+    public @Nullable TokenBucketStore getRateLimit() {
+        return rateLimit;
+    }
+
     /**
      * Gets the {@link BaseCommand} instance, so it can be used later to invoke.
      *
@@ -264,6 +314,15 @@ public abstract class AbstractSubCommandProcessor<S> {
         return method;
     }
 
+    /**
+     * Gets the annotation values the sub command is processed from.
+     *
+     * @return The {@link SubCommandDescriptor}.
+     */
+    public @NotNull SubCommandDescriptor getDescriptor() {
+        return descriptor;
+    }
+
     /**
      * Gets a set with the requirements.
      *
@@ -339,15 +398,25 @@ public abstract class AbstractSubCommandProcessor<S> {
      * @param parameter The current parameter to get data from.
      */
     protected void createArgument(final @NotNull Parameter parameter, final int position) {
-        final Class<?> type = parameter.getType();
-        final String argumentName = getArgName(parameter);
-        final String argumentDescription = getArgumentDescription(parameter, position);
-        final boolean optional = parameter.isAnnotationPresent(Optional.class);
+        createArgument(ArgumentDescriptor.of(parameter), position);
+    }
+
+    /**
+     * Creates and adds the internalArgument to the arguments list.
+     *
+     * @param argument The annotation values of the parameter.
+     * @param position The position of the argument, not counting the sender.
+     */
+    protected void createArgument(final @NotNull ArgumentDescriptor argument, final int position) {
+        final Class<?> type = argument.getType();
+        final String argumentName = getArgName(argument, position);
+        final String argumentDescription = getArgumentDescription(argument, position);
+        final boolean optional = argument.isOptional();
 
         // Handles collection internalArgument.
         // TODO: Add more collection types.
         if (COLLECTIONS.stream().anyMatch(it -> it.isAssignableFrom(type))) {
-            final Class<?> collectionType = getGenericType(parameter);
+            final Class<?> collectionType = getGenericType(argument);
             final InternalArgument<S, String> internalArgument = createSimpleArgument(
                     collectionType,
                     argumentName,
@@ -357,13 +426,13 @@ public abstract class AbstractSubCommandProcessor<S> {
                     true
             );
 
-            if (parameter.isAnnotationPresent(Split.class)) {
-                final Split splitAnnotation = parameter.getAnnotation(Split.class);
+            final String split = argument.getSplit();
+            if (split != null) {
                 addArgument(
                         new SplitStringInternalArgument<>(
                                 argumentName,
                                 argumentDescription,
-                                splitAnnotation.value(),
+                                split,
                                 internalArgument,
                                 type,
                                 suggestionList.get(position),
@@ -389,13 +458,13 @@ public abstract class AbstractSubCommandProcessor<S> {
         }
 
         // Handler for using String with `@Join`.
-        if (type == String.class && parameter.isAnnotationPresent(Join.class)) {
-            final Join joinAnnotation = parameter.getAnnotation(Join.class);
+        final String join = argument.getJoin();
+        if (type == String.class && join != null) {
             addArgument(
                     new JoinedStringInternalArgument<>(
                             argumentName,
                             argumentDescription,
-                            joinAnnotation.value(),
+                            join,
                             suggestionList.get(position),
                             position,
                             optional
@@ -424,7 +493,7 @@ public abstract class AbstractSubCommandProcessor<S> {
 
         // Handler for named arguments
         if (type == Arguments.class) {
-            final NamedArguments namedArguments = method.getAnnotation(NamedArguments.class);
+            final String namedArguments = descriptor.getNamedArguments();
             if (namedArguments == null) {
                 throw createException("TODO");
             }
@@ -433,7 +502,7 @@ public abstract class AbstractSubCommandProcessor<S> {
                     new NamedInternalArgument<>(
                             argumentName,
                             argumentDescription,
-                            collectNamedArgs(namedArguments.value()),
+                            collectNamedArgs(namedArguments),
                             position,
                             optional
                     )
@@ -499,29 +568,27 @@ public abstract class AbstractSubCommandProcessor<S> {
      * Gets the internalArgument name, either from the parameter or from the annotation.
      * If the parameter is not annotated, turn the name from Camel Case to "lower-hyphen".
      *
-     * @param parameter The parameter to get data from.
+     * @param argument The annotation values of the parameter.
+     * @param position The position of the argument, not counting the sender.
      * @return The final internalArgument name.
      */
-    private @NotNull String getArgName(final @NotNull Parameter parameter) {
-        if (parameter.isAnnotationPresent(ArgName.class)) {
-            return parameter.getAnnotation(ArgName.class).value();
-        }
+    private @NotNull String getArgName(final @NotNull ArgumentDescriptor argument, final int position) {
+        final String name = argument.getName();
+        if (name != null) return name;
 
-        return CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_HYPHEN, parameter.getName());
+        return CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_HYPHEN, method.getParameters()[position + 1].getName());
     }
 
     /**
      * Gets the internalArgument description.
      *
-     * @param parameter The parameter to get data from.
-     * @param index     The index of the internalArgument.
+     * @param argument The annotation values of the parameter.
+     * @param index    The index of the internalArgument.
      * @return The final internalArgument description.
      */
-    private @NotNull String getArgumentDescription(final @NotNull Parameter parameter, final int index) {
-        final Description description = parameter.getAnnotation(Description.class);
-        if (description != null) {
-            return description.value();
-        }
+    private @NotNull String getArgumentDescription(final @NotNull ArgumentDescriptor argument, final int index) {
+        final String description = argument.getDescription();
+        if (description != null) return description;
 
         if (index < argDescriptions.size()) return argDescriptions.get(index);
         // TODO: 11/28/2021 Add better default description
@@ -596,22 +663,18 @@ public abstract class AbstractSubCommandProcessor<S> {
      * Extracts the data from the method to retrieve the sub command name or the default name.
      */
     private void extractSubCommandNames() {
-        final Default defaultAnnotation = method.getAnnotation(Default.class);
-        final dev.triumphteam.cmd.core.annotation.SubCommand subCommandAnnotation = method.getAnnotation(dev.triumphteam.cmd.core.annotation.SubCommand.class);
+        final String descriptorName = descriptor.getName();
+        if (descriptorName == null) return;
 
-        if (defaultAnnotation == null && subCommandAnnotation == null) {
-            return;
-        }
+        alias.addAll(descriptor.getAlias().stream().map(String::toLowerCase).collect(Collectors.toList()));
 
-        if (defaultAnnotation != null) {
+        if (descriptor.isDefault()) {
             name = Default.DEFAULT_CMD_NAME;
-            alias.addAll(Arrays.stream(defaultAnnotation.alias()).map(String::toLowerCase).collect(Collectors.toList()));
             isDefault = true;
             return;
         }
 
-        name = subCommandAnnotation.value().toLowerCase();
-        alias.addAll(Arrays.stream(subCommandAnnotation.alias()).map(String::toLowerCase).collect(Collectors.toList()));
+        name = descriptorName.toLowerCase();
 
         if (this.name.isEmpty()) {
             throw createException("@" + dev.triumphteam.cmd.core.annotation.SubCommand.class.getSimpleName() + " name must not be empty");
@@ -622,25 +685,25 @@ public abstract class AbstractSubCommandProcessor<S> {
      * Extract all the flag data for the subcommand from the method.
      */
     private void extractFlags() {
-        final List<Flag> flags = getFlagsFromAnnotations();
+        final List<FlagDescriptor> flags = descriptor.getFlags();
         if (flags.isEmpty()) return;
 
-        for (final Flag flagAnnotation : flags) {
-            String flag = flagAnnotation.flag();
+        for (final FlagDescriptor flagAnnotation : flags) {
+            String flag = flagAnnotation.getFlag();
             if (flag.isEmpty()) flag = null;
             FlagValidator.validate(flag, method, baseCommand);
 
-            String longFlag = flagAnnotation.longFlag();
+            String longFlag = flagAnnotation.getLongFlag();
             if (longFlag.contains(" ")) {
                 throw createException("@" + Flag.class.getSimpleName() + "'s identifiers must not contain spaces");
             }
 
             if (longFlag.isEmpty()) longFlag = null;
 
-            final Class<?> argumentType = flagAnnotation.argument();
+            final Class<?> argumentType = flagAnnotation.getArgument();
 
-            final SuggestionKey suggestionKey = flagAnnotation.suggestion().isEmpty() ? null : SuggestionKey.of(flagAnnotation.suggestion());
-            final Suggestion<S> suggestion = createSuggestion(suggestionKey, flagAnnotation.argument());
+            final SuggestionKey suggestionKey = flagAnnotation.getSuggestion().isEmpty() ? null : SuggestionKey.of(flagAnnotation.getSuggestion());
+            final Suggestion<S> suggestion = createSuggestion(suggestionKey, argumentType);
 
             StringInternalArgument<S> internalArgument = null;
             if (argumentType != void.class) {
@@ -682,27 +745,13 @@ public abstract class AbstractSubCommandProcessor<S> {
         }
     }
 
-    /**
-     * Gets the flags from the annotations.
-     *
-     * @return The list of flags.
-     */
-    private @NotNull List<@NotNull Flag> getFlagsFromAnnotations() {
-        final CommandFlags flags = method.getAnnotation(CommandFlags.class);
-        if (flags != null) return Arrays.asList(flags.value());
-
-        final Flag flag = method.getAnnotation(Flag.class);
-        if (flag == null) return Collections.emptyList();
-        return Collections.singletonList(flag);
-    }
-
     /**
      * Extract all the requirement data for the sub command from the method.
      */
     public void extractRequirements() {
-        for (final dev.triumphteam.cmd.core.annotation.Requirement requirementAnnotation : getRequirementsFromAnnotations()) {
-            final RequirementKey requirementKey = RequirementKey.of(requirementAnnotation.value());
-            final String messageKeyValue = requirementAnnotation.messageKey();
+        for (final RequirementDescriptor requirementAnnotation : descriptor.getRequirements()) {
+            final RequirementKey requirementKey = RequirementKey.of(requirementAnnotation.getKey());
+            final String messageKeyValue = requirementAnnotation.getMessageKey();
 
             final MessageKey<MessageContext> messageKey;
             if (messageKeyValue.isEmpty()) messageKey = null;
@@ -713,24 +762,10 @@ public abstract class AbstractSubCommandProcessor<S> {
                 throw createException("Could not find Requirement Key \"" + requirementKey.getKey() + "\"");
             }
 
-            addRequirement(new Requirement<>(resolver, messageKey, DefaultMessageContext::new, requirementAnnotation.invert()));
+            addRequirement(new Requirement<>(resolver, messageKey, DefaultMessageContext::new, requirementAnnotation.isInvert()));
         }
     }
 
-    /**
-     * Gets the requirements from the annotations.
-     *
-     * @return The list of requirements.
-     */
-    private @NotNull List<dev.triumphteam.cmd.core.annotation.@NotNull Requirement> getRequirementsFromAnnotations() {
-        final Requirements requirements = method.getAnnotation(Requirements.class);
-        if (requirements != null) return Arrays.asList(requirements.value());
-
-        final dev.triumphteam.cmd.core.annotation.Requirement requirement = method.getAnnotation(dev.triumphteam.cmd.core.annotation.Requirement.class);
-        if (requirement == null) return Collections.emptyList();
-        return Collections.singletonList(requirement);
-    }
-
     /**
      * Gets a list of all the arg validations for the platform.
      * Defaults to just optional and limitless.
@@ -785,26 +820,47 @@ public abstract class AbstractSubCommandProcessor<S> {
      * Extracts the {@link Description} Annotation from the Method.
      */
     private void extractDescription() {
-        final Description description = method.getAnnotation(Description.class);
+        final String description = descriptor.getDescription();
         if (description == null) return;
-        this.description = description.value();
+        this.description = description;
+    }
+
+    /**
+     * Extracts the {@link Cooldown} or {@link RateLimit} Annotation from the Method.
+     */
+    private void extractRateLimit() {
+        final TimeUnit cooldownUnit = descriptor.getCooldownUnit();
+        final TimeUnit rateLimitUnit = descriptor.getRateLimitUnit();
+        if (cooldownUnit == null && rateLimitUnit == null) return;
+
+        if (cooldownUnit != null && rateLimitUnit != null) {
+            throw createException("@" + Cooldown.class.getSimpleName() + " and @" + RateLimit.class.getSimpleName() + " can't be used together");
+        }
+
+        if (cooldownUnit != null) {
+            if (descriptor.getCooldown() < 1) throw createException("@" + Cooldown.class.getSimpleName() + " value must be positive");
+            this.rateLimit = new TokenBucketStore(1, descriptor.getCooldown(), cooldownUnit);
+            return;
+        }
+
+        if (descriptor.getRateLimitPermits() < 1 || descriptor.getRateLimitPeriod() < 1) {
+            throw createException("@" + RateLimit.class.getSimpleName() + " permits and period must be positive");
+        }
+        this.rateLimit = new TokenBucketStore(descriptor.getRateLimitPermits(), descriptor.getRateLimitPeriod(), rateLimitUnit);
     }
 
     /**
      * Extracts the {@link ArgDescriptions} Annotation from the Method.
      */
     private void extractArgDescriptions() {
-        final ArgDescriptions argDescriptions = method.getAnnotation(ArgDescriptions.class);
-        if (argDescriptions == null) return;
-        this.argDescriptions.addAll(Arrays.asList(argDescriptions.value()));
+        this.argDescriptions.addAll(descriptor.getArgDescriptions());
     }
 
     /**
      * Extract all suggestions from the method and parameters.
      */
     public void extractSuggestions() {
-        for (final dev.triumphteam.cmd.core.annotation.Suggestion suggestion : getSuggestionsFromAnnotations()) {
-            final String key = suggestion.value();
+        for (final String key : descriptor.getSuggestions()) {
             if (key.isEmpty()) {
                 suggestionList.add(new EmptySuggestion<>());
                 continue;
@@ -827,16 +883,15 @@ public abstract class AbstractSubCommandProcessor<S> {
      * Adds the suggestions to the passed list.
      */
     private void extractSuggestionFromParams() {
-        final Parameter[] parameters = method.getParameters();
-        for (int i = 1; i < parameters.length; i++) {
-            final Parameter parameter = parameters[i];
+        final List<ArgumentDescriptor> arguments = descriptor.getArguments();
+        for (int i = 0; i < arguments.size(); i++) {
+            final ArgumentDescriptor argument = arguments.get(i);
 
-            final dev.triumphteam.cmd.core.annotation.Suggestion suggestion = parameter.getAnnotation(dev.triumphteam.cmd.core.annotation.Suggestion.class);
-            final SuggestionKey suggestionKey = suggestion == null ? null : SuggestionKey.of(suggestion.value());
+            final String suggestion = argument.getSuggestion();
+            final SuggestionKey suggestionKey = suggestion == null ? null : SuggestionKey.of(suggestion);
 
-            final Class<?> type = getGenericType(parameter);
-            final int addIndex = i - 1;
-            setOrAddSuggestion(addIndex, createSuggestion(suggestionKey, type));
+            final Class<?> type = getGenericType(argument);
+            setOrAddSuggestion(i, createSuggestion(suggestionKey, type));
         }
     }
 
@@ -877,27 +932,15 @@ public abstract class AbstractSubCommandProcessor<S> {
         suggestionList.set(index, suggestion);
     }
 
-    private @NotNull List<dev.triumphteam.cmd.core.annotation.@NotNull Suggestion> getSuggestionsFromAnnotations() {
-        final Suggestions requirements = method.getAnnotation(Suggestions.class);
-        if (requirements != null) return Arrays.asList(requirements.value());
-
-        final dev.triumphteam.cmd.core.annotation.Suggestion suggestion = method.getAnnotation(dev.triumphteam.cmd.core.annotation.Suggestion.class);
-        if (suggestion == null) return emptyList();
-        return singletonList(suggestion);
-    }
-
-    private @NotNull Class<?> getGenericType(final @NotNull Parameter parameter) {
-        final Class<?> type = parameter.getType();
+    private @NotNull Class<?> getGenericType(final @NotNull ArgumentDescriptor argument) {
+        final Class<?> type = argument.getType();
         if (COLLECTIONS.stream().anyMatch(it -> it.isAssignableFrom(type))) {
-            final ParameterizedType parameterizedType = (ParameterizedType) parameter.getParameterizedType();
-            final Type[] types = parameterizedType.getActualTypeArguments();
-
-            if (types.length != 1) {
+            final Class<?> elementType = argument.getElementType();
+            if (elementType == null) {
                 throw createException("Unsupported collection type \"" + type + "\"");
             }
 
-            final Type genericType = types[0];
-            return (Class<?>) (genericType instanceof WildcardType ? ((WildcardType) genericType).getUpperBounds()[0] : genericType);
+            return elementType;
         }
 
         return type;
@@ -0,0 +1,312 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.annotation.ArgName;
+import dev.triumphteam.cmd.core.annotation.Description;
+import dev.triumphteam.cmd.core.annotation.Join;
+import dev.triumphteam.cmd.core.annotation.Optional;
+import dev.triumphteam.cmd.core.annotation.Split;
+import dev.triumphteam.cmd.core.annotation.Suggestion;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Objects;
+
+/**
+ * The type and annotation values of a sub command parameter, everything after the sender.
+ * Turned into an argument when the sub command is processed.
+ */
+public final class ArgumentDescriptor {
+
+    private final Class<?> type;
+    private final Class<?> elementType;
+    private final String name;
+    private final String description;
+    private final boolean optional;
+    private final String split;
+    private final String join;
+    private final String suggestion;
+
+    private ArgumentDescriptor(final @NotNull Builder builder) {
+        this.type = builder.type;
+        this.elementType = builder.elementType;
+        this.name = builder.name;
+        this.description = builder.description;
+        this.optional = builder.optional;
+        this.split = builder.split;
+        this.join = builder.join;
+        this.suggestion = builder.suggestion;
+    }
+
+    /**
+     * Creates a new builder for a parameter of the given type.
+     *
+     * @param type The parameter type.
+     * @return A new {@link Builder}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull Builder builder(final @NotNull Class<?> type) {
+        return new Builder(type);
+    }
+
+    /**
+     * Reads the type and annotations of the parameter.
+     *
+     * @param parameter The parameter.
+     * @return A new {@link ArgumentDescriptor}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull ArgumentDescriptor of(final @NotNull Parameter parameter) {
+        final Builder builder = builder(parameter.getType()).elementType(getElementType(parameter));
+
+        final ArgName argName = parameter.getAnnotation(ArgName.class);
+        if (argName != null) builder.name(argName.value());
+
+        final Description description = parameter.getAnnotation(Description.class);
+        if (description != null) builder.description(description.value());
+
+        final Split split = parameter.getAnnotation(Split.class);
+        if (split != null) builder.split(split.value());
+
+        final Join join = parameter.getAnnotation(Join.class);
+        if (join != null) builder.join(join.value());
+
+        final Suggestion suggestion = parameter.getAnnotation(Suggestion.class);
+        if (suggestion != null) builder.suggestion(suggestion.value());
+
+        return builder.optional(parameter.isAnnotationPresent(Optional.class)).build();
+    }
+
+    /**
+     * Gets the single type argument of the parameter, like <code>String</code> for <code>List&lt;String&gt;</code>.
+     *
+     * @param parameter The parameter.
+     * @return The type argument or null if there isn't exactly one that is a class.
+     */
+    private static @Nullable Class<?> getElementType(final @NotNull Parameter parameter) {
+        final Type type = parameter.getParameterizedType();
+        if (!(type instanceof ParameterizedType)) return null;
+
+        final Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+        if (arguments.length != 1) return null;
+
+        final Type argument = arguments[0] instanceof WildcardType ? ((WildcardType) arguments[0]).getUpperBounds()[0] : arguments[0];
+        return argument instanceof Class ? (Class<?>) argument : null;
+    }
+
+    public @NotNull Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the single type argument of the parameter type, used for collections.
+     *
+     * @return The type argument or null if the type doesn't have exactly one.
+     */
+    public @Nullable Class<?> getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Gets the name given with {@link ArgName}.
+     *
+     * @return The name or null if the parameter name is used.
+     */
+    public @Nullable String getName() {
+        return name;
+    }
+
+    public @Nullable String getDescription() {
+        return description;
+    }
+
+    public boolean isOptional() {
+        return optional;
+    }
+
+    public @Nullable String getSplit() {
+        return split;
+    }
+
+    public @Nullable String getJoin() {
+        return join;
+    }
+
+    public @Nullable String getSuggestion() {
+        return suggestion;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ArgumentDescriptor that = (ArgumentDescriptor) o;
+        return optional == that.optional &&
+                type.equals(that.type) &&
+                Objects.equals(elementType, that.elementType) &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(description, that.description) &&
+                Objects.equals(split, that.split) &&
+                Objects.equals(join, that.join) &&
+                Objects.equals(suggestion, that.suggestion);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, elementType, name, description, optional, split, join, suggestion);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ArgumentDescriptor{" +
+                "type=" + type.getName() +
+                ", elementType=" + (elementType == null ? null : elementType.getName()) +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                ", optional=" + optional +
+                ", split='" + split + '\'' +
+                ", join='" + join + '\'' +
+                ", suggestion='" + suggestion + '\'' +
+                '}';
+    }
+
+    /**
+     * Builder for {@link ArgumentDescriptor}, the values match the annotations of the parameter.
+     */
+    public static final class Builder {
+
+        private final Class<?> type;
+        private Class<?> elementType = null;
+        private String name = null;
+        private String description = null;
+        private boolean optional = false;
+        private String split = null;
+        private String join = null;
+        private String suggestion = null;
+
+        private Builder(final @NotNull Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * Sets the single type argument of the parameter type.
+         *
+         * @param elementType The type argument, or null if there isn't exactly one.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder elementType(final @Nullable Class<?> elementType) {
+            this.elementType = elementType;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ArgName} value.
+         *
+         * @param name The argument name.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder name(final @NotNull String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Description} value.
+         *
+         * @param description The argument description.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder description(final @NotNull String description) {
+            this.description = description;
+            return this;
+        }
+
+        /**
+         * Sets whether the parameter is {@link Optional}.
+         *
+         * @param optional Whether the argument is optional.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder optional(final boolean optional) {
+            this.optional = optional;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Split} value.
+         *
+         * @param split The separator.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder split(final @NotNull String split) {
+            this.split = split;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Join} value.
+         *
+         * @param join The delimiter.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder join(final @NotNull String join) {
+            this.join = join;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Suggestion} value.
+         *
+         * @param suggestion The suggestion key.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder suggestion(final @NotNull String suggestion) {
+            this.suggestion = suggestion;
+            return this;
+        }
+
+        /**
+         * Builds the descriptor.
+         *
+         * @return A new {@link ArgumentDescriptor} with the data from this builder.
+         */
+        @Contract(" -> new")
+        public @NotNull ArgumentDescriptor build() {
+            return new ArgumentDescriptor(this);
+        }
+    }
+}
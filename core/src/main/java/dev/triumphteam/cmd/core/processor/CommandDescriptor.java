@@ -0,0 +1,51 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Describes a {@link BaseCommand} class ahead of time.
+ * Implementations are generated at compile time by the <code>triumph-cmd-annotation-processor</code>,
+ * next to the command class and named after it with the {@link #SUFFIX}.
+ * When present, the command processor uses it instead of scanning every declared method of the class and reading their annotations.
+ */
+public interface CommandDescriptor {
+
+    /**
+     * Suffix appended to the binary simple name of the command class to get the descriptor class name.
+     */
+    String SUFFIX = "_CommandDescriptor";
+
+    /**
+     * Gets the sub commands of the class with their annotation values, in declaration order.
+     *
+     * @return The {@link SubCommandDescriptor}s of the command class.
+     * @throws NoSuchMethodException If the class changed after the descriptor was generated.
+     */
+    @NotNull List<@NotNull SubCommandDescriptor> getSubCommands() throws NoSuchMethodException;
+}
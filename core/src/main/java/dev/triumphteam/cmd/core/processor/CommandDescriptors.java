@@ -0,0 +1,85 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads the generated {@link CommandDescriptor}s, if any.
+ * The lookup is done once per command class, including when there is no descriptor, so registering the same class again doesn't search the class path.
+ */
+final class CommandDescriptors {
+
+    private static final ClassValue<Optional<List<SubCommandDescriptor>>> DESCRIPTORS = new ClassValue<Optional<List<SubCommandDescriptor>>>() {
+        @Override
+        protected @NotNull Optional<List<SubCommandDescriptor>> computeValue(final @NotNull Class<?> type) {
+            return Optional.ofNullable(load(type.asSubclass(BaseCommand.class)));
+        }
+    };
+
+    private CommandDescriptors() {throw new AssertionError("Util must not be initialized");}
+
+    /**
+     * Finds the sub commands described by the generated descriptor of the given command class.
+     *
+     * @param commandClass The {@link BaseCommand} class.
+     * @return The {@link SubCommandDescriptor}s or null if no descriptor was generated for the class.
+     */
+    static @Nullable List<@NotNull SubCommandDescriptor> find(final @NotNull Class<? extends BaseCommand> commandClass) {
+        return DESCRIPTORS.get(commandClass).orElse(null);
+    }
+
+    private static @Nullable List<@NotNull SubCommandDescriptor> load(final @NotNull Class<? extends BaseCommand> commandClass) {
+        final Class<?> descriptorClass;
+        try {
+            descriptorClass = Class.forName(commandClass.getName() + CommandDescriptor.SUFFIX, true, commandClass.getClassLoader());
+        } catch (final ClassNotFoundException ignored) {
+            return null;
+        }
+
+        if (!CommandDescriptor.class.isAssignableFrom(descriptorClass)) return null;
+
+        final CommandDescriptor descriptor;
+        try {
+            descriptor = (CommandDescriptor) descriptorClass.getDeclaredConstructor().newInstance();
+        } catch (final InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException exception) {
+            final CommandRegistrationException registrationException = new CommandRegistrationException("Could not load the generated command descriptor", commandClass);
+            registrationException.initCause(exception);
+            throw registrationException;
+        }
+
+        try {
+            return descriptor.getSubCommands();
+        } catch (final NoSuchMethodException exception) {
+            throw new CommandRegistrationException("Generated command descriptor is outdated, missing method \"" + exception.getMessage() + "\"", commandClass);
+        }
+    }
+}
@@ -0,0 +1,572 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.CommandManager;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Remembers the processed model of each command class between restarts, in a small binary file.
+ * Stores everything a {@link SubCommandDescriptor} holds, so a cached class skips the annotation pass entirely,
+ * only the declared methods are listed to find the ones to invoke.
+ * Entries are checked against the CRC32 and length of the class bytecode, a changed class is scanned again.
+ * Suggestion, requirement and argument keys are stored as declared and looked up in the registries when the sub command is processed,
+ * so changes to the registries between restarts are picked up.
+ * Does the same as a generated {@link CommandDescriptor}, for classes compiled without the annotation processor.
+ * Set it with {@link CommandManager#setModelCache(CommandModelCache)} and {@link #save()} it once the commands are registered.
+ */
+public final class CommandModelCache {
+
+    // "TCMC"
+    private static final int MAGIC = 0x54434D43;
+    private static final int VERSION = 2;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (final Class<?> type : Arrays.asList(void.class, boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class)) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+    }
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile boolean dirty = false;
+
+    private CommandModelCache(final @NotNull Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Opens the cache file, a missing, outdated or corrupted file gives an empty cache.
+     *
+     * @param file The cache file.
+     * @return The {@link CommandModelCache}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull CommandModelCache open(final @NotNull Path file) {
+        final CommandModelCache cache = new CommandModelCache(file);
+        try (final DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            cache.read(input);
+        } catch (final NoSuchFileException ignored) {
+            // First start
+        } catch (final IOException | RuntimeException exception) {
+            // The cache is never required, scanning again rewrites it
+            cache.entries.clear();
+            cache.dirty = true;
+        }
+        return cache;
+    }
+
+    /**
+     * Writes the cache file if anything changed since it was opened.
+     * The file is replaced atomically where the file system supports it.
+     *
+     * @throws IOException If the file could not be written.
+     */
+    public synchronized void save() throws IOException {
+        if (!dirty) return;
+        dirty = false;
+
+        final Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) Files.createDirectories(directory);
+
+        final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            write(output);
+        } catch (final IOException exception) {
+            dirty = true;
+            throw exception;
+        }
+
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ignored) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Gets the sub commands of the class, from the cache if its bytecode didn't change, otherwise from {@link SubCommandDescriptor#scan(Class)}.
+     *
+     * @param commandClass The {@link BaseCommand} class.
+     * @return The descriptors to create the sub commands from.
+     */
+    public @NotNull List<@NotNull SubCommandDescriptor> getSubCommands(final @NotNull Class<? extends BaseCommand> commandClass) {
+        final Fingerprint fingerprint = Fingerprint.of(commandClass);
+        // Classes without readable bytecode, like generated ones, are always scanned
+        if (fingerprint == null) return SubCommandDescriptor.scan(commandClass);
+
+        final Entry entry = entries.get(commandClass.getName());
+        if (entry != null && entry.fingerprint.equals(fingerprint)) {
+            final List<SubCommandDescriptor> descriptors = entry.resolve(commandClass);
+            if (descriptors != null) {
+                hits.incrementAndGet();
+                return descriptors;
+            }
+        }
+
+        misses.incrementAndGet();
+        final List<SubCommandDescriptor> descriptors = SubCommandDescriptor.scan(commandClass);
+        entries.put(commandClass.getName(), Entry.of(fingerprint, descriptors));
+        dirty = true;
+        return descriptors;
+    }
+
+    /**
+     * Gets how many command classes were read from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets how many command classes were scanned because they weren't cached or changed.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the cache file.
+     *
+     * @return The cache file.
+     */
+    public @NotNull Path getFile() {
+        return file;
+    }
+
+    private void read(final @NotNull DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            dirty = true;
+            return;
+        }
+
+        final int size = input.readInt();
+        for (int i = 0; i < size; i++) {
+            final String className = input.readUTF();
+            final Fingerprint fingerprint = new Fingerprint(input.readInt(), input.readInt());
+
+            final int subCommandCount = input.readInt();
+            final List<CachedSubCommand> subCommands = new ArrayList<>(subCommandCount);
+            for (int j = 0; j < subCommandCount; j++) {
+                subCommands.add(CachedSubCommand.read(input));
+            }
+
+            entries.put(className, new Entry(fingerprint, subCommands));
+        }
+    }
+
+    private void write(final @NotNull DataOutputStream output) throws IOException {
+        // Copied first so the count matches the entries written
+        final Map<String, Entry> snapshot = new HashMap<>(entries);
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(snapshot.size());
+        for (final Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeInt(entry.getValue().fingerprint.crc);
+            output.writeInt(entry.getValue().fingerprint.length);
+
+            final List<CachedSubCommand> subCommands = entry.getValue().subCommands;
+            output.writeInt(subCommands.size());
+            for (final CachedSubCommand subCommand : subCommands) {
+                subCommand.write(output);
+            }
+        }
+    }
+
+    /**
+     * Writes the annotation values of the descriptor, the parameter types are stored with the method signature instead.
+     *
+     * @param descriptor The {@link SubCommandDescriptor}.
+     * @param output     Where to write it.
+     * @throws IOException If writing fails.
+     */
+    private static void writeDescriptor(final @NotNull SubCommandDescriptor descriptor, final @NotNull DataOutput output) throws IOException {
+        writeNullable(output, descriptor.getName());
+        output.writeBoolean(descriptor.isDefault());
+        writeStrings(output, descriptor.getAlias());
+        output.writeBoolean(descriptor.isAsync());
+        writeNullable(output, descriptor.getDescription());
+
+        writeNullable(output, descriptor.getCooldownUnit() == null ? null : descriptor.getCooldownUnit().name());
+        output.writeLong(descriptor.getCooldown());
+        writeNullable(output, descriptor.getRateLimitUnit() == null ? null : descriptor.getRateLimitUnit().name());
+        output.writeInt(descriptor.getRateLimitPermits());
+        output.writeLong(descriptor.getRateLimitPeriod());
+
+        writeStrings(output, descriptor.getArgDescriptions());
+        writeStrings(output, descriptor.getSuggestions());
+
+        output.writeInt(descriptor.getFlags().size());
+        for (final FlagDescriptor flag : descriptor.getFlags()) {
+            output.writeUTF(flag.getFlag());
+            output.writeUTF(flag.getLongFlag());
+            output.writeUTF(flag.getArgument().getName());
+            output.writeUTF(flag.getSuggestion());
+        }
+
+        output.writeInt(descriptor.getRequirements().size());
+        for (final RequirementDescriptor requirement : descriptor.getRequirements()) {
+            output.writeUTF(requirement.getKey());
+            output.writeUTF(requirement.getMessageKey());
+            output.writeBoolean(requirement.isInvert());
+        }
+
+        writeNullable(output, descriptor.getNamedArguments());
+
+        output.writeInt(descriptor.getArguments().size());
+        for (final ArgumentDescriptor argument : descriptor.getArguments()) {
+            writeNullable(output, argument.getElementType() == null ? null : argument.getElementType().getName());
+            writeNullable(output, argument.getName());
+            writeNullable(output, argument.getDescription());
+            output.writeBoolean(argument.isOptional());
+            writeNullable(output, argument.getSplit());
+            writeNullable(output, argument.getJoin());
+            writeNullable(output, argument.getSuggestion());
+        }
+    }
+
+    /**
+     * Reads the descriptor written by {@link #writeDescriptor(SubCommandDescriptor, DataOutput)} back, for the resolved method.
+     *
+     * @param method The sub command method.
+     * @param input  Where to read it from.
+     * @return The {@link SubCommandDescriptor}.
+     * @throws IOException            If the data is corrupted.
+     * @throws ClassNotFoundException If a flag argument or element type no longer exists.
+     */
+    private static @NotNull SubCommandDescriptor readDescriptor(
+            final @NotNull Method method,
+            final @NotNull DataInput input
+    ) throws IOException, ClassNotFoundException {
+        final SubCommandDescriptor.Builder builder = SubCommandDescriptor.builder(method);
+        final ClassLoader classLoader = method.getDeclaringClass().getClassLoader();
+
+        final String name = readNullable(input);
+        if (input.readBoolean()) builder.defaultCommand();
+        else if (name != null) builder.name(name);
+        builder.alias(readStrings(input));
+        builder.async(input.readBoolean());
+
+        final String description = readNullable(input);
+        if (description != null) builder.description(description);
+
+        final String cooldownUnit = readNullable(input);
+        final long cooldown = input.readLong();
+        if (cooldownUnit != null) builder.cooldown(cooldown, TimeUnit.valueOf(cooldownUnit));
+
+        final String rateLimitUnit = readNullable(input);
+        final int permits = input.readInt();
+        final long period = input.readLong();
+        if (rateLimitUnit != null) builder.rateLimit(permits, period, TimeUnit.valueOf(rateLimitUnit));
+
+        builder.argDescriptions(readStrings(input));
+        for (final String suggestion : readStrings(input)) {
+            builder.suggestion(suggestion);
+        }
+
+        final int flagCount = input.readInt();
+        for (int i = 0; i < flagCount; i++) {
+            builder.flag(new FlagDescriptor(input.readUTF(), input.readUTF(), loadClass(input.readUTF(), classLoader), input.readUTF()));
+        }
+
+        final int requirementCount = input.readInt();
+        for (int i = 0; i < requirementCount; i++) {
+            builder.requirement(new RequirementDescriptor(input.readUTF(), input.readUTF(), input.readBoolean()));
+        }
+
+        final String namedArguments = readNullable(input);
+        if (namedArguments != null) builder.namedArguments(namedArguments);
+
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        final int argumentCount = input.readInt();
+        if (argumentCount != Math.max(parameterTypes.length - 1, 0)) throw new IOException("Argument count doesn't match " + method);
+        for (int i = 0; i < argumentCount; i++) {
+            // The first parameter is the sender
+            final ArgumentDescriptor.Builder argument = ArgumentDescriptor.builder(parameterTypes[i + 1]);
+
+            final String elementType = readNullable(input);
+            if (elementType != null) argument.elementType(loadClass(elementType, classLoader));
+
+            final String argumentName = readNullable(input);
+            if (argumentName != null) argument.name(argumentName);
+
+            final String argumentDescription = readNullable(input);
+            if (argumentDescription != null) argument.description(argumentDescription);
+
+            argument.optional(input.readBoolean());
+
+            final String split = readNullable(input);
+            if (split != null) argument.split(split);
+
+            final String join = readNullable(input);
+            if (join != null) argument.join(join);
+
+            final String suggestion = readNullable(input);
+            if (suggestion != null) argument.suggestion(suggestion);
+
+            builder.argument(argument.build());
+        }
+
+        return builder.build();
+    }
+
+    private static @NotNull Class<?> loadClass(final @NotNull String name, final @Nullable ClassLoader classLoader) throws ClassNotFoundException {
+        final Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, classLoader);
+    }
+
+    private static void writeNullable(final @NotNull DataOutput output, final @Nullable String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) output.writeUTF(value);
+    }
+
+    private static @Nullable String readNullable(final @NotNull DataInput input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+
+    private static void writeStrings(final @NotNull DataOutput output, final @NotNull List<@NotNull String> values) throws IOException {
+        output.writeInt(values.size());
+        for (final String value : values) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static @NotNull String @NotNull [] readStrings(final @NotNull DataInput input) throws IOException {
+        final String[] values = new String[input.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = input.readUTF();
+        }
+        return values;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "CommandModelCache{" +
+                "file=" + file +
+                ", entries=" + entries.size() +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                '}';
+    }
+
+    /**
+     * The CRC32 and length of a class file, enough to notice a recompiled class.
+     */
+    private static final class Fingerprint {
+
+        private final int crc;
+        private final int length;
+
+        private Fingerprint(final int crc, final int length) {
+            this.crc = crc;
+            this.length = length;
+        }
+
+        /**
+         * Reads the bytecode of the class.
+         *
+         * @param commandClass The {@link BaseCommand} class.
+         * @return The fingerprint of the class file or null if it can't be read.
+         */
+        private static @Nullable Fingerprint of(final @NotNull Class<? extends BaseCommand> commandClass) {
+            final String resource = "/" + commandClass.getName().replace('.', '/') + ".class";
+            try (final InputStream input = commandClass.getResourceAsStream(resource)) {
+                if (input == null) return null;
+
+                final CRC32 crc = new CRC32();
+                final byte[] buffer = new byte[8192];
+                int length = 0;
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    crc.update(buffer, 0, read);
+                    length += read;
+                }
+                return new Fingerprint((int) crc.getValue(), length);
+            } catch (final IOException ignored) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Fingerprint that = (Fingerprint) o;
+            return crc == that.crc && length == that.length;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * crc + length;
+        }
+    }
+
+    /**
+     * The cached sub commands of a command class.
+     */
+    private static final class Entry {
+
+        private final Fingerprint fingerprint;
+        private final List<CachedSubCommand> subCommands;
+
+        private Entry(final @NotNull Fingerprint fingerprint, final @NotNull List<@NotNull CachedSubCommand> subCommands) {
+            this.fingerprint = fingerprint;
+            this.subCommands = subCommands;
+        }
+
+        private static @NotNull Entry of(final @NotNull Fingerprint fingerprint, final @NotNull List<@NotNull SubCommandDescriptor> descriptors) {
+            final List<CachedSubCommand> subCommands = new ArrayList<>(descriptors.size());
+            for (final SubCommandDescriptor descriptor : descriptors) {
+                subCommands.add(CachedSubCommand.of(descriptor));
+            }
+            return new Entry(fingerprint, subCommands);
+        }
+
+        /**
+         * Matches the cached sub commands to the declared methods and reads their descriptors.
+         *
+         * @param commandClass The {@link BaseCommand} class.
+         * @return The descriptors or null if any method is missing or the data can't be read.
+         */
+        private @Nullable List<@NotNull SubCommandDescriptor> resolve(final @NotNull Class<? extends BaseCommand> commandClass) {
+            final Method[] methods = commandClass.getDeclaredMethods();
+            final List<SubCommandDescriptor> descriptors = new ArrayList<>(subCommands.size());
+            try {
+                for (final CachedSubCommand subCommand : subCommands) {
+                    final Method method = subCommand.find(methods);
+                    if (method == null) return null;
+                    descriptors.add(readDescriptor(method, new DataInputStream(new ByteArrayInputStream(subCommand.data))));
+                }
+            } catch (final IOException | ClassNotFoundException | IllegalArgumentException ignored) {
+                return null;
+            }
+            return descriptors;
+        }
+    }
+
+    /**
+     * A sub command method signature, with the binary names of its parameter types, and its serialized descriptor.
+     */
+    private static final class CachedSubCommand {
+
+        private final String name;
+        private final String[] parameterTypes;
+        private final byte[] data;
+
+        private CachedSubCommand(final @NotNull String name, final @NotNull String @NotNull [] parameterTypes, final byte @NotNull [] data) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.data = data;
+        }
+
+        private static @NotNull CachedSubCommand of(final @NotNull SubCommandDescriptor descriptor) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (final DataOutputStream output = new DataOutputStream(bytes)) {
+                writeDescriptor(descriptor, output);
+            } catch (final IOException exception) {
+                // Only writes to memory
+                throw new UncheckedIOException(exception);
+            }
+
+            final Method method = descriptor.getMethod();
+            final String[] parameterTypes = Arrays.stream(method.getParameterTypes()).map(Class::getName).toArray(String[]::new);
+            return new CachedSubCommand(method.getName(), parameterTypes, bytes.toByteArray());
+        }
+
+        private static @NotNull CachedSubCommand read(final @NotNull DataInput input) throws IOException {
+            final String name = input.readUTF();
+            final String[] parameterTypes = readStrings(input);
+            final byte[] data = new byte[input.readInt()];
+            input.readFully(data);
+            return new CachedSubCommand(name, parameterTypes, data);
+        }
+
+        private void write(final @NotNull DataOutput output) throws IOException {
+            output.writeUTF(name);
+            writeStrings(output, Arrays.asList(parameterTypes));
+            output.writeInt(data.length);
+            output.write(data);
+        }
+
+        /**
+         * Finds the method by comparing parameter type names, so no class has to be loaded.
+         *
+         * @param methods The declared methods of the command class.
+         * @return The method or null if it no longer exists.
+         */
+        private @Nullable Method find(final @NotNull Method @NotNull [] methods) {
+            for (final Method method : methods) {
+                if (!method.getName().equals(name) || method.getParameterCount() != parameterTypes.length) continue;
+
+                final Class<?>[] types = method.getParameterTypes();
+                boolean matches = true;
+                for (int i = 0; i < types.length && matches; i++) {
+                    matches = types[i].getName().equals(parameterTypes[i]);
+                }
+                if (matches) return method;
+            }
+            return null;
+        }
+    }
+}
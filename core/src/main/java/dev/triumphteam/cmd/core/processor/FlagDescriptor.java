@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.annotation.Flag;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * The values of a {@link Flag} annotation, as declared, validated when the sub command is processed.
+ */
+public final class FlagDescriptor {
+
+    private final String flag;
+    private final String longFlag;
+    private final Class<?> argument;
+    private final String suggestion;
+
+    /**
+     * Creates the descriptor with the values of a {@link Flag}.
+     *
+     * @param flag       The flag, empty if there is none.
+     * @param longFlag   The long flag, empty if there is none.
+     * @param argument   The argument type, <code>void.class</code> if the flag has no argument.
+     * @param suggestion The suggestion key of the argument, empty if there is none.
+     */
+    public FlagDescriptor(
+            final @NotNull String flag,
+            final @NotNull String longFlag,
+            final @NotNull Class<?> argument,
+            final @NotNull String suggestion
+    ) {
+        this.flag = flag;
+        this.longFlag = longFlag;
+        this.argument = argument;
+        this.suggestion = suggestion;
+    }
+
+    /**
+     * Reads the values of the annotation.
+     *
+     * @param flag The {@link Flag} annotation.
+     * @return A new {@link FlagDescriptor}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull FlagDescriptor of(final @NotNull Flag flag) {
+        return new FlagDescriptor(flag.flag(), flag.longFlag(), flag.argument(), flag.suggestion());
+    }
+
+    public @NotNull String getFlag() {
+        return flag;
+    }
+
+    public @NotNull String getLongFlag() {
+        return longFlag;
+    }
+
+    public @NotNull Class<?> getArgument() {
+        return argument;
+    }
+
+    public @NotNull String getSuggestion() {
+        return suggestion;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final FlagDescriptor that = (FlagDescriptor) o;
+        return flag.equals(that.flag) &&
+                longFlag.equals(that.longFlag) &&
+                argument.equals(that.argument) &&
+                suggestion.equals(that.suggestion);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(flag, longFlag, argument, suggestion);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "FlagDescriptor{" +
+                "flag='" + flag + '\'' +
+                ", longFlag='" + longFlag + '\'' +
+                ", argument=" + argument.getName() +
+                ", suggestion='" + suggestion + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.Command;
+import dev.triumphteam.cmd.core.CommandManager;
+import dev.triumphteam.cmd.core.SubCommand;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link BaseCommand} whose sub commands were already processed, but not yet registered.
+ * Created by the platform managers for {@link CommandManager#registerCommands}.
+ */
+public final class PreparedCommand {
+
+    private final BaseCommand baseCommand;
+    private final List<String> names;
+    private final List<String> subCommandNames;
+    private final Runnable registration;
+    private final Function<@NotNull String, @Nullable Command<?, ?>> registeredCommands;
+
+    /**
+     * Processes the sub commands of the processor, without checking for conflicts with the registered commands.
+     *
+     * @param processor    The processor of the command.
+     * @param registration The action that adds the processed command to the platform.
+     */
+    public PreparedCommand(final @NotNull AbstractCommandProcessor<?, ?, ?, ?> processor, final @NotNull Runnable registration) {
+        this(processor, registration, name -> null);
+    }
+
+    /**
+     * Processes the sub commands of the processor.
+     *
+     * @param processor          The processor of the command.
+     * @param registration       The action that adds the processed command to the platform.
+     * @param registeredCommands Gets the already registered command the processed one would be added to, by name.
+     */
+    public PreparedCommand(
+            final @NotNull AbstractCommandProcessor<?, ?, ?, ?> processor,
+            final @NotNull Runnable registration,
+            final @NotNull Function<@NotNull String, @Nullable Command<?, ?>> registeredCommands
+    ) {
+        processor.processSubCommands();
+
+        this.baseCommand = processor.getBaseCommand();
+        this.registration = registration;
+        this.registeredCommands = registeredCommands;
+
+        final List<String> names = new ArrayList<>(processor.getAlias());
+        names.add(0, processor.getName());
+        this.names = Collections.unmodifiableList(names);
+
+        final List<String> subCommandNames = new ArrayList<>(processor.getSubCommands().keySet());
+        subCommandNames.addAll(processor.getSubCommandsAlias().keySet());
+        this.subCommandNames = Collections.unmodifiableList(subCommandNames);
+    }
+
+    /**
+     * Gets the {@link BaseCommand} the command was prepared from.
+     *
+     * @return The {@link BaseCommand}.
+     */
+    public @NotNull BaseCommand getBaseCommand() {
+        return baseCommand;
+    }
+
+    /**
+     * Gets the command name followed by its aliases.
+     *
+     * @return The command names.
+     */
+    public @NotNull List<@NotNull String> getNames() {
+        return names;
+    }
+
+    /**
+     * Gets the sub command names followed by their aliases.
+     *
+     * @return The sub command names.
+     */
+    public @NotNull List<@NotNull String> getSubCommandNames() {
+        return subCommandNames;
+    }
+
+    /**
+     * Gets the {@link BaseCommand} of the sub command already registered under the command and sub command names.
+     *
+     * @param name           The command name or alias.
+     * @param subCommandName The sub command name or alias.
+     * @return The {@link BaseCommand} or null if nothing is registered there.
+     */
+    public @Nullable BaseCommand getRegisteredOwner(final @NotNull String name, final @NotNull String subCommandName) {
+        final Command<?, ?> command = registeredCommands.apply(name);
+        if (command == null) return null;
+
+        final SubCommand<?> subCommand = command.getSubCommand(subCommandName);
+        return subCommand == null ? null : subCommand.getBaseCommand();
+    }
+
+    /**
+     * Adds the command to the platform, must be called from the registering thread.
+     */
+    public void register() {
+        registration.run();
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "PreparedCommand{" +
+                "baseCommand=" + baseCommand +
+                ", names=" + names +
+                ", subCommandNames=" + subCommandNames +
+                '}';
+    }
+}
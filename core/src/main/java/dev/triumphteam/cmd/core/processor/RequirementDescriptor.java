@@ -0,0 +1,99 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.annotation.Requirement;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * The values of a {@link Requirement} annotation, the key is looked up in the requirement registry when the sub command is processed.
+ */
+public final class RequirementDescriptor {
+
+    private final String key;
+    private final String messageKey;
+    private final boolean invert;
+
+    /**
+     * Creates the descriptor with the values of a {@link Requirement}.
+     *
+     * @param key        The requirement key.
+     * @param messageKey The message key, empty if there is none.
+     * @param invert     Whether the requirement is inverted.
+     */
+    public RequirementDescriptor(final @NotNull String key, final @NotNull String messageKey, final boolean invert) {
+        this.key = key;
+        this.messageKey = messageKey;
+        this.invert = invert;
+    }
+
+    /**
+     * Reads the values of the annotation.
+     *
+     * @param requirement The {@link Requirement} annotation.
+     * @return A new {@link RequirementDescriptor}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull RequirementDescriptor of(final @NotNull Requirement requirement) {
+        return new RequirementDescriptor(requirement.value(), requirement.messageKey(), requirement.invert());
+    }
+
+    public @NotNull String getKey() {
+        return key;
+    }
+
+    public @NotNull String getMessageKey() {
+        return messageKey;
+    }
+
+    public boolean isInvert() {
+        return invert;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final RequirementDescriptor that = (RequirementDescriptor) o;
+        return invert == that.invert && key.equals(that.key) && messageKey.equals(that.messageKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, messageKey, invert);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "RequirementDescriptor{" +
+                "key='" + key + '\'' +
+                ", messageKey='" + messageKey + '\'' +
+                ", invert=" + invert +
+                '}';
+    }
+}
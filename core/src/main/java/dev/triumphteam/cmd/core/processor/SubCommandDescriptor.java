@@ -0,0 +1,552 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.annotation.ArgDescriptions;
+import dev.triumphteam.cmd.core.annotation.Async;
+import dev.triumphteam.cmd.core.annotation.Cooldown;
+import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.annotation.Description;
+import dev.triumphteam.cmd.core.annotation.Flag;
+import dev.triumphteam.cmd.core.annotation.NamedArguments;
+import dev.triumphteam.cmd.core.annotation.RateLimit;
+import dev.triumphteam.cmd.core.annotation.Requirement;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import dev.triumphteam.cmd.core.annotation.Suggestion;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The annotation values of a sub command method, everything {@link AbstractSubCommandProcessor} reads from it.
+ * Read with reflection by {@link #of(Method)}, generated at compile time in a {@link CommandDescriptor},
+ * or loaded from a {@link CommandModelCache}. Keys and types are only looked up in the registries when the sub command is processed.
+ */
+public final class SubCommandDescriptor {
+
+    private final Method method;
+    private final String name;
+    private final boolean isDefault;
+    private final List<String> alias;
+    private final boolean async;
+    private final String description;
+    private final long cooldown;
+    private final TimeUnit cooldownUnit;
+    private final int rateLimitPermits;
+    private final long rateLimitPeriod;
+    private final TimeUnit rateLimitUnit;
+    private final List<String> argDescriptions;
+    private final List<String> suggestions;
+    private final List<FlagDescriptor> flags;
+    private final List<RequirementDescriptor> requirements;
+    private final String namedArguments;
+    private final List<ArgumentDescriptor> arguments;
+
+    private SubCommandDescriptor(final @NotNull Builder builder) {
+        this.method = builder.method;
+        this.name = builder.name;
+        this.isDefault = builder.isDefault;
+        this.alias = unmodifiable(builder.alias);
+        this.async = builder.async;
+        this.description = builder.description;
+        this.cooldown = builder.cooldown;
+        this.cooldownUnit = builder.cooldownUnit;
+        this.rateLimitPermits = builder.rateLimitPermits;
+        this.rateLimitPeriod = builder.rateLimitPeriod;
+        this.rateLimitUnit = builder.rateLimitUnit;
+        this.argDescriptions = unmodifiable(builder.argDescriptions);
+        this.suggestions = unmodifiable(builder.suggestions);
+        this.flags = unmodifiable(builder.flags);
+        this.requirements = unmodifiable(builder.requirements);
+        this.namedArguments = builder.namedArguments;
+        this.arguments = unmodifiable(builder.arguments);
+    }
+
+    /**
+     * Creates a new builder for the sub command method.
+     *
+     * @param method The sub command method.
+     * @return A new {@link Builder}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull Builder builder(final @NotNull Method method) {
+        return new Builder(method);
+    }
+
+    /**
+     * Reads the annotations of the method.
+     * A method without {@link SubCommand} or {@link Default} gives a descriptor without a name.
+     *
+     * @param method The method.
+     * @return A new {@link SubCommandDescriptor}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull SubCommandDescriptor of(final @NotNull Method method) {
+        final Builder builder = builder(method);
+
+        final Default defaultAnnotation = method.getAnnotation(Default.class);
+        final SubCommand subCommandAnnotation = method.getAnnotation(SubCommand.class);
+        if (defaultAnnotation != null) {
+            builder.defaultCommand().alias(defaultAnnotation.alias());
+        } else if (subCommandAnnotation != null) {
+            builder.name(subCommandAnnotation.value()).alias(subCommandAnnotation.alias());
+        } else {
+            return builder.build();
+        }
+
+        builder.async(method.isAnnotationPresent(Async.class));
+
+        final Description description = method.getAnnotation(Description.class);
+        if (description != null) builder.description(description.value());
+
+        final Cooldown cooldown = method.getAnnotation(Cooldown.class);
+        if (cooldown != null) builder.cooldown(cooldown.value(), cooldown.unit());
+
+        final RateLimit rateLimit = method.getAnnotation(RateLimit.class);
+        if (rateLimit != null) builder.rateLimit(rateLimit.permits(), rateLimit.period(), rateLimit.unit());
+
+        final ArgDescriptions argDescriptions = method.getAnnotation(ArgDescriptions.class);
+        if (argDescriptions != null) builder.argDescriptions(argDescriptions.value());
+
+        for (final Suggestion suggestion : method.getAnnotationsByType(Suggestion.class)) {
+            builder.suggestion(suggestion.value());
+        }
+
+        for (final Flag flag : method.getAnnotationsByType(Flag.class)) {
+            builder.flag(FlagDescriptor.of(flag));
+        }
+
+        for (final Requirement requirement : method.getAnnotationsByType(Requirement.class)) {
+            builder.requirement(RequirementDescriptor.of(requirement));
+        }
+
+        final NamedArguments namedArguments = method.getAnnotation(NamedArguments.class);
+        if (namedArguments != null) builder.namedArguments(namedArguments.value());
+
+        final Parameter[] parameters = method.getParameters();
+        // The first parameter is the sender
+        for (int i = 1; i < parameters.length; i++) {
+            builder.argument(ArgumentDescriptor.of(parameters[i]));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Reads all the sub command methods declared in the class, the ones annotated with {@link SubCommand} or {@link Default} that aren't private.
+     *
+     * @param commandClass The {@link BaseCommand} class.
+     * @return The descriptors of its sub commands.
+     */
+    public static @NotNull List<@NotNull SubCommandDescriptor> scan(final @NotNull Class<? extends BaseCommand> commandClass) {
+        final List<SubCommandDescriptor> descriptors = new ArrayList<>();
+        for (final Method method : commandClass.getDeclaredMethods()) {
+            if (Modifier.isPrivate(method.getModifiers())) continue;
+            if (!method.isAnnotationPresent(SubCommand.class) && !method.isAnnotationPresent(Default.class)) continue;
+            descriptors.add(of(method));
+        }
+        return descriptors;
+    }
+
+    private static <T> @NotNull List<T> unmodifiable(final @NotNull List<T> list) {
+        return list.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    public @NotNull Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets the name as declared, {@link Default#DEFAULT_CMD_NAME} for the default sub command.
+     *
+     * @return The name or null if the method isn't a sub command.
+     */
+    public @Nullable String getName() {
+        return name;
+    }
+
+    public boolean isDefault() {
+        return isDefault;
+    }
+
+    /**
+     * Gets the alias as declared, they are lowercased when processed.
+     *
+     * @return The alias.
+     */
+    public @NotNull List<@NotNull String> getAlias() {
+        return alias;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public @Nullable String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the {@link Cooldown} value.
+     *
+     * @return The cooldown, only set when {@link #getCooldownUnit()} isn't null.
+     */
+    public long getCooldown() {
+        return cooldown;
+    }
+
+    /**
+     * Gets the {@link Cooldown} unit.
+     *
+     * @return The unit or null if the sub command has no cooldown.
+     */
+    public @Nullable TimeUnit getCooldownUnit() {
+        return cooldownUnit;
+    }
+
+    /**
+     * Gets the {@link RateLimit} permits.
+     *
+     * @return The permits, only set when {@link #getRateLimitUnit()} isn't null.
+     */
+    public int getRateLimitPermits() {
+        return rateLimitPermits;
+    }
+
+    /**
+     * Gets the {@link RateLimit} period.
+     *
+     * @return The period, only set when {@link #getRateLimitUnit()} isn't null.
+     */
+    public long getRateLimitPeriod() {
+        return rateLimitPeriod;
+    }
+
+    /**
+     * Gets the {@link RateLimit} unit.
+     *
+     * @return The unit or null if the sub command has no rate limit.
+     */
+    public @Nullable TimeUnit getRateLimitUnit() {
+        return rateLimitUnit;
+    }
+
+    public @NotNull List<@NotNull String> getArgDescriptions() {
+        return argDescriptions;
+    }
+
+    /**
+     * Gets the suggestion keys declared on the method, by argument position.
+     *
+     * @return The suggestion keys, empty for no suggestion.
+     */
+    public @NotNull List<@NotNull String> getSuggestions() {
+        return suggestions;
+    }
+
+    public @NotNull List<@NotNull FlagDescriptor> getFlags() {
+        return flags;
+    }
+
+    public @NotNull List<@NotNull RequirementDescriptor> getRequirements() {
+        return requirements;
+    }
+
+    /**
+     * Gets the {@link NamedArguments} key.
+     *
+     * @return The key or null if there is none.
+     */
+    public @Nullable String getNamedArguments() {
+        return namedArguments;
+    }
+
+    /**
+     * Gets the descriptors of the parameters after the sender.
+     *
+     * @return The arguments, in order.
+     */
+    public @NotNull List<@NotNull ArgumentDescriptor> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final SubCommandDescriptor that = (SubCommandDescriptor) o;
+        return isDefault == that.isDefault &&
+                async == that.async &&
+                cooldown == that.cooldown &&
+                rateLimitPermits == that.rateLimitPermits &&
+                rateLimitPeriod == that.rateLimitPeriod &&
+                method.equals(that.method) &&
+                Objects.equals(name, that.name) &&
+                alias.equals(that.alias) &&
+                Objects.equals(description, that.description) &&
+                cooldownUnit == that.cooldownUnit &&
+                rateLimitUnit == that.rateLimitUnit &&
+                argDescriptions.equals(that.argDescriptions) &&
+                suggestions.equals(that.suggestions) &&
+                flags.equals(that.flags) &&
+                requirements.equals(that.requirements) &&
+                Objects.equals(namedArguments, that.namedArguments) &&
+                arguments.equals(that.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, name, alias, arguments);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SubCommandDescriptor{" +
+                "method=" + method.getName() +
+                ", name='" + name + '\'' +
+                ", isDefault=" + isDefault +
+                ", alias=" + alias +
+                ", async=" + async +
+                ", description='" + description + '\'' +
+                ", cooldown=" + (cooldownUnit == null ? null : cooldown + " " + cooldownUnit) +
+                ", rateLimit=" + (rateLimitUnit == null ? null : rateLimitPermits + "/" + rateLimitPeriod + " " + rateLimitUnit) +
+                ", argDescriptions=" + argDescriptions +
+                ", suggestions=" + suggestions +
+                ", flags=" + flags +
+                ", requirements=" + requirements +
+                ", namedArguments='" + namedArguments + '\'' +
+                ", arguments=" + arguments +
+                '}';
+    }
+
+    /**
+     * Builder for {@link SubCommandDescriptor}, the values match the annotations of the method.
+     */
+    public static final class Builder {
+
+        private final Method method;
+        private String name = null;
+        private boolean isDefault = false;
+        private final List<String> alias = new ArrayList<>();
+        private boolean async = false;
+        private String description = null;
+        private long cooldown = 0;
+        private TimeUnit cooldownUnit = null;
+        private int rateLimitPermits = 0;
+        private long rateLimitPeriod = 0;
+        private TimeUnit rateLimitUnit = null;
+        private final List<String> argDescriptions = new ArrayList<>();
+        private final List<String> suggestions = new ArrayList<>();
+        private final List<FlagDescriptor> flags = new ArrayList<>();
+        private final List<RequirementDescriptor> requirements = new ArrayList<>();
+        private String namedArguments = null;
+        private final List<ArgumentDescriptor> arguments = new ArrayList<>();
+
+        private Builder(final @NotNull Method method) {
+            this.method = method;
+        }
+
+        /**
+         * Sets the {@link SubCommand} value.
+         *
+         * @param name The sub command name.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder name(final @NotNull String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Marks the method as the {@link Default} sub command.
+         *
+         * @return This builder.
+         */
+        @Contract(" -> this")
+        public @NotNull Builder defaultCommand() {
+            this.name = Default.DEFAULT_CMD_NAME;
+            this.isDefault = true;
+            return this;
+        }
+
+        /**
+         * Adds the alias of the {@link SubCommand} or {@link Default}.
+         *
+         * @param alias The alias.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder alias(final @NotNull String @NotNull ... alias) {
+            Collections.addAll(this.alias, alias);
+            return this;
+        }
+
+        /**
+         * Sets whether the method is {@link Async}.
+         *
+         * @param async Whether the sub command is asynchronous.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder async(final boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Description} value.
+         *
+         * @param description The description.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder description(final @NotNull String description) {
+            this.description = description;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Cooldown} values.
+         *
+         * @param cooldown The cooldown.
+         * @param unit     The unit of the cooldown.
+         * @return This builder.
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder cooldown(final long cooldown, final @NotNull TimeUnit unit) {
+            this.cooldown = cooldown;
+            this.cooldownUnit = unit;
+            return this;
+        }
+
+        /**
+         * Sets the {@link RateLimit} values.
+         *
+         * @param permits The permits.
+         * @param period  The period.
+         * @param unit    The unit of the period.
+         * @return This builder.
+         */
+        @Contract("_, _, _ -> this")
+        public @NotNull Builder rateLimit(final int permits, final long period, final @NotNull TimeUnit unit) {
+            this.rateLimitPermits = permits;
+            this.rateLimitPeriod = period;
+            this.rateLimitUnit = unit;
+            return this;
+        }
+
+        /**
+         * Adds the {@link ArgDescriptions} values.
+         *
+         * @param argDescriptions The argument descriptions, by position.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder argDescriptions(final @NotNull String @NotNull ... argDescriptions) {
+            Collections.addAll(this.argDescriptions, argDescriptions);
+            return this;
+        }
+
+        /**
+         * Adds a {@link Suggestion} declared on the method.
+         *
+         * @param suggestion The suggestion key, empty for no suggestion.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder suggestion(final @NotNull String suggestion) {
+            this.suggestions.add(suggestion);
+            return this;
+        }
+
+        /**
+         * Adds a {@link Flag}.
+         *
+         * @param flag The flag values.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder flag(final @NotNull FlagDescriptor flag) {
+            this.flags.add(flag);
+            return this;
+        }
+
+        /**
+         * Adds a {@link Requirement}.
+         *
+         * @param requirement The requirement values.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder requirement(final @NotNull RequirementDescriptor requirement) {
+            this.requirements.add(requirement);
+            return this;
+        }
+
+        /**
+         * Sets the {@link NamedArguments} key.
+         *
+         * @param namedArguments The named arguments key.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder namedArguments(final @NotNull String namedArguments) {
+            this.namedArguments = namedArguments;
+            return this;
+        }
+
+        /**
+         * Adds the next parameter after the sender.
+         *
+         * @param argument The argument values.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder argument(final @NotNull ArgumentDescriptor argument) {
+            this.arguments.add(argument);
+            return this;
+        }
+
+        /**
+         * Builds the descriptor.
+         *
+         * @return A new {@link SubCommandDescriptor} with the data from this builder.
+         */
+        @Contract(" -> new")
+        public @NotNull SubCommandDescriptor build() {
+            return new SubCommandDescriptor(this);
+        }
+    }
+}
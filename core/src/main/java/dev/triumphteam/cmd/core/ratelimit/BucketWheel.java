@@ -0,0 +1,108 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.ratelimit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer wheel that removes the full buckets of every {@link TokenBucketStore}.
+ * Each tick moves to the next slot and sweeps the stripe of that slot in every store,
+ * so a full bucket is removed at most one revolution after becoming full.
+ * The stores are held weakly, so unregistered commands don't keep their buckets alive.
+ */
+final class BucketWheel {
+
+    private static final long TICK_MILLIS = 1000L;
+
+    private static final List<WeakReference<TokenBucketStore>> STORES = new CopyOnWriteArrayList<>();
+
+    private static int slot = 0;
+
+    private BucketWheel() {
+        throw new AssertionError("Util must not be initialized");
+    }
+
+    /**
+     * Adds a store to the wheel, starting the wheel if it's the first one.
+     *
+     * @param store The {@link TokenBucketStore}.
+     */
+    static void register(final @NotNull TokenBucketStore store) {
+        STORES.add(new WeakReference<>(store));
+        Timer.start();
+    }
+
+    /**
+     * Sweeps the current slot of every store and moves to the next one, only called from the timer thread.
+     */
+    private static void tick() {
+        final int index = slot;
+        slot = (index + 1) & (TokenBucketStore.STRIPES - 1);
+
+        final Iterator<WeakReference<TokenBucketStore>> iterator = STORES.iterator();
+        while (iterator.hasNext()) {
+            final WeakReference<TokenBucketStore> reference = iterator.next();
+            final TokenBucketStore store = reference.get();
+            if (store == null) {
+                STORES.remove(reference);
+                continue;
+            }
+
+            store.sweep(index);
+        }
+    }
+
+    /**
+     * Holder of the timer, only started once a rate limited sub command is registered.
+     */
+    private static final class Timer {
+
+        private static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "triumph-cmd-rate-limit-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            SCHEDULER.scheduleWithFixedDelay(() -> {
+                try {
+                    tick();
+                } catch (final RuntimeException ignored) {
+                    // An exception would cancel the task, the next tick tries again
+                }
+            }, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        private static void start() {
+            // Loading the class starts it
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.ratelimit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets of a single rate limited sub command, keyed by sender.
+ * Each bucket is a single {@link AtomicLong} following the generic cell rate algorithm, equivalent to a token bucket:
+ * it holds the time at which the bucket will be full again, and a permit is a single compare and set that moves it forward.
+ * The buckets are split into stripes, one per slot of the {@link BucketWheel} that removes the full ones.
+ */
+public final class TokenBucketStore {
+
+    static final int STRIPES = 16;
+
+    // Marks a bucket removed by the wheel, valid times are never negative
+    private static final long REMOVED = -1L;
+
+    private final int permits;
+    private final long periodNanos;
+    // Time between two permits, and how far ahead of now the bucket can be while still giving a permit
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    // Times are relative to the creation of the store, so they are never negative
+    private final long origin = System.nanoTime();
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<Object, AtomicLong>[] stripes = (ConcurrentHashMap<Object, AtomicLong>[]) new ConcurrentHashMap<?, ?>[STRIPES];
+
+    public TokenBucketStore(final int permits, final long period, final @NotNull TimeUnit unit) {
+        if (permits < 1) throw new IllegalArgumentException("Permits must be at least 1");
+        if (period < 1) throw new IllegalArgumentException("Period must be at least 1");
+
+        this.permits = permits;
+        this.periodNanos = unit.toNanos(period);
+        this.intervalNanos = Math.max(periodNanos / permits, 1L);
+        this.toleranceNanos = intervalNanos * (permits - 1);
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+
+        BucketWheel.register(this);
+    }
+
+    /**
+     * Takes a permit from the bucket of the key.
+     *
+     * @param key The key of the sender, see {@link RateLimitKeyResolver}.
+     * @return 0 if a permit was taken, otherwise how long until the next permit, in nanoseconds.
+     */
+    public long tryAcquire(final @NotNull Object key) {
+        final ConcurrentHashMap<Object, AtomicLong> stripe = stripeOf(key);
+        final long now = now();
+
+        AtomicLong bucket = stripe.get(key);
+        while (true) {
+            if (bucket == null) {
+                bucket = stripe.computeIfAbsent(key, ignored -> new AtomicLong(now));
+            }
+
+            final long full = bucket.get();
+            if (full == REMOVED) {
+                // Removed by the wheel between the lookup and now, make sure it's gone and use a new one
+                stripe.remove(key, bucket);
+                bucket = null;
+                continue;
+            }
+
+            final long available = full - toleranceNanos;
+            if (available > now) return available - now;
+
+            if (bucket.compareAndSet(full, Math.max(full, now) + intervalNanos)) return 0L;
+        }
+    }
+
+    /**
+     * Gets the amount of senders with a bucket that isn't full, plus the full ones not yet removed.
+     *
+     * @return The amount of buckets.
+     */
+    public int size() {
+        int size = 0;
+        for (final ConcurrentHashMap<Object, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * Gets the amount of permits per period.
+     *
+     * @return The permits.
+     */
+    public int getPermits() {
+        return permits;
+    }
+
+    /**
+     * Gets the period in which the permits refill.
+     *
+     * @return The period in nanoseconds.
+     */
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    /**
+     * Removes the full buckets of a stripe, a full bucket behaves the same as no bucket.
+     *
+     * @param index The index of the stripe.
+     */
+    void sweep(final int index) {
+        final long now = now();
+        stripes[index].forEach((key, bucket) -> {
+            final long full = bucket.get();
+            // The compare and set makes sure no permit was taken since reading it
+            if (full <= now && bucket.compareAndSet(full, REMOVED)) {
+                stripes[index].remove(key, bucket);
+            }
+        });
+    }
+
+    private @NotNull ConcurrentHashMap<Object, AtomicLong> stripeOf(final @NotNull Object key) {
+        final int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "TokenBucketStore{" +
+                "permits=" + permits +
+                ", periodNanos=" + periodNanos +
+                ", size=" + size() +
+                '}';
+    }
+}
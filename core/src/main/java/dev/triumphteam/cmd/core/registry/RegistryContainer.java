@@ -25,10 +25,19 @@ package dev.triumphteam.cmd.core.registry;
 
 import dev.triumphteam.cmd.core.argument.ArgumentRegistry;
 import dev.triumphteam.cmd.core.argument.named.NamedArgumentRegistry;
+import dev.triumphteam.cmd.core.execution.AsyncExecutionProvider;
+import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.interceptor.InterceptorRegistry;
+import dev.triumphteam.cmd.core.invoker.InvokerFactory;
+import dev.triumphteam.cmd.core.invoker.MethodHandleInvokerFactory;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
+import dev.triumphteam.cmd.core.processor.CommandModelCache;
+import dev.triumphteam.cmd.core.ratelimit.RateLimitKeyResolver;
 import dev.triumphteam.cmd.core.requirement.RequirementRegistry;
 import dev.triumphteam.cmd.core.suggestion.SuggestionRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class RegistryContainer<S> {
 
@@ -37,6 +46,14 @@ public class RegistryContainer<S> {
     private final RequirementRegistry<S> requirementRegistry = new RequirementRegistry<>();
     private final MessageRegistry<S> messageRegistry = new MessageRegistry<>();
     private final SuggestionRegistry<S> suggestionRegistry = new SuggestionRegistry<>();
+    private final InterceptorRegistry<S> interceptorRegistry = new InterceptorRegistry<>();
+
+    private InvokerFactory invokerFactory = new MethodHandleInvokerFactory();
+    private boolean lazyProcessing = false;
+    private CommandModelCache modelCache = null;
+    private CommandMetrics metrics = CommandMetrics.noop();
+    private RateLimitKeyResolver<S> rateLimitKeyResolver = sender -> sender;
+    private ExecutionProvider asyncExecutionProvider = new AsyncExecutionProvider();
 
     public @NotNull ArgumentRegistry<S> getArgumentRegistry() {
         return argumentRegistry;
@@ -57,4 +74,116 @@ public class RegistryContainer<S> {
     public @NotNull SuggestionRegistry<S> getSuggestionRegistry() {
         return suggestionRegistry;
     }
+
+    public @NotNull InterceptorRegistry<S> getInterceptorRegistry() {
+        return interceptorRegistry;
+    }
+
+    /**
+     * Gets the {@link InvokerFactory} used to bind the sub command methods.
+     *
+     * @return The current {@link InvokerFactory}.
+     */
+    public @NotNull InvokerFactory getInvokerFactory() {
+        return invokerFactory;
+    }
+
+    /**
+     * Changes the {@link InvokerFactory}, only affects commands registered afterwards.
+     *
+     * @param invokerFactory The new {@link InvokerFactory}.
+     */
+    public void setInvokerFactory(final @NotNull InvokerFactory invokerFactory) {
+        this.invokerFactory = invokerFactory;
+    }
+
+    /**
+     * Gets whether the sub command arguments are only processed when the sub command is first used.
+     *
+     * @return Whether lazy processing is enabled.
+     */
+    public boolean isLazyProcessing() {
+        return lazyProcessing;
+    }
+
+    /**
+     * Changes whether the sub command arguments are processed lazily, only affects commands registered afterwards.
+     *
+     * @param lazyProcessing Whether to enable lazy processing.
+     */
+    public void setLazyProcessing(final boolean lazyProcessing) {
+        this.lazyProcessing = lazyProcessing;
+    }
+
+    /**
+     * Gets the {@link CommandModelCache} used to load the sub command model.
+     *
+     * @return The {@link CommandModelCache} or null if there is none.
+     */
+    public @Nullable CommandModelCache getModelCache() {
+        return modelCache;
+    }
+
+    /**
+     * Changes the {@link CommandModelCache}, only affects commands registered afterwards.
+     *
+     * @param modelCache The new {@link CommandModelCache} or null to always scan the command classes.
+     */
+    public void setModelCache(final @Nullable CommandModelCache modelCache) {
+        this.modelCache = modelCache;
+    }
+
+    /**
+     * Gets the {@link CommandMetrics} the commands report to.
+     *
+     * @return The current {@link CommandMetrics}.
+     */
+    public @NotNull CommandMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Changes the {@link CommandMetrics}, only affects commands registered afterwards.
+     *
+     * @param metrics The new {@link CommandMetrics}.
+     */
+    public void setMetrics(final @NotNull CommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the {@link RateLimitKeyResolver} used by the rate limited sub commands.
+     *
+     * @return The current {@link RateLimitKeyResolver}.
+     */
+    public @NotNull RateLimitKeyResolver<S> getRateLimitKeyResolver() {
+        return rateLimitKeyResolver;
+    }
+
+    /**
+     * Changes the {@link RateLimitKeyResolver}, only affects commands registered afterwards.
+     *
+     * @param rateLimitKeyResolver The new {@link RateLimitKeyResolver}.
+     */
+    public void setRateLimitKeyResolver(final @NotNull RateLimitKeyResolver<S> rateLimitKeyResolver) {
+        this.rateLimitKeyResolver = rateLimitKeyResolver;
+    }
+
+    /**
+     * Gets the {@link ExecutionProvider} used by the {@link dev.triumphteam.cmd.core.annotation.Async} sub commands.
+     *
+     * @return The current asynchronous {@link ExecutionProvider}.
+     */
+    public @NotNull ExecutionProvider getAsyncExecutionProvider() {
+        return asyncExecutionProvider;
+    }
+
+    /**
+     * Changes the asynchronous {@link ExecutionProvider}, only affects commands registered afterwards.
+     *
+     * @param asyncExecutionProvider The new asynchronous {@link ExecutionProvider}.
+     */
+    public void setAsyncExecutionProvider(final @NotNull ExecutionProvider asyncExecutionProvider) {
+        this.asyncExecutionProvider = asyncExecutionProvider;
+    }
 }
@@ -80,7 +80,7 @@ public final class Requirement<S, C extends MessageContext> {
             final @NotNull String command,
             final @NotNull String subCommand
     ) {
-        if (messageKey == null) return;
+        if (messageKey == null || !registry.hasResolver(messageKey)) return;
         registry.sendMessage(messageKey, sender, contextFactory.create(command, subCommand));
     }
 
@@ -24,12 +24,10 @@
 package dev.triumphteam.cmd.core.requirement;
 
 import dev.triumphteam.cmd.core.registry.Registry;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Registry used for registering new requirements for all commands to use.
  *
@@ -37,7 +35,7 @@ import java.util.Map;
  */
 public final class RequirementRegistry<S> implements Registry {
 
-    private final Map<RequirementKey, RequirementResolver<S>> requirements = new HashMap<>();
+    private final SnapshotMap<RequirementKey, RequirementResolver<S>> requirements = new SnapshotMap<>();
 
     /**
      * Registers a new {@link RequirementResolver} for the specific Key.
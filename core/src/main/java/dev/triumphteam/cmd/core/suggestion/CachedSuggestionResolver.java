@@ -0,0 +1,315 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import dev.triumphteam.cmd.core.ratelimit.RateLimitKeyResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * {@link SuggestionResolver} that remembers the suggestions of another resolver, per sender scope.
+ * Concurrent requests for the same scope share a single resolution, and suggestions can be refreshed in the background
+ * before they expire.
+ * The suggestion context is not part of the key, so the delegate should only depend on the sender.
+ * Expired entries are dropped by the lookups, at most once per expiry period, so departed senders don't stay cached.
+ *
+ * @param <S> The sender type.
+ */
+public final class CachedSuggestionResolver<S> implements SuggestionResolver<S> {
+
+    // Stands for the null scope, since the map doesn't allow null keys
+    private static final Object NULL_SCOPE = new Object();
+
+    private final SuggestionResolver<S> delegate;
+    private final SuggestionCacheOptions<S> options;
+    private final Function<S, @Nullable Object> scope;
+    private final Executor refreshExecutor;
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    /**
+     * Creates the cache, senders without a configured scope are keyed on the sender object itself.
+     * Background refreshes need {@link SuggestionCacheOptions.Builder#refreshExecutor(Executor)}.
+     * Prefer {@link #CachedSuggestionResolver(SuggestionResolver, SuggestionCacheOptions, RateLimitKeyResolver, Executor)} when senders are
+     * platform objects, so the cache doesn't hold them.
+     *
+     * @param delegate The resolver whose suggestions are cached.
+     * @param options  The {@link SuggestionCacheOptions}.
+     */
+    public CachedSuggestionResolver(final @NotNull SuggestionResolver<S> delegate, final @NotNull SuggestionCacheOptions<S> options) {
+        this(delegate, options, sender -> sender, null);
+    }
+
+    /**
+     * Creates the cache, senders without a configured scope are keyed on their stable id, like a UUID or user id.
+     *
+     * @param delegate        The resolver whose suggestions are cached.
+     * @param options         The {@link SuggestionCacheOptions}.
+     * @param senderKeys      The resolver of the stable id of a sender, the same used for rate limits.
+     * @param refreshExecutor The executor for background refreshes when the options don't set one.
+     */
+    public CachedSuggestionResolver(
+            final @NotNull SuggestionResolver<S> delegate,
+            final @NotNull SuggestionCacheOptions<S> options,
+            final @NotNull RateLimitKeyResolver<S> senderKeys,
+            final @Nullable Executor refreshExecutor
+    ) {
+        this.delegate = delegate;
+        this.options = options;
+        final Function<S, @Nullable Object> configuredScope = options.getScope();
+        this.scope = configuredScope != null ? configuredScope : senderKeys::resolve;
+        this.refreshExecutor = options.getRefreshExecutor() != null ? options.getRefreshExecutor() : refreshExecutor;
+        if (this.refreshExecutor == null && options.getRefreshAfterWriteNanos() != 0) {
+            throw new IllegalArgumentException("Background refreshes need a refresh executor");
+        }
+        this.nextSweep = new AtomicLong(System.nanoTime() + options.getExpireAfterWriteNanos());
+    }
+
+    @Override
+    public @NotNull List<@NotNull String> resolve(final @NotNull S sender, final @NotNull SuggestionContext context) {
+        sweepIfNeeded();
+        final Object key = keyOf(sender);
+
+        while (true) {
+            final Entry entry = entries.get(key);
+
+            if (entry != null && !entry.isExpired(options.getExpireAfterWriteNanos())) {
+                hits.increment();
+                if (entry.isLoaded()) refreshIfNeeded(key, entry, sender, context);
+                return entry.join();
+            }
+
+            final Entry loading = new Entry();
+            final boolean claimed = entry == null ? entries.putIfAbsent(key, loading) == null : entries.replace(key, entry, loading);
+            // Someone else started loading it, so wait on theirs instead
+            if (!claimed) continue;
+
+            misses.increment();
+            if (entry == null && entries.size() > options.getMaximumSize()) trim();
+            return load(key, loading, sender, context);
+        }
+    }
+
+    /**
+     * Removes the cached suggestions for the given sender's scope.
+     *
+     * @param sender The sender whose scope to invalidate.
+     */
+    public void invalidate(final @NotNull S sender) {
+        entries.remove(keyOf(sender));
+    }
+
+    /**
+     * Removes all cached suggestions.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Gets how many times suggestions were served from the cache or from a request already in flight.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets how many times the delegate resolver had to be called in the caller's thread.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets how many background refreshes were started.
+     *
+     * @return The refresh count.
+     */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Gets the amount of cached scopes, including requests in flight.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the resolver whose suggestions are cached.
+     *
+     * @return The delegate resolver.
+     */
+    public @NotNull SuggestionResolver<S> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "CachedSuggestionResolver{" +
+                "delegate=" + delegate +
+                ", options=" + options +
+                ", hits=" + hits.sum() +
+                ", misses=" + misses.sum() +
+                ", refreshes=" + refreshes.sum() +
+                '}';
+    }
+
+    private @NotNull List<@NotNull String> load(
+            final @NotNull Object key,
+            final @NotNull Entry loading,
+            final @NotNull S sender,
+            final @NotNull SuggestionContext context
+    ) {
+        final List<String> suggestions;
+        try {
+            suggestions = copy(delegate.resolve(sender, context));
+        } catch (final RuntimeException | Error exception) {
+            // Failures aren't cached, the waiting requests get the same failure and the next one tries again
+            entries.remove(key, loading);
+            loading.future.completeExceptionally(exception);
+            throw exception;
+        }
+
+        loading.complete(suggestions);
+        return suggestions;
+    }
+
+    private void refreshIfNeeded(
+            final @NotNull Object key,
+            final @NotNull Entry entry,
+            final @NotNull S sender,
+            final @NotNull SuggestionContext context
+    ) {
+        final long refreshAfter = options.getRefreshAfterWriteNanos();
+        if (refreshAfter == 0 || System.nanoTime() - entry.loadedAt < refreshAfter) return;
+        if (!entry.refreshing.compareAndSet(false, true)) return;
+
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    final Entry refreshed = new Entry();
+                    refreshed.complete(copy(delegate.resolve(sender, context)));
+                    entries.replace(key, entry, refreshed);
+                } catch (final RuntimeException exception) {
+                    // Keeps serving the old suggestions, the next request after the refresh time tries again
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (final RejectedExecutionException exception) {
+            // A full or stopped executor, same as a failed refresh
+            entry.refreshing.set(false);
+        }
+    }
+
+    private @NotNull Object keyOf(final @NotNull S sender) {
+        final Object scope = this.scope.apply(sender);
+        return scope == null ? NULL_SCOPE : scope;
+    }
+
+    /**
+     * Drops the expired entries, at most once per expiry period, by whichever lookup gets there first.
+     */
+    private void sweepIfNeeded() {
+        final long now = System.nanoTime();
+        final long next = nextSweep.get();
+        if (now - next < 0 || !nextSweep.compareAndSet(next, now + options.getExpireAfterWriteNanos())) return;
+
+        final long expireAfter = options.getExpireAfterWriteNanos();
+        entries.values().removeIf(entry -> entry.isExpired(expireAfter));
+    }
+
+    private void trim() {
+        final long expireAfter = options.getExpireAfterWriteNanos();
+        entries.values().removeIf(entry -> entry.isLoaded() && entry.isExpired(expireAfter));
+
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > options.getMaximumSize() && iterator.hasNext()) {
+            if (iterator.next().isLoaded()) iterator.remove();
+        }
+    }
+
+    private static @NotNull List<@NotNull String> copy(final @NotNull List<@NotNull String> suggestions) {
+        return Collections.unmodifiableList(new ArrayList<>(suggestions));
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<List<String>> future = new CompletableFuture<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long loadedAt;
+
+        private void complete(final @NotNull List<@NotNull String> suggestions) {
+            loadedAt = System.nanoTime();
+            future.complete(suggestions);
+        }
+
+        private boolean isLoaded() {
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+
+        private boolean isExpired(final long expireAfter) {
+            // Requests in flight never expire, they are waited on
+            return isLoaded() && System.nanoTime() - loadedAt >= expireAfter;
+        }
+
+        private @NotNull List<@NotNull String> join() {
+            try {
+                return future.join();
+            } catch (final CompletionException exception) {
+                final Throwable cause = exception.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw exception;
+            }
+        }
+    }
+}
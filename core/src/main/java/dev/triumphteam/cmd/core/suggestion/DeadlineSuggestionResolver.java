@@ -0,0 +1,208 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link SuggestionResolver} for an {@link AsyncSuggestionResolver}, giving it a deadline.
+ * When the suggestions aren't ready by then, or fail, the fallback resolver is used instead, which can give partial
+ * suggestions or none at all.
+ * Platforms that complete asynchronously use {@link #resolveAsync}, the synchronous {@link #resolve} blocks
+ * the calling thread for up to the deadline, so it must not be used on a thread that can't wait, like a server's main thread.
+ * When the deadline passes, the fallback runs on its own small pool, so a slow fallback never holds back the other deadlines.
+ * If the fallback itself throws, or its pool is full, no suggestions are given.
+ *
+ * @param <S> The sender type.
+ */
+public final class DeadlineSuggestionResolver<S> implements SuggestionResolver<S> {
+
+    private final AsyncSuggestionResolver<S> resolver;
+    private final long deadlineNanos;
+    private final SuggestionResolver<S> fallback;
+
+    public DeadlineSuggestionResolver(
+            final @NotNull AsyncSuggestionResolver<S> resolver,
+            final @NotNull Duration deadline,
+            final @NotNull SuggestionResolver<S> fallback
+    ) {
+        if (deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("Deadline must be positive, got " + deadline);
+        }
+
+        this.resolver = resolver;
+        this.deadlineNanos = deadline.toNanos();
+        this.fallback = fallback;
+    }
+
+    /**
+     * Resolves the suggestions, blocking the calling thread for up to the deadline.
+     * Don't call it from a thread that can't wait, use {@link #resolveAsync} there instead.
+     *
+     * @param sender  The command sender.
+     * @param context The command context for the suggestion.
+     * @return The suggestions or the fallback ones.
+     */
+    @Override
+    public @NotNull List<@NotNull String> resolve(final @NotNull S sender, final @NotNull SuggestionContext context) {
+        return resolveAsync(sender, context).join();
+    }
+
+    /**
+     * Resolves the suggestions, the future is completed with the fallback ones if the deadline passes first.
+     * The returned future never completes exceptionally.
+     *
+     * @param sender  The command sender.
+     * @param context The command context for the suggestion.
+     * @return A future with the suggestions or the fallback ones.
+     */
+    public @NotNull CompletableFuture<@NotNull List<@NotNull String>> resolveAsync(
+            final @NotNull S sender,
+            final @NotNull SuggestionContext context
+    ) {
+        final CompletableFuture<List<String>> future;
+        try {
+            future = resolver.resolve(sender, context);
+        } catch (final RuntimeException exception) {
+            return CompletableFuture.completedFuture(resolveFallback(sender, context));
+        }
+
+        final CompletableFuture<List<String>> result = new CompletableFuture<>();
+        future.whenComplete((suggestions, throwable) -> {
+            if (throwable == null) {
+                result.complete(suggestions);
+                return;
+            }
+            result.complete(resolveFallback(sender, context));
+        });
+
+        if (result.isDone()) return result;
+
+        final ScheduledFuture<?> timeout = Timeouts.SCHEDULER.schedule(
+                () -> completeWithFallback(result, sender, context),
+                deadlineNanos,
+                TimeUnit.NANOSECONDS
+        );
+        result.whenComplete((ignored, throwable) -> timeout.cancel(false));
+        return result;
+    }
+
+    /**
+     * Hands the fallback to its own pool, keeping the timer thread free for the other deadlines.
+     *
+     * @param result  The future to complete.
+     * @param sender  The command sender.
+     * @param context The command context for the suggestion.
+     */
+    private void completeWithFallback(
+            final @NotNull CompletableFuture<List<String>> result,
+            final @NotNull S sender,
+            final @NotNull SuggestionContext context
+    ) {
+        if (result.isDone()) return;
+
+        try {
+            Timeouts.FALLBACKS.execute(() -> result.complete(resolveFallback(sender, context)));
+        } catch (final RejectedExecutionException exception) {
+            result.complete(Collections.emptyList());
+        }
+    }
+
+    /**
+     * Resolves the fallback suggestions, a failing fallback gives none so the result always completes.
+     *
+     * @param sender  The command sender.
+     * @param context The command context for the suggestion.
+     * @return The fallback suggestions or an empty list.
+     */
+    private @NotNull List<@NotNull String> resolveFallback(final @NotNull S sender, final @NotNull SuggestionContext context) {
+        try {
+            return fallback.resolve(sender, context);
+        } catch (final RuntimeException exception) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Gets the deadline in nanoseconds.
+     *
+     * @return The deadline.
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "DeadlineSuggestionResolver{" +
+                "resolver=" + resolver +
+                ", deadlineNanos=" + deadlineNanos +
+                ", fallback=" + fallback +
+                '}';
+    }
+
+    /**
+     * Holder of the timer and the fallback pool, only started once a deadline is first needed.
+     */
+    private static final class Timeouts {
+
+        private static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "triumph-cmd-suggestion-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private static final AtomicInteger FALLBACK_THREADS = new AtomicInteger();
+        // Bounded so a stuck fallback can't pile up completions, a full pool gives no suggestions instead
+        private static final ThreadPoolExecutor FALLBACKS = new ThreadPoolExecutor(
+                2,
+                2,
+                30,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(256),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "triumph-cmd-suggestion-fallback-" + FALLBACK_THREADS.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+
+        static {
+            SCHEDULER.setRemoveOnCancelPolicy(true);
+            FALLBACKS.allowCoreThreadTimeOut(true);
+        }
+    }
+}
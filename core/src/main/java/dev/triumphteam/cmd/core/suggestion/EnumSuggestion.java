@@ -29,31 +29,20 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public final class EnumSuggestion<S> implements Suggestion<S> {
 
     private final Class<? extends Enum<?>> enumType;
+    private final SuggestionIndex index;
 
     public EnumSuggestion(final @NotNull Class<? extends Enum<?>> enumType) {
         this.enumType = enumType;
-
-        EnumUtils.populateCache(enumType);
+        this.index = SuggestionIndex.of(EnumUtils.getEnumNames(enumType));
     }
 
     @Override
     public @NotNull List<@NotNull String> getSuggestions(final @NotNull S sender, final @NotNull String current, final @NotNull SuggestionContext context) {
-        return EnumUtils.getEnumConstants(enumType)
-                .values()
-                .stream()
-                .map(it -> {
-                    final Enum<?> constant = it.get();
-                    if (constant == null) return null;
-                    return constant.name();
-                })
-                .filter(Objects::nonNull)
-                .filter(it -> it.toLowerCase().startsWith(current.toLowerCase()))
-                .collect(Collectors.toList());
+        return index.startingWith(current);
     }
 
     @Override
@@ -28,22 +28,45 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public final class SimpleSuggestion<S> implements Suggestion<S> {
 
     private final SuggestionResolver<S> resolver;
+    // Static suggestions are looked up in their index instead of filtering every entry
+    private final SuggestionIndex index;
 
     public SimpleSuggestion(final @NotNull SuggestionResolver<S> resolver) {
         this.resolver = resolver;
+        this.index = resolver instanceof StaticSuggestionResolver ? ((StaticSuggestionResolver<S>) resolver).getIndex() : null;
     }
 
     @Override
     public @NotNull List<@NotNull String> getSuggestions(final @NotNull S sender, final @NotNull String current, final @NotNull SuggestionContext context) {
-        return resolver
-                .resolve(sender, context)
+        if (index != null) return index.startingWith(current);
+        return filter(resolver.resolve(sender, context), current);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@NotNull List<@NotNull String>> getSuggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull SuggestionContext context
+    ) {
+        if (!isAsync()) return Suggestion.super.getSuggestionsAsync(sender, current, context);
+        return ((DeadlineSuggestionResolver<S>) resolver).resolveAsync(sender, context).thenApply(it -> filter(it, current));
+    }
+
+    @Override
+    public boolean isAsync() {
+        return resolver instanceof DeadlineSuggestionResolver;
+    }
+
+    private static @NotNull List<@NotNull String> filter(final @NotNull List<@NotNull String> suggestions, final @NotNull String current) {
+        return suggestions
                 .stream()
-                .filter(it -> it.toLowerCase().startsWith(current.toLowerCase()))
+                .filter(it -> it.regionMatches(true, 0, current, 0, current.length()))
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,65 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link SuggestionResolver} for a fixed list of suggestions, backed by a {@link SuggestionIndex}.
+ * {@link SimpleSuggestion} uses the index directly for prefix lookups.
+ *
+ * @param <S> The sender type.
+ */
+public final class StaticSuggestionResolver<S> implements SuggestionResolver<S> {
+
+    private final SuggestionIndex index;
+
+    public StaticSuggestionResolver(final @NotNull Collection<@NotNull String> suggestions) {
+        this.index = SuggestionIndex.of(suggestions);
+    }
+
+    @Override
+    public @NotNull List<@NotNull String> resolve(final @NotNull S sender, final @NotNull SuggestionContext context) {
+        return index.getAll();
+    }
+
+    /**
+     * Gets the index of the suggestions.
+     *
+     * @return The {@link SuggestionIndex}.
+     */
+    public @NotNull SuggestionIndex getIndex() {
+        return index;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "StaticSuggestionResolver{" +
+                "index=" + index +
+                '}';
+    }
+}
@@ -26,6 +26,7 @@ package dev.triumphteam.cmd.core.suggestion;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface Suggestion<S> {
 
@@ -34,4 +35,29 @@ public interface Suggestion<S> {
             final @NotNull String current,
             final @NotNull SuggestionContext context
     );
+
+    /**
+     * Gets the suggestions without blocking, by default it's the same as {@link #getSuggestions} already completed.
+     *
+     * @param sender  The command sender.
+     * @param current The current typed argument.
+     * @param context The command context for the suggestion.
+     * @return A future with the suggestions.
+     */
+    default @NotNull CompletableFuture<@NotNull List<@NotNull String>> getSuggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull String current,
+            final @NotNull SuggestionContext context
+    ) {
+        return CompletableFuture.completedFuture(getSuggestions(sender, current, context));
+    }
+
+    /**
+     * Whether the suggestions come from an {@link AsyncSuggestionResolver} and should be gotten off the main thread.
+     *
+     * @return Whether the suggestions are asynchronous.
+     */
+    default boolean isAsync() {
+        return false;
+    }
 }
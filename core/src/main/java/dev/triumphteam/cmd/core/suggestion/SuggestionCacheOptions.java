@@ -0,0 +1,218 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Options for a {@link CachedSuggestionResolver}.
+ *
+ * @param <S> The sender type.
+ */
+public final class SuggestionCacheOptions<S> {
+
+    private final long expireAfterWriteNanos;
+    private final long refreshAfterWriteNanos;
+    private final int maximumSize;
+    private final Function<S, @Nullable Object> scope;
+    private final Executor refreshExecutor;
+
+    private SuggestionCacheOptions(final @NotNull Builder<S> builder) {
+        this.expireAfterWriteNanos = builder.expireAfterWrite.toNanos();
+        this.refreshAfterWriteNanos = builder.refreshAfterWrite == null ? 0 : builder.refreshAfterWrite.toNanos();
+        this.maximumSize = builder.maximumSize;
+        this.scope = builder.scope;
+        this.refreshExecutor = builder.refreshExecutor;
+    }
+
+    /**
+     * Creates a new builder with the default options, 5 seconds expiry, no refresh, 1024 scopes and scoped per sender id.
+     *
+     * @param <S> The sender type.
+     * @return A new {@link Builder}.
+     */
+    @Contract(" -> new")
+    public static <S> @NotNull Builder<S> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Gets how long suggestions live after they are resolved, in nanoseconds.
+     *
+     * @return The expiry in nanoseconds.
+     */
+    public long getExpireAfterWriteNanos() {
+        return expireAfterWriteNanos;
+    }
+
+    /**
+     * Gets after how long suggestions are refreshed in the background, in nanoseconds, 0 means never.
+     *
+     * @return The refresh time in nanoseconds.
+     */
+    public long getRefreshAfterWriteNanos() {
+        return refreshAfterWriteNanos;
+    }
+
+    /**
+     * Gets the amount of scopes kept before expired and then older entries are dropped.
+     *
+     * @return The maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the function that maps a sender into the scope the suggestions are cached for.
+     *
+     * @return The scope function, or null to scope per sender id, see {@link CachedSuggestionResolver}.
+     */
+    public @Nullable Function<S, @Nullable Object> getScope() {
+        return scope;
+    }
+
+    /**
+     * Gets the executor used for background refreshes.
+     *
+     * @return The refresh {@link Executor}, or null to use the one given to the {@link CachedSuggestionResolver}.
+     */
+    public @Nullable Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SuggestionCacheOptions{" +
+                "expireAfterWriteNanos=" + expireAfterWriteNanos +
+                ", refreshAfterWriteNanos=" + refreshAfterWriteNanos +
+                ", maximumSize=" + maximumSize +
+                '}';
+    }
+
+    /**
+     * Builder for {@link SuggestionCacheOptions}.
+     *
+     * @param <S> The sender type.
+     */
+    public static final class Builder<S> {
+
+        private Duration expireAfterWrite = Duration.ofSeconds(5);
+        private Duration refreshAfterWrite;
+        private int maximumSize = 1024;
+        private Function<S, @Nullable Object> scope = null;
+        private Executor refreshExecutor = null;
+
+        private Builder() {}
+
+        /**
+         * Sets how long suggestions live after they are resolved.
+         *
+         * @param expireAfterWrite The time to live, must be positive.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<S> expireAfterWrite(final @NotNull Duration expireAfterWrite) {
+            if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+                throw new IllegalArgumentException("Expiry must be positive, got " + expireAfterWrite);
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        /**
+         * Sets after how long suggestions are refreshed in the background.
+         * The old suggestions keep being served until the refresh is done, so typing never waits on it.
+         * Only useful if shorter than the expiry.
+         *
+         * @param refreshAfterWrite The refresh time, or null to not refresh.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<S> refreshAfterWrite(final @Nullable Duration refreshAfterWrite) {
+            if (refreshAfterWrite != null && (refreshAfterWrite.isNegative() || refreshAfterWrite.isZero())) {
+                throw new IllegalArgumentException("Refresh time must be positive, got " + refreshAfterWrite);
+            }
+            this.refreshAfterWrite = refreshAfterWrite;
+            return this;
+        }
+
+        /**
+         * Sets the amount of scopes kept, going over it drops expired and then older entries.
+         *
+         * @param maximumSize The maximum size, must be positive.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<S> maximumSize(final int maximumSize) {
+            if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive, got " + maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the scope of the cached suggestions, by default each sender has its own, keyed on its stable id like a UUID or user id.
+         * Return a constant if the suggestions are the same for everyone, for example a list of warps.
+         * The scope is kept until the entry expires, so return an id rather than a platform object.
+         *
+         * @param scope Function mapping a sender into its scope.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<S> scope(final @NotNull Function<S, @Nullable Object> scope) {
+            this.scope = scope;
+            return this;
+        }
+
+        /**
+         * Sets the executor used for background refreshes.
+         * By default, the refreshes of suggestions registered in a manager run on its asynchronous
+         * {@link dev.triumphteam.cmd.core.execution.ExecutionProvider}.
+         *
+         * @param refreshExecutor The refresh {@link Executor}.
+         * @return This builder.
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<S> refreshExecutor(final @NotNull Executor refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        /**
+         * Builds the options.
+         *
+         * @return New {@link SuggestionCacheOptions} with the data from this builder.
+         */
+        @Contract(" -> new")
+        public @NotNull SuggestionCacheOptions<S> build() {
+            return new SuggestionCacheOptions<>(this);
+        }
+    }
+}
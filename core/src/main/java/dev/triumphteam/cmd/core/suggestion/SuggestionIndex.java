@@ -0,0 +1,183 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable index of suggestions, sorted by their case folded form.
+ * A prefix lookup is two binary searches and returns a view of the matching range, so nothing is lowercased
+ * or copied while typing.
+ */
+public final class SuggestionIndex {
+
+    private static final SuggestionIndex EMPTY = new SuggestionIndex(new String[0], new String[0]);
+
+    private final String[] suggestions;
+    private final String[] folded;
+    private final List<String> view;
+
+    private SuggestionIndex(final @NotNull String @NotNull [] suggestions, final @NotNull String @NotNull [] folded) {
+        this.suggestions = suggestions;
+        this.folded = folded;
+        this.view = Collections.unmodifiableList(Arrays.asList(suggestions));
+    }
+
+    /**
+     * Creates an index with the given suggestions.
+     *
+     * @param suggestions The suggestions to index.
+     * @return A new {@link SuggestionIndex}.
+     */
+    @Contract("_ -> new")
+    public static @NotNull SuggestionIndex of(final @NotNull Collection<@NotNull String> suggestions) {
+        final int size = suggestions.size();
+        final String[][] pairs = new String[size][];
+
+        int index = 0;
+        for (final String suggestion : suggestions) {
+            pairs[index++] = new String[]{fold(suggestion), suggestion};
+        }
+        Arrays.sort(pairs, Comparator.comparing(pair -> pair[0]));
+
+        final String[] sorted = new String[size];
+        final String[] folded = new String[size];
+        for (int i = 0; i < size; i++) {
+            folded[i] = pairs[i][0];
+            sorted[i] = pairs[i][1];
+        }
+        return new SuggestionIndex(sorted, folded);
+    }
+
+    /**
+     * Gets an index without suggestions.
+     *
+     * @return The empty {@link SuggestionIndex}.
+     */
+    public static @NotNull SuggestionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets the suggestions that start with the prefix, ignoring case.
+     *
+     * @param prefix The typed prefix.
+     * @return A read only view of the matching suggestions, in folded order.
+     */
+    public @NotNull List<@NotNull String> startingWith(final @NotNull CharSequence prefix) {
+        if (prefix.length() == 0) return view;
+
+        final int from = search(prefix, false);
+        final int to = search(prefix, true);
+        return view.subList(from, to);
+    }
+
+    /**
+     * Gets all the suggestions.
+     *
+     * @return A read only view of all suggestions, in folded order.
+     */
+    public @NotNull List<@NotNull String> getAll() {
+        return view;
+    }
+
+    /**
+     * Gets the amount of suggestions.
+     *
+     * @return The size of the index.
+     */
+    public int size() {
+        return suggestions.length;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SuggestionIndex{" +
+                "suggestions=" + Arrays.toString(suggestions) +
+                '}';
+    }
+
+    /**
+     * Binary searches the first entry that comes after the prefix, or that starts with it when not searching the end.
+     *
+     * @param prefix The typed prefix.
+     * @param end    Whether to find the end of the range instead of the start.
+     * @return The index of the first entry of the range, or of the first entry after it.
+     */
+    private int search(final @NotNull CharSequence prefix, final boolean end) {
+        int low = 0;
+        int high = folded.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int compared = comparePrefix(folded[middle], prefix);
+            if (compared < 0 || (end && compared == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares a folded entry against the prefix, folding the prefix one character at a time.
+     *
+     * @param entry  The folded entry.
+     * @param prefix The typed prefix.
+     * @return 0 if the entry starts with the prefix, otherwise where the entry sorts relative to it.
+     */
+    private static int comparePrefix(final @NotNull String entry, final @NotNull CharSequence prefix) {
+        final int length = Math.min(entry.length(), prefix.length());
+        for (int i = 0; i < length; i++) {
+            final int compared = entry.charAt(i) - fold(prefix.charAt(i));
+            if (compared != 0) return compared;
+        }
+        return entry.length() < prefix.length() ? -1 : 0;
+    }
+
+    /**
+     * Folds the character the same way {@link String#equalsIgnoreCase} compares them.
+     *
+     * @param character The character to fold.
+     * @return The folded character.
+     */
+    private static char fold(final char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+    private static @NotNull String fold(final @NotNull String suggestion) {
+        final char[] folded = new char[suggestion.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(suggestion.charAt(i));
+        }
+        return new String(folded);
+    }
+}
@@ -28,8 +28,8 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Key used to identify the {@link } in the {@link }.
@@ -37,7 +37,7 @@ import java.util.Set;
 public final class SuggestionKey extends RegistryKey {
 
     // Holds all registered keys, default and custom ones
-    private static final Set<SuggestionKey> REGISTERED_KEYS = new HashSet<>();
+    private static final Set<SuggestionKey> REGISTERED_KEYS = ConcurrentHashMap.newKeySet();
 
     private SuggestionKey(final @NotNull String key) {
         super(key);
@@ -24,12 +24,12 @@
 package dev.triumphteam.cmd.core.suggestion;
 
 import dev.triumphteam.cmd.core.registry.Registry;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
 
 /**
  * Registry used for registering new suggestions for all commands to use.
@@ -38,8 +38,8 @@ import java.util.Map;
  */
 public final class SuggestionRegistry<S> implements Registry {
 
-    private final Map<SuggestionKey, SuggestionResolver<S>> suggestions = new HashMap<>();
-    private final Map<Class<?>, SuggestionResolver<S>> typeSuggestions = new HashMap<>();
+    private final SnapshotMap<SuggestionKey, SuggestionResolver<S>> suggestions = new SnapshotMap<>();
+    private final SnapshotMap<Class<?>, SuggestionResolver<S>> typeSuggestions = new SnapshotMap<>();
 
     /**
      * Registers a new {@link SuggestionResolver} for the specific Key.
@@ -61,6 +61,16 @@ public final class SuggestionRegistry<S> implements Registry {
         typeSuggestions.put(type, resolver);
     }
 
+    /**
+     * Registers a fixed list of suggestions for the specific Key, which is indexed for fast prefix lookups.
+     *
+     * @param key         The suggestion key.
+     * @param suggestions The suggestions.
+     */
+    public void register(final @NotNull SuggestionKey key, final @NotNull Collection<@NotNull String> suggestions) {
+        register(key, new StaticSuggestionResolver<>(suggestions));
+    }
+
     /**
      * Gets the {@link SuggestionResolver} for the specific Key.
      *
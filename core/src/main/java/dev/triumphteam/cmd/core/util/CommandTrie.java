@@ -0,0 +1,508 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, case-insensitive radix trie used for looking up commands, sub commands and their aliases.
+ * Keys are folded one character at a time, so lookups never create lowercase copies of the input.
+ * Every modification returns a new trie that shares the untouched nodes with the old one.
+ *
+ * @param <V> The type of the stored values.
+ */
+public final class CommandTrie<V> {
+
+    private static final char[] EMPTY_LABEL = new char[0];
+    private static final CommandTrie<?> EMPTY = new CommandTrie<>(new Node<>(EMPTY_LABEL, null, null, EMPTY_LABEL, Node.noChildren()), 0);
+
+    private final Node<V> root;
+    private final int size;
+
+    private CommandTrie(final @NotNull Node<V> root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Gets an empty trie.
+     *
+     * @param <V> The type of the values.
+     * @return An empty {@link CommandTrie}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> @NotNull CommandTrie<V> empty() {
+        return (CommandTrie<V>) EMPTY;
+    }
+
+    /**
+     * Gets the value for the given key, ignoring case.
+     *
+     * @param key The key to look for.
+     * @return The value or null if the key isn't present.
+     */
+    public @Nullable V get(final @NotNull CharSequence key) {
+        final Node<V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Checks if the key is present, ignoring case.
+     *
+     * @param key The key to look for.
+     * @return Whether the key is present.
+     */
+    public boolean contains(final @NotNull CharSequence key) {
+        final Node<V> node = find(key);
+        return node != null && node.key != null;
+    }
+
+    /**
+     * Gets the amount of keys in the trie.
+     *
+     * @return The size of the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the trie has no keys.
+     *
+     * @return Whether the trie is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Creates a new trie with the given key set to the value, replacing any previous value.
+     *
+     * @param key   The key, kept as is for the completions.
+     * @param value The value.
+     * @return A new {@link CommandTrie} containing the key.
+     */
+    @Contract("_, _ -> new")
+    public @NotNull CommandTrie<V> with(final @NotNull String key, final @NotNull V value) {
+        final char[] folded = fold(key);
+        final boolean present = contains(key);
+        return new CommandTrie<>(insert(root, folded, 0, key, value), present ? size : size + 1);
+    }
+
+    /**
+     * Creates a new trie with the given key set to the value, only if the key isn't present yet.
+     *
+     * @param key   The key, kept as is for the completions.
+     * @param value The value.
+     * @return A new {@link CommandTrie} containing the key, or this trie if the key was present.
+     */
+    public @NotNull CommandTrie<V> withIfAbsent(final @NotNull String key, final @NotNull V value) {
+        if (contains(key)) return this;
+        return with(key, value);
+    }
+
+    /**
+     * Creates a new trie with all the entries of the map, replacing any previous values.
+     *
+     * @param entries The entries to add.
+     * @return A new {@link CommandTrie} containing the entries, or this trie if the map is empty.
+     */
+    public @NotNull CommandTrie<V> withAll(final @NotNull Map<@NotNull String, ? extends V> entries) {
+        CommandTrie<V> trie = this;
+        for (final Map.Entry<String, ? extends V> entry : entries.entrySet()) {
+            trie = trie.with(entry.getKey(), entry.getValue());
+        }
+        return trie;
+    }
+
+    /**
+     * Creates a new trie without the given key, ignoring case.
+     * Only the nodes on the path to the key are copied, the rest are shared with this trie.
+     *
+     * @param key The key to remove.
+     * @return A new {@link CommandTrie} without the key, or this trie if the key wasn't present.
+     */
+    public @NotNull CommandTrie<V> without(final @NotNull CharSequence key) {
+        if (!contains(key)) return this;
+        if (size == 1) return empty();
+        return new CommandTrie<>(remove(root, key, 0), size - 1);
+    }
+
+    /**
+     * Creates a new trie without the entries whose value matches the filter.
+     *
+     * @param filter The filter for the values to remove.
+     * @return A new {@link CommandTrie} without the matching entries, or this trie if none matched.
+     */
+    public @NotNull CommandTrie<V> withoutIf(final @NotNull Predicate<? super V> filter) {
+        final List<String> keys = new ArrayList<>();
+        forEach((key, value) -> {
+            if (filter.test(value)) keys.add(key);
+        });
+
+        CommandTrie<V> trie = this;
+        for (final String key : keys) {
+            trie = trie.without(key);
+        }
+        return trie;
+    }
+
+    /**
+     * Gets all the keys that start with the given prefix, ignoring case, in alphabetical order.
+     *
+     * @param prefix The prefix to complete.
+     * @return A list with the matching keys.
+     */
+    public @NotNull List<@NotNull String> keysWithPrefix(final @NotNull CharSequence prefix) {
+        final List<String> keys = new ArrayList<>();
+        forEachWithPrefix(prefix, (key, value) -> keys.add(key));
+        return keys;
+    }
+
+    /**
+     * Runs the action for every entry whose key starts with the given prefix, ignoring case, in alphabetical order.
+     *
+     * @param prefix The prefix to complete.
+     * @param action The action to run with the key and value.
+     */
+    public void forEachWithPrefix(final @NotNull CharSequence prefix, final @NotNull BiConsumer<@NotNull String, @NotNull V> action) {
+        final int length = prefix.length();
+        Node<V> node = root;
+        int position = 0;
+
+        while (position < length) {
+            final Node<V> child = node.child(fold(prefix.charAt(position)));
+            if (child == null) return;
+
+            final char[] label = child.label;
+            for (int i = 0; i < label.length; i++) {
+                // Prefix ended midway through the label, the whole sub tree matches
+                if (position + i == length) break;
+                if (label[i] != fold(prefix.charAt(position + i))) return;
+            }
+
+            position += label.length;
+            node = child;
+        }
+
+        collect(node, action);
+    }
+
+    /**
+     * Runs the action for every entry in the trie, in alphabetical order.
+     *
+     * @param action The action to run with the key and value.
+     */
+    public void forEach(final @NotNull BiConsumer<@NotNull String, @NotNull V> action) {
+        collect(root, action);
+    }
+
+    /**
+     * Gets all the values in the trie, in alphabetical order of their keys.
+     *
+     * @return A list with the values.
+     */
+    public @NotNull List<@NotNull V> values() {
+        if (size == 0) return Collections.emptyList();
+        final List<V> values = new ArrayList<>(size);
+        collect(root, (key, value) -> values.add(value));
+        return values;
+    }
+
+    /**
+     * Gets the values that match the filter, in alphabetical order of their keys.
+     * A value stored under more than one key is included once per key.
+     *
+     * @param filter The filter for the values.
+     * @return A list with the matching values.
+     */
+    public @NotNull List<@NotNull V> values(final @NotNull Predicate<? super V> filter) {
+        final List<V> values = new ArrayList<>();
+        collect(root, (key, value) -> {
+            if (filter.test(value)) values.add(value);
+        });
+        return values;
+    }
+
+    /**
+     * Finds the node that exactly matches the key.
+     *
+     * @param key The key to look for.
+     * @return The node or null if no node matches the key.
+     */
+    private @Nullable Node<V> find(final @NotNull CharSequence key) {
+        final int length = key.length();
+        Node<V> node = root;
+        int position = 0;
+
+        while (position < length) {
+            final Node<V> child = node.child(fold(key.charAt(position)));
+            if (child == null) return null;
+
+            final char[] label = child.label;
+            if (position + label.length > length) return null;
+            for (int i = 0; i < label.length; i++) {
+                if (label[i] != fold(key.charAt(position + i))) return null;
+            }
+
+            position += label.length;
+            node = child;
+        }
+
+        return node.key == null ? null : node;
+    }
+
+    /**
+     * Recursively copies the path to the key, adding or replacing the key's node.
+     *
+     * @param node     The current node.
+     * @param folded   The folded key.
+     * @param position The position on the key after this node's label.
+     * @param key      The original key.
+     * @param value    The value to insert.
+     * @return The new node that replaces the current one.
+     */
+    private static <V> @NotNull Node<V> insert(
+            final @NotNull Node<V> node,
+            final char @NotNull [] folded,
+            final int position,
+            final @NotNull String key,
+            final @NotNull V value
+    ) {
+        if (position == folded.length) {
+            return new Node<>(node.label, key, value, node.firsts, node.children);
+        }
+
+        final char first = folded[position];
+        final int index = Arrays.binarySearch(node.firsts, first);
+
+        // No child starts with this character, so the rest of the key becomes a leaf
+        if (index < 0) {
+            final Node<V> leaf = new Node<>(Arrays.copyOfRange(folded, position, folded.length), key, value, EMPTY_LABEL, Node.noChildren());
+            return node.withChild(-(index + 1), leaf, true);
+        }
+
+        final Node<V> child = node.children[index];
+        final char[] label = child.label;
+        final int common = commonPrefix(label, folded, position);
+
+        if (common == label.length) {
+            return node.withChild(index, insert(child, folded, position + common, key, value), false);
+        }
+
+        // The key diverges midway through the child's label, so the label needs to be split
+        final Node<V> rest = new Node<>(Arrays.copyOfRange(label, common, label.length), child.key, child.value, child.firsts, child.children);
+        Node<V> split = new Node<>(Arrays.copyOf(label, common), null, null, EMPTY_LABEL, Node.noChildren());
+        split = split.withChild(0, rest, true);
+        split = insert(split, folded, position + common, key, value);
+
+        return node.withChild(index, split, false);
+    }
+
+    /**
+     * Recursively copies the path to the key, removing the key from its node.
+     * Nodes left without a key are dropped or merged with their only child, so the trie stays compressed.
+     *
+     * @param node     The current node.
+     * @param key      The key to remove, must be present.
+     * @param position The position on the key after this node's label.
+     * @return The new node that replaces the current one, or null if it should be dropped.
+     */
+    private static <V> @Nullable Node<V> remove(final @NotNull Node<V> node, final @NotNull CharSequence key, final int position) {
+        final Node<V> removed;
+        if (position == key.length()) {
+            removed = new Node<>(node.label, null, null, node.firsts, node.children);
+        } else {
+            final int index = Arrays.binarySearch(node.firsts, fold(key.charAt(position)));
+            final Node<V> child = node.children[index];
+            final Node<V> newChild = remove(child, key, position + child.label.length);
+            removed = newChild == null ? node.withoutChild(index) : node.withChild(index, newChild, false);
+        }
+
+        // Only the root has an empty label, and it is always kept
+        if (removed.key != null || removed.label.length == 0) return removed;
+
+        final Node<V>[] children = removed.children;
+        if (children.length == 0) return null;
+        if (children.length > 1) return removed;
+
+        final Node<V> child = children[0];
+        final char[] label = Arrays.copyOf(removed.label, removed.label.length + child.label.length);
+        System.arraycopy(child.label, 0, label, removed.label.length, child.label.length);
+        return new Node<>(label, child.key, child.value, child.firsts, child.children);
+    }
+
+    /**
+     * Visits every entry under the node in order.
+     *
+     * @param node   The node to start from.
+     * @param action The action to run.
+     */
+    private static <V> void collect(final @NotNull Node<V> node, final @NotNull BiConsumer<@NotNull String, @NotNull V> action) {
+        if (node.key != null) action.accept(node.key, node.value);
+        for (final Node<V> child : node.children) {
+            collect(child, action);
+        }
+    }
+
+    /**
+     * Gets how many characters the label shares with the key from the given position.
+     *
+     * @param label    The node label.
+     * @param folded   The folded key.
+     * @param position The position on the key.
+     * @return The length of the common prefix.
+     */
+    private static int commonPrefix(final char @NotNull [] label, final char @NotNull [] folded, final int position) {
+        final int max = Math.min(label.length, folded.length - position);
+        int i = 0;
+        while (i < max && label[i] == folded[position + i]) i++;
+        return i;
+    }
+
+    /**
+     * Folds the character so different cases are considered equal.
+     *
+     * @param character The character to fold.
+     * @return The folded character.
+     */
+    private static char fold(final char character) {
+        // Fast path for ASCII, which is basically every command name
+        if (character < 128) {
+            return character >= 'A' && character <= 'Z' ? (char) (character + 32) : character;
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+    /**
+     * Folds the whole key.
+     *
+     * @param key The key to fold.
+     * @return The folded characters.
+     */
+    private static char @NotNull [] fold(final @NotNull String key) {
+        final char[] folded = new char[key.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(key.charAt(i));
+        }
+        return folded;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder("CommandTrie{");
+        forEach((key, value) -> {
+            if (builder.length() > 12) builder.append(", ");
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Node of the trie, children are sorted by the first character of their labels.
+     *
+     * @param <V> The type of the value.
+     */
+    private static final class Node<V> {
+
+        private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+        private final char[] label;
+        private final String key;
+        private final V value;
+        private final char[] firsts;
+        private final Node<V>[] children;
+
+        private Node(
+                final char @NotNull [] label,
+                final @Nullable String key,
+                final @Nullable V value,
+                final char @NotNull [] firsts,
+                final @NotNull Node<V> @NotNull [] children
+        ) {
+            this.label = label;
+            this.key = key;
+            this.value = value;
+            this.firsts = firsts;
+            this.children = children;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> @NotNull Node<V> @NotNull [] noChildren() {
+            return (Node<V>[]) NO_CHILDREN;
+        }
+
+        private @Nullable Node<V> child(final char first) {
+            final int index = Arrays.binarySearch(firsts, first);
+            return index < 0 ? null : children[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        private @NotNull Node<V> withChild(final int index, final @NotNull Node<V> child, final boolean insert) {
+            if (!insert) {
+                final Node<V>[] newChildren = children.clone();
+                newChildren[index] = child;
+                return new Node<>(label, key, value, firsts, newChildren);
+            }
+
+            final int length = children.length;
+            final char[] newFirsts = new char[length + 1];
+            final Node<V>[] newChildren = (Node<V>[]) new Node<?>[length + 1];
+
+            System.arraycopy(firsts, 0, newFirsts, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newFirsts[index] = child.label[0];
+            newChildren[index] = child;
+            System.arraycopy(firsts, index, newFirsts, index + 1, length - index);
+            System.arraycopy(children, index, newChildren, index + 1, length - index);
+
+            return new Node<>(label, key, value, newFirsts, newChildren);
+        }
+
+        @SuppressWarnings("unchecked")
+        private @NotNull Node<V> withoutChild(final int index) {
+            final int length = children.length;
+            final char[] newFirsts = new char[length - 1];
+            final Node<V>[] newChildren = (Node<V>[]) new Node<?>[length - 1];
+
+            System.arraycopy(firsts, 0, newFirsts, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(firsts, index + 1, newFirsts, index, length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, length - index - 1);
+
+            return new Node<>(label, key, value, newFirsts, newChildren);
+        }
+    }
+}
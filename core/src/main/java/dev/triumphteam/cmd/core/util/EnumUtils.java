@@ -25,54 +25,122 @@ package dev.triumphteam.cmd.core.util;
 
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+/**
+ * Lock free cache of enum constants, kept in a {@link ClassValue} so it goes away together with the enum class.
+ * Only JDK types are stored as the cached value, so the enum class never keeps this library's class loader alive.
+ */
 public final class EnumUtils {
 
-    private static final Map<Class<? extends Enum<?>>, Map<String, WeakReference<? extends Enum<?>>>> ENUM_CONSTANT_CACHE = new WeakHashMap<>();
+    private static final int TABLE = 0;
+    private static final int NAMES = 1;
+
+    private static final ClassValue<Object[]> ENUM_CONSTANT_CACHE = new ClassValue<Object[]>() {
+        @Override
+        protected Object @NotNull [] computeValue(final @NotNull Class<?> type) {
+            return createEntry(type);
+        }
+    };
 
     private EnumUtils() {throw new AssertionError("Util must not be initialized");}
 
     /**
-     * Slightly modified version from Guava's {@link com.google.common.base.Enums#getIfPresent}.
-     * Modifications done is to allow capture `?` instead of generic type.
+     * Gets the constant with the given name, ignoring ASCII case, without allocating.
      *
      * @param enumClass A non-generic Enum class.
-     * @return A map with enum values that was previously cached.
+     * @param name      The typed name.
+     * @return The constant or null if there is none with that name.
      */
-    public static @NotNull Map<@NotNull String, @NotNull WeakReference<? extends Enum<?>>> getEnumConstants(final @NotNull Class<? extends Enum<?>> enumClass) {
-        synchronized (ENUM_CONSTANT_CACHE) {
-            Map<String, WeakReference<? extends Enum<?>>> constants = ENUM_CONSTANT_CACHE.get(enumClass);
-            if (constants == null) constants = populateCache(enumClass);
-            return constants;
+    public static @Nullable Enum<?> getEnumConstant(final @NotNull Class<? extends Enum<?>> enumClass, final @NotNull CharSequence name) {
+        final Enum<?>[] table = (Enum<?>[]) ENUM_CONSTANT_CACHE.get(enumClass)[TABLE];
+        final int mask = table.length - 1;
+
+        int slot = hash(name) & mask;
+        while (true) {
+            final Enum<?> constant = table[slot];
+            if (constant == null) return null;
+            if (equalsIgnoreAsciiCase(constant.name(), name)) return constant;
+            slot = (slot + 1) & mask;
         }
     }
 
     /**
-     * Slightly modified version from Guava's {@link com.google.common.base.Enums#getIfPresent}.
-     * Modifications done is to allow capture `?` instead of generic type.
+     * Gets the names of all the constants, in declaration order.
      *
      * @param enumClass A non-generic Enum class.
-     * @return A map with enum values that was just populated to the cache.
+     * @return A read only list with the constant names.
+     */
+    @SuppressWarnings("unchecked")
+    public static @NotNull List<@NotNull String> getEnumNames(final @NotNull Class<? extends Enum<?>> enumClass) {
+        return (List<String>) ENUM_CONSTANT_CACHE.get(enumClass)[NAMES];
+    }
+
+    /**
+     * Populates the cache ahead of time, to reduce the runtime of the first use of big enums, like Bukkit's Material.
+     *
+     * @param enumClass A non-generic Enum class.
+     * @throws CommandRegistrationException If the enum has constants whose names only differ in case.
+     */
+    public static void populateCache(final @NotNull Class<? extends Enum<?>> enumClass) {
+        ENUM_CONSTANT_CACHE.get(enumClass);
+    }
+
+    /**
+     * Creates the open addressing table, sized to stay at most half full, and the list of names.
+     *
+     * @param enumClass The enum class.
+     * @return The cache entry.
      */
-    public static @NotNull Map<String, WeakReference<? extends Enum<?>>> populateCache(final @NotNull Class<? extends Enum<?>> enumClass) {
-        final Map<String, WeakReference<? extends Enum<?>>> result = new HashMap<>();
-
-        for (Enum<?> enumInstance : enumClass.getEnumConstants()) {
-            final String name = enumInstance.name().toUpperCase();
-            if (result.containsKey(name)) {
-                throw new CommandRegistrationException(
-                        "Provided enum \"" + enumClass.getSimpleName() + "\" has multiple values with the name \"" + name + "\""
-                );
+    private static Object @NotNull [] createEntry(final @NotNull Class<?> enumClass) {
+        final Enum<?>[] constants = (Enum<?>[]) enumClass.getEnumConstants();
+        final String[] names = new String[constants.length];
+        final Enum<?>[] table = new Enum<?>[Math.max(2, Integer.highestOneBit(Math.max(1, constants.length) * 2 - 1) << 1)];
+        final int mask = table.length - 1;
+
+        for (int i = 0; i < constants.length; i++) {
+            final Enum<?> constant = constants[i];
+            final String name = constant.name();
+            names[i] = name;
+
+            int slot = hash(name) & mask;
+            while (table[slot] != null) {
+                if (equalsIgnoreAsciiCase(table[slot].name(), name)) {
+                    throw new CommandRegistrationException(
+                            "Provided enum \"" + enumClass.getSimpleName() + "\" has multiple values with the name \"" + name + "\""
+                    );
+                }
+                slot = (slot + 1) & mask;
             }
-            result.put(name, new WeakReference<Enum<?>>(enumInstance));
+            table[slot] = constant;
         }
 
-        ENUM_CONSTANT_CACHE.put(enumClass, result);
-        return result;
+        return new Object[]{table, Collections.unmodifiableList(Arrays.asList(names))};
+    }
+
+    private static int hash(final @NotNull CharSequence name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + toUpperAscii(name.charAt(i));
+        }
+        // Spreads the higher bits, since the table is indexed by the lower ones
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean equalsIgnoreAsciiCase(final @NotNull String name, final @NotNull CharSequence other) {
+        final int length = name.length();
+        if (length != other.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (toUpperAscii(name.charAt(i)) != toUpperAscii(other.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static char toUpperAscii(final char character) {
+        return character >= 'a' && character <= 'z' ? (char) (character - ('a' - 'A')) : character;
     }
 }
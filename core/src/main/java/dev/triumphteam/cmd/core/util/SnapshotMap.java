@@ -0,0 +1,143 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Copy on write map, used by the registries.
+ * Reads are a single volatile read of an immutable snapshot plus a hash lookup, without locking.
+ * Writes are serialized, copy the snapshot, change the copy and publish it, so readers on other threads
+ * either see the whole change or none of it.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public final class SnapshotMap<K, V> {
+
+    private volatile Map<K, V> snapshot = Collections.emptyMap();
+
+    /**
+     * Gets the value for the key.
+     *
+     * @param key The key.
+     * @return The value or null if there is none.
+     */
+    public @Nullable V get(final @NotNull Object key) {
+        return snapshot.get(key);
+    }
+
+    /**
+     * Checks if there is a value for the key.
+     *
+     * @param key The key.
+     * @return Whether the key is present.
+     */
+    public boolean containsKey(final @NotNull Object key) {
+        return snapshot.containsKey(key);
+    }
+
+    /**
+     * Puts the value for the key, replacing the previous one.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return The previous value or null if there was none.
+     */
+    public synchronized @Nullable V put(final @NotNull K key, final @NotNull V value) {
+        final Map<K, V> copy = new HashMap<>(snapshot);
+        final V previous = copy.put(key, value);
+        snapshot = Collections.unmodifiableMap(copy);
+        return previous;
+    }
+
+    /**
+     * Gets the value for the key, computing and publishing it first if there is none.
+     *
+     * @param key      The key.
+     * @param function Function to compute the value, called while holding the write lock.
+     * @return The present or computed value.
+     */
+    public synchronized @NotNull V computeIfAbsent(final @NotNull K key, final @NotNull Function<? super K, ? extends V> function) {
+        final V present = snapshot.get(key);
+        if (present != null) return present;
+
+        final V value = function.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes the value for the key.
+     *
+     * @param key The key.
+     * @return The removed value or null if there was none.
+     */
+    public synchronized @Nullable V remove(final @NotNull Object key) {
+        if (!snapshot.containsKey(key)) return null;
+
+        final Map<K, V> copy = new HashMap<>(snapshot);
+        final V previous = copy.remove(key);
+        snapshot = copy.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(copy);
+        return previous;
+    }
+
+    /**
+     * Gets the current snapshot, later changes are not reflected on it.
+     *
+     * @return An immutable view of the entries.
+     */
+    public @NotNull Map<K, V> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the amount of entries.
+     *
+     * @return The size of the map.
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Checks if there are no entries.
+     *
+     * @return Whether the map is empty.
+     */
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SnapshotMap" + snapshot;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.execution;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each command on its own virtual thread, so commands blocking on I/O don't hold a platform thread.
+ * This is the Java 21 version from the multi-release layer of the jar, older JVMs load the Java 8 version instead.
+ */
+public final class VirtualThreadExecutionProvider implements ExecutionProvider {
+
+    /**
+     * Maximum amount of platform threads used when the JVM has no virtual threads, unused in this version.
+     */
+    public static final int FALLBACK_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("triumph-cmd-virtual-", 0).factory()
+    );
+
+    public VirtualThreadExecutionProvider() {}
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws java.util.concurrent.RejectedExecutionException If the provider was shut down.
+     */
+    @Override
+    public void execute(final @NotNull Runnable command) {
+        executor.execute(command);
+    }
+
+    /**
+     * Stops accepting commands and waits for the running ones to finish, interrupting them once the timeout passes.
+     *
+     * @param timeout How long to wait for the commands to finish.
+     * @return Whether every command finished in time.
+     */
+    @Override
+    public boolean shutdown(final @NotNull Duration timeout) {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS)) return true;
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        executor.shutdownNow();
+        return false;
+    }
+
+    /**
+     * Checks if the commands run on virtual threads, always true in this version.
+     *
+     * @return Whether virtual threads are used.
+     */
+    public boolean isVirtual() {
+        return true;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "VirtualThreadExecutionProvider{" +
+                "virtual=" + true +
+                '}';
+    }
+}
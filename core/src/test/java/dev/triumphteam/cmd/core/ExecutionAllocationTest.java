@@ -0,0 +1,139 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core;
+
+import dev.triumphteam.cmd.core.annotation.Command;
+import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
+import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
+import dev.triumphteam.cmd.core.registry.RegistryContainer;
+import dev.triumphteam.cmd.core.sender.SenderValidator;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the allocations of a sub command execution, see {@link AbstractSubCommand#execute}.
+ */
+class ExecutionAllocationTest {
+
+    private static final int WARMUP = 50_000;
+    private static final int INVOCATIONS = 100_000;
+
+    // The invoking and primitive arrays plus the dispatched runnable, about 150 bytes; boxing or copying the arguments goes over it
+    private static final long BUDGET_BYTES_PER_INVOCATION = 192;
+
+    @Test
+    void execute_stays_within_the_allocation_budget() throws NoSuchMethodException {
+        final com.sun.management.ThreadMXBean threads = threadBean();
+        assumeTrue(threads != null, "Thread allocation counters aren't supported on this JVM");
+
+        final TestCommand command = new TestCommand();
+        final Method method = TestCommand.class.getDeclaredMethod("run", String.class, int.class, long.class, String.class);
+        final RegistryContainer<String> registries = new RegistryContainer<>();
+        final TestSubCommand subCommand = new TestSubCommand(
+                new TestSubCommandProcessor(command, method, registries),
+                new SyncExecutionProvider()
+        );
+
+        final List<String> args = Arrays.asList("42", "1234567890", "name");
+        for (int i = 0; i < WARMUP; i++) subCommand.execute("sender", args);
+
+        final long thread = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < INVOCATIONS; i++) subCommand.execute("sender", args);
+        final long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertThat(command.total).isEqualTo((long) (WARMUP + INVOCATIONS) * (42 + 1234567890L));
+        assertThat(allocated / INVOCATIONS)
+                .as("bytes allocated per execution")
+                .isLessThanOrEqualTo(BUDGET_BYTES_PER_INVOCATION);
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) return null;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    @Command("test")
+    public static final class TestCommand extends BaseCommand {
+
+        private long total = 0;
+
+        @Default
+        public void run(final String sender, final int count, final long amount, final String name) {
+            total += count + amount;
+        }
+    }
+
+    private static final class TestSubCommandProcessor extends AbstractSubCommandProcessor<String> {
+
+        private TestSubCommandProcessor(
+                final @NotNull BaseCommand baseCommand,
+                final @NotNull Method method,
+                final @NotNull RegistryContainer<String> registries
+        ) {
+            super(baseCommand, "test", method, registries, new TestSenderValidator());
+        }
+    }
+
+    private static final class TestSubCommand extends AbstractSubCommand<String> {
+
+        private TestSubCommand(final @NotNull TestSubCommandProcessor processor, final @NotNull SyncExecutionProvider provider) {
+            super(processor, "test", provider);
+        }
+    }
+
+    private static final class TestSenderValidator implements SenderValidator<String> {
+
+        @Override
+        public @NotNull Set<Class<? extends String>> getAllowedSenders() {
+            return Collections.singleton(String.class);
+        }
+
+        @Override
+        public boolean validate(
+                final @NotNull MessageRegistry<String> messageRegistry,
+                final @NotNull SubCommand<String> subCommand,
+                final @NotNull String sender
+        ) {
+            return true;
+        }
+    }
+}
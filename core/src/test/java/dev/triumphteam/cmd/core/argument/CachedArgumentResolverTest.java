@@ -0,0 +1,164 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.argument;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedArgumentResolverTest {
+
+    @Test
+    void serves_repeated_lookups_from_the_cache() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedArgumentResolver<Sender> resolver = new CachedArgumentResolver<>(
+                (sender, arg) -> arg + calls.incrementAndGet(),
+                ResolverCacheOptions.<Sender>builder().build(),
+                Sender::getId
+        );
+
+        final Object first = resolver.resolve(new Sender("a"), "value");
+        // A new sender object with the same id shares the entry
+        assertThat(resolver.resolve(new Sender("a"), "value")).isEqualTo(first);
+        assertThat(resolver.resolve(new Sender("b"), "value")).isNotEqualTo(first);
+
+        assertThat(calls).hasValue(2);
+        assertThat(resolver.getHitCount()).isEqualTo(1);
+        assertThat(resolver.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void configured_scope_wins_over_the_sender_id() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedArgumentResolver<Sender> resolver = new CachedArgumentResolver<>(
+                (sender, arg) -> calls.incrementAndGet(),
+                ResolverCacheOptions.<Sender>builder().scope(sender -> "global").build(),
+                Sender::getId
+        );
+
+        resolver.resolve(new Sender("a"), "value");
+        resolver.resolve(new Sender("b"), "value");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void stays_around_the_maximum_size() {
+        final int maximumSize = 100;
+        final CachedArgumentResolver<Sender> resolver = new CachedArgumentResolver<>(
+                (sender, arg) -> arg,
+                ResolverCacheOptions.<Sender>builder().maximumSize(maximumSize).build(),
+                Sender::getId
+        );
+
+        final Sender sender = new Sender("a");
+        for (int i = 0; i < 10_000; i++) resolver.resolve(sender, String.valueOf(i));
+
+        // Each segment rounds its share up
+        assertThat(resolver.size()).isLessThanOrEqualTo(maximumSize + CachedArgumentResolver.MAX_SEGMENTS);
+        assertThat(resolver.getEvictionCount()).isEqualTo(10_000 - resolver.size());
+    }
+
+    @Test
+    void single_entry_cache_keeps_the_latest() {
+        final CachedArgumentResolver<Sender> resolver = new CachedArgumentResolver<>(
+                (sender, arg) -> arg,
+                ResolverCacheOptions.<Sender>builder().maximumSize(1).build(),
+                Sender::getId
+        );
+
+        final Sender sender = new Sender("a");
+        resolver.resolve(sender, "first");
+        resolver.resolve(sender, "second");
+        resolver.resolve(sender, "second");
+
+        assertThat(resolver.size()).isEqualTo(1);
+        assertThat(resolver.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidates_entries() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedArgumentResolver<Sender> resolver = new CachedArgumentResolver<>(
+                (sender, arg) -> calls.incrementAndGet(),
+                ResolverCacheOptions.<Sender>builder().build(),
+                Sender::getId
+        );
+
+        final Sender sender = new Sender("a");
+        resolver.resolve(sender, "one");
+        resolver.resolve(sender, "two");
+        resolver.invalidate(sender, "one");
+        assertThat(resolver.size()).isEqualTo(1);
+
+        resolver.invalidateAll();
+        assertThat(resolver.size()).isZero();
+        resolver.resolve(sender, "two");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void concurrent_lookups_are_consistent() throws InterruptedException {
+        final CachedArgumentResolver<Sender> resolver = new CachedArgumentResolver<>(
+                (sender, arg) -> arg.length(),
+                ResolverCacheOptions.<Sender>builder().maximumSize(64).build(),
+                Sender::getId
+        );
+
+        final List<Thread> threads = new ArrayList<>();
+        final AtomicInteger wrong = new AtomicInteger();
+        for (int t = 0; t < 8; t++) {
+            final Sender sender = new Sender("sender" + (t % 2));
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    final String arg = "x" + (i % 200);
+                    if (!Integer.valueOf(arg.length()).equals(resolver.resolve(sender, arg))) wrong.incrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (final Thread thread : threads) thread.join();
+
+        assertThat(wrong).hasValue(0);
+        assertThat(resolver.getHitCount() + resolver.getMissCount()).isEqualTo(8 * 20_000);
+        assertThat(resolver.size()).isLessThanOrEqualTo(64 + CachedArgumentResolver.MAX_SEGMENTS);
+    }
+
+    private static final class Sender {
+
+        private final String id;
+
+        private Sender(final String id) {
+            this.id = id;
+        }
+
+        private String getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommandTokenizerTest {
+
+    @Test
+    void splits_on_whitespace_runs_and_newlines() {
+        final TokenizedInput tokens = CommandTokenizer.tokenize("  give \t Steve\n\n diamond \r\n 64  ");
+
+        assertThat(tokens).containsExactly("give", "Steve", "diamond", "64");
+    }
+
+    @Test
+    void blank_input_has_no_tokens() {
+        final TokenizedInput tokens = CommandTokenizer.tokenize(" \t\n ");
+
+        assertThat(tokens).isEmpty();
+        assertThat(tokens.getRaw()).isEmpty();
+    }
+
+    @Test
+    void quoted_text_is_a_single_token() {
+        assertThat(CommandTokenizer.tokenize("say \"hello   there\" now")).containsExactly("say", "hello   there", "now");
+        assertThat(CommandTokenizer.tokenize("name=\"Steve Jobs\"")).containsExactly("name=Steve Jobs");
+        assertThat(CommandTokenizer.tokenize("a \"\" b")).containsExactly("a", "", "b");
+    }
+
+    @Test
+    void quotes_can_span_newlines() {
+        assertThat(CommandTokenizer.tokenize("note \"first\nsecond\"")).containsExactly("note", "first\nsecond");
+    }
+
+    @Test
+    void unterminated_quote_runs_to_the_end() {
+        assertThat(CommandTokenizer.tokenize("say \"hello there")).containsExactly("say", "hello there");
+        assertThat(CommandTokenizer.tokenize("\"")).containsExactly("");
+    }
+
+    @Test
+    void escaped_quotes_and_whitespace_stay_in_the_token() {
+        assertThat(CommandTokenizer.tokenize("say \\\"hi\\\"")).containsExactly("say", "\"hi\"");
+        assertThat(CommandTokenizer.tokenize("diamond\\ sword 64")).containsExactly("diamond sword", "64");
+        assertThat(CommandTokenizer.tokenize("\"a \\\" b\"")).containsExactly("a \" b");
+    }
+
+    @Test
+    void escaped_backslash_is_a_single_backslash() {
+        assertThat(CommandTokenizer.tokenize("\\\\")).containsExactly("\\");
+        assertThat(CommandTokenizer.tokenize("C:\\\\temp")).containsExactly("C:\\temp");
+        // The escaped backslash doesn't escape the quote after it, which still opens a quoted section
+        assertThat(CommandTokenizer.tokenize("\\\\\"a b\"")).containsExactly("\\a b");
+    }
+
+    @Test
+    void other_backslashes_are_kept() {
+        assertThat(CommandTokenizer.tokenize("\\*bold\\* \\n")).containsExactly("\\*bold\\*", "\\n");
+        assertThat(CommandTokenizer.tokenize("trailing\\")).containsExactly("trailing\\");
+    }
+
+    @Test
+    void token_ranges_include_the_quotes() {
+        final TokenizedInput tokens = CommandTokenizer.tokenize("a \"b c\"");
+
+        assertThat(tokens.getStart(1)).isEqualTo(2);
+        assertThat(tokens.getEnd(1)).isEqualTo(7);
+        assertThat(tokens.getRaw()).isEqualTo("a \"b c\"");
+    }
+
+    @Test
+    void sub_list_raw_keeps_the_text_as_typed() {
+        final String input = "give  \"Steve Jobs\"   diamond\\ sword  64";
+        final TokenizedInput tokens = CommandTokenizer.tokenize(input);
+        final List<String> middle = tokens.subList(1, 3);
+
+        assertThat(middle).isInstanceOf(TokenizedInput.class).containsExactly("Steve Jobs", "diamond sword");
+        assertThat(((TokenizedInput) middle).getRaw()).isEqualTo("\"Steve Jobs\"   diamond\\ sword");
+        assertThat(CommandTokenizer.join(middle)).isEqualTo("\"Steve Jobs\"   diamond\\ sword");
+        assertThat(((TokenizedInput) middle).getSource()).isSameAs(input);
+    }
+
+    @Test
+    void nested_sub_lists_share_the_input() {
+        final TokenizedInput tokens = CommandTokenizer.tokenize("msg Steve key=value other=\"two words\"");
+        final TokenizedInput named = (TokenizedInput) tokens.subList(1, 4).subList(1, 3);
+
+        assertThat(named).containsExactly("key=value", "other=two words");
+        assertThat(named.getRaw()).isEqualTo("key=value other=\"two words\"");
+        assertThat(((TokenizedInput) tokens.subList(2, 2)).getRaw()).isEmpty();
+    }
+
+    @Test
+    void sub_list_bounds_are_checked() {
+        final TokenizedInput tokens = CommandTokenizer.tokenize("a b c");
+        final List<String> tail = tokens.subList(1, 3);
+
+        assertThatThrownBy(() -> tokens.subList(2, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> tail.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> ((TokenizedInput) tail).getStart(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void join_of_other_lists_uses_a_space() {
+        assertThat(CommandTokenizer.join(Arrays.asList("a", "b  c"))).isEqualTo("a b  c");
+    }
+}
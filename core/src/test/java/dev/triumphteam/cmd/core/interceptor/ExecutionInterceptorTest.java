@@ -0,0 +1,264 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.interceptor;
+
+import dev.triumphteam.cmd.core.AbstractSubCommand;
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.SubCommand;
+import dev.triumphteam.cmd.core.annotation.Command;
+import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
+import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
+import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.message.MessageRegistry;
+import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
+import dev.triumphteam.cmd.core.registry.RegistryContainer;
+import dev.triumphteam.cmd.core.sender.SenderValidator;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutionInterceptorTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private final List<ExecutionOutcome> outcomes = new ArrayList<>();
+
+    @Test
+    void invocation_completes_every_interceptor_in_reverse_order() throws NoSuchMethodException {
+        final TestCommand command = new TestCommand();
+        final SubCommand<String> subCommand = subCommand(command, new SyncExecutionProvider(), new RecordingInterceptor("a", true, true), new RecordingInterceptor("b", true, true));
+
+        subCommand.execute("sender", Collections.singletonList("1"));
+
+        assertThat(command.runs).isEqualTo(1);
+        assertThat(calls).containsExactly("a:before", "b:before", "a:after", "b:after", "b:invocation", "a:invocation", "b:execution", "a:execution");
+        assertThat(outcomes).allSatisfy(outcome -> {
+            assertThat(outcome.getStatus()).isEqualTo(ExecutionOutcome.Status.INVOKED);
+            assertThat(outcome.getThrowable()).isNull();
+        });
+    }
+
+    @Test
+    void cancelling_before_arguments_completes_only_the_interceptors_that_ran() throws NoSuchMethodException {
+        final TestCommand command = new TestCommand();
+        final SubCommand<String> subCommand = subCommand(
+                command,
+                new SyncExecutionProvider(),
+                new RecordingInterceptor("a", true, true),
+                new RecordingInterceptor("b", false, true),
+                new RecordingInterceptor("c", true, true)
+        );
+
+        subCommand.execute("sender", Collections.singletonList("1"));
+
+        assertThat(command.runs).isZero();
+        assertThat(calls).containsExactly("a:before", "b:before", "b:execution", "a:execution");
+        assertThat(outcomes).allSatisfy(outcome -> assertThat(outcome.getStatus()).isEqualTo(ExecutionOutcome.Status.CANCELLED));
+    }
+
+    @Test
+    void cancelling_after_arguments_completes_every_interceptor() throws NoSuchMethodException {
+        final TestCommand command = new TestCommand();
+        final SubCommand<String> subCommand = subCommand(command, new SyncExecutionProvider(), new RecordingInterceptor("a", true, false), new RecordingInterceptor("b", true, true));
+
+        subCommand.execute("sender", Collections.singletonList("1"));
+
+        assertThat(command.runs).isZero();
+        assertThat(calls).containsExactly("a:before", "b:before", "a:after", "b:execution", "a:execution");
+        assertThat(outcomes).allSatisfy(outcome -> assertThat(outcome.getStatus()).isEqualTo(ExecutionOutcome.Status.CANCELLED));
+    }
+
+    @Test
+    void invalid_argument_completes_with_its_message_key() throws NoSuchMethodException {
+        final TestCommand command = new TestCommand();
+        final SubCommand<String> subCommand = subCommand(command, new SyncExecutionProvider(), new RecordingInterceptor("a", true, true));
+
+        subCommand.execute("sender", Collections.singletonList("one"));
+        subCommand.execute("sender", Arrays.asList("1", "2"));
+
+        assertThat(command.runs).isZero();
+        assertThat(calls).containsExactly("a:before", "a:execution", "a:before", "a:execution");
+        assertThat(outcomes).extracting(ExecutionOutcome::getStatus).containsOnly(ExecutionOutcome.Status.FAILED);
+        assertThat(outcomes).extracting(ExecutionOutcome::getMessageKey).containsExactly(MessageKey.INVALID_ARGUMENT, MessageKey.TOO_MANY_ARGUMENTS);
+    }
+
+    @Test
+    void rejected_execution_completes_with_the_rejection() throws NoSuchMethodException {
+        final TestCommand command = new TestCommand();
+        final RejectedExecutionException rejection = new RejectedExecutionException("full");
+        final SubCommand<String> subCommand = subCommand(command, runnable -> { throw rejection; }, new RecordingInterceptor("a", true, true));
+
+        subCommand.execute("sender", Collections.singletonList("1"));
+
+        assertThat(command.runs).isZero();
+        assertThat(calls).containsExactly("a:before", "a:after", "a:execution");
+        assertThat(outcomes).singleElement().satisfies(outcome -> {
+            assertThat(outcome.getStatus()).isEqualTo(ExecutionOutcome.Status.REJECTED);
+            assertThat(outcome.getMessageKey()).isEqualTo(MessageKey.EXECUTION_REJECTED);
+            assertThat(outcome.getThrowable()).isSameAs(rejection);
+        });
+    }
+
+    @Test
+    void failed_invocation_completes_with_the_throwable() throws NoSuchMethodException {
+        final TestCommand command = new TestCommand();
+        final SubCommand<String> subCommand = subCommand(command, new SyncExecutionProvider(), new RecordingInterceptor("a", true, true));
+
+        assertThatThrownBy(() -> subCommand.execute("sender", Collections.singletonList("-1"))).isInstanceOf(CommandExecutionException.class);
+
+        assertThat(calls).containsExactly("a:before", "a:after", "a:invocation", "a:execution");
+        assertThat(outcomes).singleElement().satisfies(outcome -> {
+            assertThat(outcome.getStatus()).isEqualTo(ExecutionOutcome.Status.INVOKED);
+            assertThat(outcome.getThrowable()).isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    void throwing_completion_does_not_skip_the_others() throws NoSuchMethodException {
+        final TestCommand command = new TestCommand();
+        final RecordingInterceptor throwing = new RecordingInterceptor("b", false, true) {
+            @Override
+            public void afterExecution(final @NotNull ExecutionContext<String> context, final @NotNull ExecutionOutcome outcome) {
+                super.afterExecution(context, outcome);
+                throw new IllegalStateException("completion");
+            }
+        };
+        final SubCommand<String> subCommand = subCommand(command, new SyncExecutionProvider(), new RecordingInterceptor("a", true, true), throwing);
+
+        assertThatThrownBy(() -> subCommand.execute("sender", Collections.singletonList("1")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("completion");
+
+        assertThat(calls).containsExactly("a:before", "b:before", "b:execution", "a:execution");
+    }
+
+    @SafeVarargs
+    private static SubCommand<String> subCommand(
+            final @NotNull TestCommand command,
+            final @NotNull ExecutionProvider provider,
+            final @NotNull ExecutionInterceptor<String>... interceptors
+    ) throws NoSuchMethodException {
+        final Method method = TestCommand.class.getDeclaredMethod("run", String.class, int.class);
+        final RegistryContainer<String> registries = new RegistryContainer<>();
+        for (final ExecutionInterceptor<String> interceptor : interceptors) {
+            registries.getInterceptorRegistry().register(interceptor);
+        }
+
+        return new TestSubCommand(new TestSubCommandProcessor(command, method, registries), provider);
+    }
+
+    private class RecordingInterceptor implements ExecutionInterceptor<String> {
+
+        private final String name;
+        private final boolean proceedBefore;
+        private final boolean proceedAfter;
+
+        private RecordingInterceptor(final @NotNull String name, final boolean proceedBefore, final boolean proceedAfter) {
+            this.name = name;
+            this.proceedBefore = proceedBefore;
+            this.proceedAfter = proceedAfter;
+        }
+
+        @Override
+        public boolean beforeArguments(final @NotNull ExecutionContext<String> context) {
+            calls.add(name + ":before");
+            return proceedBefore;
+        }
+
+        @Override
+        public boolean afterArguments(final @NotNull ExecutionContext<String> context) {
+            calls.add(name + ":after");
+            return proceedAfter;
+        }
+
+        @Override
+        public void afterInvocation(final @NotNull ExecutionContext<String> context, final Throwable throwable) {
+            calls.add(name + ":invocation");
+        }
+
+        @Override
+        public void afterExecution(final @NotNull ExecutionContext<String> context, final @NotNull ExecutionOutcome outcome) {
+            calls.add(name + ":execution");
+            outcomes.add(outcome);
+        }
+    }
+
+    @Command("test")
+    public static final class TestCommand extends BaseCommand {
+
+        private int runs = 0;
+
+        @Default
+        public void run(final String sender, final int count) {
+            if (count < 0) throw new IllegalArgumentException("negative");
+            runs++;
+        }
+    }
+
+    private static final class TestSubCommandProcessor extends AbstractSubCommandProcessor<String> {
+
+        private TestSubCommandProcessor(
+                final @NotNull BaseCommand baseCommand,
+                final @NotNull Method method,
+                final @NotNull RegistryContainer<String> registries
+        ) {
+            super(baseCommand, "test", method, registries, new TestSenderValidator());
+        }
+    }
+
+    private static final class TestSubCommand extends AbstractSubCommand<String> {
+
+        private TestSubCommand(final @NotNull TestSubCommandProcessor processor, final @NotNull ExecutionProvider provider) {
+            super(processor, "test", provider);
+        }
+    }
+
+    private static final class TestSenderValidator implements SenderValidator<String> {
+
+        @Override
+        public @NotNull Set<Class<? extends String>> getAllowedSenders() {
+            return Collections.singleton(String.class);
+        }
+
+        @Override
+        public boolean validate(
+                final @NotNull MessageRegistry<String> messageRegistry,
+                final @NotNull SubCommand<String> subCommand,
+                final @NotNull String sender
+        ) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucket_bounds_are_contiguous_and_increasing() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getBucketUpperBound(0)).isEqualTo(1024);
+        for (int i = 1; i < histogram.getBucketCount(); i++) {
+            assertThat(histogram.getBucketUpperBound(i)).isGreaterThan(histogram.getBucketUpperBound(i - 1));
+        }
+        assertThat(histogram.getBucketUpperBound(histogram.getBucketCount() - 2)).isEqualTo(1L << 36);
+        assertThat(histogram.getBucketUpperBound(histogram.getBucketCount() - 1)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void buckets_are_at_most_a_quarter_of_their_lower_bound_wide() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 2; i < histogram.getBucketCount() - 1; i++) {
+            final long lower = histogram.getBucketUpperBound(i - 1);
+            final long upper = histogram.getBucketUpperBound(i);
+            assertThat(upper - lower).isLessThanOrEqualTo(lower / 4);
+        }
+    }
+
+    @Test
+    void values_land_in_the_bucket_that_bounds_them() {
+        final Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            final long value = random.nextLong() >>> (1 + random.nextInt(63));
+            assertLandsInBounds(value);
+        }
+
+        for (int exponent = 0; exponent < 63; exponent++) {
+            final long power = 1L << exponent;
+            assertLandsInBounds(power - 1);
+            assertLandsInBounds(power);
+            assertLandsInBounds(power + power / 4);
+        }
+        assertLandsInBounds(0);
+        assertLandsInBounds(Long.MAX_VALUE);
+    }
+
+    @Test
+    void negative_values_count_as_zero() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertThat(histogram.getCounts()[0]).isEqualTo(1);
+        assertThat(histogram.getTotalNanos()).isZero();
+    }
+
+    @Test
+    void percentiles_give_the_bucket_upper_bound() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getPercentile(0.5)).isZero();
+
+        for (int i = 0; i < 99; i++) histogram.record(1_000);
+        histogram.record(1_000_000);
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getTotalNanos()).isEqualTo(99 * 1_000L + 1_000_000L);
+        assertThat(histogram.getPercentile(0)).isEqualTo(1024);
+        assertThat(histogram.getPercentile(0.5)).isEqualTo(1024);
+        assertThat(histogram.getPercentile(0.99)).isEqualTo(1024);
+        assertThat(histogram.getPercentile(1)).isGreaterThan(1_000_000).isLessThanOrEqualTo(1_250_000);
+    }
+
+    private static void assertLandsInBounds(final long value) {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(value);
+
+        final long[] counts = histogram.getCounts();
+        int index = -1;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) continue;
+            assertThat(index).as("value %d recorded once", value).isEqualTo(-1);
+            index = i;
+        }
+
+        final long lower = index == 0 ? 0 : histogram.getBucketUpperBound(index - 1);
+        assertThat(value).as("bucket %d", index).isGreaterThanOrEqualTo(lower);
+        if (index < counts.length - 1) {
+            assertThat(value).as("bucket %d", index).isLessThan(histogram.getBucketUpperBound(index));
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.processor;
+
+import dev.triumphteam.cmd.core.BaseCommand;
+import dev.triumphteam.cmd.core.annotation.ArgName;
+import dev.triumphteam.cmd.core.annotation.Async;
+import dev.triumphteam.cmd.core.annotation.Cooldown;
+import dev.triumphteam.cmd.core.annotation.Default;
+import dev.triumphteam.cmd.core.annotation.Description;
+import dev.triumphteam.cmd.core.annotation.Flag;
+import dev.triumphteam.cmd.core.annotation.Join;
+import dev.triumphteam.cmd.core.annotation.Optional;
+import dev.triumphteam.cmd.core.annotation.RateLimit;
+import dev.triumphteam.cmd.core.annotation.Requirement;
+import dev.triumphteam.cmd.core.annotation.Split;
+import dev.triumphteam.cmd.core.annotation.SubCommand;
+import dev.triumphteam.cmd.core.annotation.Suggestion;
+import dev.triumphteam.cmd.core.flag.Flags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommandModelCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void cached_model_matches_the_scan() throws IOException {
+        final Path file = directory.resolve("commands.bin");
+        final CommandModelCache first = CommandModelCache.open(file);
+        final List<SubCommandDescriptor> scanned = sorted(first.getSubCommands(SampleCommand.class));
+        first.save();
+        assertThat(first.getMissCount()).isEqualTo(1);
+
+        final CommandModelCache second = CommandModelCache.open(file);
+        final List<SubCommandDescriptor> cached = sorted(second.getSubCommands(SampleCommand.class));
+        assertThat(second.getHitCount()).isEqualTo(1);
+        assertThat(second.getMissCount()).isZero();
+
+        assertThat(cached).isEqualTo(scanned).isEqualTo(sorted(SubCommandDescriptor.scan(SampleCommand.class)));
+        assertThat(cached).extracting(SubCommandDescriptor::getName).containsExactly(Default.DEFAULT_CMD_NAME, "give", "list");
+
+        final SubCommandDescriptor give = cached.get(1);
+        assertThat(give.isAsync()).isTrue();
+        assertThat(give.getCooldownUnit()).isEqualTo(TimeUnit.MINUTES);
+        assertThat(give.getRequirements()).containsExactly(new RequirementDescriptor("op", "no.op", true));
+
+        final SubCommandDescriptor list = cached.get(2);
+        assertThat(list.getFlags()).contains(new FlagDescriptor("t", "", int.class, "times"));
+        assertThat(list.getArguments()).extracting(ArgumentDescriptor::getElementType).containsExactly(String.class, Number.class, null);
+    }
+
+    @Test
+    void changed_class_is_scanned_again() throws Exception {
+        final Path file = directory.resolve("commands.bin");
+        final ReloadingClassLoader classLoader = new ReloadingClassLoader();
+        final Class<? extends BaseCommand> commandClass = classLoader.loadClass(SampleCommand.class.getName()).asSubclass(BaseCommand.class);
+
+        final CommandModelCache first = CommandModelCache.open(file);
+        first.getSubCommands(commandClass);
+        first.save();
+
+        // Same class, but the class file it was loaded from changed
+        classLoader.bytes = classLoader.bytes.clone();
+        classLoader.bytes[classLoader.bytes.length - 1]++;
+
+        final CommandModelCache second = CommandModelCache.open(file);
+        assertThat(sorted(second.getSubCommands(commandClass))).isEqualTo(sorted(SubCommandDescriptor.scan(commandClass)));
+        assertThat(second.getHitCount()).isZero();
+        assertThat(second.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void corrupted_file_gives_an_empty_cache() throws IOException {
+        final Path file = directory.resolve("commands.bin");
+        final CommandModelCache first = CommandModelCache.open(file);
+        first.getSubCommands(SampleCommand.class);
+        first.save();
+
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        final CommandModelCache second = CommandModelCache.open(file);
+        assertThat(sorted(second.getSubCommands(SampleCommand.class))).isEqualTo(sorted(SubCommandDescriptor.scan(SampleCommand.class)));
+        assertThat(second.getMissCount()).isEqualTo(1);
+
+        // Rewritten on save
+        second.save();
+        final CommandModelCache third = CommandModelCache.open(file);
+        third.getSubCommands(SampleCommand.class);
+        assertThat(third.getHitCount()).isEqualTo(1);
+    }
+
+    private static List<SubCommandDescriptor> sorted(final List<SubCommandDescriptor> descriptors) {
+        return descriptors.stream().sorted(Comparator.comparing(it -> it.getMethod().getName())).collect(Collectors.toList());
+    }
+
+    /**
+     * Loads {@link SampleCommand} itself, serving its class file from a byte array that can be changed afterwards.
+     */
+    private static final class ReloadingClassLoader extends ClassLoader {
+
+        private byte[] bytes;
+
+        private ReloadingClassLoader() throws IOException {
+            super(CommandModelCacheTest.class.getClassLoader());
+            try (final InputStream input = getParent().getResourceAsStream(resourceName())) {
+                final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    output.write(buffer, 0, read);
+                }
+                bytes = output.toByteArray();
+            }
+        }
+
+        private static String resourceName() {
+            return SampleCommand.class.getName().replace('.', '/') + ".class";
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(SampleCommand.class.getName())) return super.loadClass(name, resolve);
+
+            synchronized (getClassLoadingLock(name)) {
+                final Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : defineClass(name, bytes, 0, bytes.length);
+            }
+        }
+
+        @Override
+        public InputStream getResourceAsStream(final String name) {
+            if (name.equals(resourceName())) return new ByteArrayInputStream(bytes);
+            return super.getResourceAsStream(name);
+        }
+    }
+
+    public static class SampleCommand extends BaseCommand {
+
+        public SampleCommand() {
+            super("sample");
+        }
+
+        @Default(alias = "main")
+        @Description("The main one")
+        public void base(final String sender) {}
+
+        @SubCommand(value = "give", alias = "g")
+        @Async
+        @Cooldown(value = 5, unit = TimeUnit.MINUTES)
+        @Suggestion("players")
+        @Requirement(value = "op", messageKey = "no.op", invert = true)
+        public void give(final String sender, final @ArgName("who") @Suggestion("online") String target, final @Optional Integer amount) {}
+
+        @SubCommand("list")
+        @RateLimit(permits = 3, period = 10)
+        @Flag(flag = "f", longFlag = "force")
+        @Flag(flag = "t", argument = int.class, suggestion = "times")
+        public void list(final String sender, final @Split(";") List<String> names, final @Join Set<? extends Number> numbers, final Flags flags) {}
+
+        public void helper(final String sender) {}
+    }
+}
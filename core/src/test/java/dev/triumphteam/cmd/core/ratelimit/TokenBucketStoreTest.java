@@ -0,0 +1,141 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketStoreTest {
+
+    @Test
+    void gives_the_burst_then_waits_an_interval() {
+        final TokenBucketStore store = new TokenBucketStore(3, 1, TimeUnit.HOURS);
+        final long interval = TimeUnit.MINUTES.toNanos(20);
+
+        assertThat(store.tryAcquire("sender")).isZero();
+        assertThat(store.tryAcquire("sender")).isZero();
+        assertThat(store.tryAcquire("sender")).isZero();
+
+        final long wait = store.tryAcquire("sender");
+        assertThat(wait).isPositive().isLessThanOrEqualTo(interval).isGreaterThan(interval - TimeUnit.MINUTES.toNanos(1));
+        // A denied attempt doesn't take anything
+        assertThat(store.tryAcquire("sender")).isPositive().isLessThanOrEqualTo(wait);
+    }
+
+    @Test
+    void senders_have_their_own_buckets() {
+        final TokenBucketStore store = new TokenBucketStore(1, 1, TimeUnit.HOURS);
+
+        assertThat(store.tryAcquire("first")).isZero();
+        assertThat(store.tryAcquire("first")).isPositive();
+        assertThat(store.tryAcquire("second")).isZero();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void refills_one_permit_per_interval() throws InterruptedException {
+        final TokenBucketStore store = new TokenBucketStore(2, 200, TimeUnit.MILLISECONDS);
+
+        assertThat(store.tryAcquire("sender")).isZero();
+        assertThat(store.tryAcquire("sender")).isZero();
+        final long wait = store.tryAcquire("sender");
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        TimeUnit.NANOSECONDS.sleep(wait + TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(store.tryAcquire("sender")).isZero();
+        assertThat(store.tryAcquire("sender")).isPositive();
+    }
+
+    @Test
+    void sweep_only_removes_full_buckets() throws InterruptedException {
+        final TokenBucketStore store = new TokenBucketStore(1, 50, TimeUnit.MILLISECONDS);
+        final TokenBucketStore limited = new TokenBucketStore(1, 1, TimeUnit.HOURS);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(store.tryAcquire(i)).isZero();
+            assertThat(limited.tryAcquire(i)).isZero();
+        }
+
+        TimeUnit.MILLISECONDS.sleep(60);
+        sweepAll(store);
+        sweepAll(limited);
+
+        assertThat(store.size()).isZero();
+        assertThat(limited.size()).isEqualTo(100);
+        // A swept bucket is the same as a full one
+        assertThat(store.tryAcquire(0)).isZero();
+        assertThat(store.tryAcquire(0)).isPositive();
+        assertThat(limited.tryAcquire(0)).isPositive();
+    }
+
+    @Test
+    void concurrent_acquires_never_exceed_the_permits() throws InterruptedException {
+        final TokenBucketStore store = new TokenBucketStore(1_000, 1, TimeUnit.HOURS);
+        final AtomicInteger granted = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException exception) {
+                    return;
+                }
+                for (int attempt = 0; attempt < 500; attempt++) {
+                    if (store.tryAcquire("sender") == 0) granted.incrementAndGet();
+                    // Races the acquires against the wheel, which must never lose a taken permit
+                    if (attempt % 50 == 0) sweepAll(store);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (final Thread thread : threads) thread.join();
+
+        assertThat(granted).hasValue(1_000);
+    }
+
+    @Test
+    void rejects_invalid_limits() {
+        assertThatThrownBy(() -> new TokenBucketStore(0, 1, TimeUnit.SECONDS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketStore(1, 0, TimeUnit.SECONDS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void sweepAll(final TokenBucketStore store) {
+        for (int i = 0; i < TokenBucketStore.STRIPES; i++) {
+            store.sweep(i);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachedSuggestionResolverTest {
+
+    private static final SuggestionContext CONTEXT = new SuggestionContext(Collections.emptyList(), "command", "sub");
+
+    @Test
+    void scopes_on_the_sender_id_by_default() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedSuggestionResolver<Sender> resolver = new CachedSuggestionResolver<>(
+                (sender, context) -> Collections.singletonList("s" + calls.incrementAndGet()),
+                SuggestionCacheOptions.<Sender>builder().build(),
+                Sender::getId,
+                Runnable::run
+        );
+
+        final List<String> first = resolver.resolve(new Sender("a"), CONTEXT);
+        // A new sender object with the same id shares the entry
+        assertThat(resolver.resolve(new Sender("a"), CONTEXT)).isEqualTo(first);
+        assertThat(resolver.resolve(new Sender("b"), CONTEXT)).isNotEqualTo(first);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void lookups_drop_expired_entries() throws InterruptedException {
+        final CachedSuggestionResolver<Sender> resolver = new CachedSuggestionResolver<>(
+                (sender, context) -> Collections.singletonList(sender.getId()),
+                SuggestionCacheOptions.<Sender>builder().expireAfterWrite(Duration.ofMillis(1)).build(),
+                Sender::getId,
+                Runnable::run
+        );
+
+        resolver.resolve(new Sender("a"), CONTEXT);
+        resolver.resolve(new Sender("b"), CONTEXT);
+        Thread.sleep(10);
+
+        // Far below the maximum size, the senders that left are still dropped
+        resolver.resolve(new Sender("c"), CONTEXT);
+        assertThat(resolver.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rejected_refresh_keeps_the_old_suggestions() throws InterruptedException {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedSuggestionResolver<Sender> resolver = new CachedSuggestionResolver<>(
+                (sender, context) -> Collections.singletonList("s" + calls.incrementAndGet()),
+                SuggestionCacheOptions.<Sender>builder().refreshAfterWrite(Duration.ofMillis(1)).build(),
+                Sender::getId,
+                command -> {
+                    throw new RejectedExecutionException("Full");
+                }
+        );
+
+        final Sender sender = new Sender("a");
+        final List<String> first = resolver.resolve(sender, CONTEXT);
+        Thread.sleep(5);
+        assertThat(resolver.resolve(sender, CONTEXT)).isEqualTo(first);
+        // Not stuck as refreshing, the next lookup tries again
+        assertThat(resolver.resolve(sender, CONTEXT)).isEqualTo(first);
+        assertThat(resolver.getRefreshCount()).isEqualTo(2);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void refreshes_need_an_executor() {
+        final SuggestionCacheOptions<Sender> options = SuggestionCacheOptions.<Sender>builder().refreshAfterWrite(Duration.ofSeconds(1)).build();
+        assertThatThrownBy(() -> new CachedSuggestionResolver<>((sender, context) -> Collections.emptyList(), options))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class Sender {
+
+        private final String id;
+
+        private Sender(final String id) {
+            this.id = id;
+        }
+
+        private String getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineSuggestionResolverTest {
+
+    private static final SuggestionContext CONTEXT = new SuggestionContext(Collections.emptyList(), "command", "sub");
+
+    @Test
+    void completes_with_the_suggestions_before_the_deadline() {
+        final DeadlineSuggestionResolver<String> resolver = new DeadlineSuggestionResolver<>(
+                (sender, context) -> CompletableFuture.completedFuture(Collections.singletonList("ready")),
+                Duration.ofSeconds(5),
+                (sender, context) -> Collections.singletonList("fallback")
+        );
+
+        assertThat(resolver.resolveAsync("sender", CONTEXT).join()).containsExactly("ready");
+    }
+
+    @Test
+    void failed_suggestions_use_the_fallback() {
+        final CompletableFuture<List<String>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("down"));
+        final DeadlineSuggestionResolver<String> resolver = new DeadlineSuggestionResolver<>(
+                (sender, context) -> failed,
+                Duration.ofSeconds(5),
+                (sender, context) -> Collections.singletonList("fallback")
+        );
+
+        assertThat(resolver.resolveAsync("sender", CONTEXT).join()).containsExactly("fallback");
+    }
+
+    @Test
+    void slow_fallback_does_not_hold_back_other_deadlines() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final DeadlineSuggestionResolver<String> slow = new DeadlineSuggestionResolver<>(
+                (sender, context) -> new CompletableFuture<>(),
+                Duration.ofMillis(10),
+                (sender, context) -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (final InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Collections.singletonList("slow");
+                }
+        );
+        final DeadlineSuggestionResolver<String> fast = new DeadlineSuggestionResolver<>(
+                (sender, context) -> new CompletableFuture<>(),
+                Duration.ofMillis(20),
+                (sender, context) -> Collections.singletonList("fast")
+        );
+
+        try {
+            final CompletableFuture<List<String>> slowResult = slow.resolveAsync("sender", CONTEXT);
+            final CompletableFuture<List<String>> fastResult = fast.resolveAsync("sender", CONTEXT);
+
+            // The timer thread only hands the fallback off, so the second deadline still fires on time
+            assertThat(fastResult.get(2, TimeUnit.SECONDS)).containsExactly("fast");
+            assertThat(slowResult).isNotDone();
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionIndexTest {
+
+    private final SuggestionIndex index = SuggestionIndex.of(Arrays.asList("Zeta", "apple", "Apricot", "banana", "app", "BAND", "ban"));
+
+    @Test
+    void empty_prefix_gives_everything_in_folded_order() {
+        assertThat(index.startingWith("")).containsExactly("app", "apple", "Apricot", "ban", "banana", "BAND", "Zeta");
+    }
+
+    @Test
+    void prefix_matches_ignoring_case() {
+        assertThat(index.startingWith("AP")).containsExactly("app", "apple", "Apricot");
+        assertThat(index.startingWith("app")).containsExactly("app", "apple");
+        assertThat(index.startingWith("bAn")).containsExactly("ban", "banana", "BAND");
+        assertThat(index.startingWith("z")).containsExactly("Zeta");
+    }
+
+    @Test
+    void prefix_equal_to_an_entry_includes_it() {
+        assertThat(index.startingWith("band")).containsExactly("BAND");
+        assertThat(index.startingWith("apple")).containsExactly("apple");
+    }
+
+    @Test
+    void prefix_longer_than_entries_or_out_of_range_gives_nothing() {
+        assertThat(index.startingWith("apples")).isEmpty();
+        assertThat(index.startingWith("0")).isEmpty();
+        assertThat(index.startingWith("zz")).isEmpty();
+        assertThat(index.startingWith("c")).isEmpty();
+    }
+
+    @Test
+    void empty_index_gives_nothing() {
+        assertThat(SuggestionIndex.empty().startingWith("a")).isEmpty();
+        assertThat(SuggestionIndex.of(Collections.emptyList()).startingWith("")).isEmpty();
+    }
+
+    @Test
+    void folds_like_equals_ignore_case() {
+        // Dotted capital I and the Kelvin sign only match when folded through both cases
+        final SuggestionIndex special = SuggestionIndex.of(Arrays.asList("\u0130stanbul", "Kelvin", "kilo"));
+        assertThat(special.startingWith("k")).containsExactlyInAnyOrder("Kelvin", "kilo");
+        assertThat(special.startingWith("\u212A")).containsExactlyInAnyOrder("Kelvin", "kilo");
+        assertThat(special.startingWith("\u0130s")).containsExactly("\u0130stanbul");
+    }
+
+    @Test
+    void matches_a_linear_scan() {
+        final Random random = new Random(42);
+        final String alphabet = "aAbBcC";
+        for (int round = 0; round < 200; round++) {
+            final List<String> suggestions = new ArrayList<>();
+            final int size = random.nextInt(30);
+            for (int i = 0; i < size; i++) suggestions.add(randomString(random, alphabet, 5));
+
+            final SuggestionIndex index = SuggestionIndex.of(suggestions);
+            for (int i = 0; i < 20; i++) {
+                final String prefix = randomString(random, alphabet, 4);
+                final List<String> expected = suggestions.stream()
+                        .filter(it -> it.regionMatches(true, 0, prefix, 0, prefix.length()))
+                        .collect(Collectors.toList());
+
+                assertThat(index.startingWith(prefix)).as("prefix %s of %s", prefix, suggestions).containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+    }
+
+    private static String randomString(final Random random, final String alphabet, final int maxLength) {
+        final int length = random.nextInt(maxLength + 1);
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.core.util;
+
+import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnumUtilsTest {
+
+    @Test
+    void finds_constants_ignoring_ascii_case() {
+        assertThat(EnumUtils.getEnumConstant(Color.class, "RED")).isEqualTo(Color.RED);
+        assertThat(EnumUtils.getEnumConstant(Color.class, "red")).isEqualTo(Color.RED);
+        assertThat(EnumUtils.getEnumConstant(Color.class, "dArK_gReEn")).isEqualTo(Color.DARK_GREEN);
+        assertThat(EnumUtils.getEnumConstant(Color.class, new StringBuilder("Blue"))).isEqualTo(Color.BLUE);
+    }
+
+    @Test
+    void unknown_names_give_null() {
+        assertThat(EnumUtils.getEnumConstant(Color.class, "")).isNull();
+        assertThat(EnumUtils.getEnumConstant(Color.class, "RE")).isNull();
+        assertThat(EnumUtils.getEnumConstant(Color.class, "REDD")).isNull();
+        assertThat(EnumUtils.getEnumConstant(Color.class, "purple")).isNull();
+    }
+
+    @Test
+    void only_ascii_is_folded() {
+        // String#equalsIgnoreCase would match the dotless i with I
+        assertThat(EnumUtils.getEnumConstant(Color.class, "p\u0131nk")).isNull();
+        assertThat(EnumUtils.getEnumConstant(Color.class, "pink")).isEqualTo(Color.PINK);
+    }
+
+    @Test
+    void every_constant_is_found_when_probing() {
+        for (final Letter letter : Letter.values()) {
+            final String name = letter.name();
+            assertThat(EnumUtils.getEnumConstant(Letter.class, name)).isEqualTo(letter);
+            assertThat(EnumUtils.getEnumConstant(Letter.class, name.toLowerCase(Locale.ROOT))).isEqualTo(letter);
+        }
+        assertThat(EnumUtils.getEnumConstant(Letter.class, "AAA")).isNull();
+        assertThat(EnumUtils.getEnumConstant(Letter.class, "B_")).isNull();
+    }
+
+    @Test
+    void empty_enum_finds_nothing() {
+        assertThat(EnumUtils.getEnumConstant(Empty.class, "anything")).isNull();
+        assertThat(EnumUtils.getEnumNames(Empty.class)).isEmpty();
+    }
+
+    @Test
+    void names_keep_declaration_order() {
+        assertThat(EnumUtils.getEnumNames(Letter.class))
+                .isEqualTo(Arrays.stream(Letter.values()).map(Enum::name).collect(Collectors.toList()));
+    }
+
+    @Test
+    void names_differing_only_in_case_are_rejected() {
+        assertThatThrownBy(() -> EnumUtils.populateCache(Clashing.class))
+                .isInstanceOf(CommandRegistrationException.class)
+                .hasMessageContaining("Clashing");
+    }
+
+    enum Color {
+        RED, BLUE, DARK_GREEN, PINK
+    }
+
+    enum Empty {}
+
+    // Enough constants that slots collide and lookups have to probe
+    enum Letter {
+        A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, Q, R, S, T, U, V, W, X, Y, Z,
+        AA, AB, AC, AD, AE, AF, AG, AH, AI, AJ, AK, AL, AM, AN, AO, AP, AQ, AR, AS, AT
+    }
+
+    @SuppressWarnings("unused")
+    enum Clashing {
+        VALUE, value
+    }
+}
@@ -23,18 +23,22 @@
  */
 package dev.triumphteam.cmd.prefixed;
 
+import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.Command;
 import dev.triumphteam.cmd.core.SubCommand;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.CommandTrie;
 import dev.triumphteam.cmd.prefixed.sender.PrefixedSender;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -45,7 +49,7 @@ import java.util.Map;
  */
 final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
 
-    private final Map<String, PrefixedSubCommand<S>> subCommands = new HashMap<>();
+    private volatile CommandTrie<PrefixedSubCommand<S>> subCommands = CommandTrie.empty();
 
     private final String name;
     private final List<String> alias;
@@ -74,13 +78,37 @@ final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
     }
 
     @Override
-    public void addSubCommand(final @NotNull String name, final @NotNull PrefixedSubCommand<S> subCommand) {
-        this.subCommands.putIfAbsent(name, subCommand);
+    public synchronized void addSubCommand(final @NotNull String name, final @NotNull PrefixedSubCommand<S> subCommand) {
+        this.subCommands = subCommands.withIfAbsent(name, subCommand);
     }
 
     @Override
-    public void addSubCommandAlias(final @NotNull String alias, final @NotNull PrefixedSubCommand<S> subCommand) {
-        this.subCommands.putIfAbsent(alias, subCommand);
+    public synchronized void addSubCommandAlias(final @NotNull String alias, final @NotNull PrefixedSubCommand<S> subCommand) {
+        this.subCommands = subCommands.withIfAbsent(alias, subCommand);
+    }
+
+    @Override
+    public @NotNull Collection<@NotNull PrefixedSubCommand<S>> getSubCommands(final @NotNull BaseCommand baseCommand) {
+        return new LinkedHashSet<>(subCommands.values(it -> it.getBaseCommand() == baseCommand));
+    }
+
+    @Override
+    public synchronized void replaceSubCommands(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Map<@NotNull String, @NotNull PrefixedSubCommand<S>> subCommands,
+            final @NotNull Map<@NotNull String, @NotNull PrefixedSubCommand<S>> aliases
+    ) {
+        CommandTrie<PrefixedSubCommand<S>> newSubCommands = this.subCommands.withoutIf(it -> it.getBaseCommand() == baseCommand).withAll(subCommands);
+        // Aliases share the trie with the names, so they never replace a name
+        for (final Map.Entry<String, PrefixedSubCommand<S>> entry : aliases.entrySet()) {
+            newSubCommands = newSubCommands.withIfAbsent(entry.getKey(), entry.getValue());
+        }
+        this.subCommands = newSubCommands;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return subCommands.isEmpty();
     }
 
     /**
@@ -93,13 +121,14 @@ final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
         SubCommand<S> subCommand = getDefaultSubCommand();
 
         String subCommandName = "";
-        if (args.size() > 0) subCommandName = args.get(0).toLowerCase();
+        if (args.size() > 0) subCommandName = args.get(0);
 
         if (subCommand == null || subCommandExists(subCommandName)) {
             subCommand = getSubCommand(subCommandName);
         }
 
         if (subCommand == null) {
+            registryContainer.getMetrics().recordFailure(name, "", MessageKey.UNKNOWN_COMMAND);
             //sender.sendMessage("Command doesn't exist matey.");
             return;
         }
@@ -124,7 +153,8 @@ final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
      * @param key The sub command name.
      * @return A sub command or null.
      */
-    private @Nullable SubCommand<S> getSubCommand(final @NotNull String key) {
+    @Override
+    public @Nullable PrefixedSubCommand<S> getSubCommand(final @NotNull String key) {
         return subCommands.get(key);
     }
 
@@ -135,7 +165,7 @@ final class PrefixedCommand<S> implements Command<S, PrefixedSubCommand<S>> {
      * @return True if the sub command exists.
      */
     private boolean subCommandExists(final @NotNull String key) {
-        return subCommands.containsKey(key);
+        return subCommands.contains(key);
     }
 
 }
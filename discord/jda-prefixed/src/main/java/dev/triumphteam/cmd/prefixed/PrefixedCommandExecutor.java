@@ -23,15 +23,16 @@
  */
 package dev.triumphteam.cmd.prefixed;
 
+import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
 import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
+import dev.triumphteam.cmd.core.util.CommandTrie;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Main executor for the commands.
@@ -40,7 +41,7 @@ import java.util.Map;
  */
 final class PrefixedCommandExecutor<S> {
 
-    private final Map<String, PrefixedCommand<S>> commands = new HashMap<>();
+    private volatile CommandTrie<PrefixedCommand<S>> commands = CommandTrie.empty();
 
     private final MessageRegistry<S> messageRegistry;
 
@@ -62,16 +63,76 @@ final class PrefixedCommandExecutor<S> {
      *
      * @param processor The processor with all the command data.
      */
-    public void register(final @NotNull PrefixedCommandProcessor<S> processor) {
+    public synchronized void register(final @NotNull PrefixedCommandProcessor<S> processor) {
+        processor.addSubCommands(getOrCreateCommand(processor));
+    }
+
+    /**
+     * Reloads a command, swapping the sub commands of the old {@link BaseCommand} for the ones of the processor.
+     *
+     * @param processor  The processor of the replacement.
+     * @param oldCommand The {@link BaseCommand} being replaced.
+     */
+    public synchronized void reload(final @NotNull PrefixedCommandProcessor<S> processor, final @NotNull BaseCommand oldCommand) {
+        final PrefixedCommand<S> command = getOrCreateCommand(processor);
+        processor.reloadSubCommands(command, oldCommand);
+
+        // Commands the replacement is no longer part of
+        commands.forEach((name, it) -> {
+            if (it != command) it.removeSubCommands(oldCommand);
+        });
+        commands = commands.withoutIf(PrefixedCommand::isEmpty);
+    }
+
+    /**
+     * Gets the command for the processor, creating it and adding its aliases if it doesn't exist yet.
+     *
+     * @param processor The processor with all the command data.
+     * @return The existing or the new {@link PrefixedCommand}.
+     */
+    private @NotNull PrefixedCommand<S> getOrCreateCommand(final @NotNull PrefixedCommandProcessor<S> processor) {
         final String name = processor.getName();
 
-        final PrefixedCommand<S> command = commands.computeIfAbsent(name, p -> new PrefixedCommand<>(processor, syncExecutionProvider, asyncExecutionProvider));
+        PrefixedCommand<S> command = commands.get(name);
+        if (command == null) {
+            command = new PrefixedCommand<>(processor, syncExecutionProvider, asyncExecutionProvider);
+            commands = commands.with(name, command);
+        }
 
         for (final String alias : processor.getAlias()) {
-            commands.putIfAbsent(alias, command);
+            commands = commands.withIfAbsent(alias, command);
         }
 
-        processor.addSubCommands(command);
+        return command;
+    }
+
+    /**
+     * Gets the command registered under the name or alias.
+     *
+     * @param name The command name or alias.
+     * @return The {@link PrefixedCommand} or null if there is none.
+     */
+    @Nullable PrefixedCommand<S> getCommand(final @NotNull String name) {
+        return commands.get(name);
+    }
+
+    /**
+     * Removes the sub commands of the {@link BaseCommand} from the commands, dropping the commands left empty.
+     *
+     * @param baseCommand The {@link BaseCommand} to unregister.
+     */
+    public synchronized void unregister(final @NotNull BaseCommand baseCommand) {
+        commands.forEach((name, command) -> command.removeSubCommands(baseCommand));
+        commands = commands.withoutIf(PrefixedCommand::isEmpty);
+    }
+
+    /**
+     * Checks if the executor has no commands left.
+     *
+     * @return Whether the executor is empty.
+     */
+    public boolean isEmpty() {
+        return commands.isEmpty();
     }
 
     /**
@@ -24,6 +24,7 @@
 package dev.triumphteam.cmd.prefixed;
 
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
+import dev.triumphteam.cmd.core.input.CommandTokenizer;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
 import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
@@ -38,7 +39,6 @@ import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -78,7 +78,7 @@ final class PrefixedCommandListener<S> extends ListenerAdapter {
 
         final Guild guild = event.getGuild();
         final Message message = event.getMessage();
-        final List<String> args = Arrays.asList(message.getContentRaw().split(" "));
+        final List<String> args = CommandTokenizer.tokenize(message.getContentRaw());
 
         final S sender = senderMapper.map(new PrefixedCommandSender(message));
         if (sender == null) {
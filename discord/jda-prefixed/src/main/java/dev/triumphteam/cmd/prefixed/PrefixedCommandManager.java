@@ -27,13 +27,14 @@ import com.google.common.primitives.Longs;
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.CommandManager;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
-import dev.triumphteam.cmd.core.execution.AsyncExecutionProvider;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
 import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.processor.PreparedCommand;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import dev.triumphteam.cmd.prefixed.sender.PrefixedSender;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
@@ -46,9 +47,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Collection;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -69,15 +68,13 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
 
     private final RegistryContainer<S> registryContainer = new RegistryContainer<>();
 
-    private final Set<String> prefixes = new HashSet<>();
-    private final Set<Pattern> prefixesRegexes = new HashSet<>();
-    private final Map<String, PrefixedCommandExecutor<S>> globalCommands = new HashMap<>();
-    private final Map<Long, Map<String, PrefixedCommandExecutor<S>>> guildCommands = new HashMap<>();
+    private final SnapshotMap<String, Pattern> prefixes = new SnapshotMap<>();
+    private final SnapshotMap<String, PrefixedCommandExecutor<S>> globalCommands = new SnapshotMap<>();
+    private final SnapshotMap<Long, SnapshotMap<String, PrefixedCommandExecutor<S>>> guildCommands = new SnapshotMap<>();
 
     private final String globalPrefix;
 
     private final ExecutionProvider syncExecutionProvider = new SyncExecutionProvider();
-    private final ExecutionProvider asyncExecutionProvider = new AsyncExecutionProvider();
 
     private PrefixedCommandManager(
             final @NotNull JDA jda,
@@ -112,6 +109,32 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
         return new PrefixedCommandManager<>(jda, globalPrefix, senderMapper, senderValidator);
     }
 
+    /**
+     * Creates a new instance of the PrefixedCommandManager that runs the {@link dev.triumphteam.cmd.core.annotation.Async}
+     * sub commands with the given {@link ExecutionProvider}, like a {@link dev.triumphteam.cmd.core.execution.VirtualThreadExecutionProvider}.
+     * This factory is for adding a custom sender, for default sender use {@link #create(JDA, String, ExecutionProvider)}.
+     *
+     * @param jda                    The JDA instance.
+     * @param globalPrefix           The global prefix.
+     * @param senderMapper           The sender mapper.
+     * @param senderValidator        The sender validator.
+     * @param asyncExecutionProvider The {@link ExecutionProvider} for the asynchronous sub commands.
+     * @param <S>                    The sender type.
+     * @return The new instance.
+     */
+    @Contract("_, _, _, _, _ -> new")
+    public static <S> @NotNull PrefixedCommandManager<S> create(
+            final @NotNull JDA jda,
+            final @NotNull String globalPrefix,
+            final @NotNull SenderMapper<PrefixedSender, S> senderMapper,
+            final @NotNull SenderValidator<S> senderValidator,
+            final @NotNull ExecutionProvider asyncExecutionProvider
+    ) {
+        final PrefixedCommandManager<S> manager = create(jda, globalPrefix, senderMapper, senderValidator);
+        manager.setAsyncExecutionProvider(asyncExecutionProvider);
+        return manager;
+    }
+
     /**
      * Creates a new instance of the {@link PrefixedCommandManager}.
      * This factory is for adding a custom sender, for default sender use {@link #create(JDA)}.
@@ -161,6 +184,26 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
         return create(jda, "");
     }
 
+    /**
+     * Creates a new instance of the PrefixedCommandManager with its default sender,
+     * running the {@link dev.triumphteam.cmd.core.annotation.Async} sub commands with the given {@link ExecutionProvider}.
+     *
+     * @param jda                    The JDA instance.
+     * @param globalPrefix           The global prefix.
+     * @param asyncExecutionProvider The {@link ExecutionProvider} for the asynchronous sub commands.
+     * @return The new instance.
+     */
+    @Contract("_, _, _ -> new")
+    public static @NotNull PrefixedCommandManager<PrefixedSender> create(
+            final @NotNull JDA jda,
+            final @NotNull String globalPrefix,
+            final @NotNull ExecutionProvider asyncExecutionProvider
+    ) {
+        final PrefixedCommandManager<PrefixedSender> manager = create(jda, globalPrefix);
+        manager.setAsyncExecutionProvider(asyncExecutionProvider);
+        return manager;
+    }
+
     /**
      * Registers a global command.
      *
@@ -193,9 +236,52 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
         }
     }
 
+    /**
+     * Removes the sub commands of the {@link BaseCommand} from the global and guild commands.
+     * Commands, prefixes and guild entries left empty are dropped.
+     * Executions already running finish with the sub commands they started with.
+     *
+     * @param command The {@link BaseCommand} to be unregistered.
+     */
+    @Override
+    public synchronized void unregisterCommand(final @NotNull BaseCommand command) {
+        removeCommand(command, null);
+    }
+
+    /**
+     * Reloads a global command, see {@link CommandManager#reloadCommand(BaseCommand, BaseCommand)}.
+     *
+     * @param oldCommand  The registered {@link BaseCommand} to replace.
+     * @param replacement The {@link BaseCommand} replacing it.
+     */
+    @Override
+    public void reloadCommand(final @NotNull BaseCommand oldCommand, final @NotNull BaseCommand replacement) {
+        reload(null, oldCommand, replacement);
+    }
+
+    /**
+     * Reloads a {@link Guild} command, see {@link CommandManager#reloadCommand(BaseCommand, BaseCommand)}.
+     *
+     * @param guild       The {@link Guild} the replacement is registered to.
+     * @param oldCommand  The registered {@link BaseCommand} to replace.
+     * @param replacement The {@link BaseCommand} replacing it.
+     */
+    public void reloadCommand(final @NotNull Guild guild, final @NotNull BaseCommand oldCommand, final @NotNull BaseCommand replacement) {
+        reload(guild, oldCommand, replacement);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bulk registered commands are global commands.
+     */
     @Override
-    public void unregisterCommand(final @NotNull BaseCommand command) {
-        // TODO: 11/23/2021 Add unregistering commands and also guild commands
+    protected @NotNull PreparedCommand prepareCommand(final @NotNull BaseCommand baseCommand) {
+        final PrefixedCommandProcessor<S> processor = createProcessor(baseCommand);
+        return new PreparedCommand(processor, () -> register(null, processor), name -> {
+            final String prefix = processor.getPrefix().isEmpty() ? globalPrefix : processor.getPrefix();
+            final PrefixedCommandExecutor<S> commandExecutor = globalCommands.get(prefix);
+            return commandExecutor == null ? null : commandExecutor.getCommand(name);
+        });
     }
 
     @Override
@@ -210,52 +296,131 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
      * @param baseCommand The {@link BaseCommand} to be added.
      */
     private void addCommand(final @Nullable Guild guild, final @NotNull BaseCommand baseCommand) {
-        final PrefixedCommandProcessor<S> processor = new PrefixedCommandProcessor<>(
+        register(guild, createProcessor(baseCommand));
+    }
+
+    /**
+     * Adds the processor's command to the executor of its prefix.
+     *
+     * @param guild     The guild to add the command to or null if it's a global command.
+     * @param processor The processor of the command.
+     */
+    private synchronized void register(final @Nullable Guild guild, final @NotNull PrefixedCommandProcessor<S> processor) {
+        getOrCreateExecutor(guild, processor).register(processor);
+    }
+
+    /**
+     * Reloads a command, swapping the sub commands in its executor and removing it from any other.
+     *
+     * @param guild       The guild the replacement is registered to or null if it's a global command.
+     * @param oldCommand  The registered {@link BaseCommand} to replace.
+     * @param replacement The {@link BaseCommand} replacing it.
+     */
+    private synchronized void reload(
+            final @Nullable Guild guild,
+            final @NotNull BaseCommand oldCommand,
+            final @NotNull BaseCommand replacement
+    ) {
+        final PrefixedCommandProcessor<S> processor = createProcessor(replacement);
+        final PrefixedCommandExecutor<S> commandExecutor = getOrCreateExecutor(guild, processor);
+        commandExecutor.reload(processor, oldCommand);
+        // The old command might have had a different prefix or guild
+        removeCommand(oldCommand, commandExecutor);
+    }
+
+    /**
+     * Removes the sub commands of the {@link BaseCommand} from the executors, dropping what is left empty.
+     *
+     * @param command The {@link BaseCommand} to remove.
+     * @param keep    An executor to leave untouched, or null.
+     */
+    private void removeCommand(final @NotNull BaseCommand command, final @Nullable PrefixedCommandExecutor<S> keep) {
+        globalCommands.snapshot().forEach((prefix, commandExecutor) -> {
+            if (commandExecutor == keep) return;
+            commandExecutor.unregister(command);
+            if (commandExecutor.isEmpty()) globalCommands.remove(prefix);
+        });
+
+        guildCommands.snapshot().forEach((guildId, commands) -> {
+            commands.snapshot().forEach((prefix, commandExecutor) -> {
+                if (commandExecutor == keep) return;
+                commandExecutor.unregister(command);
+                if (commandExecutor.isEmpty()) commands.remove(prefix);
+            });
+
+            if (commands.isEmpty()) guildCommands.remove(guildId);
+        });
+
+        // Prefixes no longer used by any command stop being matched
+        prefixes.snapshot().keySet().forEach(prefix -> {
+            if (globalCommands.containsKey(prefix)) return;
+            if (guildCommands.snapshot().values().stream().anyMatch(commands -> commands.containsKey(prefix))) return;
+            prefixes.remove(prefix);
+        });
+    }
+
+    /**
+     * Creates the processor for the {@link BaseCommand}.
+     *
+     * @param baseCommand The {@link BaseCommand} to process.
+     * @return The new {@link PrefixedCommandProcessor}.
+     */
+    private @NotNull PrefixedCommandProcessor<S> createProcessor(final @NotNull BaseCommand baseCommand) {
+        return new PrefixedCommandProcessor<>(
                 baseCommand,
                 registryContainer,
                 getSenderMapper(),
                 getSenderValidator(),
                 syncExecutionProvider,
-                asyncExecutionProvider
+                registryContainer.getAsyncExecutionProvider()
         );
+    }
 
+    /**
+     * Gets the executor for the processor's prefix, creating it and registering the prefix if needed.
+     *
+     * @param guild     The guild of the command or null if it's a global command.
+     * @param processor The processor of the command.
+     * @return The {@link PrefixedCommandExecutor} for the command.
+     */
+    private @NotNull PrefixedCommandExecutor<S> getOrCreateExecutor(
+            final @Nullable Guild guild,
+            final @NotNull PrefixedCommandProcessor<S> processor
+    ) {
         String prefix = processor.getPrefix();
         if (prefix.isEmpty()) {
             if (globalPrefix.isEmpty()) {
-                throw new CommandRegistrationException("The command prefix cannot be empty.", baseCommand.getClass());
+                throw new CommandRegistrationException("The command prefix cannot be empty.", processor.getBaseCommand().getClass());
             }
 
             prefix = globalPrefix;
         }
 
-        prefixes.add(prefix);
-        // TODO: 11/26/2021 Join into a map
-        prefixesRegexes.add(Pattern.compile("^(?<prefix>" + Pattern.quote(prefix) + ")[\\w]"));
+        prefixes.computeIfAbsent(prefix, it -> Pattern.compile("^(?<prefix>" + Pattern.quote(it) + ")[\\w]"));
 
         // Global command
         if (guild == null) {
             final PrefixedCommandExecutor<S> commandExecutor = globalCommands.computeIfAbsent(
                     prefix,
-                    ignored -> new PrefixedCommandExecutor<>(registryContainer.getMessageRegistry(), syncExecutionProvider, asyncExecutionProvider)
+                    ignored -> new PrefixedCommandExecutor<>(registryContainer.getMessageRegistry(), syncExecutionProvider, registryContainer.getAsyncExecutionProvider())
             );
 
             for (final String alias : processor.getAlias()) {
-                globalCommands.putIfAbsent(alias, commandExecutor);
+                globalCommands.computeIfAbsent(alias, ignored -> commandExecutor);
             }
 
-            commandExecutor.register(processor);
-            return;
+            return commandExecutor;
         }
 
         // Guild command
         final PrefixedCommandExecutor<S> commandExecutor = guildCommands
-                .computeIfAbsent(guild.getIdLong(), ignored -> new HashMap<>())
+                .computeIfAbsent(guild.getIdLong(), ignored -> new SnapshotMap<>())
                 .computeIfAbsent(
                         prefix,
                         ignored -> new PrefixedCommandExecutor<>(
                                 registryContainer.getMessageRegistry(),
                                 syncExecutionProvider,
-                                asyncExecutionProvider
+                                registryContainer.getAsyncExecutionProvider()
                         )
                 );
 
@@ -264,7 +429,7 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
             //guildCommands.putIfAbsent(Pair.of(guild.getIdLong(), alias), commandExecutor);
         }
 
-        commandExecutor.register(processor);
+        return commandExecutor;
     }
 
     /**
@@ -275,7 +440,7 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
      * @return The {@link BaseCommand} or null if it doesn't exist.
      */
     @Nullable PrefixedCommandExecutor<S> getCommand(final @NotNull Guild guild, final @NotNull String prefix) {
-        final Map<String, PrefixedCommandExecutor<S>> commands = guildCommands.get(guild.getIdLong());
+        final SnapshotMap<String, PrefixedCommandExecutor<S>> commands = guildCommands.get(guild.getIdLong());
         return commands != null ? commands.get(prefix) : null;
     }
 
@@ -295,16 +460,16 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
      * @return A {@link Set} with all the registered prefixes.
      */
     @NotNull Set<@NotNull String> getPrefixes() {
-        return prefixes;
+        return prefixes.snapshot().keySet();
     }
 
     /**
-     * Gets a {@link Set} with all registered prefixes regexes.
+     * Gets a {@link Collection} with all registered prefixes regexes.
      *
-     * @return A {@link Set} with all the registered prefixes regexes.
+     * @return A {@link Collection} with all the registered prefixes regexes.
      */
-    @NotNull Set<@NotNull Pattern> getPrefixesRegexes() {
-        return prefixesRegexes;
+    @NotNull Collection<@NotNull Pattern> getPrefixesRegexes() {
+        return prefixes.snapshot().values();
     }
 
     private static void setUpDefaults(final @NotNull PrefixedCommandManager<PrefixedSender> manager) {
@@ -312,6 +477,10 @@ public final class PrefixedCommandManager<S> extends CommandManager<PrefixedSend
         manager.registerMessage(MessageKey.TOO_MANY_ARGUMENTS, (sender, context) -> sender.getMessage().reply("Invalid usage.").queue());
         manager.registerMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, (sender, context) -> sender.getMessage().reply("Invalid usage.").queue());
         manager.registerMessage(MessageKey.INVALID_ARGUMENT, (sender, context) -> sender.getMessage().reply("Invalid argument `" + context.getTypedArgument() + "` for type `" + context.getArgumentType().getSimpleName() + "`.").queue());
+        manager.registerMessage(MessageKey.RATE_LIMITED, (sender, context) -> sender.getMessage().reply("You can use this command again in " + (context.getRemaining().toMillis() / 1000 + 1) + "s.").queue());
+        manager.registerMessage(MessageKey.EXECUTION_REJECTED, (sender, context) -> sender.getMessage().reply("Too many commands are running, try again later.").queue());
+
+        manager.setRateLimitKeyResolver(sender -> sender.getUser().getIdLong());
 
         manager.registerArgument(User.class, (sender, arg) -> {
             final JDA jda = sender.getJDA();
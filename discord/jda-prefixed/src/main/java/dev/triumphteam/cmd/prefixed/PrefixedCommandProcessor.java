@@ -25,7 +25,9 @@ package dev.triumphteam.cmd.prefixed;
 
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
 import dev.triumphteam.cmd.core.processor.AbstractCommandProcessor;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
@@ -77,11 +79,11 @@ final class PrefixedCommandProcessor<S> extends AbstractCommandProcessor<Prefixe
     }
 
     @Override
-    protected @NotNull PrefixedSubCommandProcessor<S> createProcessor(final @NotNull Method method) {
+    protected @NotNull PrefixedSubCommandProcessor<S> createProcessor(final @NotNull SubCommandDescriptor descriptor) {
         return new PrefixedSubCommandProcessor<>(
                 getBaseCommand(),
                 getName(),
-                method,
+                descriptor,
                 getRegistryContainer(),
                 getSenderValidator()
         );
@@ -91,4 +93,13 @@ final class PrefixedCommandProcessor<S> extends AbstractCommandProcessor<Prefixe
     protected @NotNull PrefixedSubCommand<S> createSubCommand(final @NotNull PrefixedSubCommandProcessor<S> processor, final @NotNull ExecutionProvider executionProvider) {
         return new PrefixedSubCommand<>(processor, getName(), executionProvider);
     }
+
+    @Override
+    protected @NotNull PrefixedSubCommand<S> rebindSubCommand(
+            final @NotNull PrefixedSubCommand<S> subCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        return subCommand.rebind(getBaseCommand(), method, invoker);
+    }
 }
@@ -24,10 +24,14 @@
 package dev.triumphteam.cmd.prefixed;
 
 import dev.triumphteam.cmd.core.AbstractSubCommand;
+import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
 import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Method;
+
 final class PrefixedSubCommand<S> extends AbstractSubCommand<S> {
 
     public PrefixedSubCommand(
@@ -37,4 +41,29 @@ final class PrefixedSubCommand<S> extends AbstractSubCommand<S> {
     ) {
         super(processor, parentName, executionProvider);
     }
+
+    private PrefixedSubCommand(
+            final @NotNull PrefixedSubCommand<S> subCommand,
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        super(subCommand, baseCommand, method, invoker);
+    }
+
+    /**
+     * Creates a copy of this sub command bound to a new {@link BaseCommand} instance.
+     *
+     * @param baseCommand The new {@link BaseCommand} instance.
+     * @param method      The method of the new instance.
+     * @param invoker     The {@link CommandInvoker} for the method.
+     * @return The new {@link PrefixedSubCommand}.
+     */
+    public @NotNull PrefixedSubCommand<S> rebind(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        return new PrefixedSubCommand<>(this, baseCommand, method, invoker);
+    }
 }
@@ -25,12 +25,11 @@ package dev.triumphteam.cmd.prefixed;
 
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
-
 /**
  * Processor for Prefixed JDA platform specific code.
  *
@@ -41,11 +40,11 @@ final class PrefixedSubCommandProcessor<S> extends AbstractSubCommandProcessor<S
     public PrefixedSubCommandProcessor(
             final @NotNull BaseCommand baseCommand,
             final @NotNull String parentName,
-            final @NotNull Method method,
+            final @NotNull SubCommandDescriptor descriptor,
             final @NotNull RegistryContainer<S> registryContainer,
             final @NotNull SenderValidator<S> senderValidator
     ) {
-        super(baseCommand, parentName, method, registryContainer, senderValidator);
+        super(baseCommand, parentName, descriptor, registryContainer, senderValidator);
     }
 
 }
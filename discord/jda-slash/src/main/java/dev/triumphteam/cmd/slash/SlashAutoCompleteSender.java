@@ -0,0 +1,82 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.slash;
+
+import dev.triumphteam.cmd.slash.sender.AutoCompleteSender;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.MessageChannel;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+final class SlashAutoCompleteSender implements AutoCompleteSender {
+
+    private final CommandAutoCompleteInteractionEvent event;
+
+    public SlashAutoCompleteSender(final @NotNull CommandAutoCompleteInteractionEvent event) {
+        this.event = event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull CommandAutoCompleteInteractionEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Guild getGuild() {
+        return event.getGuild();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull MessageChannel getChannel() {
+        return event.getMessageChannel();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull User getUser() {
+        return event.getUser();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Member getMember() {
+        return event.getMember();
+    }
+}
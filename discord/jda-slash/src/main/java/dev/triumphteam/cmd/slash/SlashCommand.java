@@ -23,12 +23,15 @@
  */
 package dev.triumphteam.cmd.slash;
 
+import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.Command;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.CommandTrie;
 import dev.triumphteam.cmd.slash.choices.ChoiceRegistry;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.interactions.commands.DefaultMemberPermissions;
@@ -38,10 +41,12 @@ import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main implementation of the command for prefixed JDA.
@@ -50,7 +55,7 @@ import java.util.stream.Collectors;
  */
 final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
 
-    private final Map<String, SlashSubCommand<S>> subCommands = new HashMap<>();
+    private volatile CommandTrie<SlashSubCommand<S>> subCommands = CommandTrie.empty();
 
     private final String name;
     private final String description;
@@ -65,7 +70,7 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
     private final ExecutionProvider syncExecutionProvider;
     private final ExecutionProvider asyncExecutionProvider;
 
-    private boolean isDefault = false;
+    private volatile boolean isDefault = false;
 
     public SlashCommand(
             final @NotNull SlashCommandProcessor<S> processor,
@@ -91,13 +96,13 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
 
 
     @Override
-    public void addSubCommand(final @NotNull String name, final @NotNull SlashSubCommand<S> subCommand) {
+    public synchronized void addSubCommand(final @NotNull String name, final @NotNull SlashSubCommand<S> subCommand) {
         if (name.equals(Default.DEFAULT_CMD_NAME)) {
             if (!this.subCommands.isEmpty()) {
                 throw new CommandRegistrationException(String.format("Can not register default command for '%s' because it has subcommands", this.name));
             }
 
-            this.subCommands.put(name, subCommand);
+            this.subCommands = subCommands.with(name, subCommand);
             isDefault = true;
             return;
         }
@@ -106,14 +111,41 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
             throw new CommandRegistrationException(String.format("Can not register subcommand '%s' for command '%s' because it has a default command", name, this.name));
         }
 
-        this.subCommands.putIfAbsent(name, subCommand);
+        this.subCommands = subCommands.withIfAbsent(name, subCommand);
     }
 
     @Override
-    public void addSubCommandAlias(final @NotNull String alias, final @NotNull SlashSubCommand<S> subCommand) {
+    public synchronized void addSubCommandAlias(final @NotNull String alias, final @NotNull SlashSubCommand<S> subCommand) {
         // Doesn't support alias .. yet
     }
 
+    @Override
+    public @NotNull Collection<@NotNull SlashSubCommand<S>> getSubCommands(final @NotNull BaseCommand baseCommand) {
+        return subCommands.values(it -> it.getBaseCommand() == baseCommand);
+    }
+
+    @Override
+    public synchronized void replaceSubCommands(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Map<@NotNull String, @NotNull SlashSubCommand<S>> subCommands,
+            final @NotNull Map<@NotNull String, @NotNull SlashSubCommand<S>> aliases
+    ) {
+        final CommandTrie<SlashSubCommand<S>> newSubCommands = this.subCommands.withoutIf(it -> it.getBaseCommand() == baseCommand).withAll(subCommands);
+
+        final boolean hasDefault = newSubCommands.contains(Default.DEFAULT_CMD_NAME);
+        if (hasDefault && newSubCommands.size() > 1) {
+            throw new CommandRegistrationException(String.format("Can not have a default command and subcommands in command '%s'", this.name));
+        }
+
+        this.subCommands = newSubCommands;
+        isDefault = hasDefault;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return subCommands.isEmpty();
+    }
+
     /**
      * Executes the current command for the given sender.
      *
@@ -126,10 +158,35 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
             final @NotNull Map<@NotNull String, @NotNull String> args
     ) {
         final SlashSubCommand<S> subCommand = getSubCommand(subCommandName);
-        if (subCommand == null) return;
+        if (subCommand == null) {
+            registryContainer.getMetrics().recordFailure(name, "", MessageKey.UNKNOWN_COMMAND);
+            return;
+        }
         subCommand.execute(sender, subCommand.mapArguments(args));
     }
 
+    /**
+     * Gets the autocomplete results for the focused option of the given sub command.
+     *
+     * @param sender         The sender autocompleting or null if there is no autocomplete sender mapper.
+     * @param subCommandName The sub command name.
+     * @param optionName     The focused option name.
+     * @param current        The typed value of the focused option.
+     * @param args           The values of all the options.
+     * @return A future with the results, at most 25.
+     */
+    public @NotNull CompletableFuture<@NotNull List<@NotNull String>> getAutoCompleteSuggestions(
+            final @Nullable S sender,
+            final @NotNull String subCommandName,
+            final @NotNull String optionName,
+            final @NotNull String current,
+            final @NotNull List<@NotNull String> args
+    ) {
+        final SlashSubCommand<S> subCommand = getSubCommand(subCommandName);
+        if (subCommand == null) return CompletableFuture.completedFuture(Collections.emptyList());
+        return subCommand.getAutoCompleteSuggestions(sender, optionName, current, args);
+    }
+
     public @NotNull SlashCommandData asCommandData() {
         final SlashCommandData commandData = Commands.slash(name, description);
         final DefaultMemberPermissions memberPermission = allow.isEmpty() ? DefaultMemberPermissions.ENABLED : DefaultMemberPermissions.enabledFor(allow);
@@ -144,11 +201,10 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
             return commandData;
         }
 
-        final List<SubcommandData> subData = subCommands
-                .entrySet()
-                .stream()
-                .map(entry -> new SubcommandData(entry.getKey().toLowerCase(), entry.getValue().getDescription()).addOptions(entry.getValue().getJdaOptions()))
-                .collect(Collectors.toList());
+        final List<SubcommandData> subData = new ArrayList<>(subCommands.size());
+        subCommands.forEach((subCommandName, subCommand) ->
+                subData.add(new SubcommandData(subCommandName.toLowerCase(), subCommand.getDescription()).addOptions(subCommand.getJdaOptions()))
+        );
 
         commandData.addSubcommands(subData);
 
@@ -170,7 +226,8 @@ final class SlashCommand<S> implements Command<S, SlashSubCommand<S>> {
      * @param key The sub command name.
      * @return A sub command or null.
      */
-    private @Nullable SlashSubCommand<S> getSubCommand(final @NotNull String key) {
+    @Override
+    public @Nullable SlashSubCommand<S> getSubCommand(final @NotNull String key) {
         return subCommands.get(key);
     }
 }
@@ -27,16 +27,33 @@ import com.google.common.collect.Maps;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
+import dev.triumphteam.cmd.slash.sender.AutoCompleteSender;
 import dev.triumphteam.cmd.slash.sender.SlashSender;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.events.ReadyEvent;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -46,9 +63,18 @@ import java.util.stream.Collectors;
  */
 final class SlashCommandListener<S> extends ListenerAdapter {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlashCommandListener.class);
+
+    // Discord gives 3 seconds to respond, leaves some room for the request itself
+    private static final long AUTO_COMPLETE_DEADLINE_MILLIS = 2500;
+    private static final int AUTO_COMPLETE_THREADS = 4;
+    // Anything past this couldn't be answered in time anyway
+    private static final int AUTO_COMPLETE_QUEUE_CAPACITY = 256;
+
     private final SlashCommandManager<S> commandManager;
     private final SenderMapper<SlashSender, S> senderMapper;
     private final AttachmentRegistry attachmentRegistry;
+    private final ThreadPoolExecutor autoCompleteExecutor = createAutoCompleteExecutor();
 
     public SlashCommandListener(
             final @NotNull SlashCommandManager<S> commandManager,
@@ -103,9 +129,15 @@ final class SlashCommandListener<S> extends ListenerAdapter {
         command.execute(sender, subCommandName != null ? subCommandName : Default.DEFAULT_CMD_NAME, args);
     }
 
-    // private static final List<String> ass = Arrays.asList("Hello", "There", "Ass", "Fuck", "Hoy");
-
-    /*@Override
+    /**
+     * Handler for autocompleting options.
+     * The results come from the argument's suggestions, resolved on a small pool owned by the listener so slow ones
+     * don't hold the JDA event thread or take the command threads, and if they aren't ready in time to meet Discord's
+     * response window, no results are given. Suggestions that fail, or don't fit in the pool, give no results.
+     *
+     * @param event The autocomplete event.
+     */
+    @Override
     public void onCommandAutoCompleteInteraction(final @NotNull CommandAutoCompleteInteractionEvent event) {
         final String name = event.getName();
         SlashCommand<S> command = commandManager.getCommand(name);
@@ -114,16 +146,74 @@ final class SlashCommandListener<S> extends ListenerAdapter {
             if (guild == null) return;
             command = commandManager.getCommand(guild, name);
         }
-
         if (command == null) return;
 
-        // final S sender = senderMapper.map(new SlashCommandSender(event));
-        event.replyChoiceStrings(
-                ass.stream()
-                        .filter(it -> it.toLowerCase(Locale.ROOT).startsWith(event.getFocusedOption().getValue().toLowerCase(Locale.ROOT)))
-                        .collect(Collectors.toList())
-        ).queue();
-    }*/
+        final SlashCommand<S> slashCommand = command;
+        final String subCommandName = event.getSubcommandName();
+        final List<String> args = event.getOptions().stream().map(OptionMapping::getAsString).collect(Collectors.toList());
+        final SenderMapper<AutoCompleteSender, S> autoCompleteSenderMapper = commandManager.getAutoCompleteSenderMapper();
+
+        final CompletableFuture<List<String>> future;
+        try {
+            future = CompletableFuture.supplyAsync(
+                    () -> slashCommand.getAutoCompleteSuggestions(
+                            autoCompleteSenderMapper == null ? null : autoCompleteSenderMapper.map(new SlashAutoCompleteSender(event)),
+                            subCommandName != null ? subCommandName : Default.DEFAULT_CMD_NAME,
+                            event.getFocusedOption().getName(),
+                            event.getFocusedOption().getValue(),
+                            args
+                    ),
+                    autoCompleteExecutor
+            ).thenCompose(suggestions -> suggestions);
+        } catch (final RejectedExecutionException exception) {
+            LOGGER.warn("Too many pending autocompletes, no suggestions given for /{}", event.getCommandPath());
+            event.replyChoiceStrings(Collections.emptyList()).queue();
+            return;
+        }
+
+        final AtomicBoolean replied = new AtomicBoolean();
+        final Consumer<List<String>> reply = choices -> {
+            if (replied.compareAndSet(false, true)) event.replyChoiceStrings(choices).queue();
+        };
+
+        final ScheduledFuture<?> timeout = event.getJDA().getGatewayPool().schedule(
+                () -> reply.accept(Collections.emptyList()),
+                AUTO_COMPLETE_DEADLINE_MILLIS,
+                TimeUnit.MILLISECONDS
+        );
+
+        future.whenComplete((choices, throwable) -> {
+            timeout.cancel(false);
+            if (throwable != null) {
+                final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                LOGGER.warn("Failed to get the suggestions for /{}", event.getCommandPath(), cause);
+            }
+            reply.accept(throwable == null ? choices : Collections.emptyList());
+        });
+    }
+
+    /**
+     * Creates the pool the suggestions are resolved on, its threads are daemons and stop when idle.
+     *
+     * @return The autocomplete {@link ThreadPoolExecutor}.
+     */
+    private static @NotNull ThreadPoolExecutor createAutoCompleteExecutor() {
+        final AtomicInteger count = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                AUTO_COMPLETE_THREADS,
+                AUTO_COMPLETE_THREADS,
+                30,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(AUTO_COMPLETE_QUEUE_CAPACITY),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "triumph-cmd-autocomplete-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 
     /**
      * Updates all the commands on ready.
@@ -26,13 +26,15 @@ package dev.triumphteam.cmd.slash;
 import com.google.common.collect.Maps;
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.CommandManager;
-import dev.triumphteam.cmd.core.execution.AsyncExecutionProvider;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
 import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.processor.PreparedCommand;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import dev.triumphteam.cmd.slash.choices.ChoiceKey;
+import dev.triumphteam.cmd.slash.sender.AutoCompleteSender;
 import dev.triumphteam.cmd.slash.sender.SlashSender;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.Permission;
@@ -48,7 +50,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -68,11 +69,12 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
 
     private final SlashRegistryContainer<S> registryContainer = new SlashRegistryContainer<>();
 
-    private final Map<String, SlashCommand<S>> globalCommands = new HashMap<>();
-    private final Map<Long, Map<String, SlashCommand<S>>> guildCommands = new HashMap<>();
+    private final SnapshotMap<String, SlashCommand<S>> globalCommands = new SnapshotMap<>();
+    private final SnapshotMap<Long, SnapshotMap<String, SlashCommand<S>>> guildCommands = new SnapshotMap<>();
 
     private final ExecutionProvider syncExecutionProvider = new SyncExecutionProvider();
-    private final ExecutionProvider asyncExecutionProvider = new AsyncExecutionProvider();
+
+    private volatile SenderMapper<AutoCompleteSender, S> autoCompleteSenderMapper = null;
 
     public SlashCommandManager(
             final @NotNull JDA jda,
@@ -104,6 +106,30 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
         return new SlashCommandManager<>(jda, senderMapper, senderValidator);
     }
 
+    /**
+     * Creates a new instance of the {@link SlashCommandManager} that runs the {@link dev.triumphteam.cmd.core.annotation.Async}
+     * sub commands with the given {@link ExecutionProvider}, like a {@link dev.triumphteam.cmd.core.execution.VirtualThreadExecutionProvider}.
+     * This factory is for adding a custom sender, for default sender use {@link #create(JDA, ExecutionProvider)}.
+     *
+     * @param jda                    The JDA instance created.
+     * @param senderMapper           The Mapper to get the custom sender from.
+     * @param senderValidator        The validator to validate the sender.
+     * @param asyncExecutionProvider The {@link ExecutionProvider} for the asynchronous sub commands.
+     * @param <S>                    The type of the custom sender.
+     * @return A new instance of the {@link SlashCommandManager}.
+     */
+    @Contract("_, _, _, _ -> new")
+    public static <S> @NotNull SlashCommandManager<S> create(
+            final @NotNull JDA jda,
+            final @NotNull SenderMapper<SlashSender, S> senderMapper,
+            final @NotNull SenderValidator<S> senderValidator,
+            final @NotNull ExecutionProvider asyncExecutionProvider
+    ) {
+        final SlashCommandManager<S> commandManager = create(jda, senderMapper, senderValidator);
+        commandManager.setAsyncExecutionProvider(asyncExecutionProvider);
+        return commandManager;
+    }
+
     /**
      * Creates a new instance of the {@link SlashCommandManager}.
      * This factory adds all the defaults based on the default sender {@link SlashSender}.
@@ -117,6 +143,23 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
         return commandManager;
     }
 
+    /**
+     * Creates a new instance of the {@link SlashCommandManager} with all the defaults based on the default sender {@link SlashSender},
+     * running the {@link dev.triumphteam.cmd.core.annotation.Async} sub commands with the given {@link ExecutionProvider}.
+     *
+     * @param jda                    The JDA instance created.
+     * @param asyncExecutionProvider The {@link ExecutionProvider} for the asynchronous sub commands.
+     * @return A new instance of the {@link SlashCommandManager}.
+     */
+    public static @NotNull SlashCommandManager<SlashSender> create(
+            final @NotNull JDA jda,
+            final @NotNull ExecutionProvider asyncExecutionProvider
+    ) {
+        final SlashCommandManager<SlashSender> commandManager = create(jda);
+        commandManager.setAsyncExecutionProvider(asyncExecutionProvider);
+        return commandManager;
+    }
+
     /**
      * Registers a global command.
      *
@@ -179,9 +222,51 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
         registryContainer.getChoiceRegistry().register(key, choiceSupplier);
     }
 
+    /**
+     * Sets the mapper of autocomplete senders into the custom sender, needed to autocomplete options from their suggestions.
+     * Autocomplete interactions can't be replied to, so they have their own {@link AutoCompleteSender} instead of a {@link SlashSender},
+     * and the {@link SenderMapper} given on creation is never called with them.
+     * Without this mapper, only choice sets too big to be sent to Discord are autocompleted.
+     *
+     * @param autoCompleteSenderMapper The mapper to get the custom sender from, or null to not autocomplete suggestions.
+     */
+    public void setAutoCompleteSenderMapper(final @Nullable SenderMapper<AutoCompleteSender, S> autoCompleteSenderMapper) {
+        this.autoCompleteSenderMapper = autoCompleteSenderMapper;
+    }
+
+    /**
+     * Removes the sub commands of the {@link BaseCommand} from the global and guild commands, dropping the commands left empty.
+     * Discord is only told about the change on the next {@link #updateAllCommands()}.
+     *
+     * @param command The {@link BaseCommand} to be unregistered.
+     */
+    @Override
+    public synchronized void unregisterCommand(final @NotNull BaseCommand command) {
+        removeCommand(command, null);
+    }
+
+    /**
+     * Reloads a global command, see {@link CommandManager#reloadCommand(BaseCommand, BaseCommand)}.
+     * Discord is only told about the change on the next {@link #updateAllCommands()}.
+     *
+     * @param oldCommand  The registered {@link BaseCommand} to replace.
+     * @param replacement The {@link BaseCommand} replacing it.
+     */
     @Override
-    public void unregisterCommand(final @NotNull BaseCommand command) {
-        // TODO: 12/7/2021 Implement some sort of unregistering
+    public void reloadCommand(final @NotNull BaseCommand oldCommand, final @NotNull BaseCommand replacement) {
+        reload(null, oldCommand, replacement);
+    }
+
+    /**
+     * Reloads a {@link Guild} command, see {@link CommandManager#reloadCommand(BaseCommand, BaseCommand)}.
+     * Discord is only told about the change on the next {@link #updateAllCommands()}.
+     *
+     * @param guild       The {@link Guild} the replacement is registered to.
+     * @param oldCommand  The registered {@link BaseCommand} to replace.
+     * @param replacement The {@link BaseCommand} replacing it.
+     */
+    public void reloadCommand(final @NotNull Guild guild, final @NotNull BaseCommand oldCommand, final @NotNull BaseCommand replacement) {
+        reload(guild, oldCommand, replacement);
     }
 
     /**
@@ -189,10 +274,11 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
      * This should be used if the default trigger for the updating of the commands isn't working.
      * Or if commands are added after the initial setup.
      */
-    public void updateAllCommands() {
-        jda.updateCommands().addCommands(globalCommands.values().stream().map(SlashCommand::asCommandData).collect(Collectors.toList())).queue();
+    public synchronized void updateAllCommands() {
+        jda.updateCommands().addCommands(globalCommands.snapshot().values().stream().map(SlashCommand::asCommandData).collect(Collectors.toList())).queue();
 
         guildCommands
+                .snapshot()
                 .entrySet()
                 .stream()
                 .map(entry -> {
@@ -202,7 +288,21 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
                 .filter(Objects::nonNull)
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
                 .forEach((guild, commands) -> guild.updateCommands()
-                        .addCommands(commands.values().stream().map(SlashCommand::asCommandData).collect(Collectors.toList())).queue());
+                        .addCommands(commands.snapshot().values().stream().map(SlashCommand::asCommandData).collect(Collectors.toList())).queue());
+
+        guildCommands.snapshot().forEach((guildId, commands) -> {
+            if (commands.isEmpty()) guildCommands.remove(guildId);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bulk registered commands are global commands, {@link #updateAllCommands()} still needs to be called after.
+     */
+    @Override
+    protected @NotNull PreparedCommand prepareCommand(final @NotNull BaseCommand baseCommand) {
+        final SlashCommandProcessor<S> processor = createProcessor(baseCommand);
+        return new PreparedCommand(processor, () -> register(null, processor, Collections.emptyList()), this::getCommand);
     }
 
     @Override
@@ -221,32 +321,118 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
             final @NotNull BaseCommand baseCommand,
             final @NotNull List<@NotNull Permission> enabledPermissions
     ) {
-        final SlashCommandProcessor<S> processor = new SlashCommandProcessor<>(
+        register(guild, createProcessor(baseCommand), enabledPermissions);
+    }
+
+    /**
+     * Adds the processor's sub commands to its command.
+     *
+     * @param guild              The guild to add the command to or null if it's a global command.
+     * @param processor          The processor of the command.
+     * @param enabledPermissions The {@link Permission}s that are allowed to use a new command.
+     */
+    private synchronized void register(
+            final @Nullable Guild guild,
+            final @NotNull SlashCommandProcessor<S> processor,
+            final @NotNull List<@NotNull Permission> enabledPermissions
+    ) {
+        processor.addSubCommands(getOrCreateCommand(guild, processor, enabledPermissions));
+    }
+
+    /**
+     * Reloads a command, swapping the sub commands in its command and removing it from any other.
+     * An existing command keeps its enabled permissions.
+     *
+     * @param guild       The guild the replacement is registered to or null if it's a global command.
+     * @param oldCommand  The registered {@link BaseCommand} to replace.
+     * @param replacement The {@link BaseCommand} replacing it.
+     */
+    private synchronized void reload(
+            final @Nullable Guild guild,
+            final @NotNull BaseCommand oldCommand,
+            final @NotNull BaseCommand replacement
+    ) {
+        final SlashCommandProcessor<S> processor = createProcessor(replacement);
+        final SlashCommand<S> command = getOrCreateCommand(guild, processor, Collections.emptyList());
+        processor.reloadSubCommands(command, oldCommand);
+        // The old command might have had a different name or guild
+        removeCommand(oldCommand, command);
+    }
+
+    /**
+     * Removes the sub commands of the {@link BaseCommand} from the commands, dropping the commands left empty.
+     *
+     * @param command The {@link BaseCommand} to remove.
+     * @param keep    A command to leave untouched, or null.
+     */
+    private void removeCommand(final @NotNull BaseCommand command, final @Nullable SlashCommand<S> keep) {
+        globalCommands.snapshot().forEach((name, slashCommand) -> {
+            if (slashCommand == keep) return;
+            slashCommand.removeSubCommands(command);
+            if (slashCommand.isEmpty()) globalCommands.remove(name);
+        });
+
+        // Guild entries left empty are kept until the next update, so their commands are cleared on Discord
+        guildCommands.snapshot().values().forEach(commands -> commands.snapshot().forEach((name, slashCommand) -> {
+            if (slashCommand == keep) return;
+            slashCommand.removeSubCommands(command);
+            if (slashCommand.isEmpty()) commands.remove(name);
+        }));
+    }
+
+    /**
+     * Creates the processor for the {@link BaseCommand}.
+     *
+     * @param baseCommand The {@link BaseCommand} to process.
+     * @return The new {@link SlashCommandProcessor}.
+     */
+    private @NotNull SlashCommandProcessor<S> createProcessor(final @NotNull BaseCommand baseCommand) {
+        return new SlashCommandProcessor<>(
                 baseCommand,
                 registryContainer,
                 getSenderMapper(),
                 getSenderValidator(),
                 syncExecutionProvider,
-                asyncExecutionProvider
+                registryContainer.getAsyncExecutionProvider()
         );
+    }
 
+    /**
+     * Gets the command for the processor, creating it if it doesn't exist yet.
+     *
+     * @param guild              The guild of the command or null if it's a global command.
+     * @param processor          The processor of the command.
+     * @param enabledPermissions The {@link Permission}s that are allowed to use a new command.
+     * @return The existing or the new {@link SlashCommand}.
+     */
+    private @NotNull SlashCommand<S> getOrCreateCommand(
+            final @Nullable Guild guild,
+            final @NotNull SlashCommandProcessor<S> processor,
+            final @NotNull List<@NotNull Permission> enabledPermissions
+    ) {
         final String name = processor.getName();
 
         final List<Permission> finalEnabledPermissions = new ArrayList<>(enabledPermissions);
 
         finalEnabledPermissions.addAll(processor.getEnabledPermissions());
 
-        final SlashCommand<S> command;
         if (guild == null) {
             // Global command
-            command = globalCommands.computeIfAbsent(name, ignored -> new SlashCommand<>(processor, enabledPermissions, syncExecutionProvider, asyncExecutionProvider));
-        } else {
-            command = guildCommands
-                    .computeIfAbsent(guild.getIdLong(), map -> new HashMap<>())
-                    .computeIfAbsent(name, ignored -> new SlashCommand<>(processor, finalEnabledPermissions, syncExecutionProvider, asyncExecutionProvider));
+            return globalCommands.computeIfAbsent(name, ignored -> new SlashCommand<>(processor, enabledPermissions, syncExecutionProvider, registryContainer.getAsyncExecutionProvider()));
         }
 
-        processor.addSubCommands(command);
+        return guildCommands
+                .computeIfAbsent(guild.getIdLong(), map -> new SnapshotMap<>())
+                .computeIfAbsent(name, ignored -> new SlashCommand<>(processor, finalEnabledPermissions, syncExecutionProvider, registryContainer.getAsyncExecutionProvider()));
+    }
+
+    /**
+     * Gets the mapper of autocomplete senders.
+     *
+     * @return The mapper or null if suggestions aren't autocompleted.
+     */
+    @Nullable SenderMapper<AutoCompleteSender, S> getAutoCompleteSenderMapper() {
+        return autoCompleteSenderMapper;
     }
 
     /**
@@ -267,7 +453,7 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
      * @return The {@link SlashCommand} or null if it doesn't exist.
      */
     @Nullable SlashCommand<S> getCommand(@NotNull Guild guild, final @NotNull String name) {
-        final Map<String, SlashCommand<S>> commands = guildCommands.get(guild.getIdLong());
+        final SnapshotMap<String, SlashCommand<S>> commands = guildCommands.get(guild.getIdLong());
         return commands != null ? commands.get(name) : null;
     }
 
@@ -281,6 +467,10 @@ public final class SlashCommandManager<S> extends CommandManager<SlashSender, S>
         manager.registerMessage(MessageKey.TOO_MANY_ARGUMENTS, (sender, context) -> sender.reply("Invalid usage.").setEphemeral(true).queue());
         manager.registerMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, (sender, context) -> sender.reply("Invalid usage.").setEphemeral(true).queue());
         manager.registerMessage(MessageKey.INVALID_ARGUMENT, (sender, context) -> sender.reply("Invalid argument `" + context.getTypedArgument() + "` for type `" + context.getArgumentType().getSimpleName() + "`.").setEphemeral(true).queue());
+        manager.registerMessage(MessageKey.RATE_LIMITED, (sender, context) -> sender.reply("You can use this command again in " + (context.getRemaining().toMillis() / 1000 + 1) + "s.").setEphemeral(true).queue());
+        manager.registerMessage(MessageKey.EXECUTION_REJECTED, (sender, context) -> sender.reply("Too many commands are running, try again later.").setEphemeral(true).queue());
+
+        manager.setRateLimitKeyResolver(sender -> sender.getUser().getIdLong());
 
         manager.registerArgument(Member.class, (sender, arg) -> {
             final Guild guild = sender.getGuild();
@@ -25,7 +25,9 @@ package dev.triumphteam.cmd.slash;
 
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
 import dev.triumphteam.cmd.core.processor.AbstractCommandProcessor;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import dev.triumphteam.cmd.jda.annotation.Privileges;
@@ -101,11 +103,11 @@ final class SlashCommandProcessor<S>
     }
 
     @Override
-    protected @NotNull SlashSubCommandProcessor<S> createProcessor(final @NotNull Method method) {
+    protected @NotNull SlashSubCommandProcessor<S> createProcessor(final @NotNull SubCommandDescriptor descriptor) {
         return new SlashSubCommandProcessor<>(
                 getBaseCommand(),
                 getName(),
-                method,
+                descriptor,
                 (SlashRegistryContainer<S>) getRegistryContainer(),
                 getSenderValidator()
         );
@@ -118,4 +120,13 @@ final class SlashCommandProcessor<S>
     ) {
         return new SlashSubCommand<>(processor, getName(), executionProvider);
     }
+
+    @Override
+    protected @NotNull SlashSubCommand<S> rebindSubCommand(
+            final @NotNull SlashSubCommand<S> subCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        return subCommand.rebind(getBaseCommand(), method, invoker);
+    }
 }
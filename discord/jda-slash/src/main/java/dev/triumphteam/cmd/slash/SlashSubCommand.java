@@ -24,8 +24,12 @@
 package dev.triumphteam.cmd.slash;
 
 import dev.triumphteam.cmd.core.AbstractSubCommand;
+import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
+import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
+import dev.triumphteam.cmd.core.suggestion.SuggestionIndex;
 import dev.triumphteam.cmd.slash.choices.Choice;
 import dev.triumphteam.cmd.slash.choices.EmptyChoice;
 import dev.triumphteam.cmd.slash.util.JdaOptionUtil;
@@ -33,16 +37,28 @@ import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.OptionData;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
 final class SlashSubCommand<S> extends AbstractSubCommand<S> {
 
+    // The most choices or autocomplete results Discord accepts
+    private static final int MAX_CHOICES = 25;
+
     private final String description;
     private final List<Choice> choices;
 
+    // Choice sets too big to be sent as choices, which are autocompleted instead, by argument index
+    private volatile SuggestionIndex[] autoCompleteChoices = new SuggestionIndex[0];
+
     public SlashSubCommand(
             final @NotNull SlashSubCommandProcessor<S> processor,
             final @NotNull String parentName,
@@ -53,6 +69,34 @@ final class SlashSubCommand<S> extends AbstractSubCommand<S> {
         this.choices = processor.getChoices();
     }
 
+    private SlashSubCommand(
+            final @NotNull SlashSubCommand<S> subCommand,
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        super(subCommand, baseCommand, method, invoker);
+        this.description = subCommand.description;
+        this.choices = subCommand.choices;
+        this.autoCompleteChoices = subCommand.autoCompleteChoices;
+    }
+
+    /**
+     * Creates a copy of this sub command bound to a new {@link BaseCommand} instance, sharing its choices.
+     *
+     * @param baseCommand The new {@link BaseCommand} instance.
+     * @param method      The method of the new instance.
+     * @param invoker     The {@link CommandInvoker} for the method.
+     * @return The new {@link SlashSubCommand}.
+     */
+    public @NotNull SlashSubCommand<S> rebind(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        return new SlashSubCommand<>(this, baseCommand, method, invoker);
+    }
+
     public @NotNull String getDescription() {
         return description;
     }
@@ -60,6 +104,7 @@ final class SlashSubCommand<S> extends AbstractSubCommand<S> {
     public @NotNull List<@NotNull OptionData> getJdaOptions() {
         final List<OptionData> options = new ArrayList<>();
         final List<InternalArgument<S, ?>> internalArguments = getArguments();
+        final SuggestionIndex[] autoCompleteChoices = new SuggestionIndex[internalArguments.size()];
 
         for (int i = 0; i < internalArguments.size(); i++) {
             final InternalArgument<S, ?> internalArgument = internalArguments.get(i);
@@ -71,21 +116,70 @@ final class SlashSubCommand<S> extends AbstractSubCommand<S> {
                     internalArgument.getDescription(),
                     !internalArgument.isOptional()
             );
-            // option.setAutoComplete(type.canSupportChoices());
             options.add(option);
 
             final Choice suggestion = getChoice(i);
-            if (suggestion instanceof EmptyChoice) continue;
+            if (!(suggestion instanceof EmptyChoice)) {
+                final List<String> values = suggestion.getChoices();
+                // Only string options can be autocompleted with the plain values
+                if (values.size() <= MAX_CHOICES || type != OptionType.STRING) {
+                    option.addChoices(values.stream().map(it -> new Command.Choice(it, it)).limit(MAX_CHOICES).collect(Collectors.toList()));
+                    continue;
+                }
+
+                autoCompleteChoices[i] = SuggestionIndex.of(values);
+            }
 
-            option.addChoices(suggestion.getChoices().stream().map(it -> new Command.Choice(it, it)).limit(25).collect(Collectors.toList()));
+            if (type == OptionType.STRING && (autoCompleteChoices[i] != null || internalArgument.hasSuggestions())) {
+                option.setAutoComplete(true);
+            }
         }
 
+        this.autoCompleteChoices = autoCompleteChoices;
         return options;
     }
 
+    /**
+     * Gets the autocomplete results for the focused option, at most 25 of them.
+     * Big choice sets are looked up in their index, otherwise the argument's suggestions are used, which need a sender.
+     *
+     * @param sender     The sender autocompleting or null if there is no autocomplete sender mapper.
+     * @param optionName The focused option name.
+     * @param current    The typed value of the focused option.
+     * @param args       The values of all the options.
+     * @return A future with the results.
+     */
+    public @NotNull CompletableFuture<@NotNull List<@NotNull String>> getAutoCompleteSuggestions(
+            final @Nullable S sender,
+            final @NotNull String optionName,
+            final @NotNull String current,
+            final @NotNull List<@NotNull String> args
+    ) {
+        final List<InternalArgument<S, ?>> internalArguments = getArguments();
+        int index = 0;
+        while (index < internalArguments.size() && !internalArguments.get(index).getName().equalsIgnoreCase(optionName)) index++;
+        if (index == internalArguments.size()) return CompletableFuture.completedFuture(emptyList());
+
+        final InternalArgument<S, ?> internalArgument = internalArguments.get(index);
+        final SuggestionIndex[] autoCompleteChoices = this.autoCompleteChoices;
+        if (index < autoCompleteChoices.length && autoCompleteChoices[index] != null) {
+            return CompletableFuture.completedFuture(limit(autoCompleteChoices[index].startingWith(current)));
+        }
+
+        if (sender == null || !internalArgument.hasSuggestions()) return CompletableFuture.completedFuture(emptyList());
+
+        final SuggestionContext context = new SuggestionContext(args, getParentName(), getName());
+        return internalArgument.suggestionsAsync(sender, singletonList(current), context).thenApply(SlashSubCommand::limit);
+    }
+
     private @NotNull Choice getChoice(final int index) {
         if (index >= choices.size()) return EmptyChoice.INSTANCE;
         return choices.get(index);
     }
 
+    private static @NotNull List<@NotNull String> limit(final @NotNull List<@NotNull String> suggestions) {
+        if (suggestions.size() <= MAX_CHOICES) return suggestions;
+        return suggestions.subList(0, MAX_CHOICES);
+    }
+
 }
@@ -27,6 +27,7 @@ import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.exceptions.SubCommandRegistrationException;
 import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import dev.triumphteam.cmd.core.suggestion.Suggestion;
 import dev.triumphteam.cmd.slash.annotation.Choices;
@@ -67,14 +68,16 @@ final class SlashSubCommandProcessor<S> extends AbstractSubCommandProcessor<S> {
     public SlashSubCommandProcessor(
             final @NotNull BaseCommand baseCommand,
             final @NotNull String parentName,
-            final @NotNull Method method,
+            final @NotNull SubCommandDescriptor descriptor,
             final @NotNull SlashRegistryContainer<S> registryContainer,
             final @NotNull SenderValidator<S> senderValidator
     ) {
-        super(baseCommand, parentName, method, registryContainer, senderValidator);
+        super(baseCommand, parentName, descriptor, registryContainer, senderValidator);
+        // The command options are built from the arguments when registering, so they can't be lazy
+        if (getName() != null) process();
         this.choiceRegistry = registryContainer.getChoiceRegistry();
         this.attachmentRegistry = registryContainer.getAttachmentRegistry();
-        this.choices = extractChoices(method, baseCommand.getClass());
+        this.choices = extractChoices(descriptor.getMethod(), baseCommand.getClass());
     }
 
     @Override
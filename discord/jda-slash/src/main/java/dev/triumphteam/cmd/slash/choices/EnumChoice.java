@@ -29,7 +29,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static dev.triumphteam.cmd.core.util.EnumUtils.populateCache;
 
@@ -44,16 +43,7 @@ public final class EnumChoice implements Choice {
 
     @Override
     public @NotNull List<@NotNull String> getChoices() {
-        return EnumUtils.getEnumConstants(enumType)
-                .values()
-                .stream()
-                .map(it -> {
-                    final Enum<?> constant = it.get();
-                    if (constant == null) return null;
-                    return constant.name();
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return EnumUtils.getEnumNames(enumType);
     }
 
     @Override
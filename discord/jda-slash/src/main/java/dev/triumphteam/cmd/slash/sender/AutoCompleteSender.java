@@ -0,0 +1,74 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.slash.sender;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.MessageChannel;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The sender of an autocomplete interaction, mapped into the custom sender given to suggestions while autocompleting.
+ * Unlike {@link SlashSender} it can't be replied to, the suggestions are the reply.
+ */
+public interface AutoCompleteSender {
+
+    /**
+     * Gets the original event if more options are needed.
+     *
+     * @return The original event.
+     */
+    @NotNull CommandAutoCompleteInteractionEvent getEvent();
+
+    /**
+     * Gets the guild that the command is being typed in or null if it's in a private message.
+     *
+     * @return The guild.
+     */
+    @Nullable Guild getGuild();
+
+    /**
+     * Gets the channel that the command is being typed in.
+     *
+     * @return The channel.
+     */
+    @NotNull MessageChannel getChannel();
+
+    /**
+     * Gets the user typing the command.
+     *
+     * @return The user.
+     */
+    @NotNull User getUser();
+
+    /**
+     * Gets the member typing the command or null if the user is not a member.
+     *
+     * @return The member.
+     */
+    @Nullable Member getMember();
+}
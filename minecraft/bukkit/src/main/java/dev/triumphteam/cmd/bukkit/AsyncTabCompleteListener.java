@@ -0,0 +1,142 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2019-2021 Matt
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.triumphteam.cmd.bukkit;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandMap;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serves asynchronous suggestions from Paper's async tab complete event, which is called off the main thread.
+ * The event is only known at runtime, so it's listened to reflectively, and nothing is registered on servers without it.
+ * Completions without asynchronous suggestions are left to {@link BukkitCommand#tabComplete} as usual.
+ */
+final class AsyncTabCompleteListener implements Listener {
+
+    private static final String EVENT_CLASS = "com.destroystokyo.paper.event.server.AsyncTabCompleteEvent";
+
+    private final CommandMap commandMap;
+
+    private final MethodHandle getBuffer;
+    private final MethodHandle getSender;
+    private final MethodHandle isCommand;
+    private final MethodHandle isHandled;
+    private final MethodHandle setCompletions;
+    private final MethodHandle setHandled;
+
+    private AsyncTabCompleteListener(final @NotNull CommandMap commandMap, final @NotNull Class<?> eventClass) throws ReflectiveOperationException {
+        this.commandMap = commandMap;
+
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        this.getBuffer = lookup.findVirtual(eventClass, "getBuffer", MethodType.methodType(String.class));
+        this.getSender = lookup.findVirtual(eventClass, "getSender", MethodType.methodType(CommandSender.class));
+        this.isCommand = lookup.findVirtual(eventClass, "isCommand", MethodType.methodType(boolean.class));
+        this.isHandled = lookup.findVirtual(eventClass, "isHandled", MethodType.methodType(boolean.class));
+        this.setCompletions = lookup.findVirtual(eventClass, "setCompletions", MethodType.methodType(void.class, List.class));
+        this.setHandled = lookup.findVirtual(eventClass, "setHandled", MethodType.methodType(void.class, boolean.class));
+    }
+
+    /**
+     * Registers the listener if the server has the async tab complete event.
+     *
+     * @param plugin     The plugin to register it for.
+     * @param commandMap The command map to find the commands in.
+     */
+    @SuppressWarnings("unchecked")
+    static void register(final @NotNull Plugin plugin, final @NotNull CommandMap commandMap) {
+        final Class<? extends Event> eventClass;
+        final AsyncTabCompleteListener listener;
+        try {
+            eventClass = (Class<? extends Event>) Class.forName(EVENT_CLASS);
+            listener = new AsyncTabCompleteListener(commandMap, eventClass);
+        } catch (final ReflectiveOperationException | LinkageError ignored) {
+            // Not a Paper server, asynchronous suggestions are resolved in the normal tab complete
+            return;
+        }
+
+        Bukkit.getPluginManager().registerEvent(
+                eventClass,
+                listener,
+                EventPriority.NORMAL,
+                (ignored, event) -> {
+                    if (eventClass.isInstance(event)) listener.onTabComplete(event);
+                },
+                plugin,
+                true
+        );
+    }
+
+    private void onTabComplete(final @NotNull Event event) {
+        try {
+            if (!(boolean) isCommand.invoke(event) || (boolean) isHandled.invoke(event)) return;
+
+            final List<String> completions = complete((CommandSender) getSender.invoke(event), (String) getBuffer.invoke(event));
+            if (completions == null) return;
+
+            setCompletions.invoke(event, new ArrayList<>(completions));
+            setHandled.invoke(event, true);
+        } catch (final RuntimeException | Error exception) {
+            throw exception;
+        } catch (final Throwable throwable) {
+            throw new IllegalStateException("Failed to handle the async tab complete event", throwable);
+        }
+    }
+
+    /**
+     * Completes the buffer if it's one of ours and the argument being completed has asynchronous suggestions.
+     * Waiting here is fine, the event is already off the main thread, and the suggestions are bound by their deadline.
+     *
+     * @param sender The sender completing.
+     * @param buffer The typed command line.
+     * @return The completions or null if it should be left to the normal tab complete.
+     */
+    private @Nullable List<@NotNull String> complete(final @NotNull CommandSender sender, final @NotNull String buffer) {
+        final String line = buffer.startsWith("/") ? buffer.substring(1) : buffer;
+        final int space = line.indexOf(' ');
+        // Still typing the command name
+        if (space < 0) return null;
+
+        final org.bukkit.command.Command command = commandMap.getCommand(line.substring(0, space));
+        if (!(command instanceof BukkitCommand)) return null;
+
+        // Same as Bukkit, so the last argument is empty when the buffer ends with a space
+        final String[] args = line.substring(space + 1).split(" ", -1);
+        final CompletableFuture<List<String>> future = ((BukkitCommand<?>) command).tabCompleteAsync(sender, args);
+        if (future == null) return null;
+        return future.join();
+    }
+}
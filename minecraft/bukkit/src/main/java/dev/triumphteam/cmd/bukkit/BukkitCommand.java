@@ -25,20 +25,30 @@ package dev.triumphteam.cmd.bukkit;
 
 import dev.triumphteam.cmd.bukkit.message.BukkitMessageKey;
 import dev.triumphteam.cmd.bukkit.message.NoPermissionMessageContext;
+import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.Command;
 import dev.triumphteam.cmd.core.SubCommand;
 import dev.triumphteam.cmd.core.annotation.Default;
 import dev.triumphteam.cmd.core.exceptions.CommandExecutionException;
 import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.metrics.CommandMetrics;
 import dev.triumphteam.cmd.core.message.MessageRegistry;
 import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
+import dev.triumphteam.cmd.core.util.CommandTrie;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.Collections.emptyList;
 
@@ -47,9 +57,10 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
     private final MessageRegistry<S> messageRegistry;
 
     private final SenderMapper<CommandSender, S> senderMapper;
+    private final CommandMetrics metrics;
 
-    private final Map<String, BukkitSubCommand<S>> subCommands = new HashMap<>();
-    private final Map<String, BukkitSubCommand<S>> subCommandAliases = new HashMap<>();
+    private volatile CommandTrie<BukkitSubCommand<S>> subCommands = CommandTrie.empty();
+    private volatile CommandTrie<BukkitSubCommand<S>> subCommandAliases = CommandTrie.empty();
 
     public BukkitCommand(final @NotNull String name, final @NotNull BukkitCommandProcessor<S> processor) {
         super(name);
@@ -57,16 +68,72 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
         this.description = processor.getDescription();
         this.messageRegistry = processor.getRegistryContainer().getMessageRegistry();
         this.senderMapper = processor.getSenderMapper();
+        this.metrics = processor.getRegistryContainer().getMetrics();
     }
 
     @Override
-    public void addSubCommand(final @NotNull String name, final @NotNull BukkitSubCommand<S> subCommand) {
-        subCommands.putIfAbsent(name, subCommand);
+    public synchronized void addSubCommand(final @NotNull String name, final @NotNull BukkitSubCommand<S> subCommand) {
+        subCommands = subCommands.withIfAbsent(name, subCommand);
+        registerPermission(subCommand);
     }
 
     @Override
-    public void addSubCommandAlias(final @NotNull String alias, final @NotNull BukkitSubCommand<S> subCommand) {
-        subCommandAliases.putIfAbsent(alias, subCommand);
+    public synchronized void addSubCommandAlias(final @NotNull String alias, final @NotNull BukkitSubCommand<S> subCommand) {
+        subCommandAliases = subCommandAliases.withIfAbsent(alias, subCommand);
+        registerPermission(subCommand);
+    }
+
+    /**
+     * Registers the sub command's permission, done here instead of when processing so it only happens on the registering thread.
+     *
+     * @param subCommand The added sub command.
+     */
+    private static void registerPermission(final @NotNull BukkitSubCommand<?> subCommand) {
+        final CommandPermission permission = subCommand.getPermission();
+        if (permission != null) permission.register();
+    }
+
+    @Override
+    public @NotNull Collection<@NotNull BukkitSubCommand<S>> getSubCommands(final @NotNull BaseCommand baseCommand) {
+        final Set<BukkitSubCommand<S>> found = new LinkedHashSet<>(subCommands.values(it -> it.getBaseCommand() == baseCommand));
+        found.addAll(subCommandAliases.values(it -> it.getBaseCommand() == baseCommand));
+        return found;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The permissions registered by the removed sub commands are unregistered, unless the new ones still use them.
+     */
+    @Override
+    public synchronized void replaceSubCommands(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Map<@NotNull String, @NotNull BukkitSubCommand<S>> subCommands,
+            final @NotNull Map<@NotNull String, @NotNull BukkitSubCommand<S>> aliases
+    ) {
+        final Collection<BukkitSubCommand<S>> removed = getSubCommands(baseCommand);
+        if (removed.isEmpty() && subCommands.isEmpty() && aliases.isEmpty()) return;
+
+        this.subCommands = this.subCommands.withoutIf(removed::contains).withAll(subCommands);
+        this.subCommandAliases = subCommandAliases.withoutIf(removed::contains).withAll(aliases);
+
+        final Set<CommandPermission> permissions = new HashSet<>();
+        subCommands.values().forEach(it -> permissions.add(it.getPermission()));
+        aliases.values().forEach(it -> permissions.add(it.getPermission()));
+
+        for (final BukkitSubCommand<S> subCommand : removed) {
+            final CommandPermission permission = subCommand.getPermission();
+            if (permission != null && !permissions.contains(permission)) permission.unregister();
+        }
+
+        // New sub commands might have skipped nodes that were registered by the ones just removed
+        for (final CommandPermission permission : permissions) {
+            if (permission != null) permission.register();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return subCommands.isEmpty() && subCommandAliases.isEmpty();
     }
 
     /**
@@ -78,7 +145,7 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
         BukkitSubCommand<S> subCommand = getDefaultSubCommand();
 
         String subCommandName = "";
-        if (args.length > 0) subCommandName = args[0].toLowerCase();
+        if (args.length > 0) subCommandName = args[0];
         if (subCommand == null || subCommandExists(subCommandName)) {
             subCommand = getSubCommand(subCommandName);
         }
@@ -89,12 +156,14 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
         }
 
         if (subCommand == null || (args.length > 0 && subCommand.isDefault() && !subCommand.hasArguments())) {
+            metrics.recordFailure(getName(), "", MessageKey.UNKNOWN_COMMAND);
             messageRegistry.sendMessage(MessageKey.UNKNOWN_COMMAND, mappedSender, new DefaultMessageContext(getName(), subCommandName));
             return true;
         }
 
         final CommandPermission permission = subCommand.getPermission();
         if (!CommandPermission.hasPermission(sender, permission)) {
+            metrics.recordFailure(getName(), subCommand.getName(), BukkitMessageKey.NO_PERMISSION);
             messageRegistry.sendMessage(BukkitMessageKey.NO_PERMISSION, mappedSender, new NoPermissionMessageContext(getName(), subCommand.getName(), permission));
             return true;
         }
@@ -110,26 +179,21 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
         if (args.length == 0) return emptyList();
         BukkitSubCommand<S> subCommand = getDefaultSubCommand();
 
-        final String arg = args[0].toLowerCase();
+        final String arg = args[0];
 
         if (args.length == 1 && (subCommand == null || !subCommand.hasArguments())) {
-            return subCommands.entrySet().stream()
-                    .filter(it -> !it.getValue().isDefault())
-                    .filter(it -> it.getKey().startsWith(arg))
-                    .filter(it -> {
-                        final CommandPermission permission = it.getValue().getPermission();
-                        return CommandPermission.hasPermission(sender, permission);
-                    })
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
+            final List<String> suggestions = new ArrayList<>();
+            subCommands.forEachWithPrefix(arg, (subCommandName, it) -> {
+                if (it.isDefault()) return;
+                if (!CommandPermission.hasPermission(sender, it.getPermission())) return;
+                suggestions.add(subCommandName);
+            });
+            return suggestions;
         }
 
-        if (subCommandExists(arg)) subCommand = getSubCommand(arg);
+        subCommand = getSuggestionSubCommand(sender, subCommand, arg);
         if (subCommand == null) return emptyList();
 
-        final CommandPermission permission = subCommand.getPermission();
-        if (!CommandPermission.hasPermission(sender, permission)) return emptyList();
-
         final S mappedSender = senderMapper.map(sender);
         if (mappedSender == null) {
             return emptyList();
@@ -139,6 +203,54 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
         return subCommand.getSuggestions(mappedSender, !subCommand.isDefault() ? commandArgs.subList(1, commandArgs.size()) : commandArgs);
     }
 
+    /**
+     * Tab completes without blocking, for arguments that have asynchronous suggestions.
+     * Anything else, like the sub command names, is left to {@link #tabComplete} on the main thread.
+     *
+     * @param sender The sender completing.
+     * @param args   The typed arguments, the last one being the one to complete.
+     * @return A future with the suggestions or null if there are no asynchronous suggestions to complete here.
+     */
+    public @Nullable CompletableFuture<@NotNull List<@NotNull String>> tabCompleteAsync(
+            final @NotNull CommandSender sender,
+            final @NotNull String @NotNull [] args
+    ) {
+        if (args.length == 0) return null;
+        BukkitSubCommand<S> subCommand = getDefaultSubCommand();
+
+        final String arg = args[0];
+        if (args.length == 1 && (subCommand == null || !subCommand.hasArguments())) return null;
+
+        subCommand = getSuggestionSubCommand(sender, subCommand, arg);
+        if (subCommand == null) return null;
+
+        final S mappedSender = senderMapper.map(sender);
+        if (mappedSender == null) return null;
+
+        final List<String> commandArgs = Arrays.asList(args);
+        return subCommand.getSuggestionsAsync(mappedSender, !subCommand.isDefault() ? commandArgs.subList(1, commandArgs.size()) : commandArgs);
+    }
+
+    /**
+     * Gets the sub command being completed, if the sender has permission to use it.
+     *
+     * @param sender            The sender completing.
+     * @param defaultSubCommand The default sub command, if any.
+     * @param arg               The first argument.
+     * @return The sub command to complete or null.
+     */
+    private @Nullable BukkitSubCommand<S> getSuggestionSubCommand(
+            final @NotNull CommandSender sender,
+            final @Nullable BukkitSubCommand<S> defaultSubCommand,
+            final @NotNull String arg
+    ) {
+        final BukkitSubCommand<S> subCommand = subCommandExists(arg) ? getSubCommand(arg) : defaultSubCommand;
+        if (subCommand == null) return null;
+
+        if (!CommandPermission.hasPermission(sender, subCommand.getPermission())) return null;
+        return subCommand;
+    }
+
     /**
      * Gets a default command if present.
      *
@@ -154,7 +266,8 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
      * @param key the String to look for the {@link SubCommand<CommandSender>}
      * @return the {@link SubCommand<CommandSender>} for the particular key or NULL
      */
-    private @Nullable BukkitSubCommand<S> getSubCommand(final @NotNull String key) {
+    @Override
+    public @Nullable BukkitSubCommand<S> getSubCommand(final @NotNull String key) {
         final BukkitSubCommand<S> subCommand = subCommands.get(key);
         if (subCommand != null) return subCommand;
         return subCommandAliases.get(key);
@@ -167,6 +280,6 @@ public final class BukkitCommand<S> extends org.bukkit.command.Command implement
      * @return whether a SubCommand with that key exists
      */
     private boolean subCommandExists(final @NotNull String key) {
-        return subCommands.containsKey(key) || subCommandAliases.containsKey(key);
+        return subCommands.contains(key) || subCommandAliases.contains(key);
     }
 }
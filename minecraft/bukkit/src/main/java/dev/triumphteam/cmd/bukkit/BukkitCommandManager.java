@@ -30,9 +30,11 @@ import dev.triumphteam.cmd.core.exceptions.CommandRegistrationException;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
 import dev.triumphteam.cmd.core.message.MessageKey;
+import dev.triumphteam.cmd.core.processor.PreparedCommand;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.SnapshotMap;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Server;
@@ -45,6 +47,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -56,10 +59,9 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
     private final Plugin plugin;
     private final RegistryContainer<S> registryContainer = new RegistryContainer<>();
 
-    private final Map<String, BukkitCommand<S>> commands = new HashMap<>();
+    private final SnapshotMap<String, BukkitCommand<S>> commands = new SnapshotMap<>();
 
     private final ExecutionProvider syncExecutionProvider = new SyncExecutionProvider();
-    private final ExecutionProvider asyncExecutionProvider;
 
     private final CommandMap commandMap;
     private final Map<String, org.bukkit.command.Command> bukkitCommands;
@@ -74,7 +76,7 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
     ) {
         super(senderMapper, senderValidator);
         this.plugin = plugin;
-        this.asyncExecutionProvider = new BukkitAsyncExecutionProvider(plugin);
+        registryContainer.setAsyncExecutionProvider(new BukkitAsyncExecutionProvider(plugin));
 
         this.commandMap = getCommandMap();
         this.bukkitCommands = getBukkitCommands(commandMap);
@@ -85,6 +87,8 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
         registerArgument(World.class, (sender, arg) -> Bukkit.getWorld(arg));
 
         registerSuggestion(Player.class, (sender, context) -> Bukkit.getOnlinePlayers().stream().map(Player::getName).collect(Collectors.toList()));
+
+        AsyncTabCompleteListener.register(plugin, commandMap);
     }
 
     /**
@@ -105,6 +109,25 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
         return commandManager;
     }
 
+    /**
+     * Creates a new instance of the {@link BukkitCommandManager} with all the defaults based on the default sender {@link CommandSender},
+     * running the {@link dev.triumphteam.cmd.core.annotation.Async} sub commands with the given {@link ExecutionProvider}
+     * instead of the Bukkit scheduler, like a {@link dev.triumphteam.cmd.core.execution.VirtualThreadExecutionProvider}.
+     *
+     * @param plugin                 The {@link Plugin} instance created.
+     * @param asyncExecutionProvider The {@link ExecutionProvider} for the asynchronous sub commands.
+     * @return A new instance of the {@link BukkitCommandManager}.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull BukkitCommandManager<CommandSender> create(
+            final @NotNull Plugin plugin,
+            final @NotNull ExecutionProvider asyncExecutionProvider
+    ) {
+        final BukkitCommandManager<CommandSender> commandManager = create(plugin);
+        commandManager.setAsyncExecutionProvider(asyncExecutionProvider);
+        return commandManager;
+    }
+
     /**
      * Creates a new instance of the {@link BukkitCommandManager}.
      * This factory is used for adding custom senders.
@@ -123,18 +146,71 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
         return new BukkitCommandManager<>(plugin, senderMapper, senderValidator);
     }
 
+    /**
+     * Creates a new instance of the {@link BukkitCommandManager} for custom senders,
+     * running the {@link dev.triumphteam.cmd.core.annotation.Async} sub commands with the given {@link ExecutionProvider}.
+     *
+     * @param plugin                 The {@link Plugin} instance created.
+     * @param senderMapper           The {@link SenderMapper} used to map the {@link CommandSender} to the {@link S} type.
+     * @param senderValidator        The {@link SenderValidator} used to validate the {@link S} type.
+     * @param asyncExecutionProvider The {@link ExecutionProvider} for the asynchronous sub commands.
+     * @return A new instance of the {@link BukkitCommandManager}.
+     */
+    @Contract("_, _, _, _ -> new")
+    public static <S> @NotNull BukkitCommandManager<S> create(
+            final @NotNull Plugin plugin,
+            final @NotNull SenderMapper<CommandSender, S> senderMapper,
+            final @NotNull SenderValidator<S> senderValidator,
+            final @NotNull ExecutionProvider asyncExecutionProvider
+    ) {
+        final BukkitCommandManager<S> commandManager = create(plugin, senderMapper, senderValidator);
+        commandManager.setAsyncExecutionProvider(asyncExecutionProvider);
+        return commandManager;
+    }
+
     @Override
-    public void registerCommand(final @NotNull BaseCommand baseCommand) {
-        final BukkitCommandProcessor<S> processor = new BukkitCommandProcessor<>(
-                baseCommand,
-                registryContainer,
-                getSenderMapper(),
-                getSenderValidator(),
-                syncExecutionProvider,
-                asyncExecutionProvider,
-                basePermission
-        );
+    public synchronized void registerCommand(final @NotNull BaseCommand baseCommand) {
+        register(createProcessor(baseCommand));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull PreparedCommand prepareCommand(final @NotNull BaseCommand baseCommand) {
+        final BukkitCommandProcessor<S> processor = createProcessor(baseCommand);
+        return new PreparedCommand(processor, () -> register(processor), commands::get);
+    }
+
+    /**
+     * Gets the owner of a command with the name that isn't from this manager, the commands of this plugin's plugin.yml
+     * are replaced so they don't count.
+     *
+     * @param name The command name or alias.
+     * @return The plugin or server owning the command, or null if the name is free.
+     */
+    @Override
+    protected @Nullable String getPlatformConflict(final @NotNull String name) {
+        if (commands.get(name) != null) return null;
+
+        final org.bukkit.command.Command existing = commandMap.getCommand(name);
+        if (existing == null) return null;
+
+        if (existing instanceof PluginIdentifiableCommand) {
+            final Plugin owner = ((PluginIdentifiableCommand) existing).getPlugin();
+            if (owner == plugin) return null;
+            return "plugin " + owner.getName();
+        }
 
+        return "the server command " + existing.getName();
+    }
+
+    /**
+     * Adds the processor's command and aliases, registering the new ones to the server.
+     *
+     * @param processor The processor of the command.
+     */
+    private synchronized void register(final @NotNull BukkitCommandProcessor<S> processor) {
         final BukkitCommand<S> command = commands.computeIfAbsent(processor.getName(), ignored -> createAndRegisterCommand(processor.getName(), processor));
         // Adding sub commands.
         processor.addSubCommands(command);
@@ -146,9 +222,50 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
         });
     }
 
+    /**
+     * Removes the sub commands of the {@link BaseCommand} and the permissions they registered.
+     * Commands left without sub commands are unregistered from the server.
+     * Executions already running finish with the sub commands they started with.
+     *
+     * @param command The {@link BaseCommand} to be unregistered.
+     */
     @Override
-    public void unregisterCommand(final @NotNull BaseCommand command) {
-        // TODO add a remove functionality
+    public synchronized void unregisterCommand(final @NotNull BaseCommand command) {
+        commands.snapshot().forEach((name, bukkitCommand) -> {
+            bukkitCommand.removeSubCommands(command);
+            if (!bukkitCommand.isEmpty()) return;
+
+            commands.remove(name);
+            unregisterFromServer(bukkitCommand);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reloadCommand(final @NotNull BaseCommand oldCommand, final @NotNull BaseCommand replacement) {
+        final BukkitCommandProcessor<S> processor = createProcessor(replacement);
+
+        final Set<BukkitCommand<S>> reloaded = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<String> names = new ArrayList<>(processor.getAlias());
+        names.add(0, processor.getName());
+
+        for (final String name : names) {
+            final BukkitCommand<S> command = commands.computeIfAbsent(name, ignored -> createAndRegisterCommand(name, processor));
+            if (reloaded.add(command)) processor.reloadSubCommands(command, oldCommand);
+        }
+
+        // Names the replacement no longer uses
+        commands.snapshot().forEach((name, bukkitCommand) -> {
+            if (reloaded.contains(bukkitCommand)) return;
+
+            bukkitCommand.removeSubCommands(oldCommand);
+            if (!bukkitCommand.isEmpty()) return;
+
+            commands.remove(name);
+            unregisterFromServer(bukkitCommand);
+        });
     }
 
     @Override
@@ -156,6 +273,24 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
         return registryContainer;
     }
 
+    /**
+     * Creates the processor for the {@link BaseCommand}.
+     *
+     * @param baseCommand The {@link BaseCommand}.
+     * @return The new {@link BukkitCommandProcessor}.
+     */
+    private @NotNull BukkitCommandProcessor<S> createProcessor(final @NotNull BaseCommand baseCommand) {
+        return new BukkitCommandProcessor<>(
+                baseCommand,
+                registryContainer,
+                getSenderMapper(),
+                getSenderValidator(),
+                syncExecutionProvider,
+                registryContainer.getAsyncExecutionProvider(),
+                basePermission
+        );
+    }
+
     private @NotNull BukkitCommand<S> createAndRegisterCommand(final @NotNull String name, final @NotNull BukkitCommandProcessor<S> processor) {
         // From ACF (https://github.com/aikar/commands)
         // To allow commands to be registered on the plugin.yml
@@ -170,6 +305,20 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
         return newCommand;
     }
 
+    /**
+     * Removes the command from the server's command map, including its fallback prefixed label.
+     *
+     * @param command The {@link BukkitCommand} to remove.
+     */
+    private void unregisterFromServer(final @NotNull BukkitCommand<S> command) {
+        final String label = command.getName().toLowerCase(Locale.ENGLISH).trim();
+        final String fallbackPrefix = plugin.getName().toLowerCase(Locale.ENGLISH).trim();
+
+        bukkitCommands.remove(label, command);
+        bukkitCommands.remove(fallbackPrefix + ":" + label, command);
+        command.unregister(commandMap);
+    }
+
     /**
      * Sets up all the default values for the Bukkit implementation.
      *
@@ -180,10 +329,14 @@ public final class BukkitCommandManager<S> extends CommandManager<CommandSender,
         manager.registerMessage(MessageKey.TOO_MANY_ARGUMENTS, (sender, context) -> sender.sendMessage("Invalid usage."));
         manager.registerMessage(MessageKey.NOT_ENOUGH_ARGUMENTS, (sender, context) -> sender.sendMessage("Invalid usage."));
         manager.registerMessage(MessageKey.INVALID_ARGUMENT, (sender, context) -> sender.sendMessage("Invalid argument `" + context.getTypedArgument() + "` for type `" + context.getArgumentType().getSimpleName() + "`."));
+        manager.registerMessage(MessageKey.RATE_LIMITED, (sender, context) -> sender.sendMessage("You can use this command again in " + (context.getRemaining().toMillis() / 1000 + 1) + "s."));
+        manager.registerMessage(MessageKey.EXECUTION_REJECTED, (sender, context) -> sender.sendMessage("Too many commands are running, try again later."));
 
         manager.registerMessage(BukkitMessageKey.NO_PERMISSION, (sender, context) -> sender.sendMessage("You do not have permission to perform this command. Permission needed: `" + context.getNodes() + "`."));
         manager.registerMessage(BukkitMessageKey.PLAYER_ONLY, (sender, context) -> sender.sendMessage("This command can only be used by players."));
         manager.registerMessage(BukkitMessageKey.CONSOLE_ONLY, (sender, context) -> sender.sendMessage("This command can only be used by the console."));
+
+        manager.setRateLimitKeyResolver(sender -> sender instanceof Player ? ((Player) sender).getUniqueId() : sender.getName());
     }
 
     /**
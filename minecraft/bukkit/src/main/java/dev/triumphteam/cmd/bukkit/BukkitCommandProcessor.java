@@ -26,7 +26,9 @@ package dev.triumphteam.cmd.bukkit;
 import dev.triumphteam.cmd.bukkit.annotation.Permission;
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
 import dev.triumphteam.cmd.core.processor.AbstractCommandProcessor;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
@@ -69,11 +71,11 @@ final class BukkitCommandProcessor<S> extends AbstractCommandProcessor<CommandSe
     }
 
     @Override
-    protected @NotNull BukkitSubCommandProcessor<S> createProcessor(final @NotNull Method method) {
+    protected @NotNull BukkitSubCommandProcessor<S> createProcessor(final @NotNull SubCommandDescriptor descriptor) {
         return new BukkitSubCommandProcessor<>(
                 getBaseCommand(),
                 getName(),
-                method,
+                descriptor,
                 getRegistryContainer(),
                 getSenderValidator(),
                 basePermission
@@ -88,6 +90,15 @@ final class BukkitCommandProcessor<S> extends AbstractCommandProcessor<CommandSe
         return new BukkitSubCommand<>(processor, getName(), executionProvider);
     }
 
+    @Override
+    protected @NotNull BukkitSubCommand<S> rebindSubCommand(
+            final @NotNull BukkitSubCommand<S> subCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        return subCommand.rebind(getBaseCommand(), method, invoker);
+    }
+
     static CommandPermission createPermission(
             final @Nullable CommandPermission parent,
             final @NotNull List<@NotNull String> nodes,
@@ -24,14 +24,19 @@
 package dev.triumphteam.cmd.bukkit;
 
 import dev.triumphteam.cmd.core.AbstractSubCommand;
+import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.argument.InternalArgument;
 import dev.triumphteam.cmd.core.argument.LimitlessInternalArgument;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
 import dev.triumphteam.cmd.core.suggestion.SuggestionContext;
+import org.bukkit.Bukkit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.Collections.emptyList;
 
@@ -42,24 +47,79 @@ public final class BukkitSubCommand<S> extends AbstractSubCommand<S> {
     public BukkitSubCommand(final @NotNull BukkitSubCommandProcessor<S> processor, final @NotNull String parentName, final @NotNull ExecutionProvider executionProvider) {
         super(processor, parentName, executionProvider);
         this.permission = processor.getPermission();
+    }
+
+    private BukkitSubCommand(
+            final @NotNull BukkitSubCommand<S> subCommand,
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        super(subCommand, baseCommand, method, invoker);
+        this.permission = subCommand.permission;
+    }
 
-        if (this.permission != null) this.permission.register();
+    /**
+     * Creates a copy of this sub command bound to a new {@link BaseCommand} instance, sharing its permission.
+     *
+     * @param baseCommand The new {@link BaseCommand} instance.
+     * @param method      The method of the new instance.
+     * @param invoker     The {@link CommandInvoker} for the method.
+     * @return The new {@link BukkitSubCommand}.
+     */
+    public @NotNull BukkitSubCommand<S> rebind(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        return new BukkitSubCommand<>(this, baseCommand, method, invoker);
     }
 
+    /**
+     * Gets the suggestions of the argument being completed.
+     * Asynchronous suggestions never block the main thread, there only the ones that are ready right away are given,
+     * servers with Paper's asynchronous tab completion get them through {@link #getSuggestionsAsync} instead.
+     *
+     * @param sender The sender completing.
+     * @param args   The typed arguments.
+     * @return The suggestions.
+     */
     public @NotNull List<@NotNull String> getSuggestions(final @NotNull S sender, final @NotNull List<@NotNull String> args) {
         final int index = args.size() - 1;
         final InternalArgument<S, ?> internalArgument = getArgument(index);
         if (internalArgument == null) return emptyList();
 
-        final List<String> trimmed;
-        if (internalArgument instanceof LimitlessInternalArgument) {
-            trimmed = args.subList(getArguments().size() - 1, args.size());
-        } else {
-            trimmed = args.subList(index, args.size());
+        final SuggestionContext context = new SuggestionContext(args, getParentName(), getName());
+        if (internalArgument.hasAsyncSuggestions() && Bukkit.isPrimaryThread()) {
+            return internalArgument.suggestionsAsync(sender, trim(internalArgument, args), context).getNow(emptyList());
         }
+        return internalArgument.suggestions(sender, trim(internalArgument, args), context);
+    }
+
+    /**
+     * Gets the suggestions without blocking, if the argument being completed has asynchronous suggestions.
+     *
+     * @param sender The sender completing.
+     * @param args   The typed arguments.
+     * @return A future with the suggestions or null if the argument's suggestions aren't asynchronous.
+     */
+    public @Nullable CompletableFuture<@NotNull List<@NotNull String>> getSuggestionsAsync(
+            final @NotNull S sender,
+            final @NotNull List<@NotNull String> args
+    ) {
+        final int index = args.size() - 1;
+        final InternalArgument<S, ?> internalArgument = getArgument(index);
+        if (internalArgument == null || !internalArgument.hasAsyncSuggestions()) return null;
 
         final SuggestionContext context = new SuggestionContext(args, getParentName(), getName());
-        return internalArgument.suggestions(sender, trimmed, context);
+        return internalArgument.suggestionsAsync(sender, trim(internalArgument, args), context);
+    }
+
+    private @NotNull List<@NotNull String> trim(final @NotNull InternalArgument<S, ?> internalArgument, final @NotNull List<@NotNull String> args) {
+        if (internalArgument instanceof LimitlessInternalArgument) {
+            return args.subList(getArguments().size() - 1, args.size());
+        }
+        return args.subList(args.size() - 1, args.size());
     }
 
     /**
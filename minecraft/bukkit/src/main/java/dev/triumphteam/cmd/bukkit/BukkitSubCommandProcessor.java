@@ -26,12 +26,12 @@ package dev.triumphteam.cmd.bukkit;
 import dev.triumphteam.cmd.bukkit.annotation.Permission;
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
@@ -42,14 +42,14 @@ final class BukkitSubCommandProcessor<S> extends AbstractSubCommandProcessor<S>
     public BukkitSubCommandProcessor(
             final @NotNull BaseCommand baseCommand,
             final @NotNull String parentName,
-            final @NotNull Method method,
+            final @NotNull SubCommandDescriptor descriptor,
             final @NotNull RegistryContainer<S> registryContainer,
             final @NotNull SenderValidator<S> senderValidator,
             final @Nullable CommandPermission basePermission
     ) {
-        super(baseCommand, parentName, method, registryContainer, senderValidator);
+        super(baseCommand, parentName, descriptor, registryContainer, senderValidator);
 
-        final Permission annotation = method.getAnnotation(Permission.class);
+        final Permission annotation = descriptor.getMethod().getAnnotation(Permission.class);
         if (annotation == null) {
             this.permission = basePermission;
             return;
@@ -31,6 +31,7 @@ import org.bukkit.plugin.PluginManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -44,6 +45,8 @@ public final class CommandPermission {
     private final PermissionDefault permissionDefault;
     private final String description;
 
+    private final List<Permission> registered = new ArrayList<>();
+
     public CommandPermission(
             final @NotNull List<@NotNull String> nodes,
             final @NotNull String description,
@@ -97,8 +100,25 @@ public final class CommandPermission {
             final Permission permission = pluginManager.getPermission(node);
             if (permission != null) return;
 
-            pluginManager.addPermission(new Permission(node, description, permissionDefault));
+            final Permission newPermission = new Permission(node, description, permissionDefault);
+            pluginManager.addPermission(newPermission);
+            registered.add(newPermission);
+        });
+    }
+
+    /**
+     * Unregisters the {@link Permission}s that were added to the server by {@link #register()}.
+     * Permissions that were already registered by something else are left alone.
+     */
+    public void unregister() {
+        final PluginManager pluginManager = Bukkit.getPluginManager();
+
+        registered.forEach(permission -> {
+            // Only remove it if it wasn't replaced in the meantime
+            if (pluginManager.getPermission(permission.getName()) != permission) return;
+            pluginManager.removePermission(permission);
         });
+        registered.clear();
     }
 
     /**
@@ -7,8 +7,10 @@ rootProject.name = "triumph-cmd"
 
 listOf(
     "core",
+    "annotation-processor",
     "kotlin-extras",
-    "simple"
+    "simple",
+    "benchmarks"
 ).forEach(::includeProject)
 
 listOf(
@@ -35,15 +35,18 @@ import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.CommandTrie;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
 
@@ -58,8 +61,8 @@ public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
     private final ExecutionProvider syncExecutionProvider;
     private final ExecutionProvider asyncExecutionProvider;
 
-    private final Map<String, SimpleSubCommand<S>> subCommands = new HashMap<>();
-    private final Map<String, SimpleSubCommand<S>> subCommandAliases = new HashMap<>();
+    private volatile CommandTrie<SimpleSubCommand<S>> subCommands = CommandTrie.empty();
+    private volatile CommandTrie<SimpleSubCommand<S>> subCommandAliases = CommandTrie.empty();
 
     @SuppressWarnings("unchecked")
     public SimpleCommand(
@@ -85,7 +88,7 @@ public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
         SimpleSubCommand<S> subCommand = getDefaultSubCommand();
 
         String subCommandName = "";
-        if (args.size() > 0) subCommandName = args.get(0).toLowerCase();
+        if (args.size() > 0) subCommandName = args.get(0);
         if (subCommand == null || subCommandExists(subCommandName)) {
             subCommand = getSubCommand(subCommandName);
         }
@@ -96,6 +99,7 @@ public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
         }
 
         if (subCommand == null) {
+            registries.getMetrics().recordFailure(name, "", MessageKey.UNKNOWN_COMMAND);
             messageRegistry.sendMessage(MessageKey.UNKNOWN_COMMAND, mappedSender, new DefaultMessageContext(name, subCommandName));
             return;
         }
@@ -119,7 +123,8 @@ public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
      * @param key the String to look for the {@link SubCommand<S>}
      * @return the {@link SubCommand<S>} for the particular key or NULL
      */
-    private @Nullable SimpleSubCommand<S> getSubCommand(final @NotNull String key) {
+    @Override
+    public @Nullable SimpleSubCommand<S> getSubCommand(final @NotNull String key) {
         final SimpleSubCommand<S> subCommand = subCommands.get(key);
         if (subCommand != null) return subCommand;
         return subCommandAliases.get(key);
@@ -132,22 +137,53 @@ public final class SimpleCommand<S> implements Command<S, SimpleSubCommand<S>> {
      * @return whether a SubCommand with that key exists
      */
     private boolean subCommandExists(final @NotNull String key) {
-        return subCommands.containsKey(key) || subCommandAliases.containsKey(key);
+        return subCommands.contains(key) || subCommandAliases.contains(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void addSubCommand(final @NotNull String name, final @NotNull SimpleSubCommand<S> subCommand) {
+        this.subCommands = subCommands.with(name, subCommand);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void addSubCommandAlias(final @NotNull String alias, final @NotNull SimpleSubCommand<S> subCommand) {
+        this.subCommandAliases = subCommandAliases.with(alias, subCommand);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Collection<@NotNull SimpleSubCommand<S>> getSubCommands(final @NotNull BaseCommand baseCommand) {
+        final Set<SimpleSubCommand<S>> found = new LinkedHashSet<>(subCommands.values(it -> it.getBaseCommand() == baseCommand));
+        found.addAll(subCommandAliases.values(it -> it.getBaseCommand() == baseCommand));
+        return found;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void addSubCommand(final @NotNull String name, final @NotNull SimpleSubCommand<S> subCommand) {
-        this.subCommands.put(name, subCommand);
+    public synchronized void replaceSubCommands(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Map<@NotNull String, @NotNull SimpleSubCommand<S>> subCommands,
+            final @NotNull Map<@NotNull String, @NotNull SimpleSubCommand<S>> aliases
+    ) {
+        this.subCommands = this.subCommands.withoutIf(it -> it.getBaseCommand() == baseCommand).withAll(subCommands);
+        this.subCommandAliases = subCommandAliases.withoutIf(it -> it.getBaseCommand() == baseCommand).withAll(aliases);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void addSubCommandAlias(final @NotNull String alias, final @NotNull SimpleSubCommand<S> subCommand) {
-        this.subCommandAliases.put(alias, subCommand);
+    public boolean isEmpty() {
+        return subCommands.isEmpty() && subCommandAliases.isEmpty();
     }
 }
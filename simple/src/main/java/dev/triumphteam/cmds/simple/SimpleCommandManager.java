@@ -25,31 +25,34 @@ package dev.triumphteam.cmds.simple;
 
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.CommandManager;
-import dev.triumphteam.cmd.core.execution.AsyncExecutionProvider;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
 import dev.triumphteam.cmd.core.execution.SyncExecutionProvider;
+import dev.triumphteam.cmd.core.input.CommandTokenizer;
 import dev.triumphteam.cmd.core.message.MessageKey;
 import dev.triumphteam.cmd.core.message.context.DefaultMessageContext;
+import dev.triumphteam.cmd.core.processor.PreparedCommand;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
+import dev.triumphteam.cmd.core.util.CommandTrie;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
 
 public final class SimpleCommandManager<S> extends CommandManager<S, S> {
 
-    private final Map<String, SimpleCommand<S>> commands = new HashMap<>();
+    private volatile CommandTrie<SimpleCommand<S>> commands = CommandTrie.empty();
 
     private final RegistryContainer<S> registryContainer = new RegistryContainer<>();
 
     private final ExecutionProvider syncExecutionProvider = new SyncExecutionProvider();
-    private final ExecutionProvider asyncExecutionProvider = new AsyncExecutionProvider();
 
     private SimpleCommandManager(
             final @NotNull SenderMapper<S, S> senderMapper,
@@ -66,35 +69,115 @@ public final class SimpleCommandManager<S> extends CommandManager<S, S> {
         return new SimpleCommandManager<>(senderMapper, senderValidator);
     }
 
+    /**
+     * Creates a new instance of the {@link SimpleCommandManager} that runs the {@link dev.triumphteam.cmd.core.annotation.Async}
+     * sub commands with the given {@link ExecutionProvider}, like a {@link dev.triumphteam.cmd.core.execution.VirtualThreadExecutionProvider}.
+     *
+     * @param senderMapper           The sender mapper.
+     * @param senderValidator        The sender validator.
+     * @param asyncExecutionProvider The {@link ExecutionProvider} for the asynchronous sub commands.
+     * @param <S>                    The sender type.
+     * @return A new instance of the {@link SimpleCommandManager}.
+     */
+    @Contract("_, _, _ -> new")
+    public static <S> @NotNull SimpleCommandManager<S> create(
+            final @NotNull SenderMapper<S, S> senderMapper,
+            final @NotNull SenderValidator<S> senderValidator,
+            final @NotNull ExecutionProvider asyncExecutionProvider
+    ) {
+        final SimpleCommandManager<S> manager = create(senderMapper, senderValidator);
+        manager.setAsyncExecutionProvider(asyncExecutionProvider);
+        return manager;
+    }
+
     @Override
-    public void registerCommand(final @NotNull BaseCommand baseCommand) {
-        final SimpleCommandProcessor<S> processor = new SimpleCommandProcessor<>(
-                baseCommand,
-                getRegistryContainer(),
-                getSenderMapper(),
-                getSenderValidator(),
-                syncExecutionProvider,
-                asyncExecutionProvider
-        );
+    public synchronized void registerCommand(final @NotNull BaseCommand baseCommand) {
+        register(createProcessor(baseCommand));
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull PreparedCommand prepareCommand(final @NotNull BaseCommand baseCommand) {
+        final SimpleCommandProcessor<S> processor = createProcessor(baseCommand);
+        return new PreparedCommand(processor, () -> register(processor), commands::get);
+    }
+
+    /**
+     * Adds the processor's command and aliases to the commands.
+     *
+     * @param processor The processor of the command.
+     */
+    private synchronized void register(final @NotNull SimpleCommandProcessor<S> processor) {
         final String name = processor.getName();
 
-        final SimpleCommand<S> command = commands.computeIfAbsent(
-                name,
-                ignored -> new SimpleCommand<>(processor, syncExecutionProvider, asyncExecutionProvider)
-        );
+        final SimpleCommand<S> command = getOrCreateCommand(name, processor);
         processor.addSubCommands(command);
 
         processor.getAlias().forEach(it -> {
-            final SimpleCommand<S> aliasCommand = commands.computeIfAbsent(
-                    it,
-                    ignored -> new SimpleCommand<>(processor, syncExecutionProvider, asyncExecutionProvider)
-            );
+            final SimpleCommand<S> aliasCommand = getOrCreateCommand(it, processor);
             // Adding sub commands.
             processor.addSubCommands(aliasCommand);
         });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reloadCommand(final @NotNull BaseCommand oldCommand, final @NotNull BaseCommand replacement) {
+        final SimpleCommandProcessor<S> processor = createProcessor(replacement);
+
+        final Set<SimpleCommand<S>> reloaded = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<String> names = new ArrayList<>(processor.getAlias());
+        names.add(0, processor.getName());
+
+        for (final String name : names) {
+            final SimpleCommand<S> command = getOrCreateCommand(name, processor);
+            if (reloaded.add(command)) processor.reloadSubCommands(command, oldCommand);
+        }
+
+        // Names the replacement no longer uses
+        commands.forEach((name, simpleCommand) -> {
+            if (!reloaded.contains(simpleCommand)) simpleCommand.removeSubCommands(oldCommand);
+        });
+        commands = commands.withoutIf(SimpleCommand::isEmpty);
+    }
+
+    /**
+     * Creates the processor for the {@link BaseCommand}.
+     *
+     * @param baseCommand The {@link BaseCommand}.
+     * @return The new {@link SimpleCommandProcessor}.
+     */
+    private @NotNull SimpleCommandProcessor<S> createProcessor(final @NotNull BaseCommand baseCommand) {
+        return new SimpleCommandProcessor<>(
+                baseCommand,
+                getRegistryContainer(),
+                getSenderMapper(),
+                getSenderValidator(),
+                syncExecutionProvider,
+                registryContainer.getAsyncExecutionProvider()
+        );
+    }
+
+    /**
+     * Gets the command with the given name, creating it if it doesn't exist yet.
+     *
+     * @param name      The command name or alias.
+     * @param processor The processor to create the command from.
+     * @return The existing or the new {@link SimpleCommand}.
+     */
+    private synchronized @NotNull SimpleCommand<S> getOrCreateCommand(final @NotNull String name, final @NotNull SimpleCommandProcessor<S> processor) {
+        final SimpleCommand<S> existing = commands.get(name);
+        if (existing != null) return existing;
+
+        final SimpleCommand<S> command = new SimpleCommand<>(processor, syncExecutionProvider, registryContainer.getAsyncExecutionProvider());
+        commands = commands.with(name, command);
+        return command;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -103,9 +186,26 @@ public final class SimpleCommandManager<S> extends CommandManager<S, S> {
         return registryContainer;
     }
 
+    /**
+     * Removes the sub commands of the {@link BaseCommand} from every command, dropping the commands left empty.
+     * Executions already running on other threads finish with the sub commands they started with.
+     *
+     * @param command The {@link BaseCommand} to be unregistered.
+     */
     @Override
-    public void unregisterCommand(final @NotNull BaseCommand command) {
-        // TODO add a remove functionality
+    public synchronized void unregisterCommand(final @NotNull BaseCommand command) {
+        commands.forEach((name, simpleCommand) -> simpleCommand.removeSubCommands(command));
+        commands = commands.withoutIf(SimpleCommand::isEmpty);
+    }
+
+    /**
+     * Execute the command given the full command line, which is tokenized with {@link CommandTokenizer}.
+     *
+     * @param sender      The provided sender.
+     * @param commandLine The command line, command name included.
+     */
+    public void executeCommand(final @NotNull S sender, final @NotNull CharSequence commandLine) {
+        executeCommand(sender, CommandTokenizer.tokenize(commandLine));
     }
 
     /**
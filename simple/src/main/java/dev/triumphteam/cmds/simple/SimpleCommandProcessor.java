@@ -25,7 +25,9 @@ package dev.triumphteam.cmds.simple;
 
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
 import dev.triumphteam.cmd.core.processor.AbstractCommandProcessor;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderMapper;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
@@ -50,11 +52,11 @@ public final class SimpleCommandProcessor<S> extends AbstractCommandProcessor<S,
      * {@inheritDoc}
      */
     @Override
-    protected @NotNull SimpleSubCommandProcessor<S> createProcessor(final @NotNull Method method) {
+    protected @NotNull SimpleSubCommandProcessor<S> createProcessor(final @NotNull SubCommandDescriptor descriptor) {
         return new SimpleSubCommandProcessor<S>(
                 getBaseCommand(),
-                method.getName(),
-                method,
+                descriptor.getMethod().getName(),
+                descriptor,
                 getRegistryContainer(),
                 getSenderValidator()
         );
@@ -67,4 +69,16 @@ public final class SimpleCommandProcessor<S> extends AbstractCommandProcessor<S,
     protected @NotNull SimpleSubCommand<S> createSubCommand(final @NotNull SimpleSubCommandProcessor<S> processor, final @NotNull ExecutionProvider executionProvider) {
         return new SimpleSubCommand<S>(processor, getName(), executionProvider);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NotNull SimpleSubCommand<S> rebindSubCommand(
+            final @NotNull SimpleSubCommand<S> subCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        return subCommand.rebind(getBaseCommand(), method, invoker);
+    }
 }
@@ -24,9 +24,13 @@
 package dev.triumphteam.cmds.simple;
 
 import dev.triumphteam.cmd.core.AbstractSubCommand;
+import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.execution.ExecutionProvider;
+import dev.triumphteam.cmd.core.invoker.CommandInvoker;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Method;
+
 public final class SimpleSubCommand<S> extends AbstractSubCommand<S> {
 
     public SimpleSubCommand(
@@ -36,4 +40,29 @@ public final class SimpleSubCommand<S> extends AbstractSubCommand<S> {
     ) {
         super(processor, parentName, executionProvider);
     }
+
+    private SimpleSubCommand(
+            final @NotNull SimpleSubCommand<S> subCommand,
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        super(subCommand, baseCommand, method, invoker);
+    }
+
+    /**
+     * Creates a copy of this sub command bound to a new {@link BaseCommand} instance.
+     *
+     * @param baseCommand The new {@link BaseCommand} instance.
+     * @param method      The method of the new instance.
+     * @param invoker     The {@link CommandInvoker} for the method.
+     * @return The new {@link SimpleSubCommand}.
+     */
+    public @NotNull SimpleSubCommand<S> rebind(
+            final @NotNull BaseCommand baseCommand,
+            final @NotNull Method method,
+            final @NotNull CommandInvoker invoker
+    ) {
+        return new SimpleSubCommand<>(this, baseCommand, method, invoker);
+    }
 }
@@ -25,21 +25,20 @@ package dev.triumphteam.cmds.simple;
 
 import dev.triumphteam.cmd.core.BaseCommand;
 import dev.triumphteam.cmd.core.processor.AbstractSubCommandProcessor;
+import dev.triumphteam.cmd.core.processor.SubCommandDescriptor;
 import dev.triumphteam.cmd.core.registry.RegistryContainer;
 import dev.triumphteam.cmd.core.sender.SenderValidator;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
-
 final class SimpleSubCommandProcessor<S> extends AbstractSubCommandProcessor<S> {
 
     public SimpleSubCommandProcessor(
             final @NotNull BaseCommand baseCommand,
             final @NotNull String parentName,
-            final @NotNull Method method,
+            final @NotNull SubCommandDescriptor descriptor,
             final @NotNull RegistryContainer<S> registries,
             final @NotNull SenderValidator<S> senderValidator
     ) {
-        super(baseCommand, parentName, method, registries, senderValidator);
+        super(baseCommand, parentName, descriptor, registries, senderValidator);
     }
 }